@@ -0,0 +1,170 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTrackO;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the parts of Track-O that do not depend on how Track-O is run, i.e. the config, the user prefs and the
+ * model, so that they are set up the same way with and without the graphical user interface.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final boolean isSkippingUpToDateSaves;
+
+    /**
+     * Creates an {@code AppInitializer}.
+     *
+     * @param isSkippingUpToDateSaves Whether the config and prefs files should be left alone if they already contain
+     *     what would be saved to them, which saves a write to each file on startup.
+     */
+    public AppInitializer(boolean isSkippingUpToDateSaves) {
+        this.isSkippingUpToDateSaves = isSkippingUpToDateSaves;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed = configFilePath != null ? configFilePath : Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info(() -> "Custom Config file specified " + configFilePath);
+        }
+
+        logger.info(() -> "Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning(() -> "Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        if (isSkippingUpToDateSaves && isUpToDate(configFilePathUsed, initializedConfig)) {
+            logger.fine("Config file is up to date, skipped saving it");
+            return initializedConfig;
+        }
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info(() -> "Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning(() -> "UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Track-O");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        if (isSkippingUpToDateSaves && isUpToDate(prefsFilePath, initializedPrefs)) {
+            logger.fine("Prefs file is up to date, skipped saving it");
+            return initializedPrefs;
+        }
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s Track-O and {@code userPrefs}. <br>
+     * The data from the sample Track-O will be used instead if {@code storage}'s Track-O is not found,
+     * or an empty Track-O will be used instead if errors occur when reading {@code storage}'s Track-O.
+     */
+    public Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) throws ScheduleClashException {
+        ReadOnlyTrackO initialData = readInitialData(storage);
+
+        try {
+            return new ModelManager(initialData, userPrefs);
+        } catch (ScheduleClashException e) {
+            logger.warning("Clashes found in lessons. Will be starting with an empty Track-O");
+            initialData = new TrackO();
+            return new ModelManager(initialData, userPrefs);
+        }
+
+    }
+
+    /**
+     * Returns the data from {@code storage}'s Track-O. <br>
+     * The data from the sample Track-O will be returned instead if {@code storage}'s Track-O is not found,
+     * or an empty Track-O will be returned instead if errors occur when reading {@code storage}'s Track-O.
+     */
+    public ReadOnlyTrackO readInitialData(Storage storage) {
+        Optional<ReadOnlyTrackO> trackOOptional;
+        try {
+            trackOOptional = storage.readTrackO();
+            if (!trackOOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample Track-O");
+            }
+            return trackOOptional.orElseGet(SampleDataUtil::getSampleTrackO);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty Track-O");
+            return new TrackO();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Track-O");
+            return new TrackO();
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} already contains {@code contents} as it would be saved.
+     */
+    private static boolean isUpToDate(Path filePath, Object contents) {
+        try {
+            return Files.exists(filePath) && FileUtil.readFromFile(filePath).equals(JsonUtil.toJsonString(contents));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
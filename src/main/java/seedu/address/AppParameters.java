@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +10,20 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private boolean isFastStart;
+    private boolean isHeadless;
+    private Path execPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,23 +33,117 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the main window should be shown before the data file is loaded.
+     */
+    public boolean isFastStart() {
+        return isFastStart;
+    }
+
+    public void setFastStart(boolean isFastStart) {
+        this.isFastStart = isFastStart;
+    }
+
+    /**
+     * Returns true if Track-O should run without its graphical user interface.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the path of the file of commands to run without the graphical user interface, or null if commands
+     * should be read from standard input instead.
+     */
+    public Path getExecPath() {
+        return execPath;
+    }
+
+    public void setExecPath(Path execPath) {
+        this.execPath = execPath;
+    }
+
+    /**
+     * Returns the port on which to serve the local HTTP API, or null if the API should not be served.
+     * Port 0 serves the API on any free port.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code Main}, which are named parameters in the same
+     * {@code --name=value} format accepted by JavaFX. A named parameter without a value, such as
+     * {@code --headless}, is taken to be {@code true}. Other arguments are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separatorIndex = arg.indexOf('=');
+            if (separatorIndex == -1) {
+                namedParameters.put(arg.substring(2), "true");
+            } else {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
+            logger.warning(() -> "Invalid config path " + namedParameters.get("config")
+                    + ". Using default config path.");
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        appParameters.setFastStart(Boolean.parseBoolean(namedParameters.get("fast-start")));
+
+        String execPathParameter = namedParameters.get("exec");
+        if (execPathParameter != null && !FileUtil.isValidPath(execPathParameter)) {
+            logger.warning(() -> "Invalid exec path " + namedParameters.get("exec")
+                    + ". Reading commands from standard input.");
+            execPathParameter = null;
+        }
+        appParameters.setExecPath(execPathParameter != null ? Paths.get(execPathParameter) : null);
+        appParameters.setHeadless(Boolean.parseBoolean(namedParameters.get("headless"))
+                || namedParameters.containsKey("exec"));
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning(() -> "Invalid API port " + namedParameters.get("api-port") + ". Not serving the API.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        return port.equals("0") || StringUtil.isNonZeroUnsignedInteger(port) && Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +155,15 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isFastStart() == otherAppParameters.isFastStart()
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getExecPath(), otherAppParameters.getExecPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isFastStart, isHeadless, execPath, apiPort);
     }
 }
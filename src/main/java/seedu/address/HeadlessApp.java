@@ -0,0 +1,221 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.accrual.FeeAccrualScheduler;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.storage.JsonTrackOStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs Track-O without its graphical user interface, so that JavaFX is never started.
+ * Commands are read one per line, either from the file given with {@code --exec} or from standard input, and their
+ * results are printed to standard output. Errors are printed to standard error.
+ * <br>
+ * If the {@code --api-port} parameter is given, the HTTP API is served while the commands are run, and is kept
+ * serving after the last command until Track-O is stopped, unless an exit command is run.
+ * <br>
+ * When commands are read from a file or piped in, the data file is saved once after the last command instead of
+ * after every command, so large command files are not slowed down by a save per command.
+ */
+public class HeadlessApp {
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when at least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit status when the commands or the data file could not be read or written. */
+    public static final int EXIT_IO_ERROR = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$d ms, %3$d failed";
+
+    private static final String PROMPT = "> ";
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean isInteractive;
+    private boolean isExitRequested;
+
+    /**
+     * Creates a {@code HeadlessApp} that prints to {@code out} and {@code err}.
+     *
+     * @param isInteractive Whether commands are typed in by a user, who is then prompted for each command and
+     *     has the data file saved after every command as in the graphical user interface.
+     */
+    public HeadlessApp(AppParameters appParameters, PrintStream out, PrintStream err, boolean isInteractive) {
+        requireNonNull(appParameters);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.appParameters = appParameters;
+        this.out = out;
+        this.err = err;
+        this.isInteractive = isInteractive && appParameters.getExecPath() == null;
+    }
+
+    /**
+     * Runs the commands from the file given with {@code --exec}, or from {@code in} if there is no such file,
+     * until the last command or until an exit command is run.
+     *
+     * @return The exit status, one of {@link #EXIT_SUCCESS}, {@link #EXIT_COMMAND_FAILED} and {@link #EXIT_IO_ERROR}.
+     */
+    public int run(InputStream in) {
+        requireNonNull(in);
+        PhaseTimer startupTimer = new PhaseTimer("Headless startup", logger);
+        AppInitializer initializer = new AppInitializer(true);
+
+        Config config = initializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JsonTrackOStorage(userPrefs.getTrackOFilePath()), userPrefsStorage);
+        startupTimer.endPhase("config, prefs and storage");
+
+        Model model;
+        try {
+            model = initializer.initModelManager(storage, userPrefs);
+        } catch (ScheduleClashException e) {
+            err.println(e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+        LogicManager logic = new LogicManager(model, storage);
+        Integer apiPort = appParameters.getApiPort();
+        logic.setSavingAfterEachCommand(isInteractive || apiPort != null);
+        startupTimer.endPhase("data and model");
+        startupTimer.logSummary();
+
+        ApiServer apiServer = null;
+        if (apiPort != null) {
+            // only when serving the API, as starting the platform MBean server slows down short runs
+            logic.getCommandMetrics().registerMBeans();
+            try {
+                Path tokenFile = userPrefs.getTrackOFilePath().resolveSibling(ApiServer.TOKEN_FILE_NAME);
+                // commands sent over HTTP are run on the threads handling them, one at a time as for any command
+                apiServer = new ApiServer(model, logic, Runnable::run, apiPort, ApiServer.DEFAULT_THREAD_COUNT,
+                        ApiServer.createToken(tokenFile));
+                logger.info(() -> "The API token is saved in " + tokenFile.toAbsolutePath());
+            } catch (IOException e) {
+                err.println(StringUtil.getDetails(e));
+                return EXIT_IO_ERROR;
+            }
+            apiServer.start();
+        }
+
+        // fees are accrued before the first command, then at midnight on the scheduler's own thread
+        FeeAccrualScheduler feeAccrualScheduler = new FeeAccrualScheduler(logic, Runnable::run,
+                Clock.systemDefaultZone(), err::println);
+        feeAccrualScheduler.start();
+
+        Path execPath = appParameters.getExecPath();
+        try (BufferedReader reader = execPath != null
+                ? Files.newBufferedReader(execPath, StandardCharsets.UTF_8)
+                : new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            int failedCount = runCommands(logic, reader);
+            if (!isInteractive) {
+                logic.saveTrackO();
+            }
+            if (apiServer != null && !isExitRequested) {
+                out.flush();
+                logger.info("All commands have been run. Serving the API until Track-O is stopped");
+                apiServer.awaitStop();
+            }
+            return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_SUCCESS;
+        } catch (IOException e) {
+            err.println(StringUtil.getDetails(e));
+            return EXIT_IO_ERROR;
+        } finally {
+            if (apiServer != null) {
+                apiServer.stop();
+            }
+            feeAccrualScheduler.stop();
+            logger.info(() -> "Command statistics:\n" + logic.getCommandMetrics().getSummary());
+            out.flush();
+            err.flush();
+        }
+    }
+
+    /**
+     * Runs each line read by {@code reader} as a command, skipping blank lines and lines starting with
+     * {@value #COMMENT_PREFIX}.
+     *
+     * @return The number of commands that failed.
+     */
+    private int runCommands(LogicManager logic, BufferedReader reader) throws IOException {
+        long startNanos = System.nanoTime();
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failedCount = 0;
+
+        prompt();
+        for (String line = reader.readLine(); line != null; line = reader.readLine(), prompt()) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult result = logic.execute(commandText);
+                out.println(result.getFullFeedback());
+                if (result.getPendingFeedback().isPresent()) {
+                    // scripts run the next command only once the work left in the background is done
+                    out.println(result.getPendingFeedback().get().join());
+                }
+                if (result.isExit()) {
+                    isExitRequested = true;
+                    break;
+                }
+            } catch (CommandException | ParseException | IndexOutOfBoundsException e) {
+                failedCount++;
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (!isInteractive) {
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            err.println(String.format(MESSAGE_SUMMARY, commandCount, elapsedMillis, failedCount));
+        }
+        return failedCount;
+    }
+
+    private void prompt() {
+        if (isInteractive) {
+            out.print(PROMPT);
+            out.flush();
+        }
+    }
+}
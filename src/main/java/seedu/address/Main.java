@@ -1,5 +1,11 @@
 package seedu.address;
 
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +23,26 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also lets the application run without JavaFX when it is given the {@code --headless} or
+ * {@code --exec=<file>} parameter, see {@link HeadlessApp}.
  */
 public class Main {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(runHeadless(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
+
+    private static int runHeadless(AppParameters appParameters) {
+        boolean isInteractive = System.console() != null;
+        // buffered instead of flushed after every line, so large command files are not slowed down by their output
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                OUTPUT_BUFFER_SIZE), false, StandardCharsets.UTF_8);
+        return new HeadlessApp(appParameters, out, System.err, isInteractive).run(System.in);
+    }
 }
@@ -2,27 +2,28 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.time.Clock;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.accrual.FeeAccrualScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTrackO;
-import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Schedule;
 import seedu.address.model.TrackO;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.exceptions.ScheduleClashException;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.JsonTrackOStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -47,58 +48,96 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private PhaseTimer startupTimer;
+    private boolean isFastStart;
+    private AppInitializer initializer;
+    private LogicManager logicManager;
+    private Integer apiPort;
+    private ApiServer apiServer;
+    private FeeAccrualScheduler feeAccrualScheduler;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Track-O ]===========================");
         super.init();
+        startupTimer = new PhaseTimer("Startup", logger);
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        isFastStart = appParameters.isFastStart();
+        initializer = new AppInitializer(isFastStart);
+        apiPort = appParameters.getApiPort();
         config = initConfig(appParameters.getConfigPath());
+        startupTimer.endPhase("config");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         TrackOStorage trackOStorage = new JsonTrackOStorage(userPrefs.getTrackOFilePath());
         storage = new StorageManager(trackOStorage, userPrefsStorage);
+        startupTimer.endPhase("prefs and storage");
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        if (isFastStart) {
+            // The data file is loaded in the background once the window is shown, see #start(Stage)
+            model = new ModelManager(new TrackO(), userPrefs);
+            logicManager = new LogicManager(model, storage);
+            logicManager.setLoadingData(true);
+        } else {
+            model = initializer.initModelManager(storage, userPrefs);
+            startupTimer.endPhase("data and model");
+            logicManager = new LogicManager(model, storage);
+        }
+        logic = logicManager;
+        logicManager.getCommandMetrics().registerMBeans();
 
         ui = new UiManager(logic);
+        startupTimer.endPhase("logic and ui setup");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s Track-O and {@code userPrefs}. <br>
-     * The data from the sample Track-O will be used instead if {@code storage}'s Track-O is not found,
-     * or an empty Track-O will be used instead if errors occur when reading {@code storage}'s Track-O.
+     * Loads {@code storage}'s Track-O on a background thread and then replaces the data in {@code model},
+     * which is still empty, with it on the JavaFX application thread.
+     * Commands are rejected by {@code logicManager} until the data has been replaced, or until Track-O has fallen
+     * back to starting empty because the data could not be loaded.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) throws ScheduleClashException {
-        Optional<ReadOnlyTrackO> trackOOptional;
-        ReadOnlyTrackO initialData;
-        try {
-            trackOOptional = storage.readTrackO();
-            if (!trackOOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample Track-O");
+    private void loadDataInBackground(LogicManager logicManager) {
+        Thread loader = new Thread(() -> {
+            ReadOnlyTrackO loadedData;
+            try {
+                loadedData = initializer.readInitialData(storage);
+                // checked here, off the application thread, as the model only accepts lessons that do not clash
+                new Schedule(loadedData.getTuteeList());
+            } catch (ScheduleClashException e) {
+                logger.warning("Clashes found in lessons. Will be starting with an empty Track-O");
+                Platform.runLater(() -> startWithEmptyData(logicManager));
+                return;
+            } catch (RuntimeException e) {
+                logger.severe(() -> "Failed to load the data file. Will be starting with an empty Track-O: "
+                        + StringUtil.getDetails(e));
+                Platform.runLater(() -> startWithEmptyData(logicManager));
+                return;
             }
-            initialData = trackOOptional.orElseGet(SampleDataUtil::getSampleTrackO);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty Track-O");
-            initialData = new TrackO();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty Track-O");
-            initialData = new TrackO();
-        }
 
-        try {
-            return new ModelManager(initialData, userPrefs);
-        } catch (ScheduleClashException e) {
-            logger.warning("Clashes found in lessons. Will be starting with an empty Track-O");
-            initialData = new TrackO();
-            return new ModelManager(initialData, userPrefs);
-        }
+            startupTimer.endPhase("background data load");
+            Platform.runLater(() -> {
+                model.setTrackO(loadedData);
+                logicManager.setLoadingData(false);
+                startupTimer.endPhase("data and model");
+                startupTimer.logSummary();
+                startFeeAccrual();
+            });
+        }, "tracko-data-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
 
+    /**
+     * Lets commands run on the model, which was left empty as the data file could not be loaded.
+     */
+    private void startWithEmptyData(LogicManager logicManager) {
+        logicManager.setLoadingData(false);
+        startupTimer.logSummary();
+        startFeeAccrual();
     }
 
     private void initLogging(Config config) {
@@ -111,34 +150,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return initializer.initConfig(configFilePath);
     }
 
     /**
@@ -147,45 +159,67 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
+        return initializer.initPrefs(storage);
+    }
 
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty Track-O");
-            initializedPrefs = new UserPrefs();
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info(() -> "Starting Track-O " + MainApp.VERSION);
+        ui.start(primaryStage);
+        startupTimer.endPhase("window shown");
+
+        if (isFastStart) {
+            loadDataInBackground(logicManager);
+        } else {
+            startupTimer.logSummary();
+            startFeeAccrual();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        if (apiPort != null) {
+            startApiServer();
         }
+    }
 
-        return initializedPrefs;
+    /**
+     * Accrues the fees of the lessons held since Track-O was last run, and again at every midnight, on the JavaFX
+     * application thread like the commands entered by the user.
+     */
+    private void startFeeAccrual() {
+        feeAccrualScheduler = new FeeAccrualScheduler(logicManager, Platform::runLater, Clock.systemDefaultZone(),
+                ui::showFeedback);
+        feeAccrualScheduler.start();
     }
 
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting Track-O " + MainApp.VERSION);
-        ui.start(primaryStage);
+    /**
+     * Starts serving the HTTP API, with the commands sent over HTTP run on the JavaFX application thread like the
+     * commands entered by the user. The token requests must carry is saved next to the data file.
+     */
+    private void startApiServer() {
+        try {
+            Path tokenFile = model.getTrackOFilePath().resolveSibling(ApiServer.TOKEN_FILE_NAME);
+            apiServer = new ApiServer(model, logicManager, Platform::runLater, apiPort,
+                    ApiServer.DEFAULT_THREAD_COUNT, ApiServer.createToken(tokenFile));
+            apiServer.start();
+            logger.info(() -> "The API token is saved in " + tokenFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to serve the API on port " + apiPort + ": " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Track-O ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (feeAccrualScheduler != null) {
+            feeAccrualScheduler.stop();
+        }
+        logger.info(() -> "Command statistics:\n" + logicManager.getCommandMetrics().getSummary());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            logger.severe(() -> "Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
 }
@@ -0,0 +1,505 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddLessonCommand;
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelLessonCommand;
+import seedu.address.logic.commands.ClearRemarkCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteLessonCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GetCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MakeUpLessonCommand;
+import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TermCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.paymentcommand.PaymentCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Serves the tutees and the schedule of Track-O as JSON over HTTP, and runs commands sent over HTTP, so that other
+ * programs on the same computer can use Track-O. The server only listens on the loopback address.
+ * <br>
+ * As any program or web page on the computer can reach the loopback address, every request must carry the token
+ * the server was created with, as {@code Authorization: Bearer TOKEN}, and is refused if it comes from a web page,
+ * with an {@code Origin} header, or was sent to a host name other than {@code localhost} or {@code 127.0.0.1}, as
+ * after a DNS rebinding. Commands are sent as JSON, which web pages cannot send without being checked by the
+ * browser first, and only commands on tutees and lessons can be run: those clearing, importing, exporting or
+ * merging data, or writing files, cannot.
+ * <br>
+ * Requests are handled on a pool of threads. Reads are served from a {@link ModelSnapshot}, so any number of them
+ * can be served at once without waiting for each other or for commands. Commands are run through
+ * {@link LogicManager} on the {@code writeExecutor} given, one at a time, and are saved as if they were entered
+ * by the user.
+ * <br>
+ * Endpoints:
+ * <ul>
+ *     <li>{@code GET /api/tutees}: all tutees</li>
+ *     <li>{@code GET /api/tutees/ID}: the tutee with the given ID</li>
+ *     <li>{@code GET /api/schedule}: all lessons in chronological order, with the tutees taking them</li>
+ *     <li>{@code GET /api/find?q=ARGUMENTS}: the tutees found by {@code find ARGUMENTS}, without changing the
+ *     tutee list shown</li>
+ *     <li>{@code POST /api/commands}: runs the command in the {@code command} field of the request body, as if
+ *     entered by the user, e.g. {@code {"command": "find n/Alex"}}</li>
+ *     <li>{@code POST /api/tutees/ID/COMMAND_WORD}: runs the command on the tutee with the given ID, with the
+ *     arguments in the {@code arguments} field of the request body, e.g. {@code POST /api/tutees/3/payment} with
+ *     {@code {"arguments": "amt/40"}}</li>
+ * </ul>
+ */
+public class ApiServer {
+
+    /**
+     * The number of requests handled at once by default. It is more than the number of processors since requests
+     * for commands spend most of their time waiting for earlier commands.
+     */
+    public static final int DEFAULT_THREAD_COUNT = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported for %2$s";
+    public static final String MESSAGE_TUTEE_NOT_FOUND = "There is no tutee with ID %1$s";
+    public static final String MESSAGE_INTERRUPTED = "Track-O is stopping";
+    public static final String MESSAGE_INTERNAL_ERROR = "Track-O could not handle the request";
+    public static final String MESSAGE_UNAUTHORIZED = "Requests must carry the API token, as in "
+            + "'Authorization: Bearer TOKEN'";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be sent to localhost or 127.0.0.1";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Requests must be sent as application/json";
+    public static final String MESSAGE_INVALID_BODY = "The request body should be a JSON object with a string "
+            + "field '%1$s'";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be run over HTTP";
+
+    /** The name of the file, next to the data file, that the token of the server is saved to. */
+    public static final String TOKEN_FILE_NAME = "api-token";
+
+    /** The words of the commands that can be run over HTTP, which change no more than the tutees and lessons. */
+    public static final Set<String> ALLOWED_COMMAND_WORDS = Set.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, GetCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            AddLessonCommand.COMMAND_WORD, DeleteLessonCommand.COMMAND_WORD, ScheduleCommand.COMMAND_WORD,
+            CalendarCommand.COMMAND_WORD, TermCommand.COMMAND_WORD, CancelLessonCommand.COMMAND_WORD,
+            MakeUpLessonCommand.COMMAND_WORD, RemarkCommand.COMMAND_WORD, ClearRemarkCommand.COMMAND_WORD,
+            PaymentCommand.COMMAND_WORD, SortCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD);
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    static final int STATUS_INTERNAL_ERROR = 500;
+    static final int STATUS_UNAVAILABLE = 503;
+
+    private static final String CONTEXT_PATH = "/api/";
+    private static final String FIND_QUERY_PARAMETER = "q=";
+    private static final String BEARER = "Bearer ";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String COMMAND_FIELD = "command";
+    private static final String ARGUMENTS_FIELD = "arguments";
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1");
+    private static final int TOKEN_BYTES = 32;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Model model;
+    private final LogicManager logic;
+    private final Executor writeExecutor;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Creates an {@code ApiServer} on the given {@code port} of the loopback address, which serves requests once
+     * {@link #start()} is called.
+     *
+     * @param writeExecutor Runs the commands sent over HTTP. Commands are run one at a time by {@code logic} in
+     *     any case, but they can be run on a particular thread, such as the JavaFX application thread, by
+     *     giving an executor that runs tasks on that thread.
+     * @param port The port to listen on, or 0 to listen on any free port.
+     * @param threadCount The number of requests that can be handled at once.
+     * @param token The token every request must carry, such as one returned by {@link #createToken(Path)}.
+     * @throws IOException If the server cannot listen on the port.
+     */
+    public ApiServer(Model model, LogicManager logic, Executor writeExecutor, int port, int threadCount,
+            String token) throws IOException {
+        requireAllNonNull(model, logic, writeExecutor, token);
+        this.model = model;
+        this.logic = logic;
+        this.writeExecutor = writeExecutor;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(CONTEXT_PATH, this::handle);
+        requestExecutor = Executors.newFixedThreadPool(threadCount, new RequestThreadFactory());
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Returns a new random token, after saving it to {@code tokenFile} so that the programs allowed to use the API
+     * can read it. Where the file system allows, only the user running Track-O can read the file.
+     *
+     * @throws IOException If the token cannot be saved.
+     */
+    public static String createToken(Path tokenFile) throws IOException {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        try {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(
+                    "rw-------")));
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(tokenFile);
+        }
+        FileUtil.writeToFile(tokenFile, token);
+        return token;
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info(() -> "Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort()
+                + CONTEXT_PATH);
+    }
+
+    /**
+     * Stops serving requests, giving requests that are being handled a moment to complete.
+     * Does nothing if the server has already stopped.
+     */
+    public synchronized void stop() {
+        if (stopped.getCount() == 0) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        requestExecutor.shutdownNow();
+        stopped.countDown();
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Waits until {@link #stop()} is called.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Object response;
+        int status = STATUS_OK;
+        try {
+            checkAccess(exchange);
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            response = route(exchange.getRequestMethod(), exchange.getRequestURI(),
+                    new String(requestBody, StandardCharsets.UTF_8).trim());
+        } catch (ApiException e) {
+            status = e.status;
+            response = Map.of("error", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning(() -> "Failed to handle " + exchange.getRequestURI() + ": " + e);
+            status = STATUS_INTERNAL_ERROR;
+            response = Map.of("error", MESSAGE_INTERNAL_ERROR);
+        }
+
+        byte[] responseBody = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_MEDIA_TYPE + "; charset=utf-8");
+        if (status == STATUS_UNAUTHORIZED) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", BEARER.trim());
+        }
+        exchange.sendResponseHeaders(status, responseBody.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(responseBody);
+        }
+    }
+
+    /**
+     * Refuses requests sent to another host name, sent from a web page, without the token, or with a body that is
+     * not JSON.
+     */
+    private void checkAccess(HttpExchange exchange) throws ApiException {
+        // checked first, as a page that has rebound its host name to the loopback address can send any header
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !LOOPBACK_HOST_NAMES.contains(host.replaceFirst(":" + getPort() + "$", ""))) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+        }
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        // compared in time independent of where the tokens differ, so that the token cannot be guessed bit by bit
+        if (authorization == null || !authorization.startsWith(BEARER) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8))) {
+            throw new ApiException(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (exchange.getRequestMethod().equals("POST") && (contentType == null
+                || !contentType.split(";")[0].trim().toLowerCase(Locale.ROOT).equals(JSON_MEDIA_TYPE))) {
+            throw new ApiException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        }
+    }
+
+    /**
+     * Handles a request for the resource at {@code uri} and returns the response to be sent as JSON.
+     */
+    private Object route(String method, URI uri, String requestBody) throws ApiException {
+        String path = uri.getPath();
+        String[] segments = path.substring(CONTEXT_PATH.length()).split("/");
+        boolean isGet = method.equals("GET");
+        boolean isPost = method.equals("POST");
+
+        switch (segments[0]) {
+        case "tutees":
+            if (segments.length == 1 && isGet) {
+                return toJsonApiTutees(model.getSnapshot().getTuteeList());
+            } else if (segments.length == 2 && isGet) {
+                return new JsonApiTutee(getTutee(model.getSnapshot(), segments[1]));
+            } else if (segments.length == 3 && isPost) {
+                TuteeId tuteeId = getTutee(model.getSnapshot(), segments[1]).getId();
+                checkAllowed(segments[2]);
+                String arguments = getField(requestBody, ARGUMENTS_FIELD);
+                return runWrite(() -> logic.execute(tuteeId, segments[2], arguments));
+            }
+            break;
+
+        case "schedule":
+            if (segments.length == 1 && isGet) {
+                return getSchedule(model.getSnapshot());
+            }
+            break;
+
+        case "find":
+            if (segments.length == 1 && isGet) {
+                return find(model.getSnapshot(), uri.getRawQuery());
+            }
+            break;
+
+        case "commands":
+            if (segments.length == 1 && isPost) {
+                String command = getField(requestBody, COMMAND_FIELD);
+                checkAllowed(command.trim().split("\\s+", 2)[0]);
+                return runWrite(() -> logic.execute(command));
+            }
+            break;
+
+        default:
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+
+        throw isGet || isPost
+                ? new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path))
+                : new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+    }
+
+    /**
+     * Returns the string in the field {@code field} of {@code requestBody}, a JSON object.
+     */
+    private static String getField(String requestBody, String field) throws ApiException {
+        Object value;
+        try {
+            value = JsonUtil.fromJsonString(requestBody, Map.class).get(field);
+        } catch (IOException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, field));
+        }
+        if (!(value instanceof String)) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, field));
+        }
+        return (String) value;
+    }
+
+    private static void checkAllowed(String commandWord) throws ApiException {
+        if (!ALLOWED_COMMAND_WORDS.contains(commandWord)) {
+            throw new ApiException(STATUS_FORBIDDEN, String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord));
+        }
+    }
+
+    private static Tutee getTutee(ModelSnapshot snapshot, String id) throws ApiException {
+        Tutee tutee;
+        try {
+            tutee = snapshot.getTutee(new TuteeId(Long.parseLong(id)));
+        } catch (IllegalArgumentException e) { // also thrown for IDs that are not numbers
+            throw new ApiException(STATUS_BAD_REQUEST, TuteeId.MESSAGE_CONSTRAINTS);
+        }
+        if (tutee == null) {
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_TUTEE_NOT_FOUND, id));
+        }
+        return tutee;
+    }
+
+    private static List<JsonApiLesson> getSchedule(ModelSnapshot snapshot) {
+        List<JsonApiLesson> schedule = new ArrayList<>(snapshot.getScheduledLessons().size());
+        for (Map.Entry<Lesson, TuteeId> entry : snapshot.getScheduledLessons().entrySet()) {
+            schedule.add(new JsonApiLesson(entry.getKey(), snapshot.getTutee(entry.getValue())));
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns the tutees in {@code snapshot} found by a {@code find} command with the arguments in the {@code q}
+     * parameter of {@code rawQuery}.
+     */
+    private static List<JsonApiTutee> find(ModelSnapshot snapshot, String rawQuery) throws ApiException {
+        String arguments = "";
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                if (parameter.startsWith(FIND_QUERY_PARAMETER)) {
+                    arguments = URLDecoder.decode(parameter.substring(FIND_QUERY_PARAMETER.length()),
+                            StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        Predicate<Tutee> predicate;
+        try {
+            predicate = new FindCommandParser().parse(" " + arguments).getPredicateFor(snapshot.getTuteeList());
+        } catch (ParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, e.getMessage());
+        }
+        List<JsonApiTutee> found = new ArrayList<>();
+        for (Tutee tutee : snapshot.getTuteeList()) {
+            if (predicate.test(tutee)) {
+                found.add(new JsonApiTutee(tutee));
+            }
+        }
+        return found;
+    }
+
+    private static List<JsonApiTutee> toJsonApiTutees(List<Tutee> tutees) {
+        List<JsonApiTutee> jsonApiTutees = new ArrayList<>(tutees.size());
+        for (Tutee tutee : tutees) {
+            jsonApiTutees.add(new JsonApiTutee(tutee));
+        }
+        return jsonApiTutees;
+    }
+
+    /**
+     * Runs {@code write} on the write executor, waits for it to complete and returns the feedback of its result.
+     */
+    private Map<String, String> runWrite(Write write) throws ApiException {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        writeExecutor.execute(() -> {
+            try {
+                result.complete(write.run());
+            } catch (Exception | AssertionError e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            CommandResult commandResult = result.get();
+            String feedback = commandResult.getFullFeedback();
+            if (commandResult.getPendingFeedback().isPresent()) {
+                // unlike the UI thread, the thread serving the request can wait for the work left in the background
+                feedback += "\n" + commandResult.getPendingFeedback().get().get();
+            }
+            return Map.of("feedback", feedback);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_INTERRUPTED);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException
+                    || cause instanceof IndexOutOfBoundsException) {
+                throw new ApiException(STATUS_BAD_REQUEST, cause.getMessage());
+            }
+            logger.warning(() -> "Failed to run a command sent over HTTP: " + cause);
+            throw new ApiException(STATUS_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * A command to be run on the write executor.
+     */
+    @FunctionalInterface
+    private interface Write {
+        CommandResult run() throws CommandException, ParseException, IndexOutOfBoundsException;
+    }
+
+    /**
+     * Signals that a request cannot be handled, with the HTTP status to respond with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Creates the daemon threads that handle requests, so that they do not keep the app running once it is closed.
+     */
+    private static class RequestThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "tracko-api-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A {@link Lesson} as it is returned by the HTTP API, together with the tutee taking it if it is returned as part
+ * of the schedule.
+ */
+class JsonApiLesson {
+
+    private final String subject;
+    private final String day;
+    private final String startTime;
+    private final String endTime;
+    private final double hourlyRate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long tuteeId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String tuteeName;
+
+    /**
+     * Converts a given {@code Lesson} of a tutee into this class for Jackson use.
+     */
+    public JsonApiLesson(Lesson source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given scheduled {@code Lesson} and the {@code tutee} taking it into this class for Jackson use.
+     */
+    public JsonApiLesson(Lesson source, Tutee tutee) {
+        subject = source.getSubject().toString();
+        day = source.getTime().getDayOfOccurrence().toString();
+        startTime = source.getTime().getStartTime().toString();
+        endTime = source.getTime().getEndTime().toString();
+        hourlyRate = source.getHourlyRate();
+        tuteeId = tutee == null ? null : tutee.getId().value;
+        tuteeName = tutee == null ? null : tutee.getName().fullName;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A {@link Tutee} as it is returned by the HTTP API.
+ */
+class JsonApiTutee {
+
+    private final long id;
+    private final String name;
+    private final String phone;
+    private final String school;
+    private final String level;
+    private final String address;
+    private final String remark;
+    private final String payment;
+    private final String payByDate;
+    private final boolean isOverdue;
+    private final List<String> tags = new ArrayList<>();
+    private final List<JsonApiLesson> lessons = new ArrayList<>();
+
+    /**
+     * Converts a given {@code Tutee} into this class for Jackson use.
+     */
+    public JsonApiTutee(Tutee source) {
+        id = source.getId().value;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        school = source.getSchool().value;
+        level = source.getLevel().value;
+        address = source.getAddress().value;
+        remark = source.getRemark().value;
+        payment = source.getPayment().value;
+        payByDate = source.getPayment().payByDateAsString;
+        isOverdue = source.getPayment().isOverdue;
+        for (Tag tag : source.getTags()) {
+            tags.add(tag.tagName);
+        }
+        for (Lesson lesson : source.getLessons()) {
+            lessons.add(new JsonApiLesson(lesson));
+        }
+    }
+}
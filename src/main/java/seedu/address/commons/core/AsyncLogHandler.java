@@ -0,0 +1,165 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a bounded ring buffer and returns at once, leaving a background
+ * thread to publish them to the slower handlers it wraps, such as a {@code FileHandler}.
+ * <br>
+ * Logging therefore never waits on the console or the disk. If records are logged faster than they can be
+ * published and the buffer fills up, further records are dropped rather than blocking, and a warning stating how
+ * many were dropped is published once there is room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final String MESSAGE_DROPPED_RECORDS = "%1$d log records were dropped as logging fell behind";
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final Thread flusher;
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    /**
+     * Creates an {@code AsyncLogHandler} that publishes to {@code handlers} through a buffer of {@code capacity}
+     * records, and starts its background flusher.
+     */
+    public AsyncLogHandler(int capacity, Handler... handlers) {
+        requireNonNull(handlers);
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.handlers = new ArrayList<>(Arrays.asList(handlers));
+        buffer = new ArrayBlockingQueue<>(capacity);
+        flusher = new Thread(this::runFlusher, "tracko-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Adds {@code handler} to the handlers that records are published to.
+     */
+    public synchronized void addHandler(Handler handler) {
+        requireNonNull(handler);
+        handlers.add(handler);
+    }
+
+    /**
+     * Buffers {@code record} to be published by the background flusher, without waiting.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed.get() || !isLoggable(record)) {
+            return;
+        }
+        // the source is found by walking the stack, which has to happen on the thread that logged the record
+        record.getSourceClassName();
+        if (buffer.offer(record)) {
+            enqueuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for the records buffered so far to be published, then flushes the wrapped handlers.
+     */
+    @Override
+    public void flush() {
+        long target = enqueuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+        while (publishedCount.get() < target && flusher.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+        synchronized (this) {
+            handlers.forEach(Handler::flush);
+        }
+    }
+
+    /**
+     * Publishes the records still buffered, stops the background flusher and closes the wrapped handlers.
+     * Records logged afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        if (!isClosed.compareAndSet(false, true)) {
+            return;
+        }
+        flusher.interrupt();
+        try {
+            flusher.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            handlers.forEach(Handler::close);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runFlusher() {
+        List<LogRecord> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        long droppedReported = 0;
+        while (!isClosed.get() || !buffer.isEmpty()) {
+            try {
+                LogRecord first = isClosed.get()
+                        ? buffer.poll()
+                        : buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // interrupted by close(), so publish whatever is left without waiting for more
+                continue;
+            }
+            buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+            int drainedCount = batch.size();
+
+            long dropped = droppedCount.get();
+            if (dropped > droppedReported) {
+                batch.add(new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED_RECORDS,
+                        dropped - droppedReported)));
+                droppedReported = dropped;
+            }
+            publishBatch(batch);
+            publishedCount.addAndGet(drainedCount);
+            batch.clear();
+        }
+    }
+
+    private synchronized void publishBatch(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            for (Handler handler : handlers) {
+                handler.publish(record);
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+}
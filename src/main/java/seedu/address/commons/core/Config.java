@@ -12,8 +12,19 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The formats that the log file can be written in.
+     */
+    public enum LogFormat {
+        /** Human-readable lines, as written by {@code SimpleFormatter}. */
+        TEXT,
+        /** One JSON object per line, as written by {@link JsonLinesFormatter}. */
+        JSON
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private LogFormat logFormat = LogFormat.TEXT;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
     public Level getLogLevel() {
@@ -24,6 +35,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public LogFormat getLogFormat() {
+        return logFormat;
+    }
+
+    public void setLogFormat(LogFormat logFormat) {
+        this.logFormat = logFormat;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -44,18 +63,20 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
+                && Objects.equals(logFormat, o.logFormat)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logFormat, userPrefsFilePath);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
+        sb.append("\nLog file format : " + logFormat);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         return sb.toString();
     }
@@ -0,0 +1,86 @@
+package seedu.address.commons.core;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * Formats each log record as a JSON object on a line of its own, so that log files can be searched and
+ * aggregated by tools such as {@code jq} without parsing free-form text.
+ * <br>
+ * Each object has the fields {@code time}, {@code level}, {@code logger}, {@code thread}, {@code source} and
+ * {@code message}, and {@code thrown} if the record has a {@code Throwable}.
+ */
+public class JsonLinesFormatter extends Formatter {
+
+    @Override
+    public String format(LogRecord record) {
+        StringBuilder json = new StringBuilder(128);
+        json.append('{');
+        appendField(json, "time", Instant.ofEpochMilli(record.getMillis()).toString());
+        json.append(',');
+        appendField(json, "level", record.getLevel().getName());
+        json.append(',');
+        appendField(json, "logger", record.getLoggerName());
+        json.append(',');
+        json.append("\"thread\":").append(record.getThreadID());
+        json.append(',');
+        appendField(json, "source", record.getSourceClassName() == null
+                ? null
+                : record.getSourceClassName() + "#" + record.getSourceMethodName());
+        json.append(',');
+        appendField(json, "message", formatMessage(record));
+        if (record.getThrown() != null) {
+            StringWriter stackTrace = new StringWriter();
+            record.getThrown().printStackTrace(new PrintWriter(stackTrace));
+            json.append(',');
+            appendField(json, "thrown", stackTrace.toString());
+        }
+        return json.append('}').append(System.lineSeparator()).toString();
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    /**
+     * Appends {@code value} to {@code json}, escaped to be the content of a JSON string.
+     */
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+    }
+}
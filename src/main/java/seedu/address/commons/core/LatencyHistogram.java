@@ -0,0 +1,105 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations in buckets whose widths grow with the durations they hold, so that any duration from a
+ * nanosecond to centuries is recorded to within 12.5% of its value in a fixed amount of memory.
+ * Recording a duration takes a few arithmetic operations and one atomic increment, and never allocates, so it
+ * can be done for every command without slowing it down. Durations can be recorded from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final String MESSAGE_INVALID_PERCENTILE = "Percentiles should be from 0 to 100";
+
+    /** Each power of two is split into 2^SUB_BUCKET_BITS buckets of equal width. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(bucketOf(duration));
+        count.incrementAndGet();
+        totalNanos.addAndGet(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none have been recorded.
+     */
+    public long getMeanNanos() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : totalNanos.get() / currentCount;
+    }
+
+    /**
+     * Returns a duration that at least {@code percentile} percent of the recorded durations are no longer than,
+     * which is at most 12.5% longer than the exact percentile. Returns 0 if no durations have been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(0 <= percentile && percentile <= 100, MESSAGE_INVALID_PERCENTILE);
+        long currentCount = count.get();
+        if (currentCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += bucketCounts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), getMaxNanos());
+            }
+        }
+        // durations recorded while this was being computed may not be in the buckets read yet
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns the bucket holding {@code nanos}. Durations shorter than {@code SUB_BUCKET_COUNT} nanoseconds each have
+     * a bucket of their own, and each longer power of two is split into {@code SUB_BUCKET_COUNT} buckets.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((nanos >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the longest duration held by {@code bucket}.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -4,16 +4,23 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.Config.LogFormat;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are handed to an {@link AsyncLogHandler}, so that writing them to the console and the log file never
+ *   holds up the thread logging them. Messages that are costly to build should be passed as a
+ *   {@code Supplier<String>}, so that they are only built if they will be logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -23,6 +30,7 @@ public class LogsCenter {
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -30,21 +38,28 @@ public class LogsCenter {
      * Logging levels for existing loggers will only be updated if the logger with the same name
      * is requested again from the LogsCenter.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        logger.setLevel(currentLogLevel);
+        getAsyncHandler().setLevel(currentLogLevel);
+        consoleHandler.setLevel(currentLogLevel);
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+            fileHandler.setFormatter(createFileFormatter(config.getLogFormat()));
+        }
+        logger.info(() -> "currentLogLevel: " + currentLogLevel + ", log file format: " + config.getLogFormat());
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        logger.addHandler(getAsyncHandler());
 
         return Logger.getLogger(name);
     }
@@ -60,14 +75,18 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the {@code asyncHandler} shared by all loggers. <br>
+     * Creates it, along with the {@code consoleHandler} and {@code fileHandler} it publishes to, if it is null.
+     * It is closed, publishing any messages still buffered, by the {@code LogManager} when the JVM shuts down.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
+    private static AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
             consoleHandler = createConsoleHandler();
+            asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, consoleHandler);
+            asyncHandler.setLevel(currentLogLevel);
+            addFileHandler(asyncHandler);
         }
-        logger.addHandler(consoleHandler);
+        return asyncHandler;
     }
 
     /**
@@ -79,17 +98,14 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates the {@code fileHandler} and adds it to the {@code asyncHandler}.
      */
-    private static void addFileHandler(Logger logger) {
+    private static void addFileHandler(AsyncLogHandler asyncHandler) {
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            fileHandler = createFileHandler();
+            asyncHandler.addHandler(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
     }
 
@@ -99,11 +115,15 @@ public class LogsCenter {
      */
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
-        fileHandler.setFormatter(new SimpleFormatter());
+        fileHandler.setFormatter(createFileFormatter(LogFormat.TEXT));
         fileHandler.setLevel(currentLogLevel);
         return fileHandler;
     }
 
+    private static Formatter createFileFormatter(LogFormat logFormat) {
+        return logFormat == LogFormat.JSON ? new JsonLinesFormatter() : new SimpleFormatter();
+    }
+
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(currentLogLevel);
@@ -10,5 +10,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX = "The tutee index provided is invalid.";
     public static final String MESSAGE_TUTEES_LISTED_OVERVIEW = "%1$d tutee(s) listed!";
     public static final String MESSAGE_INVALID_LESSON_INDEX = "The lesson index provided is invalid.";
+    public static final String MESSAGE_FEES_ALREADY_ADDED = "The fees of the lessons held up to %1$s have already "
+            + "been added to what tutees owe, so the lessons held on or before that date cannot be changed.";
 
 }
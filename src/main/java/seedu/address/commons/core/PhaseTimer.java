@@ -0,0 +1,70 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures the time taken by each of the consecutive phases of a process, such as the startup of the app,
+ * and logs the time taken as each phase ends.
+ */
+public class PhaseTimer {
+
+    private final String processName;
+    private final Logger logger;
+    private final long startNanos;
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private long phaseStartNanos;
+
+    /**
+     * Creates a {@code PhaseTimer} for the process named {@code processName}, with its first phase starting now.
+     */
+    public PhaseTimer(String processName, Logger logger) {
+        requireNonNull(processName);
+        requireNonNull(logger);
+        this.processName = processName;
+        this.logger = logger;
+        startNanos = System.nanoTime();
+        phaseStartNanos = startNanos;
+    }
+
+    /**
+     * Ends the current phase, naming it {@code phaseName}, and starts the next one.
+     *
+     * @return The time taken by the phase, in milliseconds.
+     */
+    public synchronized long endPhase(String phaseName) {
+        requireNonNull(phaseName);
+        long now = System.nanoTime();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - phaseStartNanos);
+        phaseStartNanos = now;
+        phaseMillis.merge(phaseName, elapsedMillis, Long::sum);
+        logger.info(() -> String.format("%s phase [%s] took %d ms", processName, phaseName, elapsedMillis));
+        return elapsedMillis;
+    }
+
+    /**
+     * Logs the time taken since this timer was created, together with the time taken by each phase.
+     */
+    public synchronized void logSummary() {
+        logger.info(() -> String.format("%s took %d ms in total: %s", processName, getTotalMillis(), phaseMillis));
+    }
+
+    /**
+     * Returns the time taken since this timer was created, in milliseconds.
+     */
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the time taken by each phase that has ended, in milliseconds, in the order the phases ended.
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phaseMillis));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share a single instance.
+ * Instances are held weakly, so values that are no longer referenced elsewhere in the app are dropped from the pool
+ * by the garbage collector instead of accumulating for the lifetime of the app.
+ *
+ * @param <T> An immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code candidate}.
+     * If there is none, {@code candidate} becomes the canonical instance and is returned.
+     */
+    public synchronized T intern(T candidate) {
+        requireNonNull(candidate);
+        WeakReference<T> reference = pool.get(candidate);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        pool.put(candidate, new WeakReference<>(candidate));
+        return candidate;
+    }
+
+    /**
+     * Returns the number of canonical instances currently in the pool.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
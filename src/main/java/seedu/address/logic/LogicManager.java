@@ -1,21 +1,29 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.accrual.FeeAccrual;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.TrackOParser;
 import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTrackO;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,11 +31,18 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_DATA_LOADING = "Track-O is still loading your data. "
+            + "Please try again in a moment.";
+    public static final String MESSAGE_TUTEE_NOT_DISPLAYED = "The tutee with ID %1$s is not in the tutee list "
+            + "currently shown, so commands cannot be run on them.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TrackOParser trackOParser;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private volatile boolean isLoadingData = false;
+    private volatile boolean isSavingAfterEachCommand = true;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,25 +50,146 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        trackOParser = new TrackOParser();
+        trackOParser = new TrackOParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException,
             IndexOutOfBoundsException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (isLoadingData) {
+            // Saving the model now would overwrite the data file with the data that has not been loaded yet
+            throw new CommandException(MESSAGE_DATA_LOADING);
+        }
+
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
+        try {
+            CommandResult commandResult;
+            Command command = trackOParser.parseCommand(commandText);
+            recording.endParse(commandText.trim().split("\\s+", 2)[0]);
+            commandResult = model.write(command::execute);
+            recording.endExecute();
 
-        CommandResult commandResult;
-        Command command = trackOParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+            saveAfterCommand();
+            recording.endSave();
+            return commandResult;
+        } finally {
+            recording.finish();
+        }
+    }
 
+    /**
+     * Executes a command on the tutee with the given {@code tuteeId}, as if the command had been entered with the
+     * tutee's index in the tutee list currently shown followed by {@code arguments}.
+     * The index is looked up in the same write as the command is executed in, so it cannot refer to another tutee
+     * by the time the command runs, as it could if it were looked up beforehand.
+     *
+     * @param commandWord The command word of a command that takes a tutee index, such as {@code payment}.
+     * @throws CommandException If the tutee is not in the tutee list currently shown, or if an error occurs during
+     *     parsing or execution.
+     */
+    public CommandResult execute(TuteeId tuteeId, String commandWord, String arguments) throws CommandException {
+        logger.info(() -> "----------------[TUTEE COMMAND][" + tuteeId + "][" + commandWord + arguments + "]");
+        if (isLoadingData) {
+            throw new CommandException(MESSAGE_DATA_LOADING);
+        }
+
+        CommandMetrics.Recording recording = commandMetrics.startRecording();
         try {
-            storage.saveTrackO(model.getTrackO());
+            CommandResult commandResult = model.write(writableModel -> {
+                int index = indexOf(writableModel.getFilteredTuteeList(), tuteeId);
+                if (index == -1) {
+                    throw new CommandException(String.format(MESSAGE_TUTEE_NOT_DISPLAYED, tuteeId));
+                }
+
+                Command command;
+                try {
+                    command = trackOParser.parseCommand(commandWord + " " + (index + 1) + " " + arguments);
+                } catch (ParseException | IndexOutOfBoundsException e) {
+                    throw new CommandException(e.getMessage(), e);
+                }
+                recording.endParse(commandWord);
+                return command.execute(writableModel);
+            });
+            recording.endExecute();
+
+            saveAfterCommand();
+            recording.endSave();
+            return commandResult;
+        } finally {
+            recording.finish();
+        }
+    }
+
+    private static int indexOf(List<Tutee> tutees, TuteeId tuteeId) {
+        for (int i = 0; i < tutees.size(); i++) {
+            if (tutees.get(i).getId().equals(tuteeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void saveAfterCommand() throws CommandException {
+        if (!isSavingAfterEachCommand) {
+            return;
+        }
+        try {
+            saveTrackO();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
+
+    /**
+     * Saves the data in the model to the data file.
+     * Saves from different threads are made one at a time, each saving the data as it is when the save starts.
+     */
+    public synchronized void saveTrackO() throws IOException {
+        // saved from a snapshot so that the data written is never partway through another write
+        storage.saveTrackO(model.getSnapshot());
+    }
+
+    /**
+     * Adds the fees of the lessons held up to the day before {@code today} to what tutees owe, and saves the data
+     * file if any were added, unless the data file is only saved when {@link #saveTrackO()} is called.
+     *
+     * @see FeeAccrual#accrue(Model, LocalDate)
+     */
+    public Optional<FeeAccrual.Result> accrueFees(LocalDate today) throws IOException {
+        requireNonNull(today);
+        if (isLoadingData) {
+            // fees are accrued from the data file once it has been loaded
+            return Optional.empty();
+        }
+
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, today);
+        if (result.isPresent() && isSavingAfterEachCommand) {
+            saveTrackO();
+        }
+        return result;
+    }
 
-        return commandResult;
+    /**
+     * Sets whether the data file is saved after every command. If not, {@link #saveTrackO()} has to be called
+     * to save the changes made by commands, which lets a batch of commands be saved with a single write.
+     */
+    public void setSavingAfterEachCommand(boolean isSavingAfterEachCommand) {
+        this.isSavingAfterEachCommand = isSavingAfterEachCommand;
+    }
+
+    /**
+     * Returns the statistics of the commands executed so far.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Sets whether the data file is still being loaded into the model, during which commands are rejected.
+     */
+    public void setLoadingData(boolean isLoadingData) {
+        this.isLoadingData = isLoadingData;
     }
 
     @Override
@@ -0,0 +1,247 @@
+package seedu.address.logic.accrual;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Adds the fees of the lessons held to the payment owed by each tutee, so that fees do not have to be added by hand
+ * after every lesson.
+ * <br>
+ * The calendar records the last date whose fees have been added, and each accrual catches up on the lessons held
+ * from the day after it to yesterday, taking into account the term, cancelled lessons and make-up lessons. Accruing
+ * again on the same day adds nothing, and since the date is saved with the tutees, fees are never added twice for
+ * the same lesson, even across restarts.
+ * <br>
+ * The fees of every lesson in the range are first totalled by tutee, and every tutee owing more is then updated in a
+ * single write, so catching up on months of lessons costs one pass over the lessons and one change to the tutee list.
+ * <br>
+ * A tutee never owes more than the maximum amount of a payment. Fees that would take a tutee past it are added only
+ * up to the maximum, and what was left out is reported in the {@link Result}, as the date fees were added until
+ * moves past those lessons all the same.
+ */
+public class FeeAccrual {
+
+    public static final String MESSAGE_ACCRUED = "Added the fees of %1$d lessons held from %2$s to %3$s "
+            + "for %4$d tutees, $%5$s in total";
+    public static final String MESSAGE_AMOUNT_EXCEEDED = "Did not add $%1$s in fees for %2$s, as they would owe "
+            + "more than the maximum amount of $%3$s";
+
+    private static final long CENTS_ROUNDING = 5;
+    private static final long MAXIMUM_AMOUNT_IN_CENTS = BigDecimal.valueOf(Payment.MAXIMUM_AMOUNT)
+            .movePointRight(2).longValueExact();
+
+    private static final Logger logger = LogsCenter.getLogger(FeeAccrual.class);
+
+    private FeeAccrual() {
+    }
+
+    /**
+     * Adds the fees of the lessons held up to the day before {@code today} that have not had their fees added yet.
+     * The first time fees are accrued with lessons in the schedule, none are added, so that lessons held before fees
+     * were accrued automatically are not charged again; only the lessons held from then on are.
+     *
+     * @return What was accrued, or an empty {@code Optional} if the fees were already up to date and nothing was
+     *     changed.
+     */
+    public static Optional<Result> accrue(Model model, LocalDate today) {
+        requireAllNonNull(model, today);
+        return model.write(writableModel -> accrueInWrite(writableModel, today.minusDays(1)));
+    }
+
+    private static Optional<Result> accrueInWrite(Model model, LocalDate lastDate) {
+        LessonCalendar calendar = model.getCalendar();
+        ModelSnapshot snapshot = model.getSnapshot();
+        Optional<LocalDate> accruedUntil = calendar.getFeesAccruedUntil();
+        if (!accruedUntil.isPresent()) {
+            if (snapshot.getScheduledLessons().isEmpty()) {
+                // nothing to charge for yet, and the data, which may have failed to load, is left untouched
+                return Optional.empty();
+            }
+            model.setCalendar(calendar.withFeesAccruedUntil(lastDate));
+            logger.info(() -> "Fees will be added for lessons held after " + format(lastDate));
+            return Optional.of(new Result(lastDate.plusDays(1), lastDate, 0, 0, 0, Collections.emptyMap()));
+        }
+        if (!accruedUntil.get().isBefore(lastDate)) {
+            return Optional.empty();
+        }
+
+        LocalDate firstDate = accruedUntil.get().plusDays(1);
+        Map<TuteeId, long[]> feesInCents = new HashMap<>();
+        int lessonCount = 0;
+        Iterator<LessonOccurrence> occurrences = calendar
+                .getOccurrences(firstDate, lastDate, snapshot.getScheduledLessons())
+                .iterator();
+        while (occurrences.hasNext()) {
+            LessonOccurrence occurrence = occurrences.next();
+            long costInCents = Math.round(occurrence.getLesson().getCost() * 100);
+            feesInCents.computeIfAbsent(occurrence.getTuteeId(), unused -> new long[1])[0] += costInCents;
+            lessonCount++;
+        }
+
+        Map<TuteeId, Tutee> editedTutees = new HashMap<>();
+        Map<String, Long> notAddedInCents = new TreeMap<>();
+        long totalInCents = 0;
+        for (Map.Entry<TuteeId, long[]> entry : feesInCents.entrySet()) {
+            Tutee tutee = snapshot.getTutee(entry.getKey());
+            if (tutee == null) {
+                continue;
+            }
+            long fees = roundToPayableCents(entry.getValue()[0]);
+            Payment payment = tutee.getPayment();
+            long owedBefore = Payment.toCents(payment.getValue());
+            long added = Math.min(fees, Math.max(0, MAXIMUM_AMOUNT_IN_CENTS - owedBefore));
+            if (added < fees) {
+                notAddedInCents.merge(tutee.getName().toString(), fees - added, Long::sum);
+            }
+            if (added == 0) {
+                continue;
+            }
+            editedTutees.put(tutee.getId(), tutee.withPayment(new Payment(formatCents(owedBefore + added),
+                    payment.getPayByDate(), payment.getPaymentLedger())));
+            totalInCents += added;
+        }
+
+        model.setTuteesById(editedTutees);
+        model.setCalendar(calendar.withFeesAccruedUntil(lastDate));
+        Result result = new Result(firstDate, lastDate, lessonCount, editedTutees.size(), totalInCents,
+                notAddedInCents);
+        if (result.hasFeesNotAdded()) {
+            logger.warning(result::toString);
+        } else {
+            logger.info(result::toString);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Rounds {@code cents} to the nearest amount that a payment can be, which is a multiple of 5 cents.
+     */
+    private static long roundToPayableCents(long cents) {
+        return (cents + CENTS_ROUNDING / 2) / CENTS_ROUNDING * CENTS_ROUNDING;
+    }
+
+    private static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / 100, cents % 100);
+    }
+
+    private static String format(LocalDate date) {
+        return date.format(LessonOccurrence.DATE_FORMATTER);
+    }
+
+    /**
+     * What an accrual added, and the fees it left out for tutees who would have owed more than the maximum amount.
+     * The first accrual, which adds nothing, has a range of dates that ends before it starts.
+     */
+    public static class Result {
+        private final LocalDate firstDate;
+        private final LocalDate lastDate;
+        private final int lessonCount;
+        private final int tuteeCount;
+        private final long totalInCents;
+        private final Map<String, Long> notAddedInCents;
+
+        /**
+         * Creates a {@code Result} of adding {@code totalInCents} in fees for {@code lessonCount} lessons held from
+         * {@code firstDate} to {@code lastDate}, owed by {@code tuteeCount} tutees.
+         *
+         * @param notAddedInCents The fees left out, in cents, by the name of the tutee they were not added for.
+         */
+        public Result(LocalDate firstDate, LocalDate lastDate, int lessonCount, int tuteeCount, long totalInCents,
+                Map<String, Long> notAddedInCents) {
+            requireAllNonNull(firstDate, lastDate, notAddedInCents);
+            this.firstDate = firstDate;
+            this.lastDate = lastDate;
+            this.lessonCount = lessonCount;
+            this.tuteeCount = tuteeCount;
+            this.totalInCents = totalInCents;
+            this.notAddedInCents = Collections.unmodifiableMap(new TreeMap<>(notAddedInCents));
+        }
+
+        public LocalDate getFirstDate() {
+            return firstDate;
+        }
+
+        public LocalDate getLastDate() {
+            return lastDate;
+        }
+
+        public int getLessonCount() {
+            return lessonCount;
+        }
+
+        public int getTuteeCount() {
+            return tuteeCount;
+        }
+
+        public long getTotalInCents() {
+            return totalInCents;
+        }
+
+        /**
+         * Returns the fees that were not added, in cents, by the name of the tutee they were not added for.
+         */
+        public Map<String, Long> getNotAddedInCents() {
+            return notAddedInCents;
+        }
+
+        /**
+         * Returns true if some fees were not added, as a tutee would have owed more than the maximum amount.
+         */
+        public boolean hasFeesNotAdded() {
+            return !notAddedInCents.isEmpty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Result)) {
+                return false;
+            }
+
+            Result otherResult = (Result) other;
+            return firstDate.equals(otherResult.firstDate)
+                    && lastDate.equals(otherResult.lastDate)
+                    && lessonCount == otherResult.lessonCount
+                    && tuteeCount == otherResult.tuteeCount
+                    && totalInCents == otherResult.totalInCents
+                    && notAddedInCents.equals(otherResult.notAddedInCents);
+        }
+
+        @Override
+        public int hashCode() {
+            return firstDate.hashCode() * 31 + lessonCount;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format(MESSAGE_ACCRUED, lessonCount, format(firstDate),
+                    format(lastDate), tuteeCount, formatCents(totalInCents)));
+            for (Map.Entry<String, Long> entry : notAddedInCents.entrySet()) {
+                builder.append("\n").append(String.format(MESSAGE_AMOUNT_EXCEEDED, formatCents(entry.getValue()),
+                        entry.getKey(), formatCents(MAXIMUM_AMOUNT_IN_CENTS)));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.accrual;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+
+/**
+ * Accrues the fees of the lessons held when started, and again shortly after every midnight, so that the fees of
+ * each day's lessons are added once the day is over even if Track-O is left running for days.
+ * Accruals that leave out fees, as a tutee would owe more than the maximum amount, are reported to the user.
+ */
+public class FeeAccrualScheduler {
+
+    /** How long after midnight fees are accrued, so that the clock has surely moved on to the new day. */
+    private static final Duration ROLLOVER_DELAY = Duration.ofSeconds(1);
+
+    private static final Logger logger = LogsCenter.getLogger(FeeAccrualScheduler.class);
+
+    private final LogicManager logic;
+    private final Executor executor;
+    private final Clock clock;
+    private final Consumer<String> feedbackConsumer;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Creates a {@code FeeAccrualScheduler} that accrues fees through {@code logic}, running each accrual on
+     * {@code executor} so that it is run on the same thread as commands, and telling the date from {@code clock}.
+     * The results of accruals that leave out fees are passed to {@code feedbackConsumer}, on the same thread.
+     */
+    public FeeAccrualScheduler(LogicManager logic, Executor executor, Clock clock,
+            Consumer<String> feedbackConsumer) {
+        requireAllNonNull(logic, executor, clock, feedbackConsumer);
+        this.logic = logic;
+        this.executor = executor;
+        this.clock = clock;
+        this.feedbackConsumer = feedbackConsumer;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tracko-fee-accrual");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accrues the fees of the lessons held since fees were last accrued, then schedules the accrual at every
+     * midnight from now on.
+     */
+    public void start() {
+        executor.execute(this::accrue);
+        scheduleNextRollover();
+    }
+
+    /**
+     * Stops accruing fees at midnight.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    private void scheduleNextRollover() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        long delayMillis = Duration.between(now, nextMidnight).plus(ROLLOVER_DELAY).toMillis();
+        timer.schedule(() -> {
+            executor.execute(this::accrue);
+            scheduleNextRollover();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void accrue() {
+        try {
+            Optional<FeeAccrual.Result> result = logic.accrueFees(LocalDate.now(clock));
+            if (result.isPresent() && result.get().hasFeesNotAdded()) {
+                feedbackConsumer.accept(result.get().toString());
+            }
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to save the fees accrued: " + StringUtil.getDetails(e));
+        }
+    }
+}
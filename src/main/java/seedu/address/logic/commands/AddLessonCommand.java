@@ -6,18 +6,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURLY_RATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Schedule;
-import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.calendar.LessonOccurrence;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.Subject;
 import seedu.address.model.lesson.Time;
@@ -47,6 +47,8 @@ public class AddLessonCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New lesson added to Tutee: %1$s";
 
+    public static final String MESSAGE_MAKE_UP_CLASH = "The lesson clashes with the make-up lesson on %1$s";
+
     private final Index targetIndex;
     private final Subject subject;
     private final DayOfWeek dayOfWeek;
@@ -92,20 +94,18 @@ public class AddLessonCommand extends Command {
 
         Tutee tuteeToEdit = lastShownList.get(targetIndex.getZeroBased());
 
-        Schedule schedule = model.getSchedule();
-        try {
-            schedule.add(lesson, tuteeToEdit.getName().toString());
-        } catch (ScheduleClashException sce) {
-            throw new CommandException(sce.getMessage());
+        if (!model.getSchedule().canAdd(lesson)) {
+            throw new CommandException(String.format(Schedule.SCHEDULE_CLASH_MESSAGE, lesson));
+        }
+
+        Optional<LessonOccurrence> makeUpClash = model.getCalendar().findMakeUpClash(lesson);
+        if (makeUpClash.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_MAKE_UP_CLASH, makeUpClash.get()));
         }
 
-        Tutee editedTutee = new Tutee(tuteeToEdit.getName(), tuteeToEdit.getPhone(), tuteeToEdit.getSchool(),
-                tuteeToEdit.getLevel(), tuteeToEdit.getAddress(), tuteeToEdit.getPayment(), tuteeToEdit.getRemark(),
-                tuteeToEdit.getTags(), tuteeToEdit.getLessons());
-        editedTutee.addLesson(lesson);
+        Tutee editedTutee = tuteeToEdit.withLessonAdded(lesson);
 
         model.setTutee(tuteeToEdit, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, editedTutee));
     }
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Lists the lessons held on each date in a range, taking into account the term, cancelled lessons and make-up
+ * lessons.
+ */
+public class CalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "calendar";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the lessons held from one date to another, "
+            + "both inclusive. Without dates, shows the lessons held in the next 7 days.\n"
+            + "Parameters: [" + PREFIX_FROM + "DATE] [" + PREFIX_TO + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "18-10-2021 "
+            + PREFIX_TO + "31-10-2021";
+
+    public static final String MESSAGE_SUCCESS = "Here are your lessons from %1$s to %2$s%3$s:\n%4$s";
+    public static final String MESSAGE_TERM = " (term: %1$s)";
+    public static final String MESSAGE_NO_LESSONS = "No lessons.";
+    public static final String MESSAGE_MORE_LESSONS = "... and more. Narrow the range to see them.";
+
+    /** The number of days shown when no end date is given. */
+    public static final int DEFAULT_DAYS = 7;
+
+    /** The most lessons shown, so that a long range does not generate the lessons of every week in it. */
+    public static final int MAX_SHOWN = 50;
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a CalendarCommand to show the lessons held from {@code from} to {@code to}, both inclusive. A null
+     * {@code from} is today, and a null {@code to} is {@code DEFAULT_DAYS} days from {@code from}.
+     */
+    public CalendarCommand(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate start = from == null ? LocalDate.now() : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_DAYS - 1) : to;
+
+        ModelSnapshot snapshot = model.getSnapshot();
+        LessonCalendar calendar = snapshot.getCalendar();
+        Iterator<LessonOccurrence> occurrences = calendar
+                .getOccurrences(start, end, snapshot.getScheduledLessons())
+                .limit(MAX_SHOWN + 1)
+                .iterator();
+
+        StringBuilder lessons = new StringBuilder();
+        int shown = 0;
+        while (occurrences.hasNext()) {
+            LessonOccurrence occurrence = occurrences.next();
+            if (shown == MAX_SHOWN) {
+                lessons.append(MESSAGE_MORE_LESSONS).append('\n');
+                break;
+            }
+            Tutee tutee = snapshot.getTutee(occurrence.getTuteeId());
+            lessons.append(occurrence).append(": ")
+                    .append(tutee == null ? occurrence.getTuteeId() : tutee.getName())
+                    .append('\n');
+            shown++;
+        }
+        if (shown == 0) {
+            lessons.append(MESSAGE_NO_LESSONS);
+        }
+
+        String term = calendar.getTerm().map(t -> String.format(MESSAGE_TERM, t)).orElse("");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, start.format(LessonOccurrence.DATE_FORMATTER),
+                end.format(LessonOccurrence.DATE_FORMATTER), term, lessons));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarCommand // instanceof handles nulls
+                && Objects.equals(from, ((CalendarCommand) other).from)
+                && Objects.equals(to, ((CalendarCommand) other).to)); // state check
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Cancels a weekly lesson of an existing tutee on one date, leaving it in the schedule for the other weeks.
+ */
+public class CancelLessonCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels a lesson of the tutee identified "
+            + "by the index number used in the displayed tutee list, on one date only.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_LESSON + "LESSON_INDEX "
+            + PREFIX_DATE + "DATE\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_LESSON + "1 "
+            + PREFIX_DATE + "20-10-2021";
+
+    public static final String MESSAGE_SUCCESS = "Lesson of %1$s cancelled: %2$s";
+    public static final String MESSAGE_WRONG_DAY = "The lesson is held on %1$s, not on %2$s";
+    public static final String MESSAGE_OUTSIDE_TERM = "The lesson is not held on %1$s, as it is outside the term";
+    public static final String MESSAGE_ALREADY_CANCELLED = "The lesson on %1$s has already been cancelled";
+
+    private final Index tuteeIndex;
+    private final Index lessonIndex;
+    private final LocalDate date;
+
+    /**
+     * Creates a CancelLessonCommand to cancel the specified {@code Lesson} of the specified {@code Tutee} on
+     * {@code date}.
+     *
+     * @param tuteeIndex of the tutee in the filtered tutee list
+     * @param lessonIndex of the Lesson in the lesson list
+     * @param date on which the lesson is cancelled
+     */
+    public CancelLessonCommand(Index tuteeIndex, Index lessonIndex, LocalDate date) {
+        requireNonNull(date);
+        this.tuteeIndex = tuteeIndex;
+        this.lessonIndex = lessonIndex;
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutee> lastShownList = model.getFilteredTuteeList();
+
+        if (tuteeIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX);
+        }
+
+        Tutee tutee = lastShownList.get(tuteeIndex.getZeroBased());
+        List<Lesson> lessonList = tutee.getLessons();
+
+        if (lessonIndex.getZeroBased() >= lessonList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_LESSON_INDEX);
+        }
+
+        Lesson lesson = lessonList.get(lessonIndex.getZeroBased());
+        String formattedDate = date.format(LessonOccurrence.DATE_FORMATTER);
+        if (lesson.getTime().getDayOfOccurrence() != date.getDayOfWeek()) {
+            throw new CommandException(String.format(MESSAGE_WRONG_DAY, lesson.getTime().getDayOfOccurrence(),
+                    formattedDate));
+        }
+
+        LessonCalendar calendar = model.getCalendar();
+        if (calendar.isFeesAccrued(date)) {
+            throw new CommandException(String.format(Messages.MESSAGE_FEES_ALREADY_ADDED,
+                    calendar.getFeesAccruedUntil().get().format(LessonOccurrence.DATE_FORMATTER)));
+        }
+        if (calendar.getTerm().map(term -> !term.contains(date)).orElse(false)) {
+            throw new CommandException(String.format(MESSAGE_OUTSIDE_TERM, formattedDate));
+        }
+
+        LessonOccurrence occurrence = new LessonOccurrence(date, lesson, tutee.getId(),
+                LessonOccurrence.Kind.REGULAR);
+        if (calendar.isCancelled(occurrence)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_CANCELLED, formattedDate));
+        }
+
+        model.setCalendar(calendar.withCancelled(occurrence));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tutee.getName(), occurrence));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CancelLessonCommand)) {
+            return false;
+        }
+
+        // state check
+        CancelLessonCommand cancelLessonCommand = (CancelLessonCommand) other;
+        return tuteeIndex.equals(cancelLessonCommand.tuteeIndex)
+                && lessonIndex.equals(cancelLessonCommand.lessonIndex)
+                && date.equals(cancelLessonCommand.date);
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.util.List;
 
@@ -49,12 +48,9 @@ public class ClearRemarkCommand extends Command {
 
         Tutee tuteeToEdit = lastShownList.get(targetIndex.getZeroBased());
 
-        Tutee editedTutee = new Tutee(tuteeToEdit.getName(), tuteeToEdit.getPhone(), tuteeToEdit.getSchool(),
-                    tuteeToEdit.getLevel(), tuteeToEdit.getAddress(), tuteeToEdit.getPayment(),
-                    new Remark(EMPTY_REMARK), tuteeToEdit.getTags(), tuteeToEdit.getLessons());
+        Tutee editedTutee = tuteeToEdit.withRemark(new Remark(EMPTY_REMARK));
 
         model.setTutee(tuteeToEdit, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
 
         if (tuteeToEdit.getRemark().value.equals(EMPTY_REMARK)) {
             throw new CommandException(String.format(MESSAGE_NOT_EDITED, editedTutee));
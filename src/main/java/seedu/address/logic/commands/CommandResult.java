@@ -2,28 +2,69 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the result of a command execution.
+ * <br>
+ * A result with many parts, such as a schedule of lessons, keeps them as a list of details apart from the feedback,
+ * so that they can be shown a page at a time instead of as one long text.
  */
 public class CommandResult {
 
     private final String feedbackToUser;
 
+    /** The parts of the result shown after the feedback, one entry each. */
+    private final List<String> details;
+
     /** Help information should be shown to the user. */
     private final boolean showHelp;
 
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback to be shown once the work the command started in the background completes, if any. */
+    private final CompletableFuture<String> pendingFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.details = Collections.emptyList();
         this.showHelp = showHelp;
         this.exit = exit;
+        this.pendingFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, followed by {@code details}.
+     */
+    public CommandResult(String feedbackToUser, List<String> details) {
+        requireNonNull(details);
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.details = Collections.unmodifiableList(new ArrayList<>(details));
+        this.showHelp = false;
+        this.exit = false;
+        this.pendingFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be followed by
+     * {@code pendingFeedback} once the work the command started in the background completes.
+     * {@code pendingFeedback} should always complete normally, with a message describing any failure.
+     */
+    public CommandResult(String feedbackToUser, CompletableFuture<String> pendingFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.details = Collections.emptyList();
+        this.showHelp = false;
+        this.exit = false;
+        this.pendingFeedback = requireNonNull(pendingFeedback);
     }
 
     /**
@@ -38,6 +79,28 @@ public class CommandResult {
         return feedbackToUser;
     }
 
+    /**
+     * Returns the parts of the result shown after the feedback, which is empty if the feedback is all there is.
+     */
+    public List<String> getDetails() {
+        return details;
+    }
+
+    /**
+     * Returns the feedback followed by every detail, one per line, for where the details cannot be shown a page at
+     * a time, such as on a console.
+     */
+    public String getFullFeedback() {
+        if (details.isEmpty()) {
+            return feedbackToUser;
+        }
+        StringBuilder builder = new StringBuilder(feedbackToUser);
+        for (String detail : details) {
+            builder.append('\n').append(detail);
+        }
+        return builder.toString();
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -46,6 +109,14 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the feedback to be shown once the work the command started in the background completes, or
+     * {@code Optional#empty()} if the command did all its work before returning.
+     */
+    public Optional<CompletableFuture<String>> getPendingFeedback() {
+        return Optional.ofNullable(pendingFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -57,15 +128,17 @@ public class CommandResult {
             return false;
         }
 
+        // the pending feedback is not compared, as it is not known until the background work completes
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+                && details.equals(otherCommandResult.details)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, details, showHelp, exit);
     }
 
 }
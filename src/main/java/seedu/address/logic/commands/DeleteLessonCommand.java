@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.util.List;
 
@@ -10,7 +9,6 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.Schedule;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.tutee.Tutee;
 
@@ -60,18 +58,9 @@ public class DeleteLessonCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_INDEX);
         }
 
-        Lesson lessonToDelete = lessonList.get(lessonIndex.getZeroBased());
-        Schedule schedule = model.getSchedule();
-
-        schedule.remove(lessonToDelete, tuteeToEdit.getName().toString());
-
-        Tutee editedTutee = new Tutee(tuteeToEdit.getName(), tuteeToEdit.getPhone(), tuteeToEdit.getSchool(),
-                tuteeToEdit.getLevel(), tuteeToEdit.getAddress(), tuteeToEdit.getPayment(), tuteeToEdit.getRemark(),
-                tuteeToEdit.getTags(), tuteeToEdit.getLessons());
-        editedTutee.deleteLesson(lessonIndex);
+        Tutee editedTutee = tuteeToEdit.withLessonRemoved(lessonIndex);
 
         model.setTutee(tuteeToEdit, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, editedTutee));
     }
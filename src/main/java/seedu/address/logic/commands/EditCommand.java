@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -20,7 +19,6 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.Schedule;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutee.Address;
@@ -88,14 +86,7 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TUTEE);
         }
 
-        if (editTuteeDescriptor.getName().isPresent()) {
-            // update schedule to reflect the edited tutee's name
-            Schedule schedule = model.getSchedule();
-            schedule.updateWithNewTuteeName(editedTutee.getLessons(), editedTutee.getName().toString());
-        }
-
         model.setTutee(tuteeToEdit, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
         return new CommandResult(String.format(MESSAGE_EDIT_TUTEE_SUCCESS, editedTutee));
     }
 
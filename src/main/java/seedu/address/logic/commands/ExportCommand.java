@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.export.Exporter;
+import seedu.address.model.Model;
+
+/**
+ * Exports the tutees in Track-O to a CSV file, or the weekly schedule to an iCalendar file, in the background.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all tutees to a CSV file, which can be "
+            + "imported again, or the weekly schedule to an iCalendar file, which calendar applications can import, "
+            + "depending on whether the file path ends with .csv or .ics. An existing file is overwritten.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " schedule.ics";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$s to %2$s in the background...";
+    public static final String MESSAGE_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path file;
+    private final ExportFormat format;
+
+    /**
+     * Creates an ExportCommand to export to {@code file} in {@code format}.
+     */
+    public ExportCommand(Path file, ExportFormat format) {
+        requireNonNull(file);
+        requireNonNull(format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the file is written from a snapshot, so the write need not be held until it is written
+        CompletableFuture<String> feedback = Exporter.export(model.getSnapshot(), format, file,
+                        Clock.systemDefaultZone(), ForkJoinPool.commonPool())
+                .thenApply(Exporter.Result::toString)
+                .exceptionally(e -> String.format(MESSAGE_FAILED, file,
+                        (e instanceof CompletionException ? e.getCause() : e).getMessage()));
+        return new CommandResult(String.format(MESSAGE_STARTED, format.getItemName(), file), feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && file.equals(((ExportCommand) other).file)
+                && format == ((ExportCommand) other).format); // state check
+    }
+}
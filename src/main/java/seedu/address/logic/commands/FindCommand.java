@@ -2,12 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.tutee.CollectivePredicate;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.query.Query;
+import seedu.address.model.tutee.query.QueryPlanner;
 
 /**
- * Finds and lists all tutees in Track-O whose name contains any of the argument keywords.
+ * Finds and lists all tutees in Track-O who satisfy the criteria given, either as prefixes that must all match or as
+ * a query combining them with AND, OR and NOT.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -19,20 +25,42 @@ public class FindCommand extends Command {
             + "You can include multiple keywords for name and subject,"
             + " and the tutees found must satisfy all the keywords.\n"
             + "Parameters: [l/LEVEL] [n/...NAME] [subject/...SUBJECT] [overdue/yes or no]\n"
-            + "Example: " + COMMAND_WORD + " l/p5 subject/math chinese";
+            + "Example: " + COMMAND_WORD + " l/p5 subject/math chinese\n"
+            + "Criteria can also be combined with AND, OR, NOT and brackets, together with t/TAG, sch/SCHOOL, "
+            + "pay/MIN..MAX, by/FROM..TO (pay-by date), d/DAY_OF_WEEK and time/FROM..TO (lesson time), "
+            + "where either end of a range may be left out. The words after n/, subject/ and sch/ are part of their "
+            + "value; other values with spaces are put in double quotes.\n"
+            + "Example: " + COMMAND_WORD + " (t/rescheduled OR sch/\"acs primary\") AND NOT l/p6 pay/50.. d/3";
 
     public static final String MESSAGE_LEVEL_CONSTRAINT = "Find by level requires 1 level keyword to search for.";
 
-    private final CollectivePredicate predicate;
+    private final Predicate<Tutee> predicate;
 
-    public FindCommand(CollectivePredicate predicate) {
+    public FindCommand(Predicate<Tutee> predicate) {
         this.predicate = predicate;
     }
 
+    public Predicate<Tutee> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the predicate to test {@code tutees} against, which is the query planned for them if the criteria
+     * were given as a query. This is for lists of tutees without an index, such as those in a snapshot.
+     */
+    public Predicate<Tutee> getPredicateFor(List<Tutee> tutees) {
+        requireNonNull(tutees);
+        return predicate instanceof Query ? QueryPlanner.plan((Query) predicate, tutees) : predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTuteeList(predicate);
+        List<Tutee> tutees = model.getTrackO().getTuteeList();
+        // the query is answered from the index of the tutees wherever it can be
+        model.updateFilteredTuteeList(predicate instanceof Query
+                ? QueryPlanner.plan((Query) predicate, tutees, model.getAttributeIndex())
+                : predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_TUTEES_LISTED_OVERVIEW, model.getFilteredTuteeList().size()));
     }
@@ -15,18 +15,28 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE = "Here are the usages of the commands:\n\n"
             + AddCommand.MESSAGE_USAGE + "\n\n"
+            + ImportCommand.MESSAGE_USAGE + "\n\n"
+            + ExportCommand.MESSAGE_USAGE + "\n\n"
+            + MergeCommand.MESSAGE_USAGE + "\n\n"
             + DeleteCommand.MESSAGE_USAGE + "\n\n"
             + EditCommand.MESSAGE_USAGE + "\n\n"
             + FindCommand.MESSAGE_USAGE + "\n\n"
             + ListCommand.MESSAGE_USAGE + "\n\n"
             + GetCommand.MESSAGE_USAGE + "\n\n"
+            + SortCommand.MESSAGE_USAGE + "\n\n"
             + RemarkCommand.MESSAGE_USAGE + "\n\n"
             + ClearRemarkCommand.MESSAGE_USAGE + "\n\n"
             + ScheduleCommand.MESSAGE_USAGE + "\n\n"
             + AddLessonCommand.MESSAGE_USAGE + "\n\n"
             + DeleteLessonCommand.MESSAGE_USAGE + "\n\n"
+            + CalendarCommand.MESSAGE_USAGE + "\n\n"
+            + TermCommand.MESSAGE_USAGE + "\n\n"
+            + CancelLessonCommand.MESSAGE_USAGE + "\n\n"
+            + MakeUpLessonCommand.MESSAGE_USAGE + "\n\n"
             + PaymentCommand.MESSAGE_USAGE_ALL
+            + InvoiceCommand.MESSAGE_USAGE + "\n\n"
             + ClearCommand.MESSAGE_USAGE + "\n\n"
+            + StatsCommand.MESSAGE_USAGE + "\n\n"
             + ExitCommand.MESSAGE_USAGE;
 
     @Override
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.importer.RowReader;
+import seedu.address.logic.importer.TuteeImporter;
+import seedu.address.model.Model;
+
+/**
+ * Adds the tutees in a CSV or JSON lines file to Track-O, together with their lessons.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the tutees in a CSV file, with a header naming "
+            + "its columns, or a JSON lines file, with an object on each line. The fields are name, phone, school, "
+            + "level and address, and optionally tags, payment, remark and lessons. Tags and lessons are separated "
+            + "by semicolons in a CSV file, and each lesson is given as in the lesson command, i.e. "
+            + "\"subject/Math d/1 s/15:00 e/17:00 rate/50\". "
+            + "Rows that are invalid, or whose tutee or lessons clash with Track-O, are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " tutees.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d tutees from %2$s in %3$d ms.";
+    public static final String MESSAGE_SKIPPED = "\n%1$d rows were skipped:\n%2$s";
+    public static final String MESSAGE_MORE_ERRORS = "\n... and %1$d more.";
+    public static final String MESSAGE_ERROR_REPORT = "\nThe rows skipped are listed in %1$s";
+    public static final String MESSAGE_ERROR_REPORT_FAILED = "\nCould not write the list of rows skipped: %1$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Could not import %1$s: the file does not exist";
+    public static final String MESSAGE_CANNOT_READ = "Could not import %1$s: %2$s";
+
+    /** The most errors shown, so that a badly formed file does not flood the result display. */
+    public static final int MAX_ERRORS_SHOWN = 10;
+
+    /** Added to the name of the file imported to give the name of the file that the rows skipped are listed in. */
+    public static final String ERROR_REPORT_SUFFIX = ".errors.txt";
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to add the tutees in {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        TuteeImporter.Result result;
+        try (RowReader reader = RowReader.open(file)) {
+            result = TuteeImporter.importTutees(reader, model);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file, e.getMessage()), e);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getImportedCount(), file,
+                TimeUnit.NANOSECONDS.toMillis(result.getElapsedNanos())));
+        List<TuteeImporter.RowError> errors = result.getErrors();
+        if (errors.isEmpty()) {
+            return new CommandResult(feedback.toString());
+        }
+
+        feedback.append(String.format(MESSAGE_SKIPPED, errors.size(), errors.stream()
+                .limit(MAX_ERRORS_SHOWN)
+                .map(TuteeImporter.RowError::toString)
+                .collect(Collectors.joining("\n"))));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            feedback.append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        Path errorReport = file.resolveSibling(file.getFileName() + ERROR_REPORT_SUFFIX);
+        try {
+            Files.write(errorReport, errors.stream().map(TuteeImporter.RowError::toString)
+                    .collect(Collectors.toList()), StandardCharsets.UTF_8);
+            feedback.append(String.format(MESSAGE_ERROR_REPORT, errorReport));
+        } catch (IOException e) {
+            feedback.append(String.format(MESSAGE_ERROR_REPORT_FAILED, e.getMessage()));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file)); // state check
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.invoice.InvoiceWriter;
+import seedu.address.logic.invoice.StatementFormat;
+import seedu.address.model.Model;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Writes the statements of the tutees in the list currently shown for a month to files, in the background.
+ */
+public class InvoiceCommand extends Command {
+
+    public static final String COMMAND_WORD = "invoice";
+
+    /** The name of the folder, next to the data file, that statements are written to. */
+    public static final String DIRECTORY_NAME = "invoices";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes a statement of the lessons held, payments "
+            + "received and amount owed for a month for each tutee in the list shown, to a file in the '"
+            + DIRECTORY_NAME + "' folder next to the data file. "
+            + "Without a month, writes the statements for this month. "
+            + "Statements are written as text unless another format is given.\n"
+            + "Parameters: [" + PREFIX_MONTH + "MM-YYYY] [" + PREFIX_FORMAT + "text|html]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MONTH + "10-2021 "
+            + PREFIX_FORMAT + "html";
+
+    public static final String MESSAGE_STARTED = "Writing the statements of %1$d tutees for %2$s as %3$s "
+            + "in the background...";
+    public static final String MESSAGE_NO_TUTEES = "There are no tutees in the list shown to write statements for.";
+    public static final String MESSAGE_FAILED = "Could not write the statements: %1$s";
+
+    private final YearMonth month;
+    private final StatementFormat format;
+
+    /**
+     * Creates an InvoiceCommand to write the statements for {@code month} in {@code format}.
+     */
+    public InvoiceCommand(YearMonth month, StatementFormat format) {
+        requireNonNull(month);
+        requireNonNull(format);
+        this.month = month;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutee> tutees = model.getFilteredTuteeList();
+        if (tutees.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_TUTEES);
+        }
+
+        // statements are rendered from a snapshot, so the write need not be held until they are all written
+        Path directory = model.getTrackOFilePath().resolveSibling(DIRECTORY_NAME);
+        CompletableFuture<String> feedback = InvoiceWriter.write(model.getSnapshot(), tutees, month, format,
+                        directory, ForkJoinPool.commonPool())
+                .thenApply(InvoiceWriter.Result::toString)
+                .exceptionally(e -> String.format(MESSAGE_FAILED,
+                        (e instanceof CompletionException ? e.getCause() : e).getMessage()));
+        return new CommandResult(String.format(MESSAGE_STARTED, tutees.size(), month, format), feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InvoiceCommand // instanceof handles nulls
+                && month.equals(((InvoiceCommand) other).month)
+                && format == ((InvoiceCommand) other).format); // state check
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Adds a one-off make-up lesson for a weekly lesson of an existing tutee.
+ */
+public class MakeUpLessonCommand extends Command {
+
+    public static final String COMMAND_WORD = "makeup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a make-up lesson, held once, for a lesson of "
+            + "the tutee identified by the index number used in the displayed tutee list.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_LESSON + "LESSON_INDEX "
+            + PREFIX_DATE + "DATE "
+            + PREFIX_START_TIME + "START_TIME "
+            + PREFIX_END_TIME + "END_TIME\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_LESSON + "1 "
+            + PREFIX_DATE + "23-10-2021 "
+            + PREFIX_START_TIME + "10:00 "
+            + PREFIX_END_TIME + "12:00";
+
+    public static final String MESSAGE_SUCCESS = "Make-up lesson added for %1$s: %2$s";
+    public static final String MESSAGE_CLASH = "The make-up lesson clashes with the lesson on %1$s";
+
+    private final Index tuteeIndex;
+    private final Index lessonIndex;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Creates a MakeUpLessonCommand to add a make-up lesson for the specified {@code Lesson} of the specified
+     * {@code Tutee}, held on {@code date} from {@code startTime} to {@code endTime}.
+     *
+     * @param tuteeIndex of the tutee in the filtered tutee list
+     * @param lessonIndex of the Lesson in the lesson list
+     */
+    public MakeUpLessonCommand(Index tuteeIndex, Index lessonIndex, LocalDate date, LocalTime startTime,
+            LocalTime endTime) {
+        requireNonNull(date);
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        this.tuteeIndex = tuteeIndex;
+        this.lessonIndex = lessonIndex;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Tutee> lastShownList = model.getFilteredTuteeList();
+
+        if (tuteeIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX);
+        }
+
+        Tutee tutee = lastShownList.get(tuteeIndex.getZeroBased());
+        List<Lesson> lessonList = tutee.getLessons();
+
+        if (lessonIndex.getZeroBased() >= lessonList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_LESSON_INDEX);
+        }
+
+        Lesson lesson = lessonList.get(lessonIndex.getZeroBased());
+        Time makeUpTime;
+        try {
+            makeUpTime = new Time(date.getDayOfWeek(), startTime, endTime);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(e.getMessage());
+        }
+        LessonOccurrence makeUp = new LessonOccurrence(date,
+                new Lesson(lesson.getSubject(), makeUpTime, lesson.getHourlyRate()), tutee.getId(),
+                LessonOccurrence.Kind.MAKE_UP);
+
+        ModelSnapshot snapshot = model.getSnapshot();
+        LessonCalendar calendar = snapshot.getCalendar();
+        if (calendar.isFeesAccrued(date)) {
+            throw new CommandException(String.format(Messages.MESSAGE_FEES_ALREADY_ADDED,
+                    calendar.getFeesAccruedUntil().get().format(LessonOccurrence.DATE_FORMATTER)));
+        }
+        Optional<LessonOccurrence> clash = calendar.findClash(makeUp, snapshot.getScheduledLessons());
+        if (clash.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CLASH, clash.get()));
+        }
+
+        model.setCalendar(calendar.withMakeUp(makeUp));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tutee.getName(), makeUp));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MakeUpLessonCommand)) {
+            return false;
+        }
+
+        // state check
+        MakeUpLessonCommand makeUpLessonCommand = (MakeUpLessonCommand) other;
+        return tuteeIndex.equals(makeUpLessonCommand.tuteeIndex)
+                && lessonIndex.equals(makeUpLessonCommand.lessonIndex)
+                && date.equals(makeUpLessonCommand.date)
+                && startTime.equals(makeUpLessonCommand.startTime)
+                && endTime.equals(makeUpLessonCommand.endTime);
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFER;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.merge.TuteeDiff;
+import seedu.address.logic.merge.TuteeMerger;
+import seedu.address.logic.merge.TuteeMerger.Preference;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTrackO;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.storage.JsonTrackOStorage;
+
+/**
+ * Compares the tutees in Track-O with those in another Track-O data file, and optionally merges them in.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Compares the tutees in Track-O with those in "
+            + "another Track-O data file, such as the one kept on another device, listing the tutees only in either "
+            + "and those whose details or payments differ. "
+            + "If a copy is preferred, also adds the tutees only in the other file, and keeps the version of tutees "
+            + "that differ in the copy preferred. Tutees only in this Track-O are never removed, and tutees whose "
+            + "lessons would clash with the schedule are left as they are.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_PREFER + "this|other]\n"
+            + "Example: " + COMMAND_WORD + " desktop/trackO.json " + PREFIX_PREFER + "other";
+
+    public static final String MESSAGE_SAME = "Track-O has the same tutees as %1$s.";
+    public static final String MESSAGE_DIFF = "Compared with %1$s: %2$d tutees only there, %3$d only here, "
+            + "%4$d with different details and %5$d with different payments.";
+    public static final String MESSAGE_ONLY_THERE = "\nOnly there: %1$s";
+    public static final String MESSAGE_ONLY_HERE = "\nOnly here: %1$s";
+    public static final String MESSAGE_DETAILS_DIFFER = "\nDetails differ: %1$s";
+    public static final String MESSAGE_PAYMENTS_DIFFER = "\nPayments differ: %1$s";
+    public static final String MESSAGE_MORE_NAMES = ", and %1$d more";
+    public static final String MESSAGE_PREVIEW = "\nTo merge, run this again with " + PREFIX_PREFER + "this or "
+            + PREFIX_PREFER + "other.";
+    public static final String MESSAGE_MERGED = "\nAdded %1$d tutees and updated %2$d tutees, preferring %3$s copy.";
+    public static final String MESSAGE_CONFLICTS = "\n%1$d tutees were left as they are:\n%2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Could not merge %1$s: the file does not exist";
+    public static final String MESSAGE_CANNOT_READ = "Could not merge %1$s: %2$s";
+
+    /** The most names shown in each list, so that comparing very different files does not flood the display. */
+    public static final int MAX_NAMES_SHOWN = 10;
+
+    private final Path file;
+    private final Optional<Preference> preferred;
+
+    /**
+     * Creates a MergeCommand to compare Track-O with {@code file}, and to merge it in preferring the copy
+     * {@code preferred}, if any.
+     */
+    public MergeCommand(Path file, Optional<Preference> preferred) {
+        requireNonNull(file);
+        requireNonNull(preferred);
+        this.file = file;
+        this.preferred = preferred;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyTrackO other = read(file);
+        TuteeDiff diff = TuteeDiff.of(model.getTrackO().getTuteeList(), other.getTuteeList());
+        if (diff.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SAME, file));
+        }
+
+        List<TuteeDiff.Change> changes = diff.getChanges();
+        List<Tutee> detailsChanged = changes.stream().filter(TuteeDiff.Change::isDetailsChanged)
+                .map(TuteeDiff.Change::getCurrent).collect(Collectors.toList());
+        List<Tutee> paymentsChanged = changes.stream().filter(TuteeDiff.Change::isPaymentChanged)
+                .map(TuteeDiff.Change::getCurrent).collect(Collectors.toList());
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_DIFF, file, diff.getAdded().size(),
+                diff.getRemoved().size(), detailsChanged.size(), paymentsChanged.size()));
+        appendNames(feedback, MESSAGE_ONLY_THERE, diff.getAdded());
+        appendNames(feedback, MESSAGE_ONLY_HERE, diff.getRemoved());
+        appendNames(feedback, MESSAGE_DETAILS_DIFFER, detailsChanged);
+        appendNames(feedback, MESSAGE_PAYMENTS_DIFFER, paymentsChanged);
+
+        if (preferred.isEmpty()) {
+            return new CommandResult(feedback.append(MESSAGE_PREVIEW).toString());
+        }
+
+        TuteeMerger.Result result = TuteeMerger.merge(model, diff, preferred.get());
+        model.updateFilteredTuteeList(Model.PREDICATE_SHOW_ALL_TUTEES);
+        feedback.append(String.format(MESSAGE_MERGED, result.getAddedCount(), result.getReplacedCount(),
+                preferred.get() == Preference.THIS ? "this" : "the other"));
+        List<String> conflicts = result.getConflicts();
+        if (!conflicts.isEmpty()) {
+            feedback.append(String.format(MESSAGE_CONFLICTS, conflicts.size(), String.join("\n", conflicts)));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private static ReadOnlyTrackO read(Path file) throws CommandException {
+        try {
+            return new JsonTrackOStorage(file).readTrackO()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file)));
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file, e.getCause().getMessage()), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file, e.getMessage()), e);
+        }
+    }
+
+    private static void appendNames(StringBuilder feedback, String message, List<Tutee> tutees) {
+        if (tutees.isEmpty()) {
+            return;
+        }
+        String names = tutees.stream().limit(MAX_NAMES_SHOWN).map(tutee -> tutee.getName().fullName)
+                .collect(Collectors.joining(", "));
+        if (tutees.size() > MAX_NAMES_SHOWN) {
+            names += String.format(MESSAGE_MORE_NAMES, tutees.size() - MAX_NAMES_SHOWN);
+        }
+        feedback.append(String.format(message, names));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeCommand // instanceof handles nulls
+                && file.equals(((MergeCommand) other).file)
+                && preferred.equals(((MergeCommand) other).preferred)); // state check
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.util.List;
 
@@ -59,19 +58,12 @@ public class RemarkCommand extends Command {
         Tutee editedTutee;
 
         if (!tuteeRemark.value.equals(EMPTY_REMARK)) {
-            editedTutee = new Tutee(tuteeToEdit.getName(), tuteeToEdit.getPhone(), tuteeToEdit.getSchool(),
-                    tuteeToEdit.getLevel(), tuteeToEdit.getAddress(), tuteeToEdit.getPayment(),
-                    tuteeRemark.appendRemark(remark), tuteeToEdit.getTags(),
-                    tuteeToEdit.getLessons());
+            editedTutee = tuteeToEdit.withRemark(tuteeRemark.appendRemark(remark));
         } else {
-            editedTutee = new Tutee(tuteeToEdit.getName(), tuteeToEdit.getPhone(), tuteeToEdit.getSchool(),
-                    tuteeToEdit.getLevel(), tuteeToEdit.getAddress(), tuteeToEdit.getPayment(),
-                    remark, tuteeToEdit.getTags(),
-                    tuteeToEdit.getLessons());
+            editedTutee = tuteeToEdit.withRemark(remark);
         }
 
         model.setTutee(tuteeToEdit, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
 
         return new CommandResult(String.format(MESSAGE_ADD_REMARK_SUCCESS, editedTutee));
     }
@@ -1,26 +1,117 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.Schedule;
+import seedu.address.model.lesson.Lesson;
 
 /**
- * Lists the user's schedule.
+ * Lists the user's schedule, or the part of it on some days or at some times of the day.
+ * Each lesson is a detail of the result, so that a long schedule is shown a page at a time.
  */
 public class ScheduleCommand extends Command {
 
     public static final String COMMAND_WORD = "schedule";
 
-    public static final String MESSAGE_SUCCESS = "Here is your schedule for the week: \n%1$s";
+    public static final String MESSAGE_SUCCESS = "Here is your schedule for the week:";
+
+    public static final String MESSAGE_SUCCESS_FILTERED = "Here are the %1$d lessons in your schedule %2$s:";
+
+    public static final String MESSAGE_NO_LESSONS_FILTERED = "There are no lessons scheduled %1$s.";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows your schedule for the week.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows your schedule for the week, "
+            + "or only the lessons on the given days of the week that take place at some time in the given range.\n"
+            + "Parameters: [" + PREFIX_DAY_OF_WEEK + "DAY_OF_WEEK]... [" + PREFIX_TIME + "FROM..TO]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DAY_OF_WEEK + "1 " + PREFIX_DAY_OF_WEEK + "3 "
+            + PREFIX_TIME + "12:00..18:00";
+
+    private final Set<DayOfWeek> days;
+    private final LocalTime from;
+    private final LocalTime to;
+
+    /**
+     * Creates a ScheduleCommand to show the whole schedule.
+     */
+    public ScheduleCommand() {
+        this(List.of(), LocalTime.MIN, LocalTime.MAX);
+    }
+
+    /**
+     * Creates a ScheduleCommand to show the lessons on {@code days}, or on every day if it is empty, that take place
+     * at some time from {@code from} to {@code to}.
+     */
+    public ScheduleCommand(List<DayOfWeek> days, LocalTime from, LocalTime to) {
+        requireAllNonNull(days, from, to);
+        this.days = days.isEmpty() ? EnumSet.allOf(DayOfWeek.class) : EnumSet.copyOf(days);
+        this.from = from;
+        this.to = to;
+    }
+
+    private boolean isFiltered() {
+        return days.size() < DayOfWeek.values().length || !from.equals(LocalTime.MIN) || !to.equals(LocalTime.MAX);
+    }
+
+    private String describeFilter() {
+        StringBuilder builder = new StringBuilder();
+        if (days.size() < DayOfWeek.values().length) {
+            List<String> dayNames = new ArrayList<>();
+            for (DayOfWeek day : days) {
+                dayNames.add(day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            }
+            builder.append("on ").append(String.join(", ", dayNames));
+        }
+        if (!from.equals(LocalTime.MIN) || !to.equals(LocalTime.MAX)) {
+            builder.append(builder.length() == 0 ? "" : " ")
+                    .append("during ").append(from.equals(LocalTime.MIN) ? "" : from)
+                    .append("..").append(to.equals(LocalTime.MAX) ? "" : to);
+        }
+        return builder.toString();
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         Schedule schedule = model.getSchedule();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, schedule));
+        Map<Lesson, String> lessonsToNames = isFiltered()
+                ? schedule.getLessonsDuring(days, from, to)
+                : schedule.getSortedLessonsMap();
+
+        if (lessonsToNames.isEmpty()) {
+            return new CommandResult(isFiltered()
+                    ? String.format(MESSAGE_NO_LESSONS_FILTERED, describeFilter())
+                    : Schedule.MESSAGE_NO_LESSONS);
+        }
+
+        List<String> entries = new ArrayList<>(lessonsToNames.size());
+        for (Map.Entry<Lesson, String> entry : lessonsToNames.entrySet()) {
+            entries.add(Schedule.toEntryString(entry.getKey(), entry.getValue()));
+        }
+        String header = isFiltered()
+                ? String.format(MESSAGE_SUCCESS_FILTERED, entries.size(), describeFilter())
+                : MESSAGE_SUCCESS;
+        return new CommandResult(header, entries);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleCommand // instanceof handles nulls
+                && days.equals(((ScheduleCommand) other).days)
+                && from.equals(((ScheduleCommand) other).from)
+                && to.equals(((ScheduleCommand) other).to)); // state check
     }
 }
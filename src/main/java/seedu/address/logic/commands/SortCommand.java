@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+
+import seedu.address.model.Model;
+import seedu.address.model.tutee.TuteeComparator;
+
+/**
+ * Sorts the tutee list shown to the user by one of the details of the tutees.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the tutee list by name, amount owed, pay-by "
+            + "date, time to the next lesson or level, or back to the order the tutees were added in. "
+            + "The order is kept through later finds and changes until the list is sorted again, so the time to "
+            + "the next lesson is counted from when the list was sorted; sort again to bring it up to date.\n"
+            + "Parameters: added, name, owed, payby, next or level, followed by 'desc' to sort in descending order\n"
+            + "Example: " + COMMAND_WORD + " owed desc";
+
+    public static final String MESSAGE_SUCCESS = "Sorted tutees by %1$s";
+
+    public static final String DESCENDING = "desc";
+
+    private final TuteeComparator.Key key;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortCommand to sort the tutee list by {@code key}.
+     */
+    public SortCommand(TuteeComparator.Key key, boolean isDescending) {
+        requireNonNull(key);
+        this.key = key;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        TuteeComparator comparator = new TuteeComparator(key, isDescending, LocalDateTime.now());
+        model.sortFilteredTuteeList(comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, comparator));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && key == ((SortCommand) other).key
+                && isDescending == ((SortCommand) other).isDescending); // state check
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+
+/**
+ * Sets or clears the dates of the term, during which the weekly lessons are held.
+ */
+public class TermCommand extends Command {
+
+    public static final String COMMAND_WORD = "term";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the dates of the term, both inclusive. "
+            + "Weekly lessons are only held during the term. Without dates, clears the term, so that weekly lessons "
+            + "are held every week.\n"
+            + "Parameters: [" + PREFIX_FROM + "START_DATE " + PREFIX_TO + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "04-10-2021 "
+            + PREFIX_TO + "19-11-2021";
+
+    public static final String MESSAGE_SUCCESS = "Term set: %1$s";
+    public static final String MESSAGE_CLEARED = "Term cleared";
+
+    private final Term term;
+
+    /**
+     * Creates a TermCommand to set the term to {@code term}, or to clear it if {@code term} is null.
+     */
+    public TermCommand(Term term) {
+        this.term = term;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LessonCalendar calendar = model.getCalendar();
+        if (calendar.isTermChangeAccrued(term)) {
+            throw new CommandException(String.format(Messages.MESSAGE_FEES_ALREADY_ADDED,
+                    calendar.getFeesAccruedUntil().get().format(LessonOccurrence.DATE_FORMATTER)));
+        }
+        model.setCalendar(calendar.withTerm(term));
+        return new CommandResult(term == null ? MESSAGE_CLEARED : String.format(MESSAGE_SUCCESS, term));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TermCommand // instanceof handles nulls
+                && Objects.equals(term, ((TermCommand) other).term)); // state check
+    }
+}
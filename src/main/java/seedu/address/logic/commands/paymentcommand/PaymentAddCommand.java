@@ -2,16 +2,17 @@ package seedu.address.logic.commands.paymentcommand;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.calendar.LessonOccurrence;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.tutee.Payment;
 import seedu.address.model.tutee.Tutee;
@@ -25,6 +26,9 @@ public class PaymentAddCommand extends PaymentCommand {
     public static final String MESSAGE_USAGE = "Obtains tutee identified "
             + "by the index number used in the displayed tutee list and lesson identified in tutee's lesson list. "
             + "Fees of the indexed lesson are then added to the payment value owed by tutee.\n"
+            + "Once Track-O adds the fees of lessons automatically after they are held, "
+            + "which it starts doing when it is first run with lessons in the schedule, "
+            + "this is no longer allowed, so that no lesson is charged twice.\n"
             + "Required Parameters: TUTEE_INDEX (must be a positive integer), "
             + "LESSON_INDEX (must be a positive integer)\n"
             + "Example: payment 1 " + PREFIX_LESSON + "1\n\n";
@@ -33,6 +37,10 @@ public class PaymentAddCommand extends PaymentCommand {
 
     public static final String MESSAGE_LESSON_INDEX_OUT_OF_BOUNDS = "Lesson index provided is invalid.";
 
+    public static final String MESSAGE_LESSON_FEES_ACCRUED = "The fees of this lesson are added automatically "
+            + "after it is held, and have been added for the lessons held up to %1$s, "
+            + "so they cannot be added again.";
+
     public static final String MESSAGE_AMOUNT_EXCEED_MAXIMUM = "Adding this lesson's fees is not allowed."
             + "\n(Payment value will exceed $100,000)";
 
@@ -101,6 +109,13 @@ public class PaymentAddCommand extends PaymentCommand {
             throw new CommandException(Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX);
         }
 
+        // the fees of every weekly lesson are added by fee accrual once it has started, and would be charged twice
+        Optional<LocalDate> feesAccruedUntil = model.getCalendar().getFeesAccruedUntil();
+        if (feesAccruedUntil.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_LESSON_FEES_ACCRUED,
+                    feesAccruedUntil.get().format(LessonOccurrence.DATE_FORMATTER)));
+        }
+
         Tutee tuteeToGet = lastShownList.get(targetIndex.getZeroBased());
         Payment existingPayment = tuteeToGet.getPayment();
         LocalDate existingPayByDate = existingPayment.getPayByDate();
@@ -111,7 +126,6 @@ public class PaymentAddCommand extends PaymentCommand {
                 null);
 
         model.setTutee(tuteeToGet, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
         Payment newPaymentDetails = editedTutee.getPayment();
 
         return new CommandResult(String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, editedTutee.getName(), newPaymentDetails));
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -13,14 +12,9 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.lesson.Lesson;
-import seedu.address.model.tag.Tag;
-import seedu.address.model.tutee.Address;
-import seedu.address.model.tutee.Level;
 import seedu.address.model.tutee.Name;
 import seedu.address.model.tutee.Payment;
-import seedu.address.model.tutee.Phone;
-import seedu.address.model.tutee.Remark;
-import seedu.address.model.tutee.School;
+import seedu.address.model.tutee.PaymentLedger;
 import seedu.address.model.tutee.Tutee;
 
 /**
@@ -102,8 +96,8 @@ public class PaymentCommand extends Command {
 
     /**
      * Uses the information of an existing tutee and creates a new tutee with the updated payment details and
-     * updates the last paid date of tutee (only when the receive command is used). In cases where other commands are
-     * used, lastPaidDate will be null.
+     * records the amount previously owed as received on the last paid date (only when the receive command is used).
+     * In cases where other commands are used, lastPaidDate will be null.
      *
      * @param tuteeToEdit Existing tutee
      * @param payment Payment amount to set
@@ -112,28 +106,16 @@ public class PaymentCommand extends Command {
      * @return
      */
     public static Tutee createEditedPaymentDetailsTutee(Tutee tuteeToEdit, String payment, LocalDate payByDate,
-                                                        String lastPaidDate) {
+                                                        LocalDate lastPaidDate) {
         assert tuteeToEdit != null;
 
-        Name updatedName = tuteeToEdit.getName();
-        Phone updatedPhone = tuteeToEdit.getPhone();
-        School updatedSchool = tuteeToEdit.getSchool();
-        Level updatedLevel = tuteeToEdit.getLevel();
-        Address updatedAddress = tuteeToEdit.getAddress();
         Payment existingPayment = tuteeToEdit.getPayment();
-        Payment updatedPayment = new Payment(payment, payByDate);
-        if (lastPaidDate != null) {
-            updatedPayment.paymentHistory.add(lastPaidDate);
-        } else {
-            List<String> existingPaymentHist = existingPayment.paymentHistory;
-            updatedPayment.copyPaymentHistory(existingPaymentHist);
-        }
-        Remark updatedRemark = tuteeToEdit.getRemark(); // edit command does not allow editing remarks
-        Set<Tag> updatedTags = tuteeToEdit.getTags();
-        List<Lesson> updatedLessons = tuteeToEdit.getLessons(); // edit command does not allow editing lessons
+        PaymentLedger updatedLedger = lastPaidDate == null
+                ? existingPayment.getPaymentLedger()
+                : existingPayment.getPaymentLedger().append(lastPaidDate, Payment.toCents(existingPayment.getValue()));
+        Payment updatedPayment = new Payment(payment, payByDate, updatedLedger);
 
-        return new Tutee(updatedName, updatedPhone, updatedSchool, updatedLevel, updatedAddress,
-                updatedPayment, updatedRemark, updatedTags, updatedLessons);
+        return tuteeToEdit.withPayment(updatedPayment);
     }
 
     @Override
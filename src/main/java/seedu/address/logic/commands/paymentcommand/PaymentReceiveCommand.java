@@ -2,8 +2,6 @@ package seedu.address.logic.commands.paymentcommand;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_RECEIVED_DATE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
-import static seedu.address.model.tutee.Payment.TODAY_DATE_AS_STRING;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -90,10 +88,9 @@ public class PaymentReceiveCommand extends PaymentCommand {
         }
 
         Tutee editedTutee = createEditedPaymentDetailsTutee(tuteeToGet, ZERO_PAYMENT_VAL,
-                newPayByDate, TODAY_DATE_AS_STRING);
+                newPayByDate, LocalDate.now());
 
         model.setTutee(tuteeToGet, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
         Payment newPaymentDetails = editedTutee.getPayment();
 
         return new CommandResult(String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, editedTutee.getName(), newPaymentDetails));
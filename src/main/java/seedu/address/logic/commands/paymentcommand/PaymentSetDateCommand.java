@@ -2,7 +2,6 @@ package seedu.address.logic.commands.paymentcommand;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_DATE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -77,7 +76,6 @@ public class PaymentSetDateCommand extends PaymentCommand {
         Tutee editedTutee = createEditedPaymentDetailsTutee(tuteeToGet, existingPaymentValue, newPayByDate, null);
 
         model.setTutee(tuteeToGet, editedTutee);
-        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
         Payment newPaymentDetails = editedTutee.getPayment();
 
         return new CommandResult(String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, editedTutee.getName(), newPaymentDetails));
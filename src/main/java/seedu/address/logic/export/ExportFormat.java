@@ -0,0 +1,77 @@
+package seedu.address.logic.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * The formats that Track-O can be exported in, each chosen by the extension of the file exported to.
+ */
+public enum ExportFormat {
+    CSV(".csv", "tutees") {
+        @Override
+        public int write(ModelSnapshot snapshot, Clock clock, Writer writer) throws IOException {
+            return TuteeCsvWriter.write(snapshot.getTuteeList(), writer);
+        }
+    },
+    ICS(".ics", "lessons") {
+        @Override
+        public int write(ModelSnapshot snapshot, Clock clock, Writer writer) throws IOException {
+            return ScheduleIcsWriter.write(snapshot, clock, writer);
+        }
+    };
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only CSV files (.csv), for tutees, and iCalendar files "
+            + "(.ics), for the schedule, can be exported to";
+
+    private final String fileExtension;
+    private final String itemName;
+
+    ExportFormat(String fileExtension, String itemName) {
+        this.fileExtension = fileExtension;
+        this.itemName = itemName;
+    }
+
+    /**
+     * Returns the format of {@code file}, given by its extension, if it is supported.
+     */
+    public static Optional<ExportFormat> fromFile(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (name.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the part of {@code snapshot} exported in this format to {@code writer}.
+     *
+     * @return The number of items written.
+     */
+    public abstract int write(ModelSnapshot snapshot, Clock clock, Writer writer) throws IOException;
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the name of the items written in this format, in the plural.
+     */
+    public String getItemName() {
+        return itemName;
+    }
+}
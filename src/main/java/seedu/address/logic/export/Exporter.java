@@ -0,0 +1,131 @@
+package seedu.address.logic.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * Exports a snapshot of Track-O to a file in the background.
+ * <br>
+ * The file is written incrementally through a buffered writer, so the document is never held in memory as a whole.
+ * It is written to a temporary file next to it first and moved into place once complete, so an export that fails
+ * part way never leaves a truncated file behind in place of an earlier one.
+ */
+public final class Exporter {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(Exporter.class);
+
+    private Exporter() {
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code file} in {@code format} on {@code executor}, overwriting the file if it
+     * exists.
+     *
+     * @return A future that completes with the result once the file is written, or exceptionally with an
+     *     {@code UncheckedIOException} if it could not be written.
+     */
+    public static CompletableFuture<Result> export(ModelSnapshot snapshot, ExportFormat format, Path file,
+            Clock clock, Executor executor) {
+        requireAllNonNull(snapshot, format, file, clock, executor);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(snapshot, format, file, clock);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private static Result write(ModelSnapshot snapshot, ExportFormat format, Path file, Clock clock)
+            throws IOException {
+        long startTime = System.nanoTime();
+        Path absoluteFile = file.toAbsolutePath();
+        Files.createDirectories(absoluteFile.getParent());
+        Path temporaryFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + TEMPORARY_SUFFIX);
+        int count;
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                count = format.write(snapshot, clock, writer);
+            }
+            moveIntoPlace(temporaryFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        Result result = new Result(format, count, file, System.nanoTime() - startTime);
+        logger.info(result::toString);
+        return result;
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The result of an export.
+     */
+    public static class Result {
+
+        public static final String MESSAGE_EXPORTED = "Exported %1$d %2$s to %3$s in %4$d ms.";
+
+        private final ExportFormat format;
+        private final int count;
+        private final Path file;
+        private final long elapsedNanos;
+
+        /**
+         * Constructs a {@code Result} of exporting {@code count} items to {@code file} in {@code format} in
+         * {@code elapsedNanos} nanoseconds.
+         */
+        public Result(ExportFormat format, int count, Path file, long elapsedNanos) {
+            this.format = format;
+            this.count = count;
+            this.file = file;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public ExportFormat getFormat() {
+            return format;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_EXPORTED, count, format.getItemName(), file,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.logic.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Writes the weekly lessons in the schedule to an iCalendar (RFC 5545) file, which calendar applications can
+ * subscribe to or import.
+ * <br>
+ * Each weekly lesson is written as an event that recurs weekly, from the start of the term, or today if no term is
+ * set, until the end of the term, if any. Cancelled lessons are excluded from the recurrence and make-up lessons
+ * are written as events of their own. Times are written as local times, which calendar applications show in the
+ * time zone they are in.
+ */
+public final class ScheduleIcsWriter {
+
+    /** The line ending required by RFC 5545. */
+    static final String LINE_ENDING = "\r\n";
+
+    private static final String PRODUCT_ID = "-//Track-O//Schedule//EN";
+    private static final String UID_DOMAIN = "@tracko";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+    private static final DateTimeFormatter UID_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmm");
+
+    private ScheduleIcsWriter() {
+    }
+
+    /**
+     * Writes the weekly lessons in the schedule of {@code snapshot}, and the make-up lessons in its calendar, to
+     * {@code writer} as a calendar.
+     *
+     * @param clock The clock giving today's date, from which lessons recur if no term is set, and the time the
+     *     events are stamped with.
+     * @return The number of events written.
+     */
+    public static int write(ModelSnapshot snapshot, Clock clock, Writer writer) throws IOException {
+        requireAllNonNull(snapshot, clock, writer);
+        Optional<Term> term = snapshot.getCalendar().getTerm();
+        LocalDate firstDate = term.map(Term::getStartDate).orElse(LocalDate.now(clock));
+        String stamp = LocalDateTime.now(clock.withZone(ZoneOffset.UTC)).format(DATE_TIME_FORMATTER) + "Z";
+
+        // cancellations are grouped once, rather than searched for each weekly lesson
+        Map<TuteeId, List<LessonOccurrence>> cancellationsByTutee = new HashMap<>();
+        for (LessonOccurrence cancellation : snapshot.getCalendar().getCancellations()) {
+            cancellationsByTutee.computeIfAbsent(cancellation.getTuteeId(), id -> new ArrayList<>())
+                    .add(cancellation);
+        }
+
+        StringBuilder line = new StringBuilder(128);
+        writeLine(writer, line, "BEGIN:VCALENDAR");
+        writeLine(writer, line, "VERSION:2.0");
+        writeLine(writer, line, "PRODID:" + PRODUCT_ID);
+        writeLine(writer, line, "CALSCALE:GREGORIAN");
+
+        int eventCount = 0;
+        for (Map.Entry<Lesson, TuteeId> entry : snapshot.getScheduledLessons().entrySet()) {
+            Lesson lesson = entry.getKey();
+            TuteeId tuteeId = entry.getValue();
+            Time time = lesson.getTime();
+            DayOfWeek day = time.getDayOfOccurrence();
+            LocalDate date = firstDate.with(TemporalAdjusters.nextOrSame(day));
+            if (term.isPresent() && date.isAfter(term.get().getEndDate())) {
+                continue;
+            }
+
+            LocalDateTime start = date.atTime(time.getStartTime());
+            writeLine(writer, line, "BEGIN:VEVENT");
+            writeLine(writer, line, "UID:" + tuteeId + "-" + time.getStartMinuteOfWeek() + UID_DOMAIN);
+            writeLine(writer, line, "DTSTAMP:" + stamp);
+            writeLine(writer, line, "DTSTART:" + start.format(DATE_TIME_FORMATTER));
+            writeLine(writer, line, "DTEND:" + date.atTime(time.getEndTime()).format(DATE_TIME_FORMATTER));
+            writeLine(writer, line, "RRULE:FREQ=WEEKLY;BYDAY=" + day.name().substring(0, 2)
+                    + term.map(t -> ";UNTIL=" + t.getEndDate().atTime(23, 59, 59).format(DATE_TIME_FORMATTER))
+                            .orElse(""));
+            for (LessonOccurrence cancellation : cancellationsByTutee.getOrDefault(tuteeId, List.of())) {
+                if (cancellation.getLesson().getTime().getStartMinuteOfWeek() == time.getStartMinuteOfWeek()
+                        && !cancellation.getStart().isBefore(start)) {
+                    writeLine(writer, line, "EXDATE:" + cancellation.getStart().format(DATE_TIME_FORMATTER));
+                }
+            }
+            writeDetails(writer, line, snapshot, lesson, tuteeId, "");
+            writeLine(writer, line, "END:VEVENT");
+            eventCount++;
+        }
+
+        for (LessonOccurrence makeUp : snapshot.getCalendar().getMakeUps()) {
+            writeLine(writer, line, "BEGIN:VEVENT");
+            writeLine(writer, line, "UID:" + makeUp.getTuteeId() + "-" + makeUp.getStart().format(UID_FORMATTER)
+                    + UID_DOMAIN);
+            writeLine(writer, line, "DTSTAMP:" + stamp);
+            writeLine(writer, line, "DTSTART:" + makeUp.getStart().format(DATE_TIME_FORMATTER));
+            writeLine(writer, line, "DTEND:" + makeUp.getEnd().format(DATE_TIME_FORMATTER));
+            writeDetails(writer, line, snapshot, makeUp.getLesson(), makeUp.getTuteeId(), " (make-up)");
+            writeLine(writer, line, "END:VEVENT");
+            eventCount++;
+        }
+
+        writeLine(writer, line, "END:VCALENDAR");
+        return eventCount;
+    }
+
+    private static void writeDetails(Writer writer, StringBuilder line, ModelSnapshot snapshot, Lesson lesson,
+            TuteeId tuteeId, String suffix) throws IOException {
+        Tutee tutee = snapshot.getTutee(tuteeId);
+        String tuteeName = tutee == null ? tuteeId.toString() : tutee.getName().fullName;
+        writeLine(writer, line, "SUMMARY:" + escape(lesson.getSubject() + " with " + tuteeName + suffix));
+        writeLine(writer, line, "DESCRIPTION:" + escape(String.format("Hourly rate: $%.2f", lesson.getHourlyRate())));
+        if (tutee != null) {
+            writeLine(writer, line, "LOCATION:" + escape(tutee.getAddress().value));
+        }
+    }
+
+    /**
+     * Writes {@code content} to {@code writer} as a content line, folded so that no line is longer than 75 octets
+     * in UTF-8, as RFC 5545 requires.
+     *
+     * @param line A buffer to fold the line in, whose content is discarded.
+     */
+    static void writeLine(Writer writer, StringBuilder line, String content) throws IOException {
+        line.setLength(0);
+        int octets = 0;
+        int i = 0;
+        while (i < content.length()) {
+            int codePoint = content.codePointAt(i);
+            int codePointOctets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                // the space starting the continuation line counts towards its length
+                line.append(LINE_ENDING).append(' ');
+                octets = 1;
+            }
+            int next = i + Character.charCount(codePoint);
+            line.append(content, i, next);
+            octets += codePointOctets;
+            i = next;
+        }
+        writer.append(line).append(LINE_ENDING);
+    }
+
+    /**
+     * Returns {@code text} escaped to be the value of a text property.
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
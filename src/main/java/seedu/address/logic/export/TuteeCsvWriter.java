@@ -0,0 +1,126 @@
+package seedu.address.logic.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURLY_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.logic.importer.ImportRow;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Writes tutees to a CSV file with a header, in the format read by the import command, so that an exported file
+ * can be imported again.
+ * <br>
+ * Each tutee is written as soon as it is formatted, so the file is never held in memory as a whole.
+ */
+public final class TuteeCsvWriter {
+
+    /** The columns written, in order. */
+    public static final List<String> COLUMNS = List.of(ImportRow.FIELD_NAME, ImportRow.FIELD_PHONE,
+            ImportRow.FIELD_SCHOOL, ImportRow.FIELD_LEVEL, ImportRow.FIELD_ADDRESS, ImportRow.FIELD_TAGS,
+            ImportRow.FIELD_PAYMENT, ImportRow.FIELD_REMARK, ImportRow.FIELD_LESSONS);
+
+    /** The line ending of RFC 4180, which spreadsheets expect. */
+    static final String LINE_ENDING = "\r\n";
+
+    private TuteeCsvWriter() {
+    }
+
+    /**
+     * Writes a header followed by a row for each of {@code tutees} to {@code writer}.
+     *
+     * @return The number of tutees written.
+     */
+    public static int write(Collection<Tutee> tutees, Writer writer) throws IOException {
+        requireAllNonNull(tutees, writer);
+        StringBuilder row = new StringBuilder(256);
+        appendRow(row, COLUMNS);
+        writer.append(row);
+        for (Tutee tutee : tutees) {
+            row.setLength(0);
+            appendRow(row, toValues(tutee));
+            writer.append(row);
+        }
+        return tutees.size();
+    }
+
+    private static List<String> toValues(Tutee tutee) {
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : tutee.getTags()) {
+            appendSeparated(tags, tag.tagName);
+        }
+        StringBuilder lessons = new StringBuilder();
+        for (Lesson lesson : tutee.getLessons()) {
+            appendSeparated(lessons, formatLesson(lesson));
+        }
+        return List.of(tutee.getName().fullName, tutee.getPhone().value, tutee.getSchool().value,
+                tutee.getLevel().getValue(), tutee.getAddress().value, tags.toString(), tutee.getPayment().value,
+                tutee.getRemark().value, lessons.toString());
+    }
+
+    /**
+     * Returns {@code lesson} with the same prefixes as in the command that adds a lesson.
+     */
+    static String formatLesson(Lesson lesson) {
+        Time time = lesson.getTime();
+        return PREFIX_SUBJECT + lesson.getSubject().toString()
+                + " " + PREFIX_DAY_OF_WEEK + time.getDayOfOccurrence().getValue()
+                + " " + PREFIX_START_TIME + time.getStartTime()
+                + " " + PREFIX_END_TIME + time.getEndTime()
+                + " " + PREFIX_HOURLY_RATE + String.format("%.2f", lesson.getHourlyRate());
+    }
+
+    private static void appendSeparated(StringBuilder values, String value) {
+        if (values.length() > 0) {
+            values.append(ImportRow.VALUE_SEPARATOR).append(' ');
+        }
+        values.append(value);
+    }
+
+    /**
+     * Appends {@code values} to {@code row} as a line of comma-separated columns, each quoted if it contains a
+     * comma, a double quote or a line break, or starts or ends with a space.
+     */
+    static void appendRow(StringBuilder row, List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            appendValue(row, values.get(i));
+        }
+        row.append(LINE_ENDING);
+    }
+
+    private static void appendValue(StringBuilder row, String value) {
+        if (!needsQuotes(value)) {
+            row.append(value);
+            return;
+        }
+        row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        int length = value.length();
+        if (length > 0 && (value.charAt(0) == ' ' || value.charAt(length - 1) == ' ')) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads rows from a CSV file, whose first line is a header naming the field in each column.
+ * Fields may be quoted with double quotes, in which case they may contain commas, line breaks and doubled double
+ * quotes. The tags and lessons of a tutee are given in one field, separated by semicolons.
+ */
+public class CsvRowReader extends RowReader {
+
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file should start with a header naming its columns";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column in the CSV header: %1$s";
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected %1$d values but found %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted value is not closed";
+
+    private final List<String> columns;
+
+    /**
+     * Creates a {@code CsvRowReader} that reads from {@code reader}, and reads the header.
+     *
+     * @throws IOException if the header is missing or names an unknown column.
+     */
+    public CsvRowReader(BufferedReader reader) throws IOException {
+        super(reader);
+        String header = readNonBlankLine();
+        if (header == null) {
+            throw new IOException(MESSAGE_MISSING_HEADER);
+        }
+        columns = new ArrayList<>();
+        for (String column : splitLine(header, new ArrayList<>())) {
+            String field = column.trim().toLowerCase(Locale.ROOT);
+            if (!ImportRow.isValidField(field)) {
+                throw new IOException(String.format(MESSAGE_UNKNOWN_COLUMN, column.trim()));
+            }
+            columns.add(field);
+        }
+    }
+
+    @Override
+    public ImportRow readRow() throws IOException {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+
+        int lineNumber = getLineNumber();
+        List<String> values = new ArrayList<>(columns.size());
+        StringBuilder quotedValue = null;
+        while (true) {
+            quotedValue = splitLine(line, values, quotedValue);
+            if (quotedValue == null) {
+                break;
+            }
+            // the quoted value goes on to the next line
+            line = readLine();
+            if (line == null) {
+                return ImportRow.ofError(lineNumber, MESSAGE_UNCLOSED_QUOTE);
+            }
+            quotedValue.append('\n');
+        }
+
+        if (values.size() != columns.size()) {
+            return ImportRow.ofError(lineNumber,
+                    String.format(MESSAGE_WRONG_COLUMN_COUNT, columns.size(), values.size()));
+        }
+        Map<String, List<String>> fields = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String field = columns.get(i);
+            String value = values.get(i);
+            fields.put(field, isMultiValued(field) ? splitValues(value) : List.of(value));
+        }
+        return ImportRow.of(lineNumber, fields);
+    }
+
+    private static boolean isMultiValued(String field) {
+        return field.equals(ImportRow.FIELD_TAGS) || field.equals(ImportRow.FIELD_LESSONS);
+    }
+
+    private static List<String> splitValues(String value) {
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(ImportRow.VALUE_SEPARATOR)) {
+            if (!part.isBlank()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+
+    private static List<String> splitLine(String line, List<String> values) throws IOException {
+        if (splitLine(line, values, null) != null) {
+            throw new IOException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        return values;
+    }
+
+    /**
+     * Adds the values in {@code line} to {@code values}, continuing {@code quotedValue} if a quoted value started
+     * on an earlier line.
+     *
+     * @return The quoted value read so far if the line ends inside it, or null otherwise.
+     */
+    private static StringBuilder splitLine(String line, List<String> values, StringBuilder quotedValue) {
+        StringBuilder value = quotedValue == null ? new StringBuilder() : quotedValue;
+        boolean isQuoted = quotedValue != null;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (isQuoted) {
+            return value;
+        }
+        values.add(value.toString());
+        return null;
+    }
+
+    /**
+     * Returns the fields in the columns of the file, in order.
+     */
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+}
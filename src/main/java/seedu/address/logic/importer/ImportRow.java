@@ -0,0 +1,104 @@
+package seedu.address.logic.importer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Represents a row read from a file being imported, as the values of its fields, before they are validated.
+ * A row that could not be read at all, such as a line of malformed JSON, has an error instead of fields.
+ * Guarantees: immutable.
+ */
+public class ImportRow {
+
+    /** The names of the fields of a row, each in lower case. */
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_PHONE = "phone";
+    public static final String FIELD_SCHOOL = "school";
+    public static final String FIELD_LEVEL = "level";
+    public static final String FIELD_ADDRESS = "address";
+    public static final String FIELD_TAGS = "tags";
+    public static final String FIELD_PAYMENT = "payment";
+    public static final String FIELD_REMARK = "remark";
+    public static final String FIELD_LESSONS = "lessons";
+
+    /** The fields that can have more than one value, which are separated by this in a single CSV field. */
+    public static final String VALUE_SEPARATOR = ";";
+
+    private final int lineNumber;
+    private final Map<String, List<String>> fields;
+    private final String error;
+
+    private ImportRow(int lineNumber, Map<String, List<String>> fields, String error) {
+        this.lineNumber = lineNumber;
+        this.fields = fields;
+        this.error = error;
+    }
+
+    /**
+     * Returns a row that starts on line {@code lineNumber} with the values of each field in {@code fields}.
+     */
+    public static ImportRow of(int lineNumber, Map<String, List<String>> fields) {
+        requireNonNull(fields);
+        return new ImportRow(lineNumber, Collections.unmodifiableMap(fields), null);
+    }
+
+    /**
+     * Returns a row that starts on line {@code lineNumber} and could not be read because of {@code error}.
+     */
+    public static ImportRow ofError(int lineNumber, String error) {
+        requireNonNull(error);
+        return new ImportRow(lineNumber, Collections.emptyMap(), error);
+    }
+
+    /**
+     * Returns true if {@code field} is the name of a field rows can have.
+     */
+    public static boolean isValidField(String field) {
+        switch (field) {
+        case FIELD_NAME:
+        case FIELD_PHONE:
+        case FIELD_SCHOOL:
+        case FIELD_LEVEL:
+        case FIELD_ADDRESS:
+        case FIELD_TAGS:
+        case FIELD_PAYMENT:
+        case FIELD_REMARK:
+        case FIELD_LESSONS:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the values of {@code field}, which is empty if the row does not have the field.
+     */
+    public List<String> getValues(String field) {
+        return fields.getOrDefault(field, Collections.emptyList());
+    }
+
+    /**
+     * Returns the single value of {@code field}, or {@code Optional#empty()} if the row does not have the field or
+     * its value is blank.
+     */
+    public Optional<String> getValue(String field) {
+        List<String> values = getValues(field);
+        return values.isEmpty() || values.get(0).isBlank() ? Optional.empty() : Optional.of(values.get(0));
+    }
+
+    public Map<String, List<String>> getFields() {
+        return fields;
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads rows from a JSON lines file, in which each line is a JSON object whose keys name its fields.
+ * The tags and lessons of a tutee are given as arrays of strings.
+ */
+public class JsonLinesRowReader extends RowReader {
+
+    public static final String MESSAGE_INVALID_JSON = "Each line should be a JSON object: %1$s";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field: %1$s";
+    public static final String MESSAGE_INVALID_VALUE = "The value of %1$s should be a string, a number or an array "
+            + "of them";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Creates a {@code JsonLinesRowReader} that reads from {@code reader}.
+     */
+    public JsonLinesRowReader(BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    public ImportRow readRow() throws IOException {
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+
+        int lineNumber = getLineNumber();
+        JsonNode object;
+        try {
+            object = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRow.ofError(lineNumber, String.format(MESSAGE_INVALID_JSON, e.getOriginalMessage()));
+        }
+        if (object == null || !object.isObject()) {
+            return ImportRow.ofError(lineNumber, String.format(MESSAGE_INVALID_JSON, line.trim()));
+        }
+
+        Map<String, List<String>> fields = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = object.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            String field = entry.getKey().toLowerCase(Locale.ROOT);
+            if (!ImportRow.isValidField(field)) {
+                return ImportRow.ofError(lineNumber, String.format(MESSAGE_UNKNOWN_FIELD, entry.getKey()));
+            }
+
+            List<String> values = new ArrayList<>();
+            JsonNode value = entry.getValue();
+            if (value.isArray()) {
+                for (JsonNode element : value) {
+                    if (!element.isValueNode() || element.isNull()) {
+                        return ImportRow.ofError(lineNumber, String.format(MESSAGE_INVALID_VALUE, entry.getKey()));
+                    }
+                    values.add(element.asText());
+                }
+            } else if (value.isValueNode() && !value.isNull()) {
+                values.add(value.asText());
+            } else if (!value.isNull()) {
+                return ImportRow.ofError(lineNumber, String.format(MESSAGE_INVALID_VALUE, entry.getKey()));
+            }
+            fields.put(field, values);
+        }
+        return ImportRow.of(lineNumber, fields);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Reads the rows of a file being imported one at a time, so that a file of any size can be imported without
+ * holding it in memory in full.
+ */
+public abstract class RowReader implements Closeable {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only .csv files and JSON lines (.jsonl) files can be "
+            + "imported";
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    protected RowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns true if {@code file} can be imported, i.e. it is a .csv file or a .jsonl or .ndjson file.
+     */
+    public static boolean isSupportedFile(Path file) {
+        String fileName = getLowerCaseFileName(file);
+        return fileName.endsWith(".csv") || fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson");
+    }
+
+    /**
+     * Opens {@code file} for reading, as CSV or JSON lines depending on its extension.
+     *
+     * @throws IllegalArgumentException if the file cannot be imported, as declared in
+     *     {@link #isSupportedFile(Path)}.
+     * @throws IOException if the file cannot be opened, or its CSV header cannot be read.
+     */
+    public static RowReader open(Path file) throws IOException {
+        if (!isSupportedFile(file)) {
+            throw new IllegalArgumentException(MESSAGE_UNSUPPORTED_FILE);
+        }
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return getLowerCaseFileName(file).endsWith(".csv")
+                    ? new CsvRowReader(reader)
+                    : new JsonLinesRowReader(reader);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private static String getLowerCaseFileName(Path file) {
+        return file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the next row, or null if there are no more rows.
+     */
+    public abstract ImportRow readRow() throws IOException;
+
+    /**
+     * Returns the next line that is not blank, or null if there are no more lines.
+     */
+    protected String readNonBlankLine() throws IOException {
+        String line;
+        do {
+            line = readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    /**
+     * Returns the next line, or null if there are no more lines.
+     */
+    protected String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * Returns the number of the line last read, counting from 1.
+     */
+    protected int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic.importer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURLY_RATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.Remark;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Validates the rows of a file being imported with the same rules as the commands that add tutees and lessons.
+ * Validation depends only on the row, so rows can be validated in parallel.
+ */
+public final class RowValidator {
+
+    public static final String MESSAGE_MISSING_FIELD = "Missing %1$s";
+    public static final String MESSAGE_INVALID_FIELD = "Invalid %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LESSON = "Lessons should be given as "
+            + PREFIX_SUBJECT + "SUBJECT " + PREFIX_DAY_OF_WEEK + "DAY_OF_WEEK " + PREFIX_START_TIME + "START_TIME "
+            + PREFIX_END_TIME + "END_TIME " + PREFIX_HOURLY_RATE + "HOURLY_RATE, i.e "
+            + PREFIX_SUBJECT + "Math " + PREFIX_DAY_OF_WEEK + "1 " + PREFIX_START_TIME + "15:00 "
+            + PREFIX_END_TIME + "17:00 " + PREFIX_HOURLY_RATE + "50";
+
+    private static final Prefix[] LESSON_PREFIXES = {
+        PREFIX_SUBJECT, PREFIX_DAY_OF_WEEK, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_HOURLY_RATE
+    };
+
+    private RowValidator() {
+    }
+
+    /**
+     * Returns the tutee described by {@code row}, with no ID yet.
+     *
+     * @throws ParseException if the row could not be read, or a field is missing or invalid.
+     */
+    public static Tutee validate(ImportRow row) throws ParseException {
+        requireNonNull(row);
+        Optional<String> error = row.getError();
+        if (error.isPresent()) {
+            throw new ParseException(error.get());
+        }
+
+        return new Tutee(
+                parseRequired(row, ImportRow.FIELD_NAME, ParserUtil::parseName),
+                parseRequired(row, ImportRow.FIELD_PHONE, ParserUtil::parsePhone),
+                parseRequired(row, ImportRow.FIELD_SCHOOL, ParserUtil::parseSchool),
+                parseRequired(row, ImportRow.FIELD_LEVEL, ParserUtil::parseLevel),
+                parseRequired(row, ImportRow.FIELD_ADDRESS, ParserUtil::parseAddress),
+                row.getValue(ImportRow.FIELD_PAYMENT).isEmpty()
+                        ? Payment.initializePayment()
+                        : parseRequired(row, ImportRow.FIELD_PAYMENT,
+                                payment -> new Payment(ParserUtil.parsePaymentValue(payment), null)),
+                new Remark(row.getValue(ImportRow.FIELD_REMARK).orElse("-")),
+                parseField(ImportRow.FIELD_TAGS, row.getValues(ImportRow.FIELD_TAGS), ParserUtil::parseTags),
+                parseField(ImportRow.FIELD_LESSONS, row.getValues(ImportRow.FIELD_LESSONS),
+                        RowValidator::parseLessons));
+    }
+
+    private static <T> T parseRequired(ImportRow row, String field, FieldParser<String, T> parser)
+            throws ParseException {
+        Optional<String> value = row.getValue(field);
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return parseField(field, value.get(), parser);
+    }
+
+    private static <S, T> T parseField(String field, S value, FieldParser<S, T> parser) throws ParseException {
+        try {
+            return parser.parse(value);
+        } catch (ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FIELD, field, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses lessons given with the same prefixes as in the command that adds a lesson.
+     */
+    static List<Lesson> parseLessons(List<String> lessons) throws ParseException {
+        List<Lesson> parsedLessons = new ArrayList<>(lessons.size());
+        for (String lesson : lessons) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + lesson.trim(), LESSON_PREFIXES);
+            if (!argMultimap.getPreamble().isEmpty()
+                    || !Stream.of(LESSON_PREFIXES).allMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+                throw new ParseException(MESSAGE_INVALID_LESSON);
+            }
+
+            try {
+                Time time = new Time(ParserUtil.parseDayOfWeek(argMultimap.getValue(PREFIX_DAY_OF_WEEK).get()),
+                        ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_START_TIME).get()),
+                        ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_END_TIME).get()));
+                parsedLessons.add(new Lesson(ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get()),
+                        time, ParserUtil.parseHourlyRate(argMultimap.getValue(PREFIX_HOURLY_RATE).get())));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(e.getMessage(), e);
+            }
+        }
+        return parsedLessons;
+    }
+
+    /**
+     * Parses the value of a field, in the same way as the methods of {@code ParserUtil}.
+     */
+    @FunctionalInterface
+    private interface FieldParser<S, T> {
+        T parse(S value) throws ParseException;
+    }
+}
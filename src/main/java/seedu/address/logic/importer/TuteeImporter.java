@@ -0,0 +1,246 @@
+package seedu.address.logic.importer;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.WeekOccupancy;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Name;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Imports the tutees in a file into the model in a single batch.
+ * <br>
+ * Rows are read a batch at a time and each batch is validated in parallel. The valid rows are then checked in file
+ * order against the tutees in Track-O and those accepted from earlier rows, by name through a hash set and by
+ * lesson time through a copy of the minutes of the week taken up in the schedule, so each row is checked in
+ * constant time apart from a scan of the make-up lessons in the calendar. Rows that fail any check are skipped
+ * with an error; the rest are added to the model together once the whole file has been read, so a file that
+ * cannot be read to the end changes nothing.
+ */
+public final class TuteeImporter {
+
+    public static final String MESSAGE_DUPLICATE_TUTEE = "%1$s is already in Track-O or earlier in the file";
+    public static final String MESSAGE_LESSON_CLASH = "The lesson %1$s clashes with a lesson in the schedule or "
+            + "earlier in the file";
+    public static final String MESSAGE_MAKE_UP_CLASH = "The lesson %1$s clashes with the make-up lesson on %2$s";
+
+    /** The number of rows read and validated at a time, which bounds the rows held in memory before checking. */
+    static final int BATCH_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(TuteeImporter.class);
+
+    private TuteeImporter() {
+    }
+
+    /**
+     * Adds the tutees in the rows read by {@code reader} to {@code model}, and their lessons to its schedule.
+     * This should be called within a write to the model.
+     *
+     * @throws IOException if the rows cannot be read, in which case the model is not changed.
+     */
+    public static Result importTutees(RowReader reader, Model model) throws IOException {
+        requireAllNonNull(reader, model);
+        long startTime = System.nanoTime();
+
+        Set<Name> names = new HashSet<>();
+        for (Tutee tutee : model.getTrackO().getTuteeList()) {
+            names.add(tutee.getName());
+        }
+        WeekOccupancy occupancy = model.getSchedule().getOccupancyCopy();
+        LessonCalendar calendar = model.getCalendar();
+
+        List<Tutee> accepted = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        boolean hasMoreRows = true;
+        while (hasMoreRows) {
+            ImportRow row = reader.readRow();
+            hasMoreRows = row != null;
+            if (hasMoreRows) {
+                batch.add(row);
+            }
+            if (batch.size() == BATCH_SIZE || (!hasMoreRows && !batch.isEmpty())) {
+                for (ValidatedRow validated : validateAll(batch)) {
+                    check(validated, names, occupancy, calendar, accepted, errors);
+                }
+                batch.clear();
+            }
+        }
+
+        // the lessons of the tutees added are scheduled as they are added
+        List<Tutee> added = model.addTutees(accepted);
+
+        Result result = new Result(added.size(), errors, System.nanoTime() - startTime);
+        logger.info(() -> String.format("Imported %1$d tutees and skipped %2$d rows in %3$d ms",
+                result.getImportedCount(), errors.size(), result.getElapsedNanos() / 1_000_000));
+        return result;
+    }
+
+    private static List<ValidatedRow> validateAll(List<ImportRow> rows) {
+        // collected in order, however the rows are split among threads
+        return rows.parallelStream().map(ValidatedRow::of).collect(Collectors.toList());
+    }
+
+    private static void check(ValidatedRow row, Set<Name> names, WeekOccupancy occupancy, LessonCalendar calendar,
+            List<Tutee> accepted, List<RowError> errors) {
+        if (row.error != null) {
+            errors.add(new RowError(row.lineNumber, row.error));
+            return;
+        }
+
+        Tutee tutee = row.tutee;
+        if (names.contains(tutee.getName())) {
+            errors.add(new RowError(row.lineNumber, String.format(MESSAGE_DUPLICATE_TUTEE, tutee.getName())));
+            return;
+        }
+
+        List<Lesson> lessons = tutee.getLessons();
+        for (int i = 0; i < lessons.size(); i++) {
+            Optional<String> clash = findClash(lessons.get(i), occupancy, calendar);
+            if (clash.isPresent()) {
+                // frees the minutes of the lessons of this row reserved so far
+                for (int j = 0; j < i; j++) {
+                    Time reserved = lessons.get(j).getTime();
+                    occupancy.release(reserved.getStartMinuteOfWeek(), reserved.getEndMinuteOfWeek());
+                }
+                errors.add(new RowError(row.lineNumber, clash.get()));
+                return;
+            }
+            Time time = lessons.get(i).getTime();
+            occupancy.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+        }
+
+        names.add(tutee.getName());
+        accepted.add(tutee);
+    }
+
+    /**
+     * Returns the error of {@code lesson} if it clashes with the minutes taken up in {@code occupancy} or with a
+     * make-up lesson in {@code calendar}.
+     */
+    private static Optional<String> findClash(Lesson lesson, WeekOccupancy occupancy, LessonCalendar calendar) {
+        Time time = lesson.getTime();
+        String lessonString = lesson.getSubject() + " on " + time;
+        if (occupancy.isAnyOccupied(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek())) {
+            return Optional.of(String.format(MESSAGE_LESSON_CLASH, lessonString));
+        }
+        Optional<LessonOccurrence> makeUpClash = calendar.findMakeUpClash(lesson);
+        return makeUpClash.map(makeUp -> String.format(MESSAGE_MAKE_UP_CLASH, lessonString, makeUp));
+    }
+
+    /**
+     * A row that has been validated, into either a tutee or an error.
+     */
+    private static class ValidatedRow {
+        private final int lineNumber;
+        private final Tutee tutee;
+        private final String error;
+
+        private ValidatedRow(int lineNumber, Tutee tutee, String error) {
+            this.lineNumber = lineNumber;
+            this.tutee = tutee;
+            this.error = error;
+        }
+
+        static ValidatedRow of(ImportRow row) {
+            try {
+                return new ValidatedRow(row.getLineNumber(), RowValidator.validate(row), null);
+            } catch (ParseException e) {
+                return new ValidatedRow(row.getLineNumber(), null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * An error that caused a row to be skipped.
+     */
+    public static class RowError {
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Constructs a {@code RowError} of the row starting on line {@code lineNumber}.
+         */
+        public RowError(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof RowError // instanceof handles nulls
+                    && lineNumber == ((RowError) other).lineNumber
+                    && message.equals(((RowError) other).message)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, message);
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+
+    /**
+     * The result of an import.
+     */
+    public static class Result {
+        private final int importedCount;
+        private final List<RowError> errors;
+        private final long elapsedNanos;
+
+        /**
+         * Constructs the {@code Result} of an import that added {@code importedCount} tutees and skipped the rows
+         * with {@code errors}, in {@code elapsedNanos} nanoseconds.
+         */
+        public Result(int importedCount, List<RowError> errors, long elapsedNanos) {
+            this.importedCount = importedCount;
+            this.errors = Collections.unmodifiableList(errors);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getImportedCount() {
+            return importedCount;
+        }
+
+        /**
+         * Returns the errors of the rows skipped, in file order.
+         */
+        public List<RowError> getErrors() {
+            return errors;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address.logic.invoice;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Writes the statements of tutees for a month to files, one file per tutee.
+ * <br>
+ * Statements are rendered from a {@code ModelSnapshot}, so they can be written in the background while commands
+ * continue to change the model. They are rendered in parallel on a fork-join pool, and each is encoded through a
+ * small buffer straight into a {@code FileChannel}, so no statement is ever held in memory as bytes in full.
+ */
+public final class InvoiceWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INITIAL_STATEMENT_CAPACITY = 2048;
+
+    private static final Logger logger = LogsCenter.getLogger(InvoiceWriter.class);
+
+    private InvoiceWriter() {
+    }
+
+    /**
+     * Writes the statements of {@code tutees} for {@code month}, in {@code format}, to a directory named after the
+     * month in {@code directory}, on {@code pool}.
+     * Existing statements of the same tutees for the same month are overwritten.
+     *
+     * @param snapshot The snapshot of the model the tutees are from, whose schedule and calendar give the lessons
+     *     held during the month.
+     * @return A future that completes with the result once every statement is written, or exceptionally with an
+     *     {@code UncheckedIOException} if one could not be written.
+     */
+    public static CompletableFuture<Result> write(ModelSnapshot snapshot, List<Tutee> tutees, YearMonth month,
+            StatementFormat format, Path directory, ForkJoinPool pool) {
+        requireAllNonNull(snapshot, tutees, month, format, directory, pool);
+        List<Tutee> tuteesToWrite = new ArrayList<>(tutees);
+        return CompletableFuture.supplyAsync(() -> writeAll(snapshot, tuteesToWrite, month, format,
+                directory.resolve(month.toString())), pool);
+    }
+
+    private static Result writeAll(ModelSnapshot snapshot, List<Tutee> tutees, YearMonth month,
+            StatementFormat format, Path monthDirectory) {
+        long startTime = System.nanoTime();
+        try {
+            Files.createDirectories(monthDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // the occurrences are generated in a single pass over the month, rather than once per tutee
+        Map<TuteeId, List<LessonOccurrence>> lessonsByTutee = new HashMap<>();
+        snapshot.getCalendar()
+                .getOccurrences(month.atDay(1), month.atEndOfMonth(), snapshot.getScheduledLessons())
+                .forEach(occurrence -> lessonsByTutee
+                        .computeIfAbsent(occurrence.getTuteeId(), id -> new ArrayList<>())
+                        .add(occurrence));
+
+        // runs on the pool this is called from, as it is called on a worker thread of the pool
+        long byteCount = tutees.parallelStream()
+                .mapToLong(tutee -> writeStatement(
+                        new Statement(tutee, month,
+                                lessonsByTutee.getOrDefault(tutee.getId(), Collections.emptyList())),
+                        format, monthDirectory.resolve(getFileName(tutee, format))))
+                .sum();
+
+        Result result = new Result(tutees.size(), byteCount, System.nanoTime() - startTime, monthDirectory);
+        logger.info(result::toString);
+        return result;
+    }
+
+    /**
+     * Returns the name of the file the statement of {@code tutee} is written to, which starts with the tutee's ID
+     * so that tutees with the same name do not overwrite each other's statements.
+     */
+    static String getFileName(Tutee tutee, StatementFormat format) {
+        return tutee.getId() + "-" + tutee.getName().fullName.replaceAll("[^\\p{Alnum}]+", "-")
+                + format.getFileExtension();
+    }
+
+    /**
+     * Renders {@code statement} and writes it to {@code file} as UTF-8, returning the number of bytes written.
+     */
+    private static long writeStatement(Statement statement, StatementFormat format, Path file) {
+        StringBuilder rendered = new StringBuilder(INITIAL_STATEMENT_CAPACITY);
+        format.render(statement, rendered);
+
+        CharBuffer chars = CharBuffer.wrap(rendered);
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long byteCount = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CoderResult coderResult;
+            do {
+                coderResult = encoder.encode(chars, buffer, true);
+                if (coderResult.isError()) {
+                    coderResult.throwException();
+                }
+                byteCount += drain(buffer, channel);
+            } while (coderResult.isOverflow());
+            do {
+                coderResult = encoder.flush(buffer);
+                byteCount += drain(buffer, channel);
+            } while (coderResult.isOverflow());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteCount;
+    }
+
+    /**
+     * Writes the bytes in {@code buffer} to {@code channel} and clears it, returning the number of bytes written.
+     */
+    private static int drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        int byteCount = 0;
+        while (buffer.hasRemaining()) {
+            byteCount += channel.write(buffer);
+        }
+        buffer.clear();
+        return byteCount;
+    }
+
+    /**
+     * The result of writing a batch of statements.
+     */
+    public static class Result {
+
+        public static final String MESSAGE_WRITTEN = "Wrote %1$d statements (%2$d KB) to %3$s in %4$d ms: "
+                + "%5$.0f statements/s, %6$.2f MB/s";
+
+        private final int statementCount;
+        private final long byteCount;
+        private final long elapsedNanos;
+        private final Path directory;
+
+        /**
+         * Constructs a {@code Result} of writing {@code statementCount} statements, of {@code byteCount} bytes in
+         * total, to {@code directory} in {@code elapsedNanos} nanoseconds.
+         */
+        public Result(int statementCount, long byteCount, long elapsedNanos, Path directory) {
+            this.statementCount = statementCount;
+            this.byteCount = byteCount;
+            this.elapsedNanos = elapsedNanos;
+            this.directory = directory;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Result)) {
+                return false;
+            }
+
+            Result otherResult = (Result) other;
+            return statementCount == otherResult.statementCount
+                    && byteCount == otherResult.byteCount
+                    && elapsedNanos == otherResult.elapsedNanos
+                    && directory.equals(otherResult.directory);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statementCount, byteCount, elapsedNanos, directory);
+        }
+
+        @Override
+        public String toString() {
+            // at least a nanosecond, so that the throughput of an empty or instant batch is not a division by zero
+            double elapsedSeconds = Math.max(elapsedNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+            return String.format(MESSAGE_WRITTEN, statementCount, (byteCount + 1023) / 1024, directory,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), statementCount / elapsedSeconds,
+                    byteCount / elapsedSeconds / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.invoice;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.tutee.PaymentLedger;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Represents the statement of a tutee for a month: the lessons held, the payments received and the amount the
+ * tutee still owes.
+ * Guarantees: immutable.
+ */
+public class Statement {
+
+    private final Tutee tutee;
+    private final YearMonth month;
+    private final List<LessonOccurrence> lessons;
+
+    /**
+     * Constructs the {@code Statement} of {@code tutee} for {@code month}, in which {@code lessons} were held.
+     */
+    public Statement(Tutee tutee, YearMonth month, List<LessonOccurrence> lessons) {
+        requireAllNonNull(tutee, month, lessons);
+        this.tutee = tutee;
+        this.month = month;
+        this.lessons = Collections.unmodifiableList(lessons);
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the lessons held during the month, in chronological order.
+     */
+    public List<LessonOccurrence> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the payments received from the tutee during the month.
+     */
+    public PaymentLedger getPaymentsReceived() {
+        return tutee.getPayment().getPaymentLedger().inMonth(month);
+    }
+
+    /**
+     * Returns the sum of the fees of the lessons held during the month, in cents.
+     */
+    public long getLessonFeesInCents() {
+        long total = 0;
+        for (LessonOccurrence lesson : lessons) {
+            total += toCents(lesson.getLesson().getCost());
+        }
+        return total;
+    }
+
+    /**
+     * Returns {@code amount} in dollars, rounded to the nearest cent.
+     */
+    static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+}
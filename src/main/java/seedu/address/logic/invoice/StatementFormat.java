@@ -0,0 +1,181 @@
+package seedu.address.logic.invoice;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.PaymentLedger;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The formats that statements can be written in.
+ */
+public enum StatementFormat {
+    TEXT("text", ".txt") {
+        @Override
+        public void render(Statement statement, StringBuilder out) {
+            Tutee tutee = statement.getTutee();
+            out.append("Statement for ").append(tutee.getName()).append(" for ")
+                    .append(formatMonth(statement)).append('\n')
+                    .append("School: ").append(tutee.getSchool())
+                    .append(", Level: ").append(tutee.getLevel()).append("\n\n");
+
+            out.append("Lessons held:\n");
+            if (statement.getLessons().isEmpty()) {
+                out.append("  No lessons.\n");
+            }
+            for (LessonOccurrence occurrence : statement.getLessons()) {
+                Lesson lesson = occurrence.getLesson();
+                out.append("  ").append(occurrence).append(", ")
+                        .append(formatCents(Statement.toCents(lesson.getHourlyRate()))).append("/h, ")
+                        .append(formatCents(Statement.toCents(lesson.getCost()))).append('\n');
+            }
+            out.append("  Total: ").append(formatCents(statement.getLessonFeesInCents())).append("\n\n");
+
+            PaymentLedger payments = statement.getPaymentsReceived();
+            out.append("Payments received:\n");
+            if (payments.isEmpty()) {
+                out.append("  No payments.\n");
+            }
+            for (int i = 0; i < payments.size(); i++) {
+                out.append("  ").append(payments.getDate(i).format(DATE_FORMATTER)).append(", ")
+                        .append(formatCents(payments.getAmountInCents(i))).append('\n');
+            }
+            out.append("  Total: ").append(formatCents(payments.getTotalInCents())).append("\n\n");
+
+            Payment payment = tutee.getPayment();
+            out.append("Amount owed: $").append(payment.getValue())
+                    .append(" (pay by: ").append(payment.payByDateAsString).append(")\n");
+        }
+    },
+    HTML("html", ".html") {
+        @Override
+        public void render(Statement statement, StringBuilder out) {
+            Tutee tutee = statement.getTutee();
+            String title = "Statement for " + tutee.getName() + " for " + formatMonth(statement);
+            out.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>");
+            appendEscaped(out, title);
+            out.append("</title>\n</head>\n<body>\n<h1>");
+            appendEscaped(out, title);
+            out.append("</h1>\n<p>School: ");
+            appendEscaped(out, tutee.getSchool().toString());
+            out.append(", Level: ");
+            appendEscaped(out, tutee.getLevel().toString());
+            out.append("</p>\n");
+
+            out.append("<h2>Lessons held</h2>\n<table>\n"
+                    + "<tr><th>Date</th><th>Time</th><th>Subject</th><th>Rate</th><th>Fee</th></tr>\n");
+            for (LessonOccurrence occurrence : statement.getLessons()) {
+                Lesson lesson = occurrence.getLesson();
+                out.append("<tr><td>").append(occurrence.getDate().format(DATE_FORMATTER))
+                        .append("</td><td>").append(lesson.getTime().getStartTime())
+                        .append(" to ").append(lesson.getTime().getEndTime())
+                        .append("</td><td>");
+                appendEscaped(out, lesson.getSubject().toString());
+                out.append(occurrence.getKind() == LessonOccurrence.Kind.MAKE_UP ? " (make-up)" : "")
+                        .append("</td><td>").append(formatCents(Statement.toCents(lesson.getHourlyRate())))
+                        .append("/h</td><td>").append(formatCents(Statement.toCents(lesson.getCost())))
+                        .append("</td></tr>\n");
+            }
+            out.append("<tr><th colspan=\"4\">Total</th><td>")
+                    .append(formatCents(statement.getLessonFeesInCents())).append("</td></tr>\n</table>\n");
+
+            PaymentLedger payments = statement.getPaymentsReceived();
+            out.append("<h2>Payments received</h2>\n<table>\n<tr><th>Date</th><th>Amount</th></tr>\n");
+            for (int i = 0; i < payments.size(); i++) {
+                out.append("<tr><td>").append(payments.getDate(i).format(DATE_FORMATTER))
+                        .append("</td><td>").append(formatCents(payments.getAmountInCents(i)))
+                        .append("</td></tr>\n");
+            }
+            out.append("<tr><th>Total</th><td>").append(formatCents(payments.getTotalInCents()))
+                    .append("</td></tr>\n</table>\n");
+
+            Payment payment = tutee.getPayment();
+            out.append("<p>Amount owed: $").append(payment.getValue())
+                    .append(" (pay by: ").append(payment.payByDateAsString).append(")</p>\n")
+                    .append("</body>\n</html>\n");
+        }
+    };
+
+    public static final String MESSAGE_CONSTRAINTS = "Statements can only be written as text or html";
+
+    private static final DateTimeFormatter DATE_FORMATTER = LessonOccurrence.DATE_FORMATTER;
+
+    private final String name;
+    private final String fileExtension;
+
+    StatementFormat(String name, String fileExtension) {
+        this.name = name;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the format called {@code name}, ignoring case, or {@code Optional#empty()} if there is none.
+     */
+    public static Optional<StatementFormat> fromName(String name) {
+        requireNonNull(name);
+        for (StatementFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Appends {@code statement}, rendered in this format, to {@code out}.
+     */
+    public abstract void render(Statement statement, StringBuilder out);
+
+    /**
+     * Returns the extension, including the dot, of the files statements in this format are written to.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static String formatMonth(Statement statement) {
+        return statement.getMonth().getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " "
+                + statement.getMonth().getYear();
+    }
+
+    /**
+     * Returns {@code cents} formatted as an amount in dollars, i.e. $40.50.
+     */
+    static String formatCents(long cents) {
+        return String.format("$%d.%02d", cents / 100, cents % 100);
+    }
+
+    private static void appendEscaped(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '<':
+                out.append("&lt;");
+                break;
+            case '>':
+                out.append("&gt;");
+                break;
+            case '&':
+                out.append("&amp;");
+                break;
+            case '"':
+                out.append("&quot;");
+                break;
+            default:
+                out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.logic.merge;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Name;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The differences between the tutees in this Track-O and those in another, such as a copy of the data file kept on
+ * another device.
+ * <br>
+ * Tutees are matched by identity, i.e. by name, through a hash map of one side, so computing the differences takes
+ * time linear in the number of tutees. IDs are not compared, as each copy gives out IDs on its own.
+ */
+public class TuteeDiff {
+
+    private final List<Tutee> added;
+    private final List<Tutee> removed;
+    private final List<Change> changes;
+
+    private TuteeDiff(List<Tutee> added, List<Tutee> removed, List<Change> changes) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns the differences between {@code current}, the tutees in this Track-O, and {@code other}, the tutees in
+     * another Track-O. Both lists must have tutees with unique identities.
+     */
+    public static TuteeDiff of(List<Tutee> current, List<Tutee> other) {
+        requireAllNonNull(current, other);
+        Map<Name, Tutee> currentByName = new HashMap<>(current.size() * 2);
+        for (Tutee tutee : current) {
+            currentByName.put(tutee.getName(), tutee);
+        }
+
+        List<Tutee> added = new ArrayList<>();
+        List<Change> changes = new ArrayList<>();
+        for (Tutee otherTutee : other) {
+            // removing matched tutees leaves behind those only in this Track-O
+            Tutee currentTutee = currentByName.remove(otherTutee.getName());
+            if (currentTutee == null) {
+                added.add(otherTutee);
+                continue;
+            }
+            boolean isDetailsChanged = !hasSameDetails(currentTutee, otherTutee);
+            boolean isPaymentChanged = !currentTutee.getPayment().isSamePayment(otherTutee.getPayment());
+            if (isDetailsChanged || isPaymentChanged) {
+                changes.add(new Change(currentTutee, otherTutee, isDetailsChanged, isPaymentChanged));
+            }
+        }
+
+        List<Tutee> removed = new ArrayList<>(currentByName.size());
+        for (Tutee tutee : current) {
+            if (currentByName.containsKey(tutee.getName())) {
+                removed.add(tutee);
+            }
+        }
+        return new TuteeDiff(added, removed, changes);
+    }
+
+    /**
+     * Returns true if both tutees have the same details other than their payment.
+     */
+    private static boolean hasSameDetails(Tutee current, Tutee other) {
+        return current.getPhone().equals(other.getPhone())
+                && current.getSchool().equals(other.getSchool())
+                && current.getLevel().equals(other.getLevel())
+                && current.getAddress().equals(other.getAddress())
+                && current.getTags().equals(other.getTags())
+                && current.getRemark().equals(other.getRemark())
+                && hasSameLessons(current.getLessons(), other.getLessons());
+    }
+
+    private static boolean hasSameLessons(List<Lesson> current, List<Lesson> other) {
+        if (current.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!current.get(i).isSameLesson(other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tutees only in the other Track-O.
+     */
+    public List<Tutee> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the tutees only in this Track-O.
+     */
+    public List<Tutee> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the tutees in both, whose details or payments differ.
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changes.isEmpty();
+    }
+
+    /**
+     * A tutee in both Track-Os, whose details or payment differ between them.
+     */
+    public static class Change {
+        private final Tutee currentTutee;
+        private final Tutee otherTutee;
+        private final boolean isDetailsChanged;
+        private final boolean isPaymentChanged;
+
+        /**
+         * Constructs a {@code Change} from {@code current}, the tutee in this Track-O, to {@code other}, the tutee
+         * with the same identity in the other Track-O.
+         */
+        public Change(Tutee current, Tutee other, boolean isDetailsChanged, boolean isPaymentChanged) {
+            requireAllNonNull(current, other);
+            this.currentTutee = current;
+            this.otherTutee = other;
+            this.isDetailsChanged = isDetailsChanged;
+            this.isPaymentChanged = isPaymentChanged;
+        }
+
+        public Tutee getCurrent() {
+            return currentTutee;
+        }
+
+        public Tutee getOther() {
+            return otherTutee;
+        }
+
+        /**
+         * Returns true if the details of the tutee other than their payment differ.
+         */
+        public boolean isDetailsChanged() {
+            return isDetailsChanged;
+        }
+
+        /**
+         * Returns true if the fees, pay-by date or payments received of the tutee differ.
+         */
+        public boolean isPaymentChanged() {
+            return isPaymentChanged;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Change // instanceof handles nulls
+                    && currentTutee.equals(((Change) other).currentTutee)
+                    && otherTutee.equals(((Change) other).otherTutee)
+                    && isDetailsChanged == ((Change) other).isDetailsChanged
+                    && isPaymentChanged == ((Change) other).isPaymentChanged); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(currentTutee, otherTutee, isDetailsChanged, isPaymentChanged);
+        }
+    }
+}
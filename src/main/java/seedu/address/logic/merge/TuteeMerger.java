@@ -0,0 +1,196 @@
+package seedu.address.logic.merge;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.WeekOccupancy;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Merges the tutees in another Track-O into the model, as described by a {@code TuteeDiff}.
+ * <br>
+ * Tutees only in the other Track-O are added. Tutees in both whose details or payments differ keep the version
+ * preferred. Tutees only in this Track-O are kept, as without a common ancestor there is no telling whether they
+ * were added here or deleted there. A tutee whose lessons would clash with the schedule or with a make-up lesson is
+ * left as it is, and reported as a conflict.
+ */
+public final class TuteeMerger {
+
+    public static final String MESSAGE_LESSON_CLASH = "%1$s: %2$s clashes with a lesson in the schedule";
+    public static final String MESSAGE_MAKE_UP_CLASH = "%1$s: %2$s clashes with the make-up lesson on %3$s";
+
+    /**
+     * The copy whose version of a tutee is kept when the tutee differs between the two.
+     */
+    public enum Preference {
+        THIS,
+        OTHER;
+
+        public static final String MESSAGE_CONSTRAINTS = "The copy preferred should be either 'this' or 'other'";
+
+        /**
+         * Returns the preference named {@code name}, ignoring case.
+         */
+        public static Optional<Preference> fromName(String name) {
+            for (Preference preference : values()) {
+                if (preference.name().equalsIgnoreCase(name)) {
+                    return Optional.of(preference);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private TuteeMerger() {
+    }
+
+    /**
+     * Applies {@code diff} to {@code model}, keeping the version of changed tutees in the copy {@code preferred},
+     * in a single batch of changes to the tutee list. The lessons of every tutee added or replaced are checked
+     * against the schedule, as it would be after the merge, and against the make-up lessons in the calendar, before
+     * anything is changed.
+     */
+    public static Result merge(Model model, TuteeDiff diff, Preference preferred) {
+        requireAllNonNull(model, diff, preferred);
+        WeekOccupancy occupancy = model.getSchedule().getOccupancyCopy();
+        LessonCalendar calendar = model.getCalendar();
+        List<String> conflicts = new ArrayList<>();
+
+        Map<TuteeId, Tutee> replacements = new HashMap<>();
+        if (preferred == Preference.OTHER) {
+            for (TuteeDiff.Change change : diff.getChanges()) {
+                Tutee current = change.getCurrent();
+                Tutee other = change.getOther().withId(current.getId());
+                // the tutee's own lessons are freed first, so that moving a lesson to an overlapping time is allowed
+                release(occupancy, current.getLessons());
+                if (reserve(occupancy, calendar, other, conflicts)) {
+                    replacements.put(current.getId(), other);
+                } else {
+                    occupy(occupancy, current.getLessons());
+                }
+            }
+        }
+
+        List<Tutee> toAdd = new ArrayList<>();
+        for (Tutee tutee : diff.getAdded()) {
+            // IDs are given out by each copy on its own, so the tutee is given a new one here
+            Tutee withoutId = tutee.withId(TuteeId.UNASSIGNED);
+            if (reserve(occupancy, calendar, withoutId, conflicts)) {
+                toAdd.add(withoutId);
+            }
+        }
+
+        // the schedule follows the lessons of the tutees replaced and added as they change
+        model.setTuteesById(replacements);
+        List<Tutee> added = model.addTutees(toAdd);
+        return new Result(added.size(), replacements.size(), conflicts);
+    }
+
+    /**
+     * Reserves the minutes of the lessons of {@code tutee} in {@code occupancy}, unless one of them clashes with
+     * the minutes reserved or with a make-up lesson in {@code calendar}, in which case the conflict is recorded and
+     * nothing is reserved.
+     *
+     * @return True if the lessons were reserved.
+     */
+    private static boolean reserve(WeekOccupancy occupancy, LessonCalendar calendar, Tutee tutee,
+            List<String> conflicts) {
+        List<Lesson> lessons = tutee.getLessons();
+        for (int i = 0; i < lessons.size(); i++) {
+            Time time = lessons.get(i).getTime();
+            String lessonString = lessons.get(i).getSubject() + " on " + time;
+            if (occupancy.isAnyOccupied(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek())) {
+                release(occupancy, lessons.subList(0, i));
+                conflicts.add(String.format(MESSAGE_LESSON_CLASH, tutee.getName(), lessonString));
+                return false;
+            }
+            Optional<LessonOccurrence> makeUpClash = calendar.findMakeUpClash(lessons.get(i));
+            if (makeUpClash.isPresent()) {
+                release(occupancy, lessons.subList(0, i));
+                conflicts.add(String.format(MESSAGE_MAKE_UP_CLASH, tutee.getName(), lessonString,
+                        makeUpClash.get()));
+                return false;
+            }
+            occupancy.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+        }
+        return true;
+    }
+
+    private static void occupy(WeekOccupancy occupancy, List<Lesson> lessons) {
+        for (Lesson lesson : lessons) {
+            Time time = lesson.getTime();
+            occupancy.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+        }
+    }
+
+    private static void release(WeekOccupancy occupancy, List<Lesson> lessons) {
+        for (Lesson lesson : lessons) {
+            Time time = lesson.getTime();
+            occupancy.release(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+        }
+    }
+
+    /**
+     * The result of a merge.
+     */
+    public static class Result {
+        private final int addedCount;
+        private final int replacedCount;
+        private final List<String> conflicts;
+
+        /**
+         * Constructs a {@code Result} of a merge that added {@code addedCount} tutees, replaced
+         * {@code replacedCount} tutees, and left the tutees in {@code conflicts} as they were.
+         */
+        public Result(int addedCount, int replacedCount, List<String> conflicts) {
+            this.addedCount = addedCount;
+            this.replacedCount = replacedCount;
+            this.conflicts = Collections.unmodifiableList(new ArrayList<>(conflicts));
+        }
+
+        public int getAddedCount() {
+            return addedCount;
+        }
+
+        public int getReplacedCount() {
+            return replacedCount;
+        }
+
+        public List<String> getConflicts() {
+            return conflicts;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Result // instanceof handles nulls
+                    && addedCount == ((Result) other).addedCount
+                    && replacedCount == ((Result) other).replacedCount
+                    && conflicts.equals(((Result) other).conflicts)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(addedCount, replacedCount, conflicts);
+        }
+    }
+}
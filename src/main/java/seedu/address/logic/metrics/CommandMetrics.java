@@ -0,0 +1,185 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Collects the {@link CommandStats} of every command word run, and can expose them over JMX.
+ * <br>
+ * A run is recorded through a {@link Recording}, which measures the time taken by each phase of the run and the
+ * bytes allocated by the thread running it.
+ */
+public class CommandMetrics {
+
+    /** The command word that runs are recorded under when the command entered cannot be parsed. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final String MBEAN_NAME_FORMAT = "seedu.address:type=CommandStats,command=%s";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private final ConcurrentMap<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private volatile MBeanServer mbeanServer;
+
+    /**
+     * Starts recording a run of a command, which begins with parsing the command.
+     */
+    public Recording startRecording() {
+        return new Recording();
+    }
+
+    /**
+     * Returns the statistics of each command word run so far, sorted by command word.
+     */
+    public List<CommandStats> getStats() {
+        List<CommandStats> stats = new ArrayList<>(statsByCommandWord.values());
+        stats.sort(Comparator.comparing(CommandStats::getCommandWord));
+        return stats;
+    }
+
+    /**
+     * Returns a summary of the statistics of each command word run so far, one command word per line.
+     */
+    public String getSummary() {
+        List<CommandStats> stats = getStats();
+        if (stats.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder summary = new StringBuilder();
+        for (CommandStats commandStats : stats) {
+            summary.append(commandStats.toSummary()).append('\n');
+        }
+        return summary.toString().trim();
+    }
+
+    /**
+     * Registers the statistics of each command word with the platform MBean server, now and whenever a command
+     * word is first run afterwards, so that they can be watched with tools such as JConsole.
+     */
+    public synchronized void registerMBeans() {
+        mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (CommandStats stats : statsByCommandWord.values()) {
+            registerMBean(stats);
+        }
+    }
+
+    private void registerMBean(CommandStats stats) {
+        try {
+            ObjectName name = new ObjectName(String.format(MBEAN_NAME_FORMAT,
+                    ObjectName.quote(stats.getCommandWord())));
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(stats, name);
+            }
+        } catch (JMException e) {
+            logger.warning(() -> "Failed to register the statistics of " + stats.getCommandWord() + " over JMX: " + e);
+        }
+    }
+
+    private CommandStats getOrCreateStats(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        if (stats != null) {
+            return stats;
+        }
+        synchronized (this) {
+            stats = statsByCommandWord.computeIfAbsent(commandWord, CommandStats::new);
+            if (mbeanServer != null) {
+                registerMBean(stats);
+            }
+            return stats;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if it cannot be measured.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        return ALLOCATION_BEAN == null
+                ? -1
+                : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ThreadMXBean getAllocationBean() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            return null;
+        }
+        ThreadMXBean allocationBean = (ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean;
+    }
+
+    /**
+     * Records the phases of one run of a command, which must happen on a single thread.
+     * Phases are ended in order with {@link #endParse(String)}, {@link #endExecute()} and {@link #endSave()},
+     * and the run is recorded by {@link #finish()}, whether or not every phase was ended.
+     */
+    public class Recording {
+        private final long startBytes = getCurrentThreadAllocatedBytes();
+        private long phaseStartNanos = System.nanoTime();
+        private String commandWord = INVALID_COMMAND_WORD;
+        private long parseNanos = -1;
+        private long executeNanos = -1;
+        private long saveNanos = -1;
+
+        private Recording() {}
+
+        /**
+         * Ends the parse phase of a command with the command word {@code commandWord}.
+         */
+        public void endParse(String commandWord) {
+            requireNonNull(commandWord);
+            this.commandWord = commandWord;
+            parseNanos = endPhase();
+        }
+
+        /**
+         * Ends the execute phase.
+         */
+        public void endExecute() {
+            executeNanos = endPhase();
+        }
+
+        /**
+         * Ends the save phase, which completes the run successfully.
+         */
+        public void endSave() {
+            saveNanos = endPhase();
+        }
+
+        /**
+         * Records the run, as a failure if not every phase was ended.
+         */
+        public void finish() {
+            long bytesAllocated = startBytes < 0 ? -1 : getCurrentThreadAllocatedBytes() - startBytes;
+            getOrCreateStats(commandWord).record(parseNanos, executeNanos, saveNanos, bytesAllocated,
+                    saveNanos >= 0);
+        }
+
+        private long endPhase() {
+            long now = System.nanoTime();
+            long elapsed = now - phaseStartNanos;
+            phaseStartNanos = now;
+            return elapsed;
+        }
+    }
+}
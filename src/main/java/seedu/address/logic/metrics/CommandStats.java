@@ -0,0 +1,147 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * Records how long each phase of the runs of one command word took, and how many bytes the runs allocated.
+ */
+public class CommandStats implements CommandStatsMBean {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String commandWord;
+    private final LatencyHistogram parseNanos = new LatencyHistogram();
+    private final LatencyHistogram executeNanos = new LatencyHistogram();
+    private final LatencyHistogram saveNanos = new LatencyHistogram();
+    private final LatencyHistogram totalNanos = new LatencyHistogram();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocationMeasuredCount = new LongAdder();
+
+    /**
+     * Creates an empty {@code CommandStats} for the command word {@code commandWord}.
+     */
+    public CommandStats(String commandWord) {
+        requireNonNull(commandWord);
+        this.commandWord = commandWord;
+    }
+
+    /**
+     * Records a run that took the given time in each phase, in nanoseconds. A phase that was not reached because
+     * the run failed should be given as -1, and is not recorded.
+     *
+     * @param bytesAllocated The number of bytes allocated by the run, or -1 if it could not be measured.
+     */
+    void record(long parse, long execute, long save, long bytesAllocated, boolean isSuccess) {
+        long total = Math.max(parse, 0) + Math.max(execute, 0) + Math.max(save, 0);
+        recordPhase(parseNanos, parse);
+        recordPhase(executeNanos, execute);
+        recordPhase(saveNanos, save);
+        totalNanos.record(total);
+        if (!isSuccess) {
+            failureCount.increment();
+        }
+        if (bytesAllocated >= 0) {
+            allocatedBytes.add(bytesAllocated);
+            allocationMeasuredCount.increment();
+        }
+    }
+
+    private static void recordPhase(LatencyHistogram histogram, long nanos) {
+        if (nanos >= 0) {
+            histogram.record(nanos);
+        }
+    }
+
+    @Override
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    @Override
+    public long getRunCount() {
+        return totalNanos.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return toMillis(totalNanos.getMeanNanos());
+    }
+
+    @Override
+    public double getMedianMillis() {
+        return toMillis(totalNanos.getPercentileNanos(50));
+    }
+
+    @Override
+    public double get90thPercentileMillis() {
+        return toMillis(totalNanos.getPercentileNanos(90));
+    }
+
+    @Override
+    public double get99thPercentileMillis() {
+        return toMillis(totalNanos.getPercentileNanos(99));
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return toMillis(totalNanos.getMaxNanos());
+    }
+
+    @Override
+    public double getMedianParseMillis() {
+        return toMillis(parseNanos.getPercentileNanos(50));
+    }
+
+    @Override
+    public double getMedianExecuteMillis() {
+        return toMillis(executeNanos.getPercentileNanos(50));
+    }
+
+    @Override
+    public double getMedianSaveMillis() {
+        return toMillis(saveNanos.getPercentileNanos(50));
+    }
+
+    @Override
+    public long getMeanAllocatedBytes() {
+        long measuredCount = allocationMeasuredCount.sum();
+        return measuredCount == 0 ? -1 : allocatedBytes.sum() / measuredCount;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns a one-line summary of these statistics.
+     */
+    public String toSummary() {
+        long meanAllocatedBytes = getMeanAllocatedBytes();
+        return String.format("%s: %d runs (%d failed), mean %.2f ms, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, "
+                        + "max %.2f ms; p50 parse %.2f ms, execute %.2f ms, save %.2f ms; %s allocated per run",
+                commandWord, getRunCount(), getFailureCount(), getMeanMillis(), getMedianMillis(),
+                get90thPercentileMillis(), get99thPercentileMillis(), getMaxMillis(), getMedianParseMillis(),
+                getMedianExecuteMillis(), getMedianSaveMillis(),
+                meanAllocatedBytes < 0 ? "unknown bytes" : formatBytes(meanAllocatedBytes));
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        return bytes < 1024 * 1024
+                ? String.format("%.1f KB", bytes / 1024.0)
+                : String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.metrics;
+
+/**
+ * The statistics of the runs of one command word, as exposed over JMX, e.g. to JConsole or VisualVM.
+ * Durations are in milliseconds.
+ */
+public interface CommandStatsMBean {
+
+    String getCommandWord();
+
+    long getRunCount();
+
+    long getFailureCount();
+
+    double getMeanMillis();
+
+    double getMedianMillis();
+
+    double get90thPercentileMillis();
+
+    double get99thPercentileMillis();
+
+    double getMaxMillis();
+
+    double getMedianParseMillis();
+
+    double getMedianExecuteMillis();
+
+    double getMedianSaveMillis();
+
+    /** Returns the mean number of bytes allocated by a run, or -1 if allocations cannot be measured. */
+    long getMeanAllocatedBytes();
+}
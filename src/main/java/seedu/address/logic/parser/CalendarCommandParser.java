@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.calendar.LessonCalendar;
+
+/**
+ * Parses input arguments and creates a new CalendarCommand object
+ */
+public class CalendarCommandParser implements Parser<CalendarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CalendarCommand
+     * and returns a CalendarCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CalendarCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = null;
+        LocalDate to = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        }
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(LessonCalendar.MESSAGE_INVALID_RANGE);
+        }
+        return new CalendarCommand(from, to);
+    }
+}
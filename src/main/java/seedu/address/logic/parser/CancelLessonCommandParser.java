@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+import static seedu.address.logic.parser.TrackOParser.anyPrefixesPresent;
+import static seedu.address.logic.parser.TrackOParser.arePrefixesPresent;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CancelLessonCommand;
+import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CancelLessonCommand object
+ */
+public class CancelLessonCommandParser implements Parser<CancelLessonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CancelLessonCommand
+     * and returns a CancelLessonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CancelLessonCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON, PREFIX_DATE);
+
+        Index tuteeIndex;
+
+        try {
+            tuteeIndex = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    CancelLessonCommand.MESSAGE_USAGE), pe);
+        } catch (IndexOutOfBoundsException ie) {
+            if (anyPrefixesPresent(argMultimap, PREFIX_LESSON, PREFIX_DATE)) {
+                throw new ParseException(MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX, ie);
+            }
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    CancelLessonCommand.MESSAGE_USAGE), ie);
+        }
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_LESSON, PREFIX_DATE)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelLessonCommand.MESSAGE_USAGE));
+        }
+
+        Index lessonIndex = ParserUtil.parseLessonIndex(argMultimap.getValue(PREFIX_LESSON).get());
+        LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        return new CancelLessonCommand(tuteeIndex, lessonIndex, date);
+    }
+}
@@ -21,10 +21,19 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_TIME = new Prefix("s/");
     public static final Prefix PREFIX_END_TIME = new Prefix("e/");
     public static final Prefix PREFIX_HOURLY_RATE = new Prefix("rate/");
+    public static final Prefix PREFIX_TIME = new Prefix("time/");
 
     // PREFIX_ADD_PAYMENT refers to number of lessons added
     public static final Prefix PREFIX_LESSON = new Prefix("lesson/");
     public static final Prefix PREFIX_PAYMENT_DATE = new Prefix("by/");
     public static final Prefix PREFIX_PAYMENT_AMOUNT = new Prefix("amount/");
     public static final Prefix PREFIX_PAYMENT_RECEIVED_DATE = new Prefix("receive/");
+
+    public static final Prefix PREFIX_DATE = new Prefix("on/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+
+    public static final Prefix PREFIX_MONTH = new Prefix("month/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("format/");
+    public static final Prefix PREFIX_PREFER = new Prefix("prefer/");
 }
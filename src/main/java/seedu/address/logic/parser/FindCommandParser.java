@@ -27,6 +27,10 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        if (QueryParser.isQuery(args)) {
+            return new FindCommand(QueryParser.parse(args));
+        }
+
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_LEVEL, PREFIX_NAME, PREFIX_OVERDUE);
         if (isMissingAllPrefixes(argMultimap, PREFIX_SUBJECT, PREFIX_LEVEL, PREFIX_NAME, PREFIX_OVERDUE)) {
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.YearMonth;
+
+import seedu.address.logic.commands.InvoiceCommand;
+import seedu.address.logic.invoice.StatementFormat;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new InvoiceCommand object
+ */
+public class InvoiceCommandParser implements Parser<InvoiceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the InvoiceCommand
+     * and returns an InvoiceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public InvoiceCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MONTH, PREFIX_FORMAT);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, InvoiceCommand.MESSAGE_USAGE));
+        }
+
+        YearMonth month = YearMonth.now();
+        StatementFormat format = StatementFormat.TEXT;
+        if (argMultimap.getValue(PREFIX_MONTH).isPresent()) {
+            month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_MONTH).get());
+        }
+        if (argMultimap.getValue(PREFIX_FORMAT).isPresent()) {
+            format = ParserUtil.parseStatementFormat(argMultimap.getValue(PREFIX_FORMAT).get());
+        }
+        return new InvoiceCommand(month, format);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.TrackOParser.anyPrefixesPresent;
+import static seedu.address.logic.parser.TrackOParser.arePrefixesPresent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MakeUpLessonCommand;
+import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MakeUpLessonCommand object
+ */
+public class MakeUpLessonCommandParser implements Parser<MakeUpLessonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MakeUpLessonCommand
+     * and returns a MakeUpLessonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MakeUpLessonCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LESSON, PREFIX_DATE,
+                PREFIX_START_TIME, PREFIX_END_TIME);
+
+        Index tuteeIndex;
+
+        try {
+            tuteeIndex = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MakeUpLessonCommand.MESSAGE_USAGE), pe);
+        } catch (IndexOutOfBoundsException ie) {
+            if (anyPrefixesPresent(argMultimap, PREFIX_LESSON, PREFIX_DATE, PREFIX_START_TIME, PREFIX_END_TIME)) {
+                throw new ParseException(MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX, ie);
+            }
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MakeUpLessonCommand.MESSAGE_USAGE), ie);
+        }
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_LESSON, PREFIX_DATE, PREFIX_START_TIME, PREFIX_END_TIME)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MakeUpLessonCommand.MESSAGE_USAGE));
+        }
+
+        Index lessonIndex = ParserUtil.parseLessonIndex(argMultimap.getValue(PREFIX_LESSON).get());
+        LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalTime startTime = ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        LocalTime endTime = ParserUtil.parseLocalTime(argMultimap.getValue(PREFIX_END_TIME).get());
+        return new MakeUpLessonCommand(tuteeIndex, lessonIndex, date, startTime, endTime);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFER;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.merge.TuteeMerger.Preference;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PREFER);
+
+        String preamble = argMultimap.getPreamble();
+        if (preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(preamble);
+        } catch (InvalidPathException e) {
+            throw new ParseException(ImportCommandParser.MESSAGE_INVALID_PATH, e);
+        }
+
+        Optional<Preference> preferred = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PREFER).isPresent()) {
+            preferred = Optional.of(ParserUtil.parseMergePreference(argMultimap.getValue(PREFIX_PREFER).get()));
+        }
+        return new MergeCommand(file, preferred);
+    }
+}
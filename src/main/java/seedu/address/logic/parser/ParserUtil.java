@@ -7,8 +7,10 @@ import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -17,6 +19,8 @@ import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.invoice.StatementFormat;
+import seedu.address.logic.merge.TuteeMerger.Preference;
 import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Lesson;
@@ -41,6 +45,12 @@ public class ParserUtil {
 
     public static final String EMPTY_STRING = "";
 
+    public static final String MESSAGE_INVALID_DATE =
+            "Dates should be valid dates in the format of dd-MM-yyyy, i.e 20-10-2021";
+
+    public static final String MESSAGE_INVALID_MONTH =
+            "Months should be valid months in the format of MM-yyyy, i.e 10-2021";
+
     /**
      * Returns true if string has length less than or equal to 9 after trimming leading zeroes.
      *
@@ -123,7 +133,7 @@ public class ParserUtil {
         if (!School.isValidSchool(trimmedSchool)) {
             throw new ParseException(School.MESSAGE_CONSTRAINTS);
         }
-        return new School(trimmedSchool);
+        return School.of(trimmedSchool);
     }
 
     /**
@@ -153,7 +163,7 @@ public class ParserUtil {
         if (!Level.isValidLevel(trimmedLevel)) {
             throw new ParseException(Level.MESSAGE_CONSTRAINTS);
         }
-        return new Level(trimmedLevel);
+        return Level.of(trimmedLevel);
     }
 
     /**
@@ -219,7 +229,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -282,7 +292,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
@@ -358,6 +368,64 @@ public class ParserUtil {
         return parsedLessonIndex;
     }
 
+    /**
+     * Parses a {@code String date} in the format dd-MM-yyyy into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        try {
+            return LocalDate.parse(trimmedDate, DateTimeFormatter.ofPattern("dd-MM-uuuu")
+                    .withResolverStyle(ResolverStyle.STRICT));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+    /**
+     * Parses a {@code String month} in the format MM-yyyy into a {@code YearMonth}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code month} is not a valid month.
+     */
+    public static YearMonth parseMonth(String month) throws ParseException {
+        requireNonNull(month);
+        String trimmedMonth = month.trim();
+        try {
+            return YearMonth.parse(trimmedMonth, DateTimeFormatter.ofPattern("MM-uuuu")
+                    .withResolverStyle(ResolverStyle.STRICT));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH);
+        }
+    }
+
+    /**
+     * Parses a {@code String format} into a {@code StatementFormat}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code format} is not the name of a format.
+     */
+    public static StatementFormat parseStatementFormat(String format) throws ParseException {
+        requireNonNull(format);
+        return StatementFormat.fromName(format.trim())
+                .orElseThrow(() -> new ParseException(StatementFormat.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses a {@code String preference} into a {@code Preference}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code preference} is not the name of a copy.
+     */
+    public static Preference parseMergePreference(String preference) throws ParseException {
+        requireNonNull(preference);
+        return Preference.fromName(preference.trim())
+                .orElseThrow(() -> new ParseException(Preference.MESSAGE_CONSTRAINTS));
+    }
+
     /**
      * Trims string by user and parses into a LocalDate format of dd-mm-yyyy.
      *
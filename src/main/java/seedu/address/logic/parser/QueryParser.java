@@ -0,0 +1,354 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OVERDUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.query.AndQuery;
+import seedu.address.model.tutee.query.Clause;
+import seedu.address.model.tutee.query.NotQuery;
+import seedu.address.model.tutee.query.OrQuery;
+import seedu.address.model.tutee.query.Query;
+
+/**
+ * Parses a search written with AND, OR, NOT and brackets into a {@code Query}.
+ * <br>
+ * Each term is a prefix followed by a value, with no space in between, such as {@code t/rescheduled} or
+ * {@code pay/50..100}. As with the prefixes that all have to match, the words after a name, subject or school are
+ * part of its value, as in {@code n/Alex Yeoh}, up to the next term, operator or bracket. Any other value with spaces
+ * is put in double quotes, as in {@code sch/"acs primary"}, and a range is written as {@code FROM..TO}, where either
+ * end may be left out. NOT binds tightest, then AND, then OR, and terms next to one another without an operator in
+ * between must both match.
+ */
+public class QueryParser {
+
+    /** The deepest brackets and NOTs may be nested, which keeps a malformed search from exhausting the stack. */
+    public static final int MAX_DEPTH = 32;
+
+    public static final String MESSAGE_UNKNOWN_TERM = "Unknown search term: %1$s\n"
+            + "Each search term starts with a prefix, such as n/ or t/. Only the words after n/, subject/ and sch/ "
+            + "are read as part of their value; put any other value with spaces in double quotes";
+    public static final String MESSAGE_MISSING_TERM = "Expected a search term after: %1$s";
+    public static final String MESSAGE_UNEXPECTED = "Unexpected %1$s in the search";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A double quote in the search is not closed";
+    public static final String MESSAGE_UNCLOSED_BRACKET = "A bracket in the search is not closed";
+    public static final String MESSAGE_TOO_DEEP = "Searches can be nested at most " + MAX_DEPTH
+            + " brackets or NOTs deep";
+    public static final String MESSAGE_INVALID_RANGE = "Ranges are written as FROM..TO, where either end may be "
+            + "left out: %1$s";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String PREFIX_SEPARATOR = "/";
+
+    /** The prefixes that can only be searched with a query, which mark arguments as one. */
+    private static final List<Prefix> QUERY_ONLY_PREFIXES = List.of(PREFIX_TAG, PREFIX_SCHOOL, PREFIX_PAYMENT,
+            PREFIX_PAYMENT_DATE, PREFIX_DAY_OF_WEEK, PREFIX_TIME);
+
+    /** The prefixes whose values are continued by the words that follow them, as they may have spaces. */
+    private static final List<Prefix> MULTI_WORD_PREFIXES = List.of(PREFIX_NAME, PREFIX_SUBJECT, PREFIX_SCHOOL);
+
+    private final List<Token> tokens;
+    private int position;
+
+    private QueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} is written as a query, rather than as the prefixes that all have to match.
+     * That is, if it has an operator or a bracket, or a term that can only be searched with a query.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        List<Token> tokens;
+        try {
+            tokens = tokenize(args);
+        } catch (ParseException e) {
+            // only queries can have quotes, so the error is reported as one
+            return true;
+        }
+        for (Token token : tokens) {
+            if (token.isOperator() || token.isBracket()) {
+                return true;
+            }
+            for (Prefix prefix : QUERY_ONLY_PREFIXES) {
+                if (token.text.startsWith(prefix.getPrefix())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}.
+     *
+     * @throws ParseException if {@code args} is not a well-formed query.
+     */
+    public static Query parse(String args) throws ParseException {
+        requireNonNull(args);
+        QueryParser parser = new QueryParser(tokenize(args));
+        Query query = parser.parseOr(0);
+        if (parser.position < parser.tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED, parser.tokens.get(parser.position).text));
+        }
+        return query;
+    }
+
+    private Query parseOr(int depth) throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseAnd(depth));
+        while (peekOperator(OR)) {
+            position++;
+            queries.add(parseAnd(depth));
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private Query parseAnd(int depth) throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseUnary(depth));
+        while (position < tokens.size() && !peekOperator(OR) && !tokens.get(position).isClose()) {
+            if (peekOperator(AND)) {
+                position++;
+            }
+            queries.add(parseUnary(depth));
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private Query parseUnary(int depth) throws ParseException {
+        if (position >= tokens.size()) {
+            String previous = position == 0 ? "" : tokens.get(position - 1).text;
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, previous));
+        }
+        if (depth > MAX_DEPTH) {
+            throw new ParseException(MESSAGE_TOO_DEEP);
+        }
+
+        Token token = tokens.get(position++);
+        if (token.isOperator(NOT)) {
+            return new NotQuery(parseUnary(depth + 1));
+        }
+        if (token.isOpen()) {
+            Query query = parseOr(depth + 1);
+            if (position >= tokens.size() || !tokens.get(position).isClose()) {
+                throw new ParseException(MESSAGE_UNCLOSED_BRACKET);
+            }
+            position++;
+            return query;
+        }
+        if (token.isOperator() || token.isClose()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED, token.text));
+        }
+        StringBuilder term = new StringBuilder(token.text);
+        if (isMultiWord(token.text)) {
+            while (position < tokens.size() && tokens.get(position).isWord()) {
+                term.append(' ').append(tokens.get(position++).text);
+            }
+        }
+        return parseTerm(term.toString());
+    }
+
+    private static boolean isMultiWord(String term) {
+        for (Prefix prefix : MULTI_WORD_PREFIXES) {
+            if (term.startsWith(prefix.getPrefix())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean peekOperator(String operator) {
+        return position < tokens.size() && tokens.get(position).isOperator(operator);
+    }
+
+    /**
+     * Parses a single term, a prefix directly followed by its value.
+     */
+    private static Query parseTerm(String term) throws ParseException {
+        if (term.startsWith(PREFIX_NAME.getPrefix())) {
+            String name = ParserUtil.parseName(valueOf(term, PREFIX_NAME)).fullName;
+            return Clause.nameContains(Arrays.asList(name.split("\\s+")));
+        }
+        if (term.startsWith(PREFIX_LEVEL.getPrefix())) {
+            return Clause.levelIs(ParserUtil.parseLevel(valueOf(term, PREFIX_LEVEL).toLowerCase(Locale.ROOT)));
+        }
+        if (term.startsWith(PREFIX_SUBJECT.getPrefix())) {
+            List<Query> subjects = new ArrayList<>();
+            for (String subject : ParserUtil.parseMultipleSubjects(valueOf(term, PREFIX_SUBJECT))) {
+                subjects.add(Clause.hasSubject(subject));
+            }
+            return subjects.size() == 1 ? subjects.get(0) : new AndQuery(subjects);
+        }
+        if (term.startsWith(PREFIX_OVERDUE.getPrefix())) {
+            String isOverdue = ParserUtil.parseIsOverdue(valueOf(term, PREFIX_OVERDUE))[0];
+            return Clause.isOverdue(Boolean.parseBoolean(isOverdue));
+        }
+        if (term.startsWith(PREFIX_TAG.getPrefix())) {
+            return Clause.hasTag(ParserUtil.parseTag(valueOf(term, PREFIX_TAG)));
+        }
+        if (term.startsWith(PREFIX_SCHOOL.getPrefix())) {
+            String school = ParserUtil.parseSchool(valueOf(term, PREFIX_SCHOOL)).value;
+            return Clause.schoolContains(Arrays.asList(school.split("\\s+")));
+        }
+        if (term.startsWith(PREFIX_PAYMENT.getPrefix())) {
+            String[] range = splitRange(valueOf(term, PREFIX_PAYMENT), term);
+            long min = range[0].isEmpty() ? Long.MIN_VALUE : Payment.toCents(ParserUtil.parsePaymentValue(range[0]));
+            long max = range[1].isEmpty() ? Long.MAX_VALUE : Payment.toCents(ParserUtil.parsePaymentValue(range[1]));
+            checkRange(min <= max, term);
+            return Clause.paymentBetween(min, max);
+        }
+        if (term.startsWith(PREFIX_PAYMENT_DATE.getPrefix())) {
+            String[] range = splitRange(valueOf(term, PREFIX_PAYMENT_DATE), term);
+            LocalDate from = range[0].isEmpty() ? LocalDate.MIN : ParserUtil.parseDate(range[0]);
+            LocalDate to = range[1].isEmpty() ? LocalDate.MAX : ParserUtil.parseDate(range[1]);
+            checkRange(!from.isAfter(to), term);
+            return Clause.payByBetween(from, to);
+        }
+        if (term.startsWith(PREFIX_DAY_OF_WEEK.getPrefix())) {
+            return Clause.hasLessonOn(ParserUtil.parseDayOfWeek(valueOf(term, PREFIX_DAY_OF_WEEK)));
+        }
+        if (term.startsWith(PREFIX_TIME.getPrefix())) {
+            LocalTime[] range = parseTimeRange(valueOf(term, PREFIX_TIME), term);
+            return Clause.hasLessonDuring(range[0], range[1]);
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_TERM, term));
+    }
+
+    private static String valueOf(String term, Prefix prefix) {
+        return term.substring(prefix.getPrefix().length());
+    }
+
+    /**
+     * Parses {@code value}, the range of times in {@code term}, into its start and end, which default to the start
+     * and end of the day when left out.
+     */
+    static LocalTime[] parseTimeRange(String value, String term) throws ParseException {
+        String[] range = splitRange(value, term);
+        LocalTime from = range[0].isEmpty() ? LocalTime.MIN : ParserUtil.parseLocalTime(range[0]);
+        LocalTime to = range[1].isEmpty() ? LocalTime.MAX : ParserUtil.parseLocalTime(range[1]);
+        checkRange(!from.isAfter(to), term);
+        return new LocalTime[] {from, to};
+    }
+
+    /**
+     * Returns the start and end of {@code value}, the range in {@code term}, either of which may be empty.
+     */
+    private static String[] splitRange(String value, String term) throws ParseException {
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        if (separator == -1 || value.indexOf(RANGE_SEPARATOR, separator + 1) != -1
+                || value.length() == RANGE_SEPARATOR.length()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, term));
+        }
+        return new String[] {value.substring(0, separator).trim(),
+            value.substring(separator + RANGE_SEPARATOR.length()).trim()};
+    }
+
+    private static void checkRange(boolean isValid, String term) throws ParseException {
+        if (!isValid) {
+            throw new ParseException(Clause.MESSAGE_EMPTY_RANGE + ": " + term);
+        }
+    }
+
+    /**
+     * Splits {@code args} into terms, operators and brackets.
+     * Spaces and brackets end a term, except between double quotes, which are dropped.
+     */
+    private static List<Token> tokenize(String args) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasQuotes = false;
+        for (int i = 0; i < args.length(); i++) {
+            char c = args.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasQuotes = true;
+            } else if (isQuoted || (!Character.isWhitespace(c) && c != '(' && c != ')')) {
+                text.append(c);
+            } else {
+                addToken(tokens, text, hasQuotes);
+                hasQuotes = false;
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(new Token(String.valueOf(c), false));
+                }
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        addToken(tokens, text, hasQuotes);
+        return tokens;
+    }
+
+    private static void addToken(List<Token> tokens, StringBuilder text, boolean hasQuotes) {
+        if (text.length() > 0) {
+            tokens.add(new Token(text.toString(), hasQuotes));
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * A term, operator or bracket in a query. Operators and brackets in quotes are read as part of a term.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isQuoted;
+
+        Token(String text, boolean isQuoted) {
+            this.text = text;
+            this.isQuoted = isQuoted;
+        }
+
+        boolean isOperator() {
+            return isOperator(AND) || isOperator(OR) || isOperator(NOT);
+        }
+
+        boolean isOperator(String operator) {
+            return !isQuoted && text.equals(operator);
+        }
+
+        /**
+         * Returns true if this token is a word that is not a term, operator or bracket, and so can only be part of
+         * the value of the term before it.
+         */
+        boolean isWord() {
+            return !isOperator() && !isBracket() && !text.contains(PREFIX_SEPARATOR);
+        }
+
+        boolean isBracket() {
+            return isOpen() || isClose();
+        }
+
+        boolean isOpen() {
+            return !isQuoted && text.equals(OPEN);
+        }
+
+        boolean isClose() {
+            return !isQuoted && text.equals(CLOSE);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     * Any preamble is ignored, as the command took no arguments before.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAY_OF_WEEK, PREFIX_TIME);
+
+        List<DayOfWeek> days = new ArrayList<>();
+        for (String day : argMultimap.getAllValues(PREFIX_DAY_OF_WEEK)) {
+            days.add(ParserUtil.parseDayOfWeek(day));
+        }
+
+        LocalTime from = LocalTime.MIN;
+        LocalTime to = LocalTime.MAX;
+        Optional<String> time = argMultimap.getValue(PREFIX_TIME);
+        if (time.isPresent()) {
+            LocalTime[] range = QueryParser.parseTimeRange(time.get(), PREFIX_TIME + time.get());
+            from = range[0];
+            to = range[1];
+        }
+        return new ScheduleCommand(days, from, to);
+    }
+}
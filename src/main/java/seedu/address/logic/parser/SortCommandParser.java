@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tutee.TuteeComparator;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] words = args.trim().split("\\s+");
+        if (words[0].isEmpty() || words.length > 2
+                || (words.length == 2 && !words[1].equalsIgnoreCase(SortCommand.DESCENDING))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        TuteeComparator.Key key = TuteeComparator.Key.fromName(words[0])
+                .orElseThrow(() -> new ParseException(TuteeComparator.Key.MESSAGE_CONSTRAINTS));
+        boolean isDescending = words.length == 2;
+        if (key == TuteeComparator.Key.ADDED && isDescending) {
+            // the tutees are only ever listed in the order they were added in, not its reverse
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        return new SortCommand(key, isDescending);
+    }
+}
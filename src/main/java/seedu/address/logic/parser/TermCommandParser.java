@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.TrackOParser.anyPrefixesPresent;
+import static seedu.address.logic.parser.TrackOParser.arePrefixesPresent;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.TermCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.calendar.Term;
+
+/**
+ * Parses input arguments and creates a new TermCommand object
+ */
+public class TermCommandParser implements Parser<TermCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TermCommand
+     * and returns a TermCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TermCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TermCommand.MESSAGE_USAGE));
+        }
+
+        if (!anyPrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO)) {
+            return new TermCommand(null);
+        }
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TermCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(Term.MESSAGE_CONSTRAINTS);
+        }
+        return new TermCommand(new Term(startDate, endDate));
+    }
+}
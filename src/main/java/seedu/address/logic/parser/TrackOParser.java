@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -9,6 +10,8 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddLessonCommand;
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelLessonCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearRemarkCommand;
 import seedu.address.logic.commands.Command;
@@ -16,13 +19,22 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.GetCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.InvoiceCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MakeUpLessonCommand;
+import seedu.address.logic.commands.MergeCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TermCommand;
 import seedu.address.logic.commands.paymentcommand.PaymentCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -36,6 +48,23 @@ public class TrackOParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code TrackOParser} whose {@code stats} commands show the statistics in {@code commandMetrics}.
+     */
+    public TrackOParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Creates a {@code TrackOParser} whose {@code stats} commands show the statistics of no commands.
+     */
+    public TrackOParser() {
+        this(new CommandMetrics());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -81,7 +110,31 @@ public class TrackOParser {
             return new DeleteLessonCommandParser().parse(arguments);
 
         case ScheduleCommand.COMMAND_WORD:
-            return new ScheduleCommand();
+            return new ScheduleCommandParser().parse(arguments);
+
+        case CalendarCommand.COMMAND_WORD:
+            return new CalendarCommandParser().parse(arguments);
+
+        case TermCommand.COMMAND_WORD:
+            return new TermCommandParser().parse(arguments);
+
+        case CancelLessonCommand.COMMAND_WORD:
+            return new CancelLessonCommandParser().parse(arguments);
+
+        case MakeUpLessonCommand.COMMAND_WORD:
+            return new MakeUpLessonCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case MergeCommand.COMMAND_WORD:
+            return new MergeCommandParser().parse(arguments);
+
+        case InvoiceCommand.COMMAND_WORD:
+            return new InvoiceCommandParser().parse(arguments);
 
         case RemarkCommand.COMMAND_WORD:
             return new RemarkCommandParser().parse(arguments);
@@ -92,12 +145,18 @@ public class TrackOParser {
         case PaymentCommand.COMMAND_WORD:
             return new PaymentCommandParser().parse(arguments);
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+import seedu.address.model.tutee.TuteeComparator;
+import seedu.address.model.tutee.TuteeId;
 
 /**
  * The API of the Model component.
@@ -14,11 +21,34 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Tutee> PREDICATE_SHOW_ALL_TUTEES = unused -> true;
 
+    /**
+     * Applies {@code write} to this model as a single change.
+     * Only one write is applied at a time, and snapshots are never taken partway through a write.
+     * Calls to this model made from within {@code write} are part of the same change.
+     *
+     * @return The result of {@code write}.
+     */
+    <T, E extends Exception> T write(ModelWrite<T, E> write) throws E;
+
+    /**
+     * Returns an immutable snapshot of the tutees and the schedule as they were after the last completed write.
+     * Unlike the other methods of the model, this may be called from any thread.
+     * Called from within a write, it returns a snapshot of the change so far instead.
+     */
+    ModelSnapshot getSnapshot();
+
     /**
      * Returns the user's schedule.
+     * The schedule follows the changes made to the tutees, so it only needs to be changed directly to check
+     * lessons against it.
      */
     Schedule getSchedule();
 
+    /**
+     * Returns the bus that each change to the tutees is published to, within the write that makes it.
+     */
+    ModelEventBus getEventBus();
+
     /**
      * Clears the user's schedule.
      */
@@ -55,13 +85,19 @@ public interface Model {
     void setTrackOFilePath(Path trackOFilePath);
 
     /**
-     * Replaces Track-O data with the data in {@code trackO}.
+     * Replaces Track-O data with the data in {@code trackO}, whose lessons must not clash with one another.
      */
     void setTrackO(ReadOnlyTrackO trackO);
 
     /** Returns Track-O */
     ReadOnlyTrackO getTrackO();
 
+    /**
+     * Returns the index of the tags, schools and levels of the tutees in Track-O, which follows the changes made
+     * to them.
+     */
+    TuteeAttributeIndex getAttributeIndex();
+
     /**
      * Returns true if a tutee with the same identity as {@code tutee} exists in Track-O.
      */
@@ -74,24 +110,61 @@ public interface Model {
     void deleteTutee(Tutee target);
 
     /**
-     * Adds the given tutee.
-     * {@code tutee} must not already exist in Track-O.
+     * Adds the given tutee, and schedules its lessons.
+     * {@code tutee} must not already exist in Track-O, and its lessons must not clash with the schedule.
      */
     void addTutee(Tutee tutee);
 
+    /**
+     * Adds the given tutees in a single change to the tutee list.
+     * None of them may already exist in Track-O, nor have the same identity as one another, and their lessons
+     * must not clash with the schedule or with one another.
+     *
+     * @return The tutees as added, with the IDs given to them, in the same order as {@code tutees}.
+     */
+    List<Tutee> addTutees(List<Tutee> tutees);
+
     /**
      * Replaces the given tutee {@code target} with {@code editedTutee}.
      * {@code target} must exist in Track-O.
-     * The tutee identity of {@code editedTutee} must not be the same as another existing tutee in Track-O.
+     * The tutee identity of {@code editedTutee} must not be the same as another existing tutee in Track-O, and the
+     * lessons added to it must not clash with the schedule.
      */
     void setTutee(Tutee target, Tutee editedTutee);
 
-    /** Returns an unmodifiable view of the filtered tutee list */
+    /**
+     * Replaces each tutee whose ID is a key of {@code editedTutees} with the tutee it is mapped to, in a single
+     * change to the tutee list.
+     * Every ID must belong to a tutee in Track-O, and every edited tutee must have the same identity as the tutee it
+     * replaces. The lessons added must not clash with the schedule as it is once the lessons removed are freed.
+     */
+    void setTuteesById(Map<TuteeId, Tutee> editedTutees);
+
+    /**
+     * Returns the calendar of term dates, cancelled lessons and make-up lessons.
+     */
+    LessonCalendar getCalendar();
+
+    /**
+     * Replaces the calendar with {@code calendar}.
+     */
+    void setCalendar(LessonCalendar calendar);
+
+    /** Returns an unmodifiable view of the filtered tutee list, in the order it is sorted in */
     ObservableList<Tutee> getFilteredTuteeList();
 
     /**
      * Updates the filter of the filtered tutee list to filter by the given {@code predicate}.
+     * The filter is kept until it is next updated: a tutee that is added or changed in the meantime is only tested
+     * against it, so that the rest of the list is left as it is.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTuteeList(Predicate<Tutee> predicate);
+
+    /**
+     * Sorts the filtered tutee list by {@code comparator}, until it is next sorted.
+     * Tutees that are added or changed in the meantime are put in their place in the order.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredTuteeList(TuteeComparator comparator);
 }
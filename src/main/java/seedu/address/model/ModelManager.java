@@ -4,18 +4,43 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.event.LessonAdded;
+import seedu.address.model.event.LessonRemoved;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PaymentChanged;
+import seedu.address.model.event.TuteeAdded;
+import seedu.address.model.event.TuteeEdited;
+import seedu.address.model.event.TuteeRemoved;
+import seedu.address.model.event.TuteesReset;
 import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+import seedu.address.model.tutee.TuteeComparator;
+import seedu.address.model.tutee.TuteeId;
 
 /**
  * Represents the in-memory model of Track-O data.
+ * Changes are made one write at a time under the write lock, and each call that changes the model is a write of its
+ * own unless it is made from within a larger write. Other threads read the model through immutable snapshots, which
+ * are built under the read lock at most once between two writes and then shared by every reader.
+ * <br>
+ * Each change to the tutees is published to the event bus as the exact tutees and lessons changed, and the schedule
+ * follows the tutee list by subscribing to these events.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -23,7 +48,14 @@ public class ModelManager implements Model {
     private final TrackO trackO;
     private final UserPrefs userPrefs;
     private final FilteredList<Tutee> filteredTutees;
+    private final SortedList<Tutee> sortedTutees;
     private final Schedule schedule;
+    private final ModelEventBus eventBus = new ModelEventBus();
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Thread writerThread;
+    private volatile ModelSnapshot publishedSnapshot;
+    private long version;
 
     /**
      * Initializes a ModelManager with the given Track-O and userPrefs.
@@ -32,28 +64,156 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(trackO, userPrefs);
 
-        logger.fine("Initializing with Track-O: " + trackO + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with Track-O: " + trackO + " and user prefs " + userPrefs);
 
         this.trackO = new TrackO(trackO);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTutees = new FilteredList<>(this.trackO.getTuteeList());
+        sortedTutees = new SortedList<>(filteredTutees);
         schedule = new Schedule(this.trackO.getTuteeList());
+        subscribeSchedule();
+        subscribeSortKeys();
+        subscribeCalendar();
     }
 
     public ModelManager() throws ScheduleClashException {
         this(new TrackO(), new UserPrefs());
     }
 
+    //=========== Writes and snapshots ======================================================================
+
+    @Override
+    public <T, E extends Exception> T write(ModelWrite<T, E> write) throws E {
+        requireNonNull(write);
+        if (writerThread == Thread.currentThread()) {
+            // already within a write, which the lock does not allow to be entered again
+            return write.apply(this);
+        }
+
+        long stamp = lock.writeLock();
+        writerThread = Thread.currentThread();
+        try {
+            publishedSnapshot = null;
+            version++;
+            return write.apply(this);
+        } finally {
+            writerThread = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        ModelSnapshot snapshot = publishedSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        if (writerThread == Thread.currentThread()) {
+            // within a write, which already holds the lock; the change so far is seen but not published
+            return new ModelSnapshot(version, trackO.getTuteeList(), schedule.getSortedLessonsToTuteeIds(),
+                    trackO.getCalendar());
+        }
+
+        long stamp = lock.readLock();
+        try {
+            snapshot = publishedSnapshot;
+            if (snapshot == null) {
+                snapshot = new ModelSnapshot(version, trackO.getTuteeList(), schedule.getSortedLessonsToTuteeIds(),
+                        trackO.getCalendar());
+                publishedSnapshot = snapshot;
+            }
+            return snapshot;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
     //=========== Schedule ==================================================================================
 
+    /**
+     * Keeps the schedule in step with the tutee list, from within each write that changes the list.
+     */
+    private void subscribeSchedule() {
+        eventBus.subscribe(TuteesReset.class, event -> schedule.resetData(scheduleOf(event.getTutees())));
+        eventBus.subscribe(TuteeAdded.class, event -> {
+            for (Lesson lesson : event.getTutee().getLessons()) {
+                scheduleLesson(lesson, event.getTutee());
+            }
+        });
+        eventBus.subscribe(TuteeRemoved.class, event -> schedule.removeTutee(event.getTutee()));
+        eventBus.subscribe(TuteeEdited.class, event -> {
+            if (event.isRenamed()) {
+                schedule.updateTuteeName(event.getTutee().getId(), event.getEditedTutee().getName().toString());
+            }
+        });
+        eventBus.subscribe(LessonRemoved.class, event -> schedule.remove(event.getLesson(), event.getTutee()));
+        eventBus.subscribe(LessonAdded.class, event -> scheduleLesson(event.getLesson(), event.getTutee()));
+    }
+
+    /**
+     * Drops the sort keys kept for tutees that leave the list, so that they do not build up as tutees are edited.
+     */
+    private void subscribeSortKeys() {
+        eventBus.subscribe(TuteeEdited.class, event -> forgetSortKey(event.getTutee()));
+        eventBus.subscribe(TuteeRemoved.class, event -> forgetSortKey(event.getTutee()));
+        eventBus.subscribe(TuteesReset.class, event -> {
+            if (sortedTutees.getComparator() instanceof TuteeComparator) {
+                ((TuteeComparator) sortedTutees.getComparator()).forgetAll();
+            }
+        });
+    }
+
+    /**
+     * Drops the cancellations of weekly lessons that are removed, and the make-up lessons of tutees in subjects they
+     * no longer take, so that the calendar does not keep exceptions to lessons that no longer exist.
+     */
+    private void subscribeCalendar() {
+        eventBus.subscribe(LessonRemoved.class, event -> trackO.setCalendar(trackO.getCalendar()
+                .withoutLesson(event.getTutee().getId(), event.getLesson())));
+        eventBus.subscribe(TuteeEdited.class, event -> trackO.setCalendar(trackO.getCalendar()
+                .withoutMakeUpsOutside(event.getEditedTutee().getId(), event.getEditedTutee().getLessons())));
+    }
+
+    private void forgetSortKey(Tutee tutee) {
+        if (sortedTutees.getComparator() instanceof TuteeComparator) {
+            ((TuteeComparator) sortedTutees.getComparator()).forget(tutee);
+        }
+    }
+
+    private static Schedule scheduleOf(List<Tutee> tutees) {
+        try {
+            return new Schedule(tutees);
+        } catch (ScheduleClashException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private void scheduleLesson(Lesson lesson, Tutee tutee) {
+        try {
+            schedule.add(lesson, tutee);
+        } catch (ScheduleClashException e) {
+            // lessons are checked against the schedule before they are added to a tutee
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public Schedule getSchedule() {
         return schedule;
     }
 
+    @Override
+    public ModelEventBus getEventBus() {
+        return eventBus;
+    }
+
     @Override
     public void clearSchedule() {
-        schedule.clear();
+        write(model -> {
+            schedule.clear();
+            return null;
+        });
     }
 
     //=========== UserPrefs ==================================================================================
@@ -95,7 +255,11 @@ public class ModelManager implements Model {
 
     @Override
     public void setTrackO(ReadOnlyTrackO trackO) {
-        this.trackO.resetData(trackO);
+        write(model -> {
+            this.trackO.resetData(trackO);
+            eventBus.publish(new TuteesReset(new ArrayList<>(this.trackO.getTuteeList())));
+            return null;
+        });
     }
 
     @Override
@@ -103,6 +267,11 @@ public class ModelManager implements Model {
         return trackO;
     }
 
+    @Override
+    public TuteeAttributeIndex getAttributeIndex() {
+        return trackO.getAttributeIndex();
+    }
+
     @Override
     public boolean hasTutee(Tutee tutee) {
         requireNonNull(tutee);
@@ -111,20 +280,129 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteTutee(Tutee target) {
-        trackO.removeTutee(target);
+        write(model -> {
+            List<Tutee> tutees = trackO.getTuteeList();
+            int index = tutees.indexOf(target);
+            // the tutee in the list is the one published, as the target may be missing its ID or lessons
+            Tutee removed = index == -1 ? target : tutees.get(index);
+            trackO.removeTutee(target);
+            eventBus.publish(new TuteeRemoved(removed));
+            return null;
+        });
     }
 
     @Override
     public void addTutee(Tutee tutee) {
-        trackO.addTutee(tutee);
-        updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
+        write(model -> {
+            List<Tutee> tutees = trackO.getTuteeList();
+            trackO.addTutee(tutee);
+            eventBus.publish(new TuteeAdded(tutees.get(tutees.size() - 1)));
+            return null;
+        });
+    }
+
+    @Override
+    public List<Tutee> addTutees(List<Tutee> tutees) {
+        requireNonNull(tutees);
+        return write(model -> {
+            List<Tutee> added = trackO.addTutees(tutees);
+            for (Tutee tutee : added) {
+                eventBus.publish(new TuteeAdded(tutee));
+            }
+            return added;
+        });
     }
 
     @Override
     public void setTutee(Tutee target, Tutee editedTutee) {
         requireAllNonNull(target, editedTutee);
 
-        trackO.setTutee(target, editedTutee);
+        write(model -> {
+            List<Tutee> tutees = trackO.getTuteeList();
+            int index = tutees.indexOf(target);
+            Tutee tutee = index == -1 ? target : tutees.get(index);
+            trackO.setTutee(target, editedTutee);
+            publishEdits(List.of(tutee), List.of(tutees.get(index)));
+            return null;
+        });
+    }
+
+    @Override
+    public void setTuteesById(Map<TuteeId, Tutee> editedTutees) {
+        requireNonNull(editedTutees);
+
+        write(model -> {
+            List<Tutee> tutees = new ArrayList<>(editedTutees.size());
+            for (TuteeId id : editedTutees.keySet()) {
+                tutees.add(trackO.getTutee(id));
+            }
+            trackO.setTuteesById(editedTutees);
+            List<Tutee> replacements = new ArrayList<>(tutees.size());
+            for (Tutee tutee : tutees) {
+                replacements.add(trackO.getTutee(tutee.getId()));
+            }
+            publishEdits(tutees, replacements);
+            return null;
+        });
+    }
+
+    /**
+     * Publishes the edit of each of {@code tutees} into the tutee at the same position of {@code editedTutees}, and
+     * the lessons and payments that changed.
+     * The lessons removed from every tutee are published before the lessons added to any, so that a lesson can be
+     * moved to a time freed by another tutee in the same change.
+     */
+    private void publishEdits(List<Tutee> tutees, List<Tutee> editedTutees) {
+        List<ModelEvent> lessonsRemoved = new ArrayList<>();
+        List<ModelEvent> lessonsAdded = new ArrayList<>();
+        List<ModelEvent> paymentsChanged = new ArrayList<>();
+        for (int i = 0; i < tutees.size(); i++) {
+            Tutee tutee = tutees.get(i);
+            Tutee editedTutee = editedTutees.get(i);
+            eventBus.publish(new TuteeEdited(tutee, editedTutee));
+
+            for (Lesson lesson : tutee.getLessons()) {
+                if (!containsSameLesson(editedTutee.getLessons(), lesson)) {
+                    lessonsRemoved.add(new LessonRemoved(editedTutee, lesson));
+                }
+            }
+            for (Lesson lesson : editedTutee.getLessons()) {
+                if (!containsSameLesson(tutee.getLessons(), lesson)) {
+                    lessonsAdded.add(new LessonAdded(editedTutee, lesson));
+                }
+            }
+            if (!tutee.getPayment().isSamePayment(editedTutee.getPayment())) {
+                paymentsChanged.add(new PaymentChanged(editedTutee, tutee.getPayment()));
+            }
+        }
+        eventBus.publishAll(lessonsRemoved);
+        eventBus.publishAll(lessonsAdded);
+        eventBus.publishAll(paymentsChanged);
+    }
+
+    private static boolean containsSameLesson(List<Lesson> lessons, Lesson lesson) {
+        for (Lesson other : lessons) {
+            if (other.isSameLesson(lesson)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //=========== Calendar ==================================================================================
+
+    @Override
+    public LessonCalendar getCalendar() {
+        return trackO.getCalendar();
+    }
+
+    @Override
+    public void setCalendar(LessonCalendar calendar) {
+        requireNonNull(calendar);
+        write(model -> {
+            trackO.setCalendar(calendar);
+            return null;
+        });
     }
 
     //=========== Filtered Tutee List Accessors =============================================================
@@ -135,15 +413,26 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Tutee> getFilteredTuteeList() {
-        return filteredTutees;
+        return sortedTutees;
     }
 
     @Override
     public void updateFilteredTuteeList(Predicate<Tutee> predicate) {
         requireNonNull(predicate);
+        if (predicate == filteredTutees.getPredicate()) {
+            // setting the same predicate again would re-test and re-show every tutee for nothing
+            return;
+        }
         filteredTutees.setPredicate(predicate);
     }
 
+    @Override
+    public void sortFilteredTuteeList(TuteeComparator comparator) {
+        requireNonNull(comparator);
+        // left unsorted, the list keeps the order tutees were added in
+        sortedTutees.setComparator(comparator.getKey() == TuteeComparator.Key.ADDED ? null : comparator);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -160,7 +449,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return trackO.equals(other.trackO)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTutees.equals(other.filteredTutees);
+                && sortedTutees.equals(other.sortedTutees);
     }
 
 }
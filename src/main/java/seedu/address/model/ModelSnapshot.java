@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * An immutable view of the tutees and the schedule of a {@code Model} as they were between two writes.
+ * Snapshots can be read from any thread while commands continue to change the model, for example to save them.
+ */
+public class ModelSnapshot implements ReadOnlyTrackO {
+
+    private final long version;
+    private final ObservableList<Tutee> tutees;
+    private final NavigableMap<Lesson, TuteeId> scheduledLessons;
+    private final Map<TuteeId, Tutee> tuteesById;
+    private final LessonCalendar calendar;
+
+    /**
+     * Creates a snapshot of the given tutees, scheduled lessons and calendar, taken after {@code version} writes.
+     * {@code scheduledLessons} should not be changed afterwards.
+     */
+    public ModelSnapshot(long version, List<Tutee> tutees, TreeMap<Lesson, TuteeId> scheduledLessons,
+            LessonCalendar calendar) {
+        requireAllNonNull(tutees, scheduledLessons, calendar);
+        this.version = version;
+        this.calendar = calendar;
+        this.tutees = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tutees));
+        this.scheduledLessons = Collections.unmodifiableNavigableMap(scheduledLessons);
+        tuteesById = new HashMap<>();
+        for (Tutee tutee : this.tutees) {
+            tuteesById.put(tutee.getId(), tutee);
+        }
+    }
+
+    /**
+     * Returns the number of writes made to the model before this snapshot was taken.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an unmodifiable list of the tutees, in the order they are listed in Track-O.
+     */
+    @Override
+    public ObservableList<Tutee> getTuteeList() {
+        return tutees;
+    }
+
+    /**
+     * Returns an unmodifiable map of the scheduled lessons, in chronological order, to the IDs of the tutees
+     * taking them.
+     */
+    public NavigableMap<Lesson, TuteeId> getScheduledLessons() {
+        return scheduledLessons;
+    }
+
+    @Override
+    public LessonCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * Returns the tutee with the given {@code id}, or null if there was no such tutee.
+     */
+    public Tutee getTutee(TuteeId id) {
+        return tuteesById.get(id);
+    }
+}
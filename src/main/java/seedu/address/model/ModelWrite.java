@@ -0,0 +1,17 @@
+package seedu.address.model;
+
+/**
+ * Represents a change to a {@code Model}, made up of any number of calls to the model, that is applied as a whole
+ * through {@link Model#write(ModelWrite)}.
+ *
+ * @param <T> The type of the result of the change.
+ * @param <E> The type of exception that the change may throw.
+ */
+@FunctionalInterface
+public interface ModelWrite<T, E extends Exception> {
+
+    /**
+     * Applies the change to {@code model}.
+     */
+    T apply(Model model) throws E;
+}
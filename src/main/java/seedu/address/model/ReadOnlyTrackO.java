@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.calendar.LessonCalendar;
 import seedu.address.model.tutee.Tutee;
 
 /**
@@ -14,4 +15,9 @@ public interface ReadOnlyTrackO {
      */
     ObservableList<Tutee> getTuteeList();
 
+    /**
+     * Returns the calendar of term dates, cancelled lessons and make-up lessons.
+     */
+    LessonCalendar getCalendar();
+
 }
@@ -1,5 +1,11 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -7,34 +13,59 @@ import java.util.TreeMap;
 
 import seedu.address.model.exceptions.ScheduleClashException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
 
 /**
  * Represents the user's Schedule of lessons for the week.
+ * Lessons are recorded against the ID of the tutee taking them, so renaming a tutee only updates a single entry.
  */
 public class Schedule {
 
     public static final String SCHEDULE_CLASH_MESSAGE = "Schedule clash for the lesson: %1$s";
 
-    /* Stores a sorted map of Lessons to tutees' names */
-    private TreeMap<Lesson, String> sortedLessonsMap = new TreeMap<>();
+    public static final String MESSAGE_NO_LESSONS = "There are no lessons scheduled for the week.";
+
+    /*
+     * A lesson at the start of each day, from Monday, which compares after the lessons of the days before and equal
+     * to or before those on the day, as lessons are at least half an hour long and do not overlap one another
+     */
+    private static final Lesson[] START_OF_DAY = createStartOfDayLessons();
+
+    /* Stores a sorted map of Lessons to the IDs of the tutees taking them */
+    private TreeMap<Lesson, TuteeId> sortedLessonsMap = new TreeMap<>();
+
+    /* Stores the names of the tutees in the map, for display */
+    private Map<TuteeId, String> tuteeNames = new HashMap<>();
+
+    /* Stores the minutes of the week taken up by the lessons in the map, for constant time clash checks */
+    private WeekOccupancy occupancy = new WeekOccupancy();
 
     /**
      * Initialises the map with data retrieved from the tutee list.
      *
-     * @param tutees List of tutees to process to populate the map.
+     * @param tutees List of tutees in Track-O to process to populate the map.
      * @throws ScheduleClashException When there is a clash in lessons in the tutee list.
      */
     public Schedule(List<Tutee> tutees) throws ScheduleClashException {
         initSortedLessonsMap(tutees);
     }
 
+    private static Lesson[] createStartOfDayLessons() {
+        Lesson[] lessons = new Lesson[DayOfWeek.values().length];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            Time time = new Time(day, LocalTime.MIDNIGHT, LocalTime.MIDNIGHT.plusMinutes(30));
+            lessons[day.ordinal()] = new Lesson(new Subject("Start of day"), time, 0);
+        }
+        return lessons;
+    }
+
     private void initSortedLessonsMap(List<Tutee> tutees) throws ScheduleClashException {
         for (Tutee tutee : tutees) {
-            List<Lesson> lessons = tutee.getLessons();
-            String tuteeName = tutee.getName().toString();
-            for (Lesson lesson : lessons) {
-                add(lesson, tuteeName);
+            for (Lesson lesson : tutee.getLessons()) {
+                add(lesson, tutee);
             }
         }
     }
@@ -44,44 +75,152 @@ public class Schedule {
      */
     public void clear() {
         sortedLessonsMap = new TreeMap<>();
+        tuteeNames = new HashMap<>();
+        occupancy.clear();
     }
 
     /**
-     * Gets the map stored in Schedule.
+     * Replaces the contents of this Schedule with the lessons in {@code newSchedule}.
+     */
+    public void resetData(Schedule newSchedule) {
+        sortedLessonsMap = new TreeMap<>(newSchedule.sortedLessonsMap);
+        tuteeNames = new HashMap<>(newSchedule.tuteeNames);
+        occupancy = new WeekOccupancy(newSchedule.occupancy);
+    }
+
+    /**
+     * Gets the lessons stored in Schedule, together with the names of the tutees taking them.
      *
-     * @return A copy of the TreeMap.
+     * @return A sorted map of lessons to tutees' names.
      */
     public TreeMap<Lesson, String> getSortedLessonsMap() {
+        TreeMap<Lesson, String> lessonsToNames = new TreeMap<>();
+        for (Map.Entry<Lesson, TuteeId> entry : sortedLessonsMap.entrySet()) {
+            lessonsToNames.put(entry.getKey(), tuteeNames.get(entry.getValue()));
+        }
+        return lessonsToNames;
+    }
+
+    /**
+     * Gets the lessons stored in Schedule on any of {@code days} that take place at some time from {@code from} to
+     * {@code to}, together with the names of the tutees taking them.
+     * The lessons of each day are read from where the day starts in the sorted map until the first lesson starting
+     * at or after {@code to}, so lessons on other days or later in the day are never looked at.
+     *
+     * @return A sorted map of the lessons found to tutees' names.
+     */
+    public TreeMap<Lesson, String> getLessonsDuring(Collection<DayOfWeek> days, LocalTime from, LocalTime to) {
+        requireAllNonNull(days, from, to);
+        TreeMap<Lesson, String> lessonsToNames = new TreeMap<>();
+        for (DayOfWeek day : days) {
+            for (Map.Entry<Lesson, TuteeId> entry : sortedLessonsMap.tailMap(START_OF_DAY[day.ordinal()], true)
+                    .entrySet()) {
+                Time time = entry.getKey().getTime();
+                if (time.getDayOfOccurrence() != day || !time.getStartTime().isBefore(to)) {
+                    break;
+                }
+                if (from.isBefore(time.getEndTime())) {
+                    lessonsToNames.put(entry.getKey(), tuteeNames.get(entry.getValue()));
+                }
+            }
+        }
+        return lessonsToNames;
+    }
+
+    /**
+     * Returns the entry shown for {@code lesson}, taken by the tutee named {@code tuteeName}, in a schedule.
+     */
+    public static String toEntryString(Lesson lesson, String tuteeName) {
+        return "\u2022 " + lesson.toCondensedString() + "(" + tuteeName + ")";
+    }
+
+    /**
+     * Gets the lessons stored in Schedule, together with the IDs of the tutees taking them.
+     *
+     * @return A copy of the sorted map of lessons to tutees' IDs.
+     */
+    public TreeMap<Lesson, TuteeId> getSortedLessonsToTuteeIds() {
         return new TreeMap<>(sortedLessonsMap);
     }
 
     /**
-     * Adds a key-value pair to the map.
+     * Adds a lesson taken by the given tutee to the Schedule.
      *
-     * @param lesson The corresponding key.
-     * @param tuteeName The corresponding value.
+     * @param lesson The lesson to add.
+     * @param tutee The tutee in Track-O taking the lesson.
      * @throws ScheduleClashException When the lesson clashes with the Schedule.
      */
-    public void add(Lesson lesson, String tuteeName) throws ScheduleClashException {
+    public void add(Lesson lesson, Tutee tutee) throws ScheduleClashException {
+        assert tutee.getId().isAssigned() : "Only tutees in Track-O can have lessons scheduled";
         if (isClash(lesson)) {
             throw new ScheduleClashException(String.format(SCHEDULE_CLASH_MESSAGE, lesson));
         }
-        sortedLessonsMap.put(lesson, tuteeName);
+        sortedLessonsMap.put(lesson, tutee.getId());
+        tuteeNames.put(tutee.getId(), tutee.getName().toString());
+        Time time = lesson.getTime();
+        occupancy.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
     }
 
     private boolean isClash(Lesson lesson) {
-        return sortedLessonsMap.containsKey(lesson);
+        return isClash(lesson, occupancy);
+    }
+
+    private static boolean isClash(Lesson lesson, WeekOccupancy occupancy) {
+        Time time = lesson.getTime();
+        return occupancy.isAnyOccupied(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+    }
+
+    /**
+     * Returns true if {@code lesson} can be added to the Schedule, i.e. it does not clash with the Schedule.
+     */
+    public boolean canAdd(Lesson lesson) {
+        return !isClash(lesson);
     }
 
     /**
-     * Removes a key-value pair from the map.
+     * Returns true if all the lessons in {@code lessons} can be added to the Schedule, i.e. none of them clash with
+     * the Schedule or with one another. The Schedule is not modified.
+     */
+    public boolean canAddAll(List<Lesson> lessons) {
+        WeekOccupancy scratch = new WeekOccupancy(occupancy);
+        for (Lesson lesson : lessons) {
+            if (isClash(lesson, scratch)) {
+                return false;
+            }
+            Time time = lesson.getTime();
+            scratch.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the minutes of the week taken up by the lessons in the Schedule, against which a batch of
+     * lessons can be checked for clashes, and then reserved, without modifying the Schedule.
+     */
+    public WeekOccupancy getOccupancyCopy() {
+        return new WeekOccupancy(occupancy);
+    }
+
+    /**
+     * Removes a lesson taken by the given tutee from the Schedule.
      *
-     * @param lesson The corresponding key.
-     * @param tuteeName The corresponding value.
-     * @return True if the key-value pair is removed; false otherwise.
+     * @param lesson The lesson to remove.
+     * @param tutee The tutee taking the lesson.
+     * @return True if the lesson is removed; false if the tutee has no such lesson in the Schedule.
      */
-    public boolean remove(Lesson lesson, String tuteeName) {
-        return sortedLessonsMap.remove(lesson, tuteeName);
+    public boolean remove(Lesson lesson, Tutee tutee) {
+        // The stored key may be a different lesson that overlaps with the given one, so free its minutes instead.
+        Lesson storedLesson = sortedLessonsMap.ceilingKey(lesson);
+        if (storedLesson == null || !sortedLessonsMap.remove(lesson, tutee.getId())) {
+            return false;
+        }
+        release(storedLesson);
+        return true;
+    }
+
+    private void release(Lesson lesson) {
+        Time time = lesson.getTime();
+        occupancy.release(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
     }
 
     /**
@@ -94,42 +233,45 @@ public class Schedule {
         for (Lesson lesson: lessons) {
             assert sortedLessonsMap.containsKey(lesson);
             sortedLessonsMap.remove(lesson);
+            release(lesson);
         }
     }
 
     /**
-     * Sets the value of the lessons stored in the map to a new value.
-     * Precondition: Every lesson in the lesson list must be in the map.
+     * Removes all the lessons of the given tutee from the Schedule, together with the tutee's name.
      *
-     * @param lessons The list of keys to be updated one-by-one in the map.
-     * @param tuteeName The new value to be assigned to each of the given keys.
+     * @param tutee The tutee whose lessons are to be removed.
      */
-    public void updateWithNewTuteeName(List<Lesson> lessons, String tuteeName) {
-        for (Lesson lesson: lessons) {
-            assert sortedLessonsMap.containsKey(lesson);
-            sortedLessonsMap.put(lesson, tuteeName);
-        }
+    public void removeTutee(Tutee tutee) {
+        removeLessons(tutee.getLessons());
+        tuteeNames.remove(tutee.getId());
+    }
+
+    /**
+     * Updates the name shown for the lessons of the tutee with the given ID.
+     * This takes constant time, however many lessons the tutee has.
+     *
+     * @param tuteeId The ID of the renamed tutee.
+     * @param tuteeName The new name of the tutee.
+     */
+    public void updateTuteeName(TuteeId tuteeId, String tuteeName) {
+        tuteeNames.replace(tuteeId, tuteeName);
     }
 
     @Override
     public String toString() {
-        Set<Map.Entry<Lesson, String>> entrySet = sortedLessonsMap.entrySet();
+        Set<Map.Entry<Lesson, TuteeId>> entrySet = sortedLessonsMap.entrySet();
 
         if (entrySet.isEmpty()) {
-            return "There are no lessons scheduled for the week.";
+            return MESSAGE_NO_LESSONS;
         }
 
         final StringBuilder builder = new StringBuilder();
 
-        for (Map.Entry<Lesson, String> entry : entrySet) {
-            Lesson lesson = entry.getKey();
-            String tuteeName = entry.getValue();
-
-            builder.append("\n\u2022 ")
-                    .append(lesson.toCondensedString())
-                    .append("(")
-                    .append(tuteeName)
-                    .append(")\n");
+        for (Map.Entry<Lesson, TuteeId> entry : entrySet) {
+            builder.append("\n")
+                    .append(toEntryString(entry.getKey(), tuteeNames.get(entry.getValue())))
+                    .append("\n");
         }
 
         return builder.toString();
@@ -139,7 +281,7 @@ public class Schedule {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Schedule // instanceof handles nulls
-                && sortedLessonsMap.equals(((Schedule) other).getSortedLessonsMap())); // state check
+                && getSortedLessonsMap().equals(((Schedule) other).getSortedLessonsMap())); // state check
     }
 
 }
@@ -3,9 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.calendar.LessonCalendar;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+import seedu.address.model.tutee.TuteeId;
 import seedu.address.model.tutee.UniqueTuteeList;
 
 /**
@@ -15,6 +19,7 @@ import seedu.address.model.tutee.UniqueTuteeList;
 public class TrackO implements ReadOnlyTrackO {
 
     private final UniqueTuteeList tutees;
+    private LessonCalendar calendar = LessonCalendar.EMPTY;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,12 +52,29 @@ public class TrackO implements ReadOnlyTrackO {
         this.tutees.setTutees(tutees);
     }
 
+    /**
+     * Replaces the contents of the tutee list with {@code tutees} without checking them for duplicates.
+     * {@code tutees} must already be known not to contain duplicate tutees.
+     *
+     * @see UniqueTuteeList#setTrustedTutees(List)
+     */
+    public void setTrustedTutees(List<Tutee> tutees) {
+        this.tutees.setTrustedTutees(tutees);
+    }
+
     /**
      * Resets the existing data of this {@code TrackO} with {@code newData}.
+     * If {@code newData} is a {@code TrackO}, its tutees are already unique and are copied over without
+     * being checked again.
      */
     public void resetData(ReadOnlyTrackO newData) {
         requireNonNull(newData);
 
+        calendar = newData.getCalendar();
+        if (newData instanceof TrackO) {
+            this.tutees.setTutees(((TrackO) newData).tutees);
+            return;
+        }
         setTutees(newData.getTuteeList());
     }
 
@@ -66,6 +88,15 @@ public class TrackO implements ReadOnlyTrackO {
         return tutees.contains(tutee);
     }
 
+    /**
+     * Returns the tutee with the given {@code id}.
+     * The tutee must exist in Track-O.
+     */
+    public Tutee getTutee(TuteeId id) {
+        requireNonNull(id);
+        return tutees.get(id);
+    }
+
     /**
      * Adds a tutee to Track-O.
      * The tutee must not already exist in Track-O.
@@ -74,6 +105,17 @@ public class TrackO implements ReadOnlyTrackO {
         tutees.add(p);
     }
 
+    /**
+     * Adds {@code tutees} to Track-O in a single change to the tutee list.
+     * None of them may already exist in Track-O, nor have the same identity as one another.
+     *
+     * @return The tutees as added, with the IDs given to them.
+     * @see UniqueTuteeList#addAll(List)
+     */
+    public List<Tutee> addTutees(List<Tutee> tutees) {
+        return this.tutees.addAll(tutees);
+    }
+
     /**
      * Replaces the given tutee {@code target} in the list with {@code editedTutee}.
      * {@code target} must exist in Track-O.
@@ -85,12 +127,45 @@ public class TrackO implements ReadOnlyTrackO {
         tutees.setTutee(target, editedTutee);
     }
 
+    /**
+     * Replaces each tutee whose ID is a key of {@code editedTutees} with the tutee it is mapped to, in a single
+     * change to the tutee list.
+     *
+     * @see UniqueTuteeList#setTuteesById(Map)
+     */
+    public void setTuteesById(Map<TuteeId, Tutee> editedTutees) {
+        tutees.setTuteesById(editedTutees);
+    }
+
     /**
      * Removes {@code key} from this {@code TrackO}.
      * {@code key} must exist in Track-O.
      */
     public void removeTutee(Tutee key) {
         tutees.remove(key);
+        calendar = calendar.withoutTutee(key.getId());
+    }
+
+    /**
+     * Returns the index of the tags, schools and levels of the tutees, which follows the changes made to them.
+     */
+    public TuteeAttributeIndex getAttributeIndex() {
+        return tutees.getAttributeIndex();
+    }
+
+    //// calendar operations
+
+    @Override
+    public LessonCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * Replaces the calendar of Track-O with {@code calendar}.
+     */
+    public void setCalendar(LessonCalendar calendar) {
+        requireNonNull(calendar);
+        this.calendar = calendar;
     }
 
     //// util methods
@@ -110,7 +185,8 @@ public class TrackO implements ReadOnlyTrackO {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TrackO // instanceof handles nulls
-                && tutees.equals(((TrackO) other).tutees));
+                && tutees.equals(((TrackO) other).tutees)
+                && calendar.equals(((TrackO) other).calendar));
     }
 
     @Override
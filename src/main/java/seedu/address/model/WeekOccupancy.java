@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+import seedu.address.model.lesson.Time;
+
+/**
+ * Records which minutes of the week are taken up by lessons, as one bit per minute.
+ * Checking or updating a range of minutes works on whole 64-minute words at a time, so the cost of each operation
+ * depends only on the length of the range and not on the number of lessons recorded.
+ */
+public class WeekOccupancy {
+
+    private static final String MESSAGE_INVALID_RANGE = "Minutes of the week should form a range within a week";
+    private static final int WORD_COUNT = (Time.MINUTES_IN_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words;
+
+    /**
+     * Creates an empty {@code WeekOccupancy}.
+     */
+    public WeekOccupancy() {
+        words = new long[WORD_COUNT];
+    }
+
+    /**
+     * Creates a {@code WeekOccupancy} with the same minutes occupied as {@code toBeCopied}.
+     */
+    public WeekOccupancy(WeekOccupancy toBeCopied) {
+        words = toBeCopied.words.clone();
+    }
+
+    /**
+     * Returns true if any minute from {@code start} (inclusive) to {@code end} (exclusive) is occupied.
+     */
+    public boolean isAnyOccupied(int start, int end) {
+        checkRange(start, end);
+        int firstWord = start / Long.SIZE;
+        int lastWord = (end - 1) / Long.SIZE;
+        for (int i = firstWord; i <= lastWord; i++) {
+            if ((words[i] & maskOf(i, start, end)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks every minute from {@code start} (inclusive) to {@code end} (exclusive) as occupied.
+     */
+    public void occupy(int start, int end) {
+        checkRange(start, end);
+        for (int i = start / Long.SIZE; i <= (end - 1) / Long.SIZE; i++) {
+            words[i] |= maskOf(i, start, end);
+        }
+    }
+
+    /**
+     * Marks every minute from {@code start} (inclusive) to {@code end} (exclusive) as free.
+     */
+    public void release(int start, int end) {
+        checkRange(start, end);
+        for (int i = start / Long.SIZE; i <= (end - 1) / Long.SIZE; i++) {
+            words[i] &= ~maskOf(i, start, end);
+        }
+    }
+
+    /**
+     * Marks every minute of the week as free.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Returns the number of occupied minutes in the week.
+     */
+    public int getOccupiedMinutes() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the bits of word {@code wordIndex} that fall within the range from {@code start} to {@code end}.
+     */
+    private static long maskOf(int wordIndex, int start, int end) {
+        int wordStart = wordIndex * Long.SIZE;
+        int from = Math.max(start, wordStart) - wordStart;
+        int to = Math.min(end, wordStart + Long.SIZE) - wordStart;
+        long upTo = to == Long.SIZE ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private static void checkRange(int start, int end) {
+        checkArgument(0 <= start && start < end && end <= Time.MINUTES_IN_WEEK, MESSAGE_INVALID_RANGE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WeekOccupancy // instanceof handles nulls
+                && Arrays.equals(words, ((WeekOccupancy) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,388 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Expands the weekly lessons in the schedule into the lessons held on each date, taking into account the dates of
+ * the term, the occurrences that have been cancelled and the make-up lessons that have been added.
+ * <br>
+ * Only the exceptions to the weekly schedule are stored: a table of cancelled occurrences, keyed by the date and time
+ * they start and the tutee taking them, and a table of make-up lessons, keyed by the date and time they start. The
+ * lessons held between two dates are generated one day at a time as they are read, so asking what is on in a week
+ * never builds the occurrences of the whole term.
+ * <br>
+ * The calendar also records the date up to which the fees of the lessons held have been added to what tutees owe,
+ * so that fees are never added twice for the same lesson.
+ * <br>
+ * Guarantees: immutable; every change returns a new calendar, so that snapshots of the model can share it.
+ */
+public class LessonCalendar {
+
+    /** A calendar with no term, so that weekly lessons are held every week, and no exceptions. */
+    public static final LessonCalendar EMPTY = new LessonCalendar(null,
+            new TreeMap<>(LessonCalendar::compareCancellations), new TreeMap<>(), null);
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of a date range should not be after its end";
+
+    private final Term term;
+    private final NavigableMap<LessonOccurrence, LessonOccurrence> cancellations;
+    private final NavigableMap<LocalDateTime, LessonOccurrence> makeUps;
+    private final LocalDate feesAccruedUntil;
+
+    private LessonCalendar(Term term, TreeMap<LessonOccurrence, LessonOccurrence> cancellations,
+            TreeMap<LocalDateTime, LessonOccurrence> makeUps, LocalDate feesAccruedUntil) {
+        this.term = term;
+        this.cancellations = Collections.unmodifiableNavigableMap(cancellations);
+        this.makeUps = Collections.unmodifiableNavigableMap(makeUps);
+        this.feesAccruedUntil = feesAccruedUntil;
+    }
+
+    /**
+     * Returns a calendar with the given term, which may be null, cancelled regular occurrences and make-up lessons.
+     */
+    public static LessonCalendar of(Term term, Collection<LessonOccurrence> cancellations,
+            Collection<LessonOccurrence> makeUps) {
+        requireAllNonNull(cancellations, makeUps);
+        TreeMap<LessonOccurrence, LessonOccurrence> cancellationTable =
+                new TreeMap<>(LessonCalendar::compareCancellations);
+        for (LessonOccurrence cancellation : cancellations) {
+            checkArgument(cancellation.getKind() == LessonOccurrence.Kind.REGULAR);
+            cancellationTable.put(cancellation, cancellation);
+        }
+        TreeMap<LocalDateTime, LessonOccurrence> makeUpTable = new TreeMap<>();
+        for (LessonOccurrence makeUp : makeUps) {
+            checkArgument(makeUp.getKind() == LessonOccurrence.Kind.MAKE_UP);
+            makeUpTable.put(makeUp.getStart(), makeUp);
+        }
+        return new LessonCalendar(term, cancellationTable, makeUpTable, null);
+    }
+
+    /**
+     * Orders cancelled occurrences by when they start, then by the tutee taking them, so that each weekly lesson
+     * can be cancelled on a date independently of the lessons of other tutees.
+     */
+    private static int compareCancellations(LessonOccurrence first, LessonOccurrence second) {
+        int byStart = first.getStart().compareTo(second.getStart());
+        return byStart != 0 ? byStart : Long.compare(first.getTuteeId().value, second.getTuteeId().value);
+    }
+
+    /**
+     * Returns the term, if one has been set. Without a term, weekly lessons are held every week.
+     */
+    public Optional<Term> getTerm() {
+        return Optional.ofNullable(term);
+    }
+
+    /**
+     * Returns the cancelled occurrences of the weekly lessons, in chronological order.
+     */
+    public Collection<LessonOccurrence> getCancellations() {
+        return cancellations.values();
+    }
+
+    /**
+     * Returns the make-up lessons, in chronological order.
+     */
+    public Collection<LessonOccurrence> getMakeUps() {
+        return makeUps.values();
+    }
+
+    /**
+     * Returns the last date whose lessons have had their fees added to what tutees owe, if fees have ever been added.
+     */
+    public Optional<LocalDate> getFeesAccruedUntil() {
+        return Optional.ofNullable(feesAccruedUntil);
+    }
+
+    /**
+     * Returns true if the fees of the lessons held on {@code date} have already been added to what tutees owe, so
+     * that changing which lessons are held on it would leave the fees added wrong.
+     */
+    public boolean isFeesAccrued(LocalDate date) {
+        requireNonNull(date);
+        return feesAccruedUntil != null && !date.isAfter(feesAccruedUntil);
+    }
+
+    /**
+     * Returns true if setting the term to {@code newTerm}, which may be null, would change whether weekly lessons are
+     * held on any date whose fees have already been added.
+     */
+    public boolean isTermChangeAccrued(Term newTerm) {
+        if (feesAccruedUntil == null || Objects.equals(term, newTerm)) {
+            return false;
+        }
+        if (term == null || newTerm == null) {
+            // without a term, lessons are held on every date, which no term covers
+            return true;
+        }
+        boolean isAccruedInTerm = !term.getStartDate().isAfter(feesAccruedUntil);
+        boolean isAccruedInNewTerm = !newTerm.getStartDate().isAfter(feesAccruedUntil);
+        if (!isAccruedInTerm && !isAccruedInNewTerm) {
+            return false;
+        }
+        return !term.getStartDate().equals(newTerm.getStartDate())
+                || !minDate(term.getEndDate(), feesAccruedUntil).equals(minDate(newTerm.getEndDate(),
+                        feesAccruedUntil));
+    }
+
+    private static LocalDate minDate(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * Returns a copy of this calendar with its term set to {@code term}, or cleared if {@code term} is null.
+     */
+    public LessonCalendar withTerm(Term term) {
+        return new LessonCalendar(term, new TreeMap<>(cancellations), new TreeMap<>(makeUps), feesAccruedUntil);
+    }
+
+    /**
+     * Returns a copy of this calendar recording that the fees of the lessons held up to and including {@code date}
+     * have been added to what tutees owe.
+     */
+    public LessonCalendar withFeesAccruedUntil(LocalDate date) {
+        requireNonNull(date);
+        return new LessonCalendar(term, new TreeMap<>(cancellations), new TreeMap<>(makeUps), date);
+    }
+
+    /**
+     * Returns a copy of this calendar with the regular occurrence {@code occurrence} cancelled.
+     */
+    public LessonCalendar withCancelled(LessonOccurrence occurrence) {
+        requireNonNull(occurrence);
+        checkArgument(occurrence.getKind() == LessonOccurrence.Kind.REGULAR);
+        TreeMap<LessonOccurrence, LessonOccurrence> newCancellations = new TreeMap<>(cancellations);
+        newCancellations.put(occurrence, occurrence);
+        return new LessonCalendar(term, newCancellations, new TreeMap<>(makeUps), feesAccruedUntil);
+    }
+
+    /**
+     * Returns a copy of this calendar with the make-up lesson {@code makeUp} added.
+     */
+    public LessonCalendar withMakeUp(LessonOccurrence makeUp) {
+        requireNonNull(makeUp);
+        checkArgument(makeUp.getKind() == LessonOccurrence.Kind.MAKE_UP);
+        TreeMap<LocalDateTime, LessonOccurrence> newMakeUps = new TreeMap<>(makeUps);
+        newMakeUps.put(makeUp.getStart(), makeUp);
+        return new LessonCalendar(term, new TreeMap<>(cancellations), newMakeUps, feesAccruedUntil);
+    }
+
+    /**
+     * Returns a copy of this calendar without the cancellations and make-up lessons of the tutee with
+     * {@code tuteeId}, or this calendar if it has none.
+     */
+    public LessonCalendar withoutTutee(TuteeId tuteeId) {
+        requireNonNull(tuteeId);
+        Predicate<LessonOccurrence> isTutees = occurrence -> occurrence.getTuteeId().equals(tuteeId);
+        if (cancellations.values().stream().noneMatch(isTutees) && makeUps.values().stream().noneMatch(isTutees)) {
+            return this;
+        }
+        return without(isTutees, isTutees);
+    }
+
+    /**
+     * Returns a copy of this calendar without the cancelled occurrences of the weekly lesson {@code lesson} taken by
+     * the tutee with {@code tuteeId}, or this calendar if it has none.
+     */
+    public LessonCalendar withoutLesson(TuteeId tuteeId, Lesson lesson) {
+        requireAllNonNull(tuteeId, lesson);
+        return without(occurrence -> occurrence.getTuteeId().equals(tuteeId)
+                && occurrence.getLesson().isSameLesson(lesson), occurrence -> false);
+    }
+
+    /**
+     * Returns a copy of this calendar without the make-up lessons of the tutee with {@code tuteeId} in subjects the
+     * tutee no longer has a weekly lesson in, or this calendar if it has none.
+     *
+     * @param lessons The weekly lessons the tutee now takes.
+     */
+    public LessonCalendar withoutMakeUpsOutside(TuteeId tuteeId, Collection<Lesson> lessons) {
+        requireAllNonNull(tuteeId, lessons);
+        return without(occurrence -> false, occurrence -> occurrence.getTuteeId().equals(tuteeId)
+                && lessons.stream().noneMatch(lesson -> lesson.getSubject().equals(
+                        occurrence.getLesson().getSubject())));
+    }
+
+    private LessonCalendar without(Predicate<LessonOccurrence> isCancellationDropped,
+            Predicate<LessonOccurrence> isMakeUpDropped) {
+        if (cancellations.values().stream().noneMatch(isCancellationDropped)
+                && makeUps.values().stream().noneMatch(isMakeUpDropped)) {
+            return this;
+        }
+        TreeMap<LessonOccurrence, LessonOccurrence> newCancellations = new TreeMap<>(cancellations);
+        newCancellations.values().removeIf(isCancellationDropped);
+        TreeMap<LocalDateTime, LessonOccurrence> newMakeUps = new TreeMap<>(makeUps);
+        newMakeUps.values().removeIf(isMakeUpDropped);
+        return new LessonCalendar(term, newCancellations, newMakeUps, feesAccruedUntil);
+    }
+
+    /**
+     * Returns true if the regular occurrence {@code occurrence} is cancelled, i.e. the same weekly lesson of the
+     * same tutee is cancelled on its date.
+     */
+    public boolean isCancelled(LessonOccurrence occurrence) {
+        requireNonNull(occurrence);
+        LessonOccurrence cancellation = cancellations.get(occurrence);
+        return cancellation != null && cancellation.getLesson().isSameLesson(occurrence.getLesson());
+    }
+
+    /**
+     * Returns the lessons held from {@code from} to {@code to}, both inclusive, in chronological order.
+     * The occurrences are generated lazily from {@code weeklyLessons} as the stream is read, so reading only the
+     * first few of them costs no more for a long range than for a short one.
+     *
+     * @param weeklyLessons The weekly lessons in the schedule, mapped to the IDs of the tutees taking them.
+     */
+    public Stream<LessonOccurrence> getOccurrences(LocalDate from, LocalDate to,
+            NavigableMap<Lesson, TuteeId> weeklyLessons) {
+        requireAllNonNull(from, to, weeklyLessons);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+        Iterator<LessonOccurrence> iterator = new OccurrenceIterator(from, to, weeklyLessons);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the lesson held on the same date as {@code occurrence} that clashes with it, if any.
+     */
+    public Optional<LessonOccurrence> findClash(LessonOccurrence occurrence,
+            NavigableMap<Lesson, TuteeId> weeklyLessons) {
+        requireAllNonNull(occurrence, weeklyLessons);
+        return getOccurrences(occurrence.getDate(), occurrence.getDate(), weeklyLessons)
+                .filter(occurrence::isClash)
+                .findFirst();
+    }
+
+    /**
+     * Returns the make-up lesson that clashes with an occurrence of the weekly lesson {@code lesson}, if any.
+     * Only the make-up lessons on the day of the week of the lesson, and within the term if one has been set, are
+     * checked, as the weekly lesson is held on no other dates.
+     */
+    public Optional<LessonOccurrence> findMakeUpClash(Lesson lesson) {
+        requireNonNull(lesson);
+        DayOfWeek day = lesson.getTime().getDayOfOccurrence();
+        return makeUps.values().stream()
+                .filter(makeUp -> makeUp.getDate().getDayOfWeek() == day)
+                .filter(makeUp -> term == null || term.contains(makeUp.getDate()))
+                .filter(makeUp -> makeUp.isClash(new LessonOccurrence(makeUp.getDate(), lesson,
+                        makeUp.getTuteeId(), LessonOccurrence.Kind.REGULAR)))
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LessonCalendar // instanceof handles nulls
+                && Objects.equals(term, ((LessonCalendar) other).term)
+                && cancellations.equals(((LessonCalendar) other).cancellations)
+                && makeUps.equals(((LessonCalendar) other).makeUps)
+                && Objects.equals(feesAccruedUntil, ((LessonCalendar) other).feesAccruedUntil)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(term, cancellations, makeUps, feesAccruedUntil);
+    }
+
+    /**
+     * Merges the regular occurrences of the weekly lessons, generated a day at a time and skipping those cancelled
+     * or outside the term, with the make-up lessons in the range.
+     */
+    private class OccurrenceIterator implements Iterator<LessonOccurrence> {
+        private final Map<DayOfWeek, List<Map.Entry<Lesson, TuteeId>>> lessonsByDay = new EnumMap<>(DayOfWeek.class);
+        private final Iterator<LessonOccurrence> makeUpIterator;
+        private final LocalDate lastRegularDate;
+
+        private LocalDate date;
+        private int indexInDay;
+        private LessonOccurrence nextRegular;
+        private LessonOccurrence nextMakeUp;
+
+        OccurrenceIterator(LocalDate from, LocalDate to, NavigableMap<Lesson, TuteeId> weeklyLessons) {
+            // the weekly lessons are already sorted by day, then by start time
+            for (Map.Entry<Lesson, TuteeId> entry : weeklyLessons.entrySet()) {
+                lessonsByDay.computeIfAbsent(entry.getKey().getTime().getDayOfOccurrence(),
+                        unused -> new ArrayList<>()).add(entry);
+            }
+            makeUpIterator = makeUps.subMap(from.atStartOfDay(), true, to.plusDays(1).atStartOfDay(), false)
+                    .values().iterator();
+
+            LocalDate firstRegularDate = from;
+            LocalDate lastDate = to;
+            if (term != null) {
+                firstRegularDate = term.getStartDate().isAfter(from) ? term.getStartDate() : from;
+                lastDate = term.getEndDate().isBefore(to) ? term.getEndDate() : to;
+            }
+            date = firstRegularDate;
+            lastRegularDate = lessonsByDay.isEmpty() ? firstRegularDate.minusDays(1) : lastDate;
+
+            nextRegular = findNextRegular();
+            nextMakeUp = makeUpIterator.hasNext() ? makeUpIterator.next() : null;
+        }
+
+        private LessonOccurrence findNextRegular() {
+            while (!date.isAfter(lastRegularDate)) {
+                List<Map.Entry<Lesson, TuteeId>> lessons = lessonsByDay.getOrDefault(date.getDayOfWeek(),
+                        Collections.emptyList());
+                while (indexInDay < lessons.size()) {
+                    Map.Entry<Lesson, TuteeId> entry = lessons.get(indexInDay++);
+                    LessonOccurrence occurrence = new LessonOccurrence(date, entry.getKey(), entry.getValue(),
+                            LessonOccurrence.Kind.REGULAR);
+                    if (!isCancelled(occurrence)) {
+                        return occurrence;
+                    }
+                }
+                date = date.plusDays(1);
+                indexInDay = 0;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRegular != null || nextMakeUp != null;
+        }
+
+        @Override
+        public LessonOccurrence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LessonOccurrence next;
+            if (nextMakeUp == null || (nextRegular != null && nextRegular.compareTo(nextMakeUp) <= 0)) {
+                next = nextRegular;
+                nextRegular = findNextRegular();
+            } else {
+                next = nextMakeUp;
+                nextMakeUp = makeUpIterator.hasNext() ? makeUpIterator.next() : null;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.calendar;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Represents a lesson held on a particular date, either as one of the weekly lessons in the schedule or as a
+ * make-up lesson held once.
+ * Guarantees: immutable; the lesson falls on the day of the week of the date.
+ */
+public class LessonOccurrence implements Comparable<LessonOccurrence> {
+
+    public static final String MESSAGE_CONSTRAINTS = "A lesson can only be held on the day of the week it is on";
+
+    /** The formatter used to format the dates of occurrences, as with payment dates. */
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    /**
+     * The kinds of occurrences.
+     */
+    public enum Kind {
+        /** An occurrence of a weekly lesson in the schedule. */
+        REGULAR,
+        /** A lesson held once, e.g. to make up for a cancelled one. */
+        MAKE_UP
+    }
+
+    private final LocalDate date;
+    private final Lesson lesson;
+    private final TuteeId tuteeId;
+    private final Kind kind;
+
+    /**
+     * Constructs a {@code LessonOccurrence} of {@code lesson}, taken by the tutee with {@code tuteeId}, on
+     * {@code date}.
+     */
+    public LessonOccurrence(LocalDate date, Lesson lesson, TuteeId tuteeId, Kind kind) {
+        requireAllNonNull(date, lesson, tuteeId, kind);
+        checkArgument(date.getDayOfWeek() == lesson.getTime().getDayOfOccurrence(), MESSAGE_CONSTRAINTS);
+        this.date = date;
+        this.lesson = lesson;
+        this.tuteeId = tuteeId;
+        this.kind = kind;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    public TuteeId getTuteeId() {
+        return tuteeId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public LocalDateTime getStart() {
+        return date.atTime(lesson.getTime().getStartTime());
+    }
+
+    public LocalDateTime getEnd() {
+        return date.atTime(lesson.getTime().getEndTime());
+    }
+
+    /**
+     * Returns true if this occurrence and {@code other} are on the same date and overlap in time.
+     */
+    public boolean isClash(LessonOccurrence other) {
+        return getStart().isBefore(other.getEnd()) && other.getStart().isBefore(getEnd());
+    }
+
+    @Override
+    public int compareTo(LessonOccurrence other) {
+        return getStart().compareTo(other.getStart());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LessonOccurrence)) {
+            return false;
+        }
+
+        LessonOccurrence otherOccurrence = (LessonOccurrence) other;
+        return date.equals(otherOccurrence.date)
+                && lesson.getSubject().equals(otherOccurrence.lesson.getSubject())
+                && lesson.getTime().getStartTime().equals(otherOccurrence.lesson.getTime().getStartTime())
+                && lesson.getTime().getEndTime().equals(otherOccurrence.lesson.getTime().getEndTime())
+                && lesson.getHourlyRate() == otherOccurrence.lesson.getHourlyRate()
+                && tuteeId.equals(otherOccurrence.tuteeId)
+                && kind == otherOccurrence.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, lesson.getTime().getStartTime(), tuteeId, kind);
+    }
+
+    @Override
+    public String toString() {
+        return date.format(DATE_FORMATTER) + " " + lesson.getTime().getStartTime() + " to "
+                + lesson.getTime().getEndTime() + " " + lesson.getSubject()
+                + (kind == Kind.MAKE_UP ? " (make-up)" : "");
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.calendar;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the dates of a term, during which the weekly lessons in the schedule are held.
+ * Guarantees: immutable; the start date is not after the end date.
+ */
+public class Term {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of a term should not be after its end";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Constructs a {@code Term} from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public Term(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!startDate.isAfter(endDate), MESSAGE_CONSTRAINTS);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns true if {@code date} is within this term.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    @Override
+    public String toString() {
+        return startDate.format(LessonOccurrence.DATE_FORMATTER) + " to "
+                + endDate.format(LessonOccurrence.DATE_FORMATTER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Term // instanceof handles nulls
+                && startDate.equals(((Term) other).startDate)
+                && endDate.equals(((Term) other).endDate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return startDate.hashCode() * 31 + endDate.hashCode();
+    }
+}
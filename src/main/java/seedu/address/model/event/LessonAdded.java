@@ -0,0 +1,52 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A lesson was added to a tutee that was edited.
+ */
+public final class LessonAdded extends ModelEvent {
+
+    private final Tutee tutee;
+    private final Lesson lesson;
+
+    /**
+     * Constructs a {@code LessonAdded} for {@code lesson}, now taken by {@code tutee}, as edited.
+     */
+    public LessonAdded(Tutee tutee, Lesson lesson) {
+        requireAllNonNull(tutee, lesson);
+        this.tutee = tutee;
+        this.lesson = lesson;
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LessonAdded // instanceof handles nulls
+                && tutee.equals(((LessonAdded) other).tutee)
+                && lesson.isSameLesson(((LessonAdded) other).lesson)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutee, lesson);
+    }
+
+    @Override
+    public String toString() {
+        return "Added " + lesson + " to " + tutee.getName();
+    }
+}
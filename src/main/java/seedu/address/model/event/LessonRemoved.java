@@ -0,0 +1,52 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A lesson was removed from a tutee that was edited.
+ */
+public final class LessonRemoved extends ModelEvent {
+
+    private final Tutee tutee;
+    private final Lesson lesson;
+
+    /**
+     * Constructs a {@code LessonRemoved} for {@code lesson}, no longer taken by {@code tutee}, as edited.
+     */
+    public LessonRemoved(Tutee tutee, Lesson lesson) {
+        requireAllNonNull(tutee, lesson);
+        this.tutee = tutee;
+        this.lesson = lesson;
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LessonRemoved // instanceof handles nulls
+                && tutee.equals(((LessonRemoved) other).tutee)
+                && lesson.isSameLesson(((LessonRemoved) other).lesson)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutee, lesson);
+    }
+
+    @Override
+    public String toString() {
+        return "Removed " + lesson + " from " + tutee.getName();
+    }
+}
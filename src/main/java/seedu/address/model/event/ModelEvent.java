@@ -0,0 +1,11 @@
+package seedu.address.model.event;
+
+/**
+ * A change made to the tutees in a {@code Model}, published to its {@link ModelEventBus} within the write that
+ * made the change.
+ * <br>
+ * Events describe exactly what changed, so that state derived from the tutees, such as the schedule, can be updated
+ * from the change alone rather than by going over every tutee again.
+ */
+public abstract class ModelEvent {
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Delivers the {@link ModelEvent}s published by a {@code Model} to the subscribers of their type.
+ * <br>
+ * Synchronous subscribers are called on the thread making the change, within its write, so they see the model as
+ * it is right after the change and can keep state derived from it in step. Exceptions they throw are passed on to
+ * the writer. Asynchronous subscribers are called on an executor instead, so they never hold up the writer; each
+ * receives its events one at a time and in the order they were published, and exceptions they throw are logged.
+ * <br>
+ * Subscribers are looked up by the exact class of an event, so publishing an event takes time linear in the number
+ * of subscribers to it, however many subscribe to other events. Subscribing to {@code ModelEvent} itself receives
+ * every event.
+ */
+public class ModelEventBus {
+    private static final Logger logger = LogsCenter.getLogger(ModelEventBus.class);
+
+    private final Map<Class<? extends ModelEvent>, List<Subscriber<?>>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Calls {@code listener} with each event of type {@code type} published from now on, on the thread publishing
+     * it, until the returned subscription is cancelled.
+     */
+    public <E extends ModelEvent> Subscription subscribe(Class<E> type, Consumer<? super E> listener) {
+        requireAllNonNull(type, listener);
+        return add(new Subscriber<>(type, listener));
+    }
+
+    /**
+     * Calls {@code listener} with each event of type {@code type} published from now on, on {@code executor}, until
+     * the returned subscription is cancelled. Events are passed to {@code listener} one at a time, in the order they
+     * were published, even if {@code executor} runs tasks on several threads.
+     */
+    public <E extends ModelEvent> Subscription subscribeAsync(Class<E> type, Consumer<? super E> listener,
+            Executor executor) {
+        requireAllNonNull(type, listener, executor);
+        return add(new AsyncSubscriber<>(type, listener, executor));
+    }
+
+    private Subscription add(Subscriber<?> subscriber) {
+        List<Subscriber<?>> subscribersOfType = subscribers.computeIfAbsent(subscriber.type,
+                type -> new CopyOnWriteArrayList<>());
+        subscribersOfType.add(subscriber);
+        return () -> {
+            subscriber.isCancelled = true;
+            subscribersOfType.remove(subscriber);
+        };
+    }
+
+    /**
+     * Delivers {@code event} to the subscribers of its class and to those of every event.
+     */
+    public void publish(ModelEvent event) {
+        requireNonNull(event);
+        deliver(subscribers.get(event.getClass()), event);
+        deliver(subscribers.get(ModelEvent.class), event);
+    }
+
+    /**
+     * Publishes each of {@code events} in order.
+     */
+    public void publishAll(List<? extends ModelEvent> events) {
+        requireNonNull(events);
+        events.forEach(this::publish);
+    }
+
+    private static void deliver(List<Subscriber<?>> subscribersOfType, ModelEvent event) {
+        if (subscribersOfType == null) {
+            return;
+        }
+        for (Subscriber<?> subscriber : subscribersOfType) {
+            subscriber.deliver(event);
+        }
+    }
+
+    /**
+     * A subscription to the events of a type, which can be cancelled to stop receiving them.
+     */
+    @FunctionalInterface
+    public interface Subscription {
+        /**
+         * Stops the events from being delivered, including those published but not yet delivered to an
+         * asynchronous subscriber.
+         */
+        void cancel();
+    }
+
+    private static class Subscriber<E extends ModelEvent> {
+        protected final Class<E> type;
+        protected final Consumer<? super E> listener;
+        protected volatile boolean isCancelled;
+
+        Subscriber(Class<E> type, Consumer<? super E> listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+
+        void deliver(ModelEvent event) {
+            listener.accept(type.cast(event));
+        }
+    }
+
+    /**
+     * A subscriber whose events are queued and passed to its listener by a single task at a time on its executor.
+     */
+    private static class AsyncSubscriber<E extends ModelEvent> extends Subscriber<E> {
+        private final Executor executor;
+        private final Queue<ModelEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean isDraining = new AtomicBoolean();
+
+        AsyncSubscriber(Class<E> type, Consumer<? super E> listener, Executor executor) {
+            super(type, listener);
+            this.executor = executor;
+        }
+
+        @Override
+        void deliver(ModelEvent event) {
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!isDraining.compareAndSet(false, true)) {
+                // the task already draining the queue will reach the event
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                isDraining.set(false);
+                logger.log(Level.WARNING, "Events could not be delivered as the executor rejected them", e);
+            }
+        }
+
+        private void drain() {
+            ModelEvent event;
+            while ((event = pending.poll()) != null) {
+                if (isCancelled) {
+                    pending.clear();
+                    break;
+                }
+                try {
+                    listener.accept(type.cast(event));
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Subscriber to " + type.getSimpleName() + " failed on " + event, e);
+                }
+            }
+            isDraining.set(false);
+            // an event published after the queue was found empty but before draining stopped would be left behind
+            if (!pending.isEmpty() && !isCancelled) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The fees owed, the pay-by date or the payments received of a tutee that was edited changed.
+ */
+public final class PaymentChanged extends ModelEvent {
+
+    private final Tutee tutee;
+    private final Payment previousPayment;
+
+    /**
+     * Constructs a {@code PaymentChanged} for {@code tutee}, as edited, whose payment was {@code previousPayment}.
+     */
+    public PaymentChanged(Tutee tutee, Payment previousPayment) {
+        requireAllNonNull(tutee, previousPayment);
+        this.tutee = tutee;
+        this.previousPayment = previousPayment;
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    public Payment getPreviousPayment() {
+        return previousPayment;
+    }
+
+    public Payment getPayment() {
+        return tutee.getPayment();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PaymentChanged // instanceof handles nulls
+                && tutee.equals(((PaymentChanged) other).tutee)
+                && previousPayment.isSamePayment(((PaymentChanged) other).previousPayment)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutee, previousPayment);
+    }
+
+    @Override
+    public String toString() {
+        return "Changed the payment of " + tutee.getName() + " from " + previousPayment + " to " + getPayment();
+    }
+}
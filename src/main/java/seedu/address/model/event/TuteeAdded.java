@@ -0,0 +1,43 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A tutee was added, together with all of its lessons.
+ * No {@link LessonAdded} events are published for the lessons of a tutee that is added.
+ */
+public final class TuteeAdded extends ModelEvent {
+
+    private final Tutee tutee;
+
+    /**
+     * Constructs a {@code TuteeAdded} for {@code tutee}, as it was added, with the ID given to it.
+     */
+    public TuteeAdded(Tutee tutee) {
+        requireNonNull(tutee);
+        this.tutee = tutee;
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeAdded // instanceof handles nulls
+                && tutee.equals(((TuteeAdded) other).tutee)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tutee.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Added " + tutee.getName();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A tutee was replaced by an edited version of itself, which kept its ID.
+ * It is followed by a {@link LessonRemoved} for each lesson the tutee no longer has, a {@link LessonAdded} for each
+ * lesson it did not have before, and a {@link PaymentChanged} if its payment changed.
+ */
+public final class TuteeEdited extends ModelEvent {
+
+    private final Tutee tutee;
+    private final Tutee editedTutee;
+
+    /**
+     * Constructs a {@code TuteeEdited} for {@code tutee} being replaced by {@code editedTutee}.
+     */
+    public TuteeEdited(Tutee tutee, Tutee editedTutee) {
+        requireAllNonNull(tutee, editedTutee);
+        this.tutee = tutee;
+        this.editedTutee = editedTutee;
+    }
+
+    /**
+     * Returns the tutee as it was before it was edited.
+     */
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    public Tutee getEditedTutee() {
+        return editedTutee;
+    }
+
+    /**
+     * Returns true if the tutee was renamed.
+     */
+    public boolean isRenamed() {
+        return !tutee.getName().equals(editedTutee.getName());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeEdited // instanceof handles nulls
+                && tutee.equals(((TuteeEdited) other).tutee)
+                && editedTutee.equals(((TuteeEdited) other).editedTutee)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutee, editedTutee);
+    }
+
+    @Override
+    public String toString() {
+        return "Edited " + tutee.getName();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A tutee was removed, together with all of its lessons.
+ * No {@link LessonRemoved} events are published for the lessons of a tutee that is removed.
+ */
+public final class TuteeRemoved extends ModelEvent {
+
+    private final Tutee tutee;
+
+    /**
+     * Constructs a {@code TuteeRemoved} for {@code tutee}, as it was before it was removed.
+     */
+    public TuteeRemoved(Tutee tutee) {
+        requireNonNull(tutee);
+        this.tutee = tutee;
+    }
+
+    public Tutee getTutee() {
+        return tutee;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeRemoved // instanceof handles nulls
+                && tutee.equals(((TuteeRemoved) other).tutee)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tutee.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Removed " + tutee.getName();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Every tutee was replaced at once, such as when the data is loaded or cleared.
+ * No other events are published for the tutees replaced or the tutees replacing them.
+ */
+public final class TuteesReset extends ModelEvent {
+
+    private final List<Tutee> tutees;
+
+    /**
+     * Constructs a {@code TuteesReset} to {@code tutees}, which should not be changed afterwards.
+     */
+    public TuteesReset(List<Tutee> tutees) {
+        requireNonNull(tutees);
+        this.tutees = Collections.unmodifiableList(tutees);
+    }
+
+    /**
+     * Returns the tutees after the reset.
+     */
+    public List<Tutee> getTutees() {
+        return tutees;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteesReset // instanceof handles nulls
+                && tutees.equals(((TuteesReset) other).tutees)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tutees.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Reset to " + tutees.size() + " tutees";
+    }
+}
@@ -22,7 +22,7 @@ public class Lesson implements Comparable<Lesson> {
      * Only 0 or 2 decimal places of a number is allowed.
      * For 2 decimal places, the last decimal place has to end in either 0 or 5.
      */
-    public static final String VALIDATION_REGEX_HOURLY_RATE_NO_OR_TWO_DECIMAL_PLACES = "^[0-9][\\d]*([.][0-9][0|5])?$"
+    public static final String VALIDATION_REGEX_HOURLY_RATE_NO_OR_TWO_DECIMAL_PLACES = "^[0-9][\\d]*([.][0-9][05])?$"
             .replaceFirst("^0+", "");
     public static final String VALIDATION_REGEX_HOURLY_RATE_ALL_ZEROES = "^[0]*([.][0][0])?$";
     public static final double MAXIMUM_HOURLY_RATE = 1000.00;
@@ -118,6 +118,23 @@ public class Lesson implements Comparable<Lesson> {
         return roundedBd.doubleValue();
     }
 
+    /**
+     * Returns true if both lessons have the same subject, day, start and end times and hourly rate.
+     * This is stronger than {@link #equals(Object)}, which only checks that their times overlap.
+     */
+    public boolean isSameLesson(Lesson other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other != null
+                && other.getSubject().equals(getSubject())
+                && other.getTime().getDayOfOccurrence() == getTime().getDayOfOccurrence()
+                && other.getTime().getStartTime().equals(getTime().getStartTime())
+                && other.getTime().getEndTime().equals(getTime().getEndTime())
+                && other.getHourlyRate() == getHourlyRate();
+    }
+
     /**
      * Returns true if both lessons have the same time, i.e. they overlap with one another.
      */
@@ -3,6 +3,15 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.WeakInterner;
+
+/**
+ * Represents the subject of a Lesson in Track-O.
+ * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
+ */
 public class Subject {
 
     public static final String MESSAGE_CONSTRAINTS =
@@ -14,7 +23,10 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
-    private String value;
+    /** Most lessons are in one of a handful of subjects, so equal subjects share one instance. */
+    private static final WeakInterner<Subject> INTERNER = new WeakInterner<>();
+
+    private final String value;
 
     /**
      * Constructs a {@code Subject}.
@@ -28,10 +40,14 @@ public class Subject {
     }
 
     /**
-     * Default constructor to aid Jackson in deserializing the class.
-     * Solution adapted from https://www.baeldung.com/jackson-exception#2-the-solution
+     * Returns the shared instance of the subject {@code subject}.
+     * Jackson deserializes subjects through this method so that stored lessons share instances too.
+     *
+     * @param subject A valid subject.
      */
-    public Subject() {
+    @JsonCreator
+    public static Subject of(@JsonProperty("value") String subject) {
+        return INTERNER.intern(new Subject(subject));
     }
 
     /**
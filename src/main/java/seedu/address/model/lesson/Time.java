@@ -19,6 +19,13 @@ public class Time implements Comparable<Time> {
 
     public static final double MINIMUM_DURATION = 0.5;
 
+    /** The number of minutes in a week, which is the number of distinct minutes of the week. */
+    public static final int MINUTES_IN_WEEK = 7 * 24 * 60;
+
+    private static final int MINUTES_IN_DAY = 24 * 60;
+    private static final int PACKED_END_BITS = 16;
+    private static final int PACKED_END_MASK = (1 << PACKED_END_BITS) - 1;
+
     public static final String MESSAGE_CONSTRAINTS_INVALID_DAY =
             "Day of week should be an integer in the range [1, 7]";
 
@@ -101,6 +108,48 @@ public class Time implements Comparable<Time> {
         return duration;
     }
 
+    /**
+     * Returns the minute of the week this time starts at, counting from 00:00 on Monday.
+     */
+    public int getStartMinuteOfWeek() {
+        return toMinuteOfWeek(dayOfOccurrence, startTime);
+    }
+
+    /**
+     * Returns the minute of the week this time ends at, counting from 00:00 on Monday.
+     * The end minute itself is not part of this time, so back-to-back times do not overlap.
+     */
+    public int getEndMinuteOfWeek() {
+        return toMinuteOfWeek(dayOfOccurrence, endTime);
+    }
+
+    private static int toMinuteOfWeek(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * MINUTES_IN_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns this time packed into a single int, with the start minute of the week in the upper bits and the
+     * end minute of the week in the lower bits.
+     * Packed times of the same week sort in the same order as {@link #compareTo(Time)} sorts non-overlapping times.
+     */
+    public int toPackedMinutesOfWeek() {
+        return (getStartMinuteOfWeek() << PACKED_END_BITS) | getEndMinuteOfWeek();
+    }
+
+    /**
+     * Returns the start minute of the week of a time packed by {@link #toPackedMinutesOfWeek()}.
+     */
+    public static int unpackStartMinuteOfWeek(int packedMinutesOfWeek) {
+        return packedMinutesOfWeek >>> PACKED_END_BITS;
+    }
+
+    /**
+     * Returns the end minute of the week of a time packed by {@link #toPackedMinutesOfWeek()}.
+     */
+    public static int unpackEndMinuteOfWeek(int packedMinutesOfWeek) {
+        return packedMinutesOfWeek & PACKED_END_MASK;
+    }
+
     /**
      * Returns true if both times have the same day of occurrence, and overlap with one another.
      */
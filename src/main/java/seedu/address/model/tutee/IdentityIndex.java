@@ -0,0 +1,92 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes the tutees of a {@code UniqueTuteeList} by their {@code TuteeId}, and gives out IDs to tutees that do not
+ * have one yet. IDs are never reused while the index holds tutees, so a stale ID never refers to another tutee.
+ */
+class IdentityIndex {
+
+    private final Map<TuteeId, Tutee> tuteesById = new HashMap<>();
+    private long nextId = 1;
+
+    /**
+     * Returns the tutee with the given {@code id}, or null if there is no such tutee.
+     */
+    Tutee get(TuteeId id) {
+        requireNonNull(id);
+        return tuteesById.get(id);
+    }
+
+    /**
+     * Indexes {@code tutee}, first giving it a new ID if it has none or if its ID already belongs to another tutee.
+     *
+     * @return The tutee as indexed, which is {@code tutee} itself if its ID was kept.
+     */
+    Tutee register(Tutee tutee) {
+        requireNonNull(tutee);
+        TuteeId id = tutee.getId();
+        Tutee registered = id.isAssigned() && !tuteesById.containsKey(id)
+                ? tutee
+                : tutee.withId(new TuteeId(nextId));
+        nextId = Math.max(nextId, registered.getId().value + 1);
+        tuteesById.put(registered.getId(), registered);
+        return registered;
+    }
+
+    /**
+     * Indexes every tutee in {@code tutees} as in {@link #register(Tutee)}.
+     * Tutees that have no ID are given IDs after every assigned ID in {@code tutees}, so that they do not take
+     * the ID of a tutee later in the list.
+     *
+     * @return The tutees as indexed, in the same order as {@code tutees}.
+     */
+    List<Tutee> registerAll(List<Tutee> tutees) {
+        for (Tutee tutee : tutees) {
+            nextId = Math.max(nextId, tutee.getId().value + 1);
+        }
+        List<Tutee> registered = new ArrayList<>(tutees.size());
+        for (Tutee tutee : tutees) {
+            registered.add(register(tutee));
+        }
+        return registered;
+    }
+
+    /**
+     * Replaces the tutee indexed under the ID of {@code editedTutee} with {@code editedTutee}.
+     * A tutee with that ID must already be indexed.
+     */
+    void update(Tutee editedTutee) {
+        assert tuteesById.containsKey(editedTutee.getId());
+        tuteesById.put(editedTutee.getId(), editedTutee);
+    }
+
+    /**
+     * Removes the tutee with the given {@code id} from the index.
+     */
+    void remove(TuteeId id) {
+        tuteesById.remove(id);
+    }
+
+    /**
+     * Removes every tutee from the index. IDs given out before are still not given out again.
+     */
+    void clear() {
+        tuteesById.clear();
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code replacement}.
+     */
+    void resetData(IdentityIndex replacement) {
+        tuteesById.clear();
+        tuteesById.putAll(replacement.tuteesById);
+        nextId = Math.max(nextId, replacement.nextId);
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.tutee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Represents a Tutee's education level in Track-O.
  * Guarantees: immutable; is valid as declared in {@link #isValidLevel(String)}
@@ -22,6 +26,9 @@ public class Level {
     public static final String VALIDATION_REGEX_SECONDARY = "[s][1-5]";
     public static final String VALIDATION_REGEX_JC = "[j][1-2]";
 
+    /** The one shared instance of every supported level, keyed by its abbreviation. */
+    private static final Map<String, Level> CANONICAL_LEVELS = createCanonicalLevels();
+
     public final String value;
 
     public final String stringRepresentation;
@@ -38,6 +45,30 @@ public class Level {
         value = level;
     }
 
+    /**
+     * Returns the shared instance of the education level {@code level}.
+     * Looking up the table avoids both the regex checks and the allocation done by the constructor.
+     *
+     * @param level A valid education level.
+     */
+    public static Level of(String level) {
+        requireNonNull(level);
+        Level canonical = CANONICAL_LEVELS.get(level);
+        checkArgument(canonical != null, MESSAGE_CONSTRAINTS);
+        return canonical;
+    }
+
+    private static Map<String, Level> createCanonicalLevels() {
+        Map<String, Level> levels = new HashMap<>();
+        for (Stage stage : Stage.values()) {
+            for (int year = 1; year <= stage.years; year++) {
+                String abbreviation = stage.prefix + Integer.toString(year);
+                levels.put(abbreviation, new Level(abbreviation));
+            }
+        }
+        return Collections.unmodifiableMap(levels);
+    }
+
     /**
      * Returns the value of education level.
      *
@@ -47,6 +78,20 @@ public class Level {
         return value;
     }
 
+    /**
+     * Returns the position of this level in the order of study, counting from 1 for Primary 1 up to JC 2.
+     */
+    public int getOrder() {
+        int yearsBefore = 0;
+        for (Stage stage : Stage.values()) {
+            if (stage.prefix == value.charAt(0)) {
+                return yearsBefore + Character.getNumericValue(value.charAt(1));
+            }
+            yearsBefore += stage.years;
+        }
+        throw new AssertionError("Should not happen due to regex validation");
+    }
+
     /**
      * Returns the full string representation of an indexed education level.
      * The String will be used for UI display.
@@ -97,4 +142,20 @@ public class Level {
         return stringRepresentation.hashCode();
     }
 
+    /**
+     * The stages of education supported by Track-O, with the number of years of study in each stage.
+     */
+    private enum Stage {
+        PRIMARY('p', 6),
+        SECONDARY('s', 5),
+        JC('j', 2);
+
+        private final char prefix;
+        private final int years;
+
+        Stage(char prefix, int years) {
+            this.prefix = prefix;
+            this.years = years;
+        }
+    }
 }
@@ -3,12 +3,13 @@ package seedu.address.model.tutee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -41,14 +42,13 @@ public class Payment {
 
     /** The formatter used to format dates in the dd-MM-YYY pattern. */
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-    public static final String TODAY_DATE_AS_STRING = LocalDate.now().format(FORMATTER);
 
     /** The regex used to determine if a string is a valid non-negative number*/
     public static final String VALIDATION_REGEX_NUMERICAL_FRONT_ANY_DECIMALS = "^[0-9][\\d]*([.][0-9]+)?$"
             .replaceFirst("^0+", "");
 
     /** The regex used to determine if a string is a valid non_negative number with strictly zero or two decimals. */
-    public static final String VALIDATION_REGEX_PAYMENT_NO_OR_TWO_DECIMAL_PLACES = "^[0-9][\\d]*([.][0-9][0|5])?$"
+    public static final String VALIDATION_REGEX_PAYMENT_NO_OR_TWO_DECIMAL_PLACES = "^[0-9][\\d]*([.][0-9][05])?$"
             .replaceFirst("^0+", "");
 
     /** The maximum amount that a tutee can owe. */
@@ -64,21 +64,32 @@ public class Payment {
     /** Whether the current date has exceeded the payment due date. */
     public final boolean isOverdue;
 
-    /** The previous payment dates of the tutee. */
-    public final List<String> paymentHistory = new ArrayList<String>();
+    /** The payments previously received from the tutee. */
+    public final PaymentLedger paymentLedger;
 
 
     /**
-     * Constructs a {@code Payment}.
+     * Constructs a {@code Payment} with no previous payments.
      *
      * @param payment A valid payment amount.
      */
     public Payment(String payment, LocalDate payByDate) {
+        this(payment, payByDate, PaymentLedger.empty());
+    }
+
+    /**
+     * Constructs a {@code Payment} with the given previous payments.
+     *
+     * @param payment A valid payment amount.
+     * @param paymentLedger The payments previously received from the tutee.
+     */
+    public Payment(String payment, LocalDate payByDate, PaymentLedger paymentLedger) {
         requireNonNull(payment);
+        requireNonNull(paymentLedger);
         checkArgument(isValidPaymentFormat(payment), FORMAT_CONSTRAINTS_MESSAGE);
         value = payment;
         this.payByDate = payByDate;
-        this.paymentHistory.add("Never");
+        this.paymentLedger = paymentLedger;
         payByDateAsString = payByDate == null ? "-" : payByDate.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
         isOverdue = payByDate == null ? false : LocalDate.now().isAfter(payByDate);
     }
@@ -140,11 +151,15 @@ public class Payment {
     }
 
     /**
-     * Returns true if a given list is a valid payment history.
+     * Returns true if a given list is a valid payment history in the format used before payments were
+     * recorded in a {@link PaymentLedger}.
      * @param paymentHistory The List to check
      * @return Whether the given List follows the correct format for payment histories
      */
     public static boolean isValidPaymentHistory(List<String> paymentHistory) {
+        if (paymentHistory.isEmpty()) {
+            return false;
+        }
         String firstPaymentDate = paymentHistory.get(0);
         if (!firstPaymentDate.equals("Never")) {
             return false;
@@ -160,27 +175,19 @@ public class Payment {
     }
 
     /**
-     * Copies a payment history to the current Payment.
-     * @param historyToCopy The payment history to copy
+     * Returns the amount of {@code payment} in cents.
+     * @param payment A valid payment amount as declared in {@link #isValidPaymentFormat(String)}
+     * @return The payment amount in cents
      */
-    public void copyPaymentHistory(List<String> historyToCopy) {
-        if (!isValidPaymentHistory(historyToCopy)) {
-            return;
-        } else {
-            // Ensure current payment history is empty before copying over
-            paymentHistory.clear();
-            assert paymentHistory.isEmpty() : "paymentHistory should be empty";
-            for (String payment : historyToCopy) {
-                this.paymentHistory.add(payment);
-            }
-        }
+    public static long toCents(String payment) {
+        checkArgument(isValidPaymentFormat(payment), FORMAT_CONSTRAINTS_MESSAGE);
+        return new BigDecimal(payment).movePointRight(2).longValueExact();
     }
 
     @Override
     public String toString() {
-        String lastPaidDate = paymentHistory.get(paymentHistory.size() - 1);
         return String.format("$%s (Last paid on: %s)\nOverdue: %s",
-                getValue(), lastPaidDate, getOverdueStatus());
+                getValue(), paymentLedger.getLastPaymentDateAsString(), getOverdueStatus());
     }
 
     /**
@@ -198,6 +205,18 @@ public class Payment {
         }
     }
 
+    /**
+     * Returns true if both payments have the same value, pay-by date and payments received.
+     * This is stronger than {@link #equals(Object)}, which only compares their values.
+     */
+    public boolean isSamePayment(Payment other) {
+        return other == this
+                || (other != null
+                && value.equals(other.value)
+                && Objects.equals(payByDate, other.payByDate)
+                && paymentLedger.equals(other.paymentLedger));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -213,6 +232,10 @@ public class Payment {
         return this.value;
     }
 
+    public PaymentLedger getPaymentLedger() {
+        return this.paymentLedger;
+    }
+
     @Override
     public int hashCode() {
         return value.hashCode();
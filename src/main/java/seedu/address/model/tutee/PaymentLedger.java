@@ -0,0 +1,338 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents the record of payments received from a Tutee in Track-O.
+ * Each entry is stored as a pair of primitives: the epoch day the payment was received on and the amount
+ * received in cents. Entries are kept sorted by date so that range queries are binary searches.
+ * Guarantees: immutable; appending or slicing returns a new ledger which shares its backing arrays with this one
+ * wherever possible.
+ */
+public final class PaymentLedger {
+
+    /** Error message displayed when the encoded ledger read from storage is malformed. */
+    public static final String MESSAGE_CONSTRAINTS =
+            "Payment ledger should contain pairs of (epoch day, amount in cents) in chronological order, "
+                    + "with non-negative amounts.";
+
+    /** The value shown in place of a date when no payment has ever been received. */
+    public static final String NO_PAYMENT_RECEIVED = "Never";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final int INITIAL_CAPACITY = 4;
+    private static final PaymentLedger EMPTY = new PaymentLedger(new Store(0), 0, 0);
+
+    private final Store store;
+    private final int offset;
+    private final int size;
+
+    private PaymentLedger(Store store, int offset, int size) {
+        this.store = store;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Returns a ledger with no payments recorded.
+     */
+    public static PaymentLedger empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns true if {@code encoded} is a valid encoding as produced by {@link #encode()}.
+     */
+    public static boolean isValidEncoding(long[] encoded) {
+        requireNonNull(encoded);
+        if (encoded.length % 2 != 0) {
+            return false;
+        }
+        long previousDay = Long.MIN_VALUE;
+        for (int i = 0; i < encoded.length; i += 2) {
+            long epochDay = encoded[i];
+            long amountInCents = encoded[i + 1];
+            if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE
+                    || epochDay < previousDay || amountInCents < 0) {
+                return false;
+            }
+            previousDay = epochDay;
+        }
+        return true;
+    }
+
+    /**
+     * Reconstructs a ledger from its on-disk encoding.
+     *
+     * @param encoded A valid encoding as declared in {@link #isValidEncoding(long[])}.
+     */
+    public static PaymentLedger decode(long[] encoded) {
+        checkArgument(isValidEncoding(encoded), MESSAGE_CONSTRAINTS);
+        int count = encoded.length / 2;
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        Store store = new Store(count);
+        for (int i = 0; i < count; i++) {
+            store.epochDays[i] = (int) encoded[2 * i];
+            store.amountsInCents[i] = encoded[2 * i + 1];
+        }
+        store.claimed = count;
+        return new PaymentLedger(store, 0, count);
+    }
+
+    /**
+     * Converts a payment history in the legacy format (the sentinel "Never" followed by dd-MM-yyyy dates) into a
+     * ledger. The amounts received were never recorded in that format, so they are taken to be 0.
+     *
+     * @param paymentHistory A valid payment history as declared in {@link Payment#isValidPaymentHistory(List)}.
+     */
+    public static PaymentLedger fromLegacyHistory(List<String> paymentHistory) {
+        checkArgument(Payment.isValidPaymentHistory(paymentHistory), Payment.PAYMENT_HISTORY_CONSTRAINTS_MESSAGE);
+        PaymentLedger ledger = EMPTY;
+        for (int i = 1; i < paymentHistory.size(); i++) {
+            ledger = ledger.append(LocalDate.parse(paymentHistory.get(i), FORMATTER), 0);
+        }
+        return ledger;
+    }
+
+    /**
+     * Returns the encoding of this ledger used for storage, which is a flat array of
+     * (epoch day, amount in cents) pairs in chronological order.
+     */
+    public long[] encode() {
+        long[] encoded = new long[size * 2];
+        for (int i = 0; i < size; i++) {
+            encoded[2 * i] = store.epochDays[offset + i];
+            encoded[2 * i + 1] = store.amountsInCents[offset + i];
+        }
+        return encoded;
+    }
+
+    /**
+     * Returns a ledger with a payment of {@code amountInCents} received on {@code date} recorded after the
+     * payments in this ledger. This ledger is not modified.
+     * Appending a date that is not earlier than the last recorded date takes amortised constant time.
+     */
+    public PaymentLedger append(LocalDate date, long amountInCents) {
+        requireNonNull(date);
+        checkArgument(amountInCents >= 0, MESSAGE_CONSTRAINTS);
+        int epochDay = Math.toIntExact(date.toEpochDay());
+
+        if (size > 0 && epochDay < store.epochDays[offset + size - 1]) {
+            return insertOutOfOrder(epochDay, amountInCents);
+        }
+
+        synchronized (store) {
+            int end = offset + size;
+            if (store.claimed == end && end < store.epochDays.length) {
+                // No other ledger has appended past this one, so the free slot can be claimed in place.
+                store.epochDays[end] = epochDay;
+                store.amountsInCents[end] = amountInCents;
+                store.claimed++;
+                return new PaymentLedger(store, offset, size + 1);
+            }
+        }
+
+        Store grown = copyToNewStore(Math.max(INITIAL_CAPACITY, size * 2));
+        grown.epochDays[size] = epochDay;
+        grown.amountsInCents[size] = amountInCents;
+        grown.claimed = size + 1;
+        return new PaymentLedger(grown, 0, size + 1);
+    }
+
+    private PaymentLedger insertOutOfOrder(int epochDay, long amountInCents) {
+        int insertAt = upperBound(epochDay);
+        Store grown = new Store(Math.max(INITIAL_CAPACITY, size * 2));
+        System.arraycopy(store.epochDays, offset, grown.epochDays, 0, insertAt);
+        System.arraycopy(store.amountsInCents, offset, grown.amountsInCents, 0, insertAt);
+        grown.epochDays[insertAt] = epochDay;
+        grown.amountsInCents[insertAt] = amountInCents;
+        System.arraycopy(store.epochDays, offset + insertAt, grown.epochDays, insertAt + 1, size - insertAt);
+        System.arraycopy(store.amountsInCents, offset + insertAt, grown.amountsInCents, insertAt + 1,
+                size - insertAt);
+        grown.claimed = size + 1;
+        return new PaymentLedger(grown, 0, size + 1);
+    }
+
+    private Store copyToNewStore(int capacity) {
+        Store copy = new Store(capacity);
+        System.arraycopy(store.epochDays, offset, copy.epochDays, 0, size);
+        System.arraycopy(store.amountsInCents, offset, copy.amountsInCents, 0, size);
+        return copy;
+    }
+
+    /**
+     * Returns the payments received between {@code from} and {@code to}, both inclusive.
+     * The returned ledger is a view that shares this ledger's backing arrays, so no entries are copied.
+     */
+    public PaymentLedger between(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), "Start date of range should not be after its end date");
+
+        int lower = lowerBound(Math.toIntExact(from.toEpochDay()));
+        int upper = upperBound(Math.toIntExact(to.toEpochDay()));
+        if (lower == 0 && upper == size) {
+            return this;
+        }
+        return upper == lower ? EMPTY : new PaymentLedger(store, offset + lower, upper - lower);
+    }
+
+    /**
+     * Returns the payments received during {@code month}.
+     */
+    public PaymentLedger inMonth(YearMonth month) {
+        requireNonNull(month);
+        return between(month.atDay(1), month.atEndOfMonth());
+    }
+
+    /** Returns the index of the first entry on or after {@code epochDay}. */
+    private int lowerBound(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.epochDays[offset + mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Returns the index of the first entry after {@code epochDay}. */
+    private int upperBound(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.epochDays[offset + mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the date of the payment at {@code index}, in chronological order.
+     */
+    public LocalDate getDate(int index) {
+        checkIndex(index);
+        return LocalDate.ofEpochDay(store.epochDays[offset + index]);
+    }
+
+    /**
+     * Returns the amount in cents of the payment at {@code index}, in chronological order.
+     */
+    public long getAmountInCents(int index) {
+        checkIndex(index);
+        return store.amountsInCents[offset + index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns the date of the most recent payment, or {@code Optional#empty()} if no payment was ever received.
+     */
+    public Optional<LocalDate> getLastPaymentDate() {
+        return isEmpty() ? Optional.empty() : Optional.of(getDate(size - 1));
+    }
+
+    /**
+     * Returns the most recent payment date in the dd-MM-yyyy format, or {@code NO_PAYMENT_RECEIVED}
+     * if no payment was ever received.
+     */
+    public String getLastPaymentDateAsString() {
+        return getLastPaymentDate().map(date -> date.format(FORMATTER)).orElse(NO_PAYMENT_RECEIVED);
+    }
+
+    /**
+     * Returns the sum of all payments in this ledger, in cents.
+     */
+    public long getTotalInCents() {
+        long total = 0;
+        for (int i = offset; i < offset + size; i++) {
+            total += store.amountsInCents[i];
+        }
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PaymentLedger)) {
+            return false;
+        }
+
+        PaymentLedger otherLedger = (PaymentLedger) other;
+        return size == otherLedger.size
+                && Arrays.equals(store.epochDays, offset, offset + size,
+                        otherLedger.store.epochDays, otherLedger.offset, otherLedger.offset + size)
+                && Arrays.equals(store.amountsInCents, offset, offset + size,
+                        otherLedger.store.amountsInCents, otherLedger.offset, otherLedger.offset + size);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(encode());
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return NO_PAYMENT_RECEIVED;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            long cents = getAmountInCents(i);
+            builder.append(i == 0 ? "" : ", ")
+                    .append(getDate(i).format(FORMATTER))
+                    .append(String.format(" ($%d.%02d)", cents / 100, cents % 100));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Backing arrays shared by every ledger derived from the same sequence of appends.
+     * Slots before {@code claimed} are never written again once filled.
+     */
+    private static final class Store {
+        private final int[] epochDays;
+        private final long[] amountsInCents;
+        private int claimed;
+
+        private Store(int capacity) {
+            epochDays = new int[capacity];
+            amountsInCents = new long[capacity];
+        }
+    }
+}
@@ -3,6 +3,12 @@ package seedu.address.model.tutee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
+/**
+ * Represents a Tutee's school in Track-O.
+ * Guarantees: immutable; is valid as declared in {@link #isValidSchool(String)}
+ */
 public class School {
 
     public static final String MESSAGE_CONSTRAINTS = "Schools can take any values, and it should not be blank";
@@ -13,6 +19,9 @@ public class School {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    /** Many tutees attend the same few schools, so equal schools share one instance. */
+    private static final WeakInterner<School> INTERNER = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -26,6 +35,15 @@ public class School {
         value = school;
     }
 
+    /**
+     * Returns the shared instance of the school {@code school}.
+     *
+     * @param school A valid school.
+     */
+    public static School of(String school) {
+        return INTERNER.intern(new School(school));
+    }
+
     /**
      * Returns true if a given string is a valid school.
      */
@@ -5,10 +5,11 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.lesson.Lesson;
@@ -17,10 +18,14 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Tutee in Track-O.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * As tutees are never modified, a tutee with some of its details changed is created with {@link #toBuilder()} or
+ * one of the {@code with*} methods, and shares every unchanged detail with the original tutee. Tutees can thus be
+ * shared freely between threads and snapshots of Track-O.
  */
 public class Tutee {
 
     // Identity fields
+    private final TuteeId id;
     private final Name name;
     private final Phone phone;
     private final School school;
@@ -30,41 +35,104 @@ public class Tutee {
     private final Address address;
     private final Payment payment;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Lesson> lessons = new ArrayList<>();
+    private final Set<Tag> tags;
+    private final List<Lesson> lessons;
 
     /**
      * Every field must be present and not null.
+     * The tutee is given an ID when it is added to Track-O.
      */
 
     public Tutee(Name name, Phone phone, School school, Level level, Address address, Payment payment, Remark remark,
                  Set<Tag> tags, List<Lesson> lessons) {
-        requireAllNonNull(name, phone, level, address, tags, lessons);
+        this(TuteeId.UNASSIGNED, name, phone, school, level, address, payment, remark, copyOfTags(tags), lessons);
+    }
+
+    /**
+     * Constructs a tutee with {@code tags}, which must be a set returned by {@link #copyOfTags(Set)}.
+     */
+    private Tutee(TuteeId id, Name name, Phone phone, School school, Level level, Address address, Payment payment,
+                  Remark remark, Set<Tag> tags, List<Lesson> lessons) {
+        requireAllNonNull(id, name, phone, level, address, tags, lessons);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.school = school;
         this.level = level;
         this.address = address;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = tags;
         this.payment = payment == null ? Payment.initializePayment() : payment;
-        this.lessons.addAll(lessons);
+        this.lessons = List.copyOf(lessons);
+    }
+
+    private Tutee(Builder builder) {
+        this(builder.id, builder.name, builder.phone, builder.school, builder.level, builder.address, builder.payment,
+                builder.remark, builder.isTagsCopied ? builder.tags : copyOfTags(builder.tags), builder.lessons);
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code tags}, sorted by tag name so that tags are listed, shown and saved in
+     * the same order every time Track-O is run.
+     */
+    private static Set<Tag> copyOfTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Tag> copy = new TreeSet<>(Comparator.comparing((Tag tag) -> tag.tagName));
+        copy.addAll(tags);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Returns a {@code Builder} initialised with the details of this tutee.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
     }
 
     /**
-     * Adds a lesson to the tutee.
+     * Returns a copy of this tutee with {@code lesson} added after its existing lessons.
      */
-    public void addLesson(Lesson lesson) {
+    public Tutee withLessonAdded(Lesson lesson) {
         requireNonNull(lesson);
-        this.lessons.add(lesson);
+        List<Lesson> updatedLessons = new ArrayList<>(lessons.size() + 1);
+        updatedLessons.addAll(lessons);
+        updatedLessons.add(lesson);
+        return toBuilder().withLessons(updatedLessons).build();
     }
 
     /**
-     * Deletes a lesson from the tutee.
+     * Returns a copy of this tutee without the lesson at {@code lessonIndex}.
      */
-    public void deleteLesson(Index lessonIndex) {
+    public Tutee withLessonRemoved(Index lessonIndex) {
         requireNonNull(lessonIndex);
-        this.lessons.remove(lessonIndex.getZeroBased());
+        List<Lesson> updatedLessons = new ArrayList<>(lessons);
+        updatedLessons.remove(lessonIndex.getZeroBased());
+        return toBuilder().withLessons(updatedLessons).build();
+    }
+
+    /**
+     * Returns a copy of this tutee with its payment details replaced by {@code payment}.
+     */
+    public Tutee withPayment(Payment payment) {
+        return toBuilder().withPayment(payment).build();
+    }
+
+    /**
+     * Returns a copy of this tutee with its remark replaced by {@code remark}.
+     */
+    public Tutee withRemark(Remark remark) {
+        return toBuilder().withRemark(remark).build();
+    }
+
+    /**
+     * Returns a copy of this tutee with its ID replaced by {@code id}.
+     */
+    public Tutee withId(TuteeId id) {
+        return toBuilder().withId(id).build();
+    }
+
+    public TuteeId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -100,7 +168,7 @@ public class Tutee {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -108,7 +176,7 @@ public class Tutee {
      * if modification is attempted.
      */
     public List<Lesson> getLessons() {
-        return Collections.unmodifiableList(lessons);
+        return lessons;
     }
 
     /**
@@ -127,6 +195,7 @@ public class Tutee {
     /**
      * Returns true if both tutees have the same identity and data fields.
      * This defines a stronger notion of equality between two tutees.
+     * IDs are not compared, as an ID only tells tutees apart within a single Track-O.
      */
     @Override
     public boolean equals(Object other) {
@@ -195,4 +264,122 @@ public class Tutee {
         return builder.toString();
     }
 
+    /**
+     * Builds a {@code Tutee} from the details of an existing tutee, some of which are replaced.
+     * Details that are not replaced are shared with the existing tutee rather than copied.
+     */
+    public static class Builder {
+        private TuteeId id;
+        private Name name;
+        private Phone phone;
+        private School school;
+        private Level level;
+        private Address address;
+        private Payment payment;
+        private Remark remark;
+        private Set<Tag> tags;
+        private boolean isTagsCopied;
+        private List<Lesson> lessons;
+
+        private Builder(Tutee tutee) {
+            id = tutee.id;
+            name = tutee.name;
+            phone = tutee.phone;
+            school = tutee.school;
+            level = tutee.level;
+            address = tutee.address;
+            payment = tutee.payment;
+            remark = tutee.remark;
+            // the tags of another tutee are shared rather than copied, unless they are replaced
+            tags = tutee.tags;
+            isTagsCopied = true;
+            lessons = tutee.lessons;
+        }
+
+        /**
+         * Sets the {@code TuteeId} of the {@code Tutee} being built.
+         */
+        public Builder withId(TuteeId id) {
+            this.id = id;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Name} of the {@code Tutee} being built.
+         */
+        public Builder withName(Name name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Phone} of the {@code Tutee} being built.
+         */
+        public Builder withPhone(Phone phone) {
+            this.phone = phone;
+            return this;
+        }
+
+        /**
+         * Sets the {@code School} of the {@code Tutee} being built.
+         */
+        public Builder withSchool(School school) {
+            this.school = school;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Level} of the {@code Tutee} being built.
+         */
+        public Builder withLevel(Level level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Address} of the {@code Tutee} being built.
+         */
+        public Builder withAddress(Address address) {
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Payment} of the {@code Tutee} being built.
+         */
+        public Builder withPayment(Payment payment) {
+            this.payment = payment;
+            return this;
+        }
+
+        /**
+         * Sets the {@code Remark} of the {@code Tutee} being built.
+         */
+        public Builder withRemark(Remark remark) {
+            this.remark = remark;
+            return this;
+        }
+
+        /**
+         * Sets the tags of the {@code Tutee} being built.
+         */
+        public Builder withTags(Set<Tag> tags) {
+            this.tags = tags;
+            this.isTagsCopied = false;
+            return this;
+        }
+
+        /**
+         * Sets the lessons of the {@code Tutee} being built.
+         */
+        public Builder withLessons(List<Lesson> lessons) {
+            this.lessons = lessons;
+            return this;
+        }
+
+        public Tutee build() {
+            return new Tutee(this);
+        }
+    }
+
 }
@@ -0,0 +1,191 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the tutees of a {@code UniqueTuteeList} by their tags, school and level, so that searches on them can be
+ * answered by combining bitsets rather than by testing every tutee.
+ * <br>
+ * Each tutee in the list holds a slot, a small whole number, for as long as it is in the list. Each distinct tag,
+ * school and level is kept once, as the key of the bitset of the slots of the tutees that have it, and searches
+ * combine these bitsets with AND, OR and ANDNOT. Slots freed by removed tutees are given out again, lowest first,
+ * so that the bitsets stay about as long as the list, however many tutees have been added and removed.
+ */
+public class TuteeAttributeIndex {
+
+    private final List<Tutee> tuteesBySlot = new ArrayList<>();
+    private final Map<TuteeId, Integer> slotsById = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final Postings<Tag> tags = new Postings<>();
+    private final Postings<School> schools = new Postings<>();
+    private final Postings<Level> levels = new Postings<>();
+    private long version;
+
+    /**
+     * Returns the number of changes made to the index, which changes whenever the result of a search may have.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the slot of {@code tutee}, or -1 if it is not in the index.
+     * A tutee with the same ID that has since been replaced by an edited tutee is not in the index.
+     */
+    public int slotOf(Tutee tutee) {
+        requireNonNull(tutee);
+        Integer slot = slotsById.get(tutee.getId());
+        return slot != null && tuteesBySlot.get(slot) == tutee ? slot : -1;
+    }
+
+    /**
+     * Returns the slots of every tutee in the index.
+     */
+    public BitSet all() {
+        return (BitSet) occupied.clone();
+    }
+
+    /**
+     * Returns the slots of the tutees tagged with {@code tag}.
+     */
+    public BitSet withTag(Tag tag) {
+        requireNonNull(tag);
+        return tags.get(tag);
+    }
+
+    /**
+     * Returns the slots of the tutees at {@code level}.
+     */
+    public BitSet atLevel(Level level) {
+        requireNonNull(level);
+        return levels.get(level);
+    }
+
+    /**
+     * Returns the slots of the tutees whose school satisfies {@code predicate}.
+     * The predicate is tested once for each distinct school, rather than once for each tutee.
+     */
+    public BitSet atSchool(Predicate<School> predicate) {
+        requireNonNull(predicate);
+        return schools.getMatching(predicate);
+    }
+
+    /**
+     * Indexes {@code tutee}, which must have an ID that is not in the index yet.
+     */
+    void add(Tutee tutee) {
+        assert !slotsById.containsKey(tutee.getId());
+        int slot = occupied.nextClearBit(0);
+        occupied.set(slot);
+        if (slot == tuteesBySlot.size()) {
+            tuteesBySlot.add(tutee);
+        } else {
+            tuteesBySlot.set(slot, tutee);
+        }
+        slotsById.put(tutee.getId(), slot);
+        post(tutee, slot, true);
+        version++;
+    }
+
+    /**
+     * Replaces the tutee indexed under the ID of {@code editedTutee} with {@code editedTutee}, in the same slot.
+     * A tutee with that ID must already be indexed.
+     */
+    void update(Tutee editedTutee) {
+        Integer slot = slotsById.get(editedTutee.getId());
+        assert slot != null;
+        post(tuteesBySlot.get(slot), slot, false);
+        tuteesBySlot.set(slot, editedTutee);
+        post(editedTutee, slot, true);
+        version++;
+    }
+
+    /**
+     * Removes the tutee with the given {@code id} from the index, freeing its slot.
+     */
+    void remove(TuteeId id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        post(tuteesBySlot.get(slot), slot, false);
+        tuteesBySlot.set(slot, null);
+        occupied.clear(slot);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with {@code tutees}, which must have distinct IDs, in slots from 0.
+     */
+    void setAll(List<Tutee> tutees) {
+        tuteesBySlot.clear();
+        slotsById.clear();
+        occupied.clear();
+        tags.clear();
+        schools.clear();
+        levels.clear();
+        for (Tutee tutee : tutees) {
+            add(tutee);
+        }
+        version++;
+    }
+
+    private void post(Tutee tutee, int slot, boolean isAdded) {
+        for (Tag tag : tutee.getTags()) {
+            tags.post(tag, slot, isAdded);
+        }
+        schools.post(tutee.getSchool(), slot, isAdded);
+        levels.post(tutee.getLevel(), slot, isAdded);
+    }
+
+    /**
+     * The bitsets of the slots of the tutees with each distinct value of an attribute.
+     * Values no tutee has any more are dropped, so that there are never more bitsets than tutees.
+     */
+    private static class Postings<K> {
+        private final Map<K, BitSet> slotsByValue = new HashMap<>();
+
+        BitSet get(K value) {
+            BitSet slots = slotsByValue.get(value);
+            return slots == null ? new BitSet() : (BitSet) slots.clone();
+        }
+
+        BitSet getMatching(Predicate<K> predicate) {
+            BitSet matched = new BitSet();
+            for (Map.Entry<K, BitSet> entry : slotsByValue.entrySet()) {
+                if (predicate.test(entry.getKey())) {
+                    matched.or(entry.getValue());
+                }
+            }
+            return matched;
+        }
+
+        void post(K value, int slot, boolean isAdded) {
+            if (isAdded) {
+                slotsByValue.computeIfAbsent(value, v -> new BitSet()).set(slot);
+                return;
+            }
+            BitSet slots = slotsByValue.get(value);
+            if (slots == null) {
+                return;
+            }
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByValue.remove(value);
+            }
+        }
+
+        void clear() {
+            slotsByValue.clear();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model.tutee;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+
+/**
+ * Orders tutees by one of their details, breaking ties by name.
+ * <br>
+ * The key each tutee is sorted by, such as the amount owed in cents or the minutes until the next lesson, is
+ * worked out the first time the tutee is compared and kept for as long as the tutee is, so sorting again after a
+ * change to the list does not parse payments or go through lessons for every comparison. As tutees are immutable,
+ * the keys are kept by the identity of the tutee; an edited tutee is a new tutee with a key of its own, and the key of
+ * the tutee it replaced should be dropped with {@link #forget(Tutee)}.
+ * <br>
+ * The time to the next lesson is counted from the time the comparator was created, and is not brought up to date
+ * as time passes, so that the keys kept stay valid; a list sorted by {@link Key#NEXT} is in the order of the lessons
+ * as of when it was sorted, until it is sorted again with a new comparator.
+ * <br>
+ * Tutees without the detail sorted by, such as those with no lessons, come last in either direction.
+ */
+public class TuteeComparator implements Comparator<Tutee> {
+
+    /**
+     * The detail tutees are sorted by.
+     */
+    public enum Key {
+        ADDED,
+        NAME,
+        OWED,
+        PAYBY,
+        NEXT,
+        LEVEL;
+
+        public static final String MESSAGE_CONSTRAINTS = "Tutees can be sorted by 'added', 'name', 'owed', "
+                + "'payby', 'next' or 'level'";
+
+        /**
+         * Returns the key named {@code name}, ignoring case.
+         */
+        public static Optional<Key> fromName(String name) {
+            for (Key key : values()) {
+                if (key.name().equalsIgnoreCase(name)) {
+                    return Optional.of(key);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** The key of a tutee without the detail sorted by. */
+    private static final long MISSING = Long.MAX_VALUE;
+
+    private final Key key;
+    private final boolean isDescending;
+    private final int nowMinuteOfWeek;
+    private final Map<Tutee, Long> keys = new IdentityHashMap<>();
+
+    /**
+     * Constructs a {@code TuteeComparator} ordering tutees by {@code key}, with the time to the next lesson counted
+     * from {@code now}.
+     */
+    public TuteeComparator(Key key, boolean isDescending, LocalDateTime now) {
+        requireAllNonNull(key, now);
+        this.key = key;
+        this.isDescending = isDescending;
+        this.nowMinuteOfWeek = (now.getDayOfWeek().getValue() - 1) * 24 * 60 + now.getHour() * 60 + now.getMinute();
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    @Override
+    public int compare(Tutee first, Tutee second) {
+        int result = 0;
+        if (key != Key.NAME && key != Key.ADDED) {
+            long firstKey = keyOf(first);
+            long secondKey = keyOf(second);
+            if (firstKey == MISSING || secondKey == MISSING) {
+                result = Boolean.compare(firstKey == MISSING, secondKey == MISSING);
+                return result != 0 ? result : compareNames(first, second);
+            }
+            result = Long.compare(firstKey, secondKey);
+        } else if (key == Key.NAME) {
+            result = compareNames(first, second);
+        }
+        if (isDescending) {
+            result = -result;
+        }
+        return result != 0 || key == Key.ADDED ? result : compareNames(first, second);
+    }
+
+    private static int compareNames(Tutee first, Tutee second) {
+        return String.CASE_INSENSITIVE_ORDER.compare(first.getName().fullName, second.getName().fullName);
+    }
+
+    private long keyOf(Tutee tutee) {
+        Long cached = keys.get(tutee);
+        if (cached == null) {
+            cached = computeKey(tutee);
+            keys.put(tutee, cached);
+        }
+        return cached;
+    }
+
+    private long computeKey(Tutee tutee) {
+        switch (key) {
+        case OWED:
+            return Payment.toCents(tutee.getPayment().getValue());
+        case PAYBY:
+            LocalDate payByDate = tutee.getPayment().getPayByDate();
+            return payByDate == null ? MISSING : payByDate.toEpochDay();
+        case NEXT:
+            long minutesToNext = MISSING;
+            for (Lesson lesson : tutee.getLessons()) {
+                int start = lesson.getTime().getStartMinuteOfWeek();
+                // lessons earlier in the week than now are next held the week after
+                minutesToNext = Math.min(minutesToNext, Math.floorMod(start - nowMinuteOfWeek, Time.MINUTES_IN_WEEK));
+            }
+            return minutesToNext;
+        case LEVEL:
+            return tutee.getLevel().getOrder();
+        default:
+            throw new AssertionError("Tutees are not sorted by a key of their own for " + key);
+        }
+    }
+
+    /**
+     * Drops the key kept for {@code tutee}, which is no longer in the list being sorted.
+     */
+    public void forget(Tutee tutee) {
+        keys.remove(tutee);
+    }
+
+    /**
+     * Drops the keys kept for every tutee.
+     */
+    public void forgetAll() {
+        keys.clear();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeComparator // instanceof handles nulls
+                && key == ((TuteeComparator) other).key
+                && isDescending == ((TuteeComparator) other).isDescending
+                && nowMinuteOfWeek == ((TuteeComparator) other).nowMinuteOfWeek); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, isDescending, nowMinuteOfWeek);
+    }
+
+    @Override
+    public String toString() {
+        return key + (isDescending ? " descending" : "");
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.tutee;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the ID of a Tutee in Track-O, which stays the same for as long as the tutee is in Track-O,
+ * even when the tutee's name or other details are edited.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}, unless it is {@link #UNASSIGNED}
+ */
+public class TuteeId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Tutee IDs should be positive whole numbers";
+
+    /** The ID of a tutee that has not been added to Track-O yet. */
+    public static final TuteeId UNASSIGNED = new TuteeId();
+
+    public final long value;
+
+    /**
+     * Constructs a {@code TuteeId}.
+     *
+     * @param id A valid tutee ID.
+     */
+    public TuteeId(long id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    private TuteeId() {
+        value = 0;
+    }
+
+    /**
+     * Returns true if a given number is a valid tutee ID.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    /**
+     * Returns true if this ID was given to a tutee by Track-O, i.e. it is not {@link #UNASSIGNED}.
+     */
+    public boolean isAssigned() {
+        return value != 0;
+    }
+
+    @Override
+    public String toString() {
+        return isAssigned() ? Long.toString(value) : "unassigned";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeId // instanceof handles nulls
+                && value == ((TuteeId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
@@ -3,8 +3,12 @@ package seedu.address.model.tutee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.address.model.tutee.exceptions.TuteeNotFoundException;
  * unique in terms of identity in the UniqueTuteeList. However, the removal of a tutee uses Tutee#equals(Object) so
  * as to ensure that the tutee with exactly the same fields will be removed.
  *
+ * Every tutee in the list has a distinct {@code TuteeId}, which is given to the tutee when it is added if it has none,
+ * and which is kept by any tutee that replaces it through {@link #setTutee(Tutee, Tutee)}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Tutee#isSameTutee(Tutee)
@@ -27,6 +34,8 @@ public class UniqueTuteeList implements Iterable<Tutee> {
     private final ObservableList<Tutee> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex identityIndex = new IdentityIndex();
+    private final TuteeAttributeIndex attributeIndex = new TuteeAttributeIndex();
 
     /**
      * Returns true if the list contains an equivalent tutee as the given argument.
@@ -37,7 +46,20 @@ public class UniqueTuteeList implements Iterable<Tutee> {
     }
 
     /**
-     * Adds a tutee to the list.
+     * Returns the tutee with the given {@code id}.
+     * The tutee must exist in the list.
+     */
+    public Tutee get(TuteeId id) {
+        requireNonNull(id);
+        Tutee tutee = identityIndex.get(id);
+        if (tutee == null) {
+            throw new TuteeNotFoundException();
+        }
+        return tutee;
+    }
+
+    /**
+     * Adds a tutee to the list, giving it a new ID if it has none or if its ID is already taken.
      * The tutee must not already exist in the list.
      */
     public void add(Tutee toAdd) {
@@ -45,11 +67,45 @@ public class UniqueTuteeList implements Iterable<Tutee> {
         if (contains(toAdd)) {
             throw new DuplicateTuteeException();
         }
-        internalList.add(toAdd);
+        Tutee registered = identityIndex.register(toAdd);
+        attributeIndex.add(registered);
+        internalList.add(registered);
     }
 
     /**
-     * Replaces the tutee {@code target} in the list with {@code editedTutee}.
+     * Adds every tutee in {@code toAdd} to the list in a single change to the list, giving each a new ID if it has
+     * none or if its ID is already taken.
+     * The tutees must not already exist in the list, nor have the same identity as one another. This is checked
+     * against a hash set of the names in the list, so it takes time linear in the size of the list and of
+     * {@code toAdd}, rather than their product.
+     *
+     * @return The tutees as added, with the IDs given to them, in the same order as {@code toAdd}.
+     */
+    public List<Tutee> addAll(List<Tutee> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Tutee tutee : internalList) {
+            names.add(tutee.getName());
+        }
+        for (Tutee tutee : toAdd) {
+            if (!names.add(tutee.getName())) {
+                throw new DuplicateTuteeException();
+            }
+        }
+
+        List<Tutee> added = new ArrayList<>(toAdd.size());
+        for (Tutee tutee : toAdd) {
+            Tutee registered = identityIndex.register(tutee);
+            attributeIndex.add(registered);
+            added.add(registered);
+        }
+        internalList.addAll(added);
+        return added;
+    }
+
+    /**
+     * Replaces the tutee {@code target} in the list with {@code editedTutee}, which takes over the ID of
+     * {@code target}.
      * {@code target} must exist in the list.
      * The tutee identity of {@code editedTutee} must not be the same as another existing tutee in the list.
      */
@@ -65,7 +121,49 @@ public class UniqueTuteeList implements Iterable<Tutee> {
             throw new DuplicateTuteeException();
         }
 
-        internalList.set(index, editedTutee);
+        TuteeId id = internalList.get(index).getId();
+        Tutee editedTuteeWithId = editedTutee.getId().equals(id) ? editedTutee : editedTutee.withId(id);
+        identityIndex.update(editedTuteeWithId);
+        attributeIndex.update(editedTuteeWithId);
+        internalList.set(index, editedTuteeWithId);
+    }
+
+    /**
+     * Replaces each tutee in the list whose ID is a key of {@code editedTutees} with the tutee it is mapped to, in a
+     * single change to the list. This takes time linear in the size of the list, however many tutees are replaced.
+     * Every ID must belong to a tutee in the list, and every edited tutee must have the same identity as the tutee it
+     * replaces.
+     */
+    public void setTuteesById(Map<TuteeId, Tutee> editedTutees) {
+        requireNonNull(editedTutees);
+        if (editedTutees.isEmpty()) {
+            return;
+        }
+
+        List<Tutee> updatedList = new ArrayList<>(internalList);
+        List<Tutee> replacements = new ArrayList<>(editedTutees.size());
+        for (int i = 0; i < updatedList.size(); i++) {
+            TuteeId id = updatedList.get(i).getId();
+            Tutee editedTutee = editedTutees.get(id);
+            if (editedTutee == null) {
+                continue;
+            }
+            if (!updatedList.get(i).isSameTutee(editedTutee)) {
+                throw new DuplicateTuteeException();
+            }
+            Tutee editedTuteeWithId = editedTutee.getId().equals(id) ? editedTutee : editedTutee.withId(id);
+            updatedList.set(i, editedTuteeWithId);
+            replacements.add(editedTuteeWithId);
+        }
+        if (replacements.size() != editedTutees.size()) {
+            throw new TuteeNotFoundException();
+        }
+
+        for (Tutee replacement : replacements) {
+            identityIndex.update(replacement);
+            attributeIndex.update(replacement);
+        }
+        internalList.setAll(updatedList);
     }
 
     /**
@@ -74,16 +172,39 @@ public class UniqueTuteeList implements Iterable<Tutee> {
      */
     public void remove(Tutee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TuteeNotFoundException();
         }
+        TuteeId id = internalList.remove(index).getId();
+        identityIndex.remove(id);
+        attributeIndex.remove(id);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} already enforces uniqueness, its tutees are not checked again.
+     */
     public void setTutees(UniqueTuteeList replacement) {
         requireNonNull(replacement);
+        identityIndex.resetData(replacement.identityIndex);
+        attributeIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with {@code tutees} without checking them for duplicates.
+     * Only to be used for bulk loads where the caller has already checked that {@code tutees} contains no
+     * duplicate tutees, such as when reading a data file; use {@link #setTutees(List)} otherwise.
+     */
+    public void setTrustedTutees(List<Tutee> tutees) {
+        requireAllNonNull(tutees);
+        identityIndex.clear();
+        List<Tutee> registered = identityIndex.registerAll(tutees);
+        attributeIndex.setAll(registered);
+        internalList.setAll(registered);
+    }
+
     /**
      * Replaces the contents of this list with {@code tutees}.
      * {@code tutees} must not contain duplicate tutees.
@@ -94,7 +215,10 @@ public class UniqueTuteeList implements Iterable<Tutee> {
             throw new DuplicateTuteeException();
         }
 
-        internalList.setAll(tutees);
+        identityIndex.clear();
+        List<Tutee> registered = identityIndex.registerAll(tutees);
+        attributeIndex.setAll(registered);
+        internalList.setAll(registered);
     }
 
     /**
@@ -104,6 +228,13 @@ public class UniqueTuteeList implements Iterable<Tutee> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the index of the tags, schools and levels of the tutees in the list, which is kept in step with it.
+     */
+    public TuteeAttributeIndex getAttributeIndex() {
+        return attributeIndex;
+    }
+
     @Override
     public Iterator<Tutee> iterator() {
         return internalList.iterator();
@@ -123,13 +254,13 @@ public class UniqueTuteeList implements Iterable<Tutee> {
 
     /**
      * Returns true if {@code tutees} contains only unique tutees.
+     * As {@code Tutee#isSameTutee(Tutee)} compares names, this is checked in a single pass over a set of names.
      */
     private boolean tuteesAreUnique(List<Tutee> tutees) {
-        for (int i = 0; i < tutees.size() - 1; i++) {
-            for (int j = i + 1; j < tutees.size(); j++) {
-                if (tutees.get(i).isSameTutee(tutees.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Tutee tutee : tutees) {
+            if (!seenNames.add(tutee.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,64 @@
+package seedu.address.model.tutee.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Matches tutees matched by every one of its queries, which are tested in order until one does not match.
+ */
+public final class AndQuery extends Query {
+
+    private final List<Query> queries;
+
+    /**
+     * Constructs an {@code AndQuery} of at least two {@code queries}.
+     */
+    public AndQuery(List<Query> queries) {
+        requireAllNonNull(queries);
+        checkArgument(queries.size() >= 2, "An AND query needs at least two queries");
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<Query> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        for (Query query : queries) {
+            if (!query.test(tutee)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && queries.equals(((AndQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream()
+                .map(query -> isOr(query) ? "(" + query + ")" : query.toString())
+                .collect(Collectors.joining(" AND "));
+    }
+
+    private static boolean isOr(Query query) {
+        return query instanceof OrQuery
+                || (query instanceof IndexedQuery && ((IndexedQuery) query).getQuery() instanceof OrQuery);
+    }
+}
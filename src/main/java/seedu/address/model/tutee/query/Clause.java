@@ -0,0 +1,240 @@
+package seedu.address.model.tutee.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A test on a single detail of a tutee, the smallest part of a {@code Query}.
+ * <br>
+ * Each clause has a cost, an estimate of how long it takes to test a tutee relative to comparing two values, which
+ * the {@link QueryPlanner} weighs against how many tutees the clause matches to decide the order of the clauses.
+ */
+public final class Clause extends Query {
+
+    public static final String MESSAGE_EMPTY_RANGE = "The start of a range should not be after its end";
+
+    /**
+     * The detail a clause tests, with the cost of testing it.
+     */
+    public enum Field {
+        NAME(4),
+        LEVEL(1),
+        SUBJECT(3),
+        OVERDUE(1),
+        TAG(1),
+        SCHOOL(4),
+        // amounts are kept as strings, which are parsed for each test
+        PAYMENT(6),
+        PAY_BY_DATE(1),
+        LESSON_DAY(2),
+        LESSON_TIME(3);
+
+        private final double cost;
+
+        Field(double cost) {
+            this.cost = cost;
+        }
+
+        public double getCost() {
+            return cost;
+        }
+    }
+
+    private final Field field;
+    private final Object argument;
+    private final String description;
+    private final Predicate<Tutee> test;
+
+    private Clause(Field field, Object argument, String description, Predicate<Tutee> test) {
+        this.field = field;
+        this.argument = argument;
+        this.description = description;
+        this.test = test;
+    }
+
+    /**
+     * Returns a clause matching tutees whose name contains every one of {@code words}, ignoring case.
+     */
+    public static Clause nameContains(List<String> words) {
+        requireAllNonNull(words);
+        List<String> copy = List.copyOf(words);
+        return new Clause(Field.NAME, copy, "name " + String.join(" ", copy),
+            tutee -> containsAllWords(tutee.getName().fullName, copy));
+    }
+
+    /**
+     * Returns a clause matching tutees at {@code level}.
+     */
+    public static Clause levelIs(Level level) {
+        requireNonNull(level);
+        return new Clause(Field.LEVEL, level, "level " + level.getValue(), tutee -> tutee.getLevel().equals(level));
+    }
+
+    /**
+     * Returns a clause matching tutees with a lesson whose subject contains {@code word}, ignoring case.
+     */
+    public static Clause hasSubject(String word) {
+        requireNonNull(word);
+        return new Clause(Field.SUBJECT, word, "subject " + word, tutee -> {
+            for (Lesson lesson : tutee.getLessons()) {
+                if (StringUtil.containsWordIgnoreCase(lesson.getSubject().toString(), word)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns a clause matching tutees whose payment is overdue, if {@code isOverdue}, or is not, otherwise.
+     */
+    public static Clause isOverdue(boolean isOverdue) {
+        return new Clause(Field.OVERDUE, isOverdue, "overdue " + (isOverdue ? "yes" : "no"),
+            tutee -> tutee.getPayment().isOverdue == isOverdue);
+    }
+
+    /**
+     * Returns a clause matching tutees tagged with {@code tag}.
+     */
+    public static Clause hasTag(Tag tag) {
+        requireNonNull(tag);
+        return new Clause(Field.TAG, tag, "tag " + tag.tagName, tutee -> tutee.getTags().contains(tag));
+    }
+
+    /**
+     * Returns a clause matching tutees whose school contains every one of {@code words}, ignoring case.
+     */
+    public static Clause schoolContains(List<String> words) {
+        requireAllNonNull(words);
+        List<String> copy = List.copyOf(words);
+        return new Clause(Field.SCHOOL, copy, "school " + String.join(" ", copy),
+            tutee -> containsAllWords(tutee.getSchool().value, copy));
+    }
+
+    /**
+     * Returns a clause matching tutees who owe from {@code minCents} to {@code maxCents} cents, both inclusive.
+     */
+    public static Clause paymentBetween(long minCents, long maxCents) {
+        checkArgument(minCents <= maxCents, MESSAGE_EMPTY_RANGE);
+        return new Clause(Field.PAYMENT, List.of(minCents, maxCents),
+                "payment " + formatRange(minCents, maxCents, Long.MIN_VALUE, Long.MAX_VALUE), tutee -> {
+                    long cents = Payment.toCents(tutee.getPayment().value);
+                    return minCents <= cents && cents <= maxCents;
+                });
+    }
+
+    /**
+     * Returns a clause matching tutees whose pay-by date is from {@code from} to {@code to}, both inclusive.
+     * Tutees without a pay-by date are not matched.
+     */
+    public static Clause payByBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_EMPTY_RANGE);
+        return new Clause(Field.PAY_BY_DATE, List.of(from, to),
+                "pay-by date " + formatRange(from, to, LocalDate.MIN, LocalDate.MAX), tutee -> {
+                    LocalDate payByDate = tutee.getPayment().getPayByDate();
+                    return payByDate != null && !payByDate.isBefore(from) && !payByDate.isAfter(to);
+                });
+    }
+
+    /**
+     * Returns a clause matching tutees with a lesson on {@code day}.
+     */
+    public static Clause hasLessonOn(DayOfWeek day) {
+        requireNonNull(day);
+        return new Clause(Field.LESSON_DAY, day, "lesson on " + day, tutee -> {
+            for (Lesson lesson : tutee.getLessons()) {
+                if (lesson.getTime().getDayOfOccurrence() == day) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns a clause matching tutees with a lesson, on any day, that takes place at some time from {@code from}
+     * to {@code to}.
+     */
+    public static Clause hasLessonDuring(LocalTime from, LocalTime to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_EMPTY_RANGE);
+        return new Clause(Field.LESSON_TIME, List.of(from, to),
+                "lesson during " + formatRange(from, to, LocalTime.MIN, LocalTime.MAX), tutee -> {
+                    for (Lesson lesson : tutee.getLessons()) {
+                        Time time = lesson.getTime();
+                        if (time.getStartTime().isBefore(to) && from.isBefore(time.getEndTime())) {
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+    }
+
+    static boolean containsAllWords(String sentence, List<String> words) {
+        for (String word : words) {
+            if (!StringUtil.containsWordIgnoreCase(sentence, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String formatRange(Object from, Object to, Object lowest, Object highest) {
+        return (from.equals(lowest) ? "" : from.toString()) + ".." + (to.equals(highest) ? "" : to.toString());
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public double getCost() {
+        return field.getCost();
+    }
+
+    /**
+     * Returns the value the detail is tested against, such as the tag or the words of the school.
+     */
+    Object getArgument() {
+        return argument;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        return test.test(tutee);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Clause // instanceof handles nulls
+                && field == ((Clause) other).field
+                && argument.equals(((Clause) other).argument)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, argument);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.tutee.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+
+/**
+ * A query on tags, schools and levels only, answered from a {@code TuteeAttributeIndex} by combining the bitsets of
+ * its clauses with AND, OR and ANDNOT.
+ * <br>
+ * The tutees matched are worked out once for every tutee in the index, the first time a tutee is tested after the
+ * index changes, and each test after that is a lookup. Tutees not in the index are tested against the query itself.
+ */
+final class IndexedQuery extends Query {
+
+    /** The cost of testing a tutee once the tutees matched are worked out, a lookup in a bitset. */
+    static final double COST = 0.5;
+
+    private final Query query;
+    private final TuteeAttributeIndex index;
+    private BitSet matched;
+    private long matchedVersion;
+
+    /**
+     * Constructs an {@code IndexedQuery} answering {@code query}, which must be indexable, from {@code index}.
+     */
+    IndexedQuery(Query query, TuteeAttributeIndex index) {
+        requireAllNonNull(query, index);
+        checkArgument(isIndexable(query));
+        this.query = query;
+        this.index = index;
+    }
+
+    /**
+     * Returns true if {@code query} only has clauses on tags, schools and levels, which can be answered from an
+     * index.
+     */
+    static boolean isIndexable(Query query) {
+        if (query instanceof Clause) {
+            Clause.Field field = ((Clause) query).getField();
+            return field == Clause.Field.TAG || field == Clause.Field.SCHOOL || field == Clause.Field.LEVEL;
+        }
+        if (query instanceof NotQuery) {
+            return isIndexable(((NotQuery) query).getQuery());
+        }
+        List<Query> queries = query instanceof AndQuery
+                ? ((AndQuery) query).getQueries()
+                : ((OrQuery) query).getQueries();
+        return queries.stream().allMatch(IndexedQuery::isIndexable);
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        int slot = index.slotOf(tutee);
+        return slot == -1 ? query.test(tutee) : getMatched().get(slot);
+    }
+
+    private synchronized BitSet getMatched() {
+        if (matched == null || matchedVersion != index.getVersion()) {
+            matched = evaluate(query);
+            matchedVersion = index.getVersion();
+        }
+        return matched;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BitSet evaluate(Query toEvaluate) {
+        if (toEvaluate instanceof Clause) {
+            Clause clause = (Clause) toEvaluate;
+            switch (clause.getField()) {
+            case TAG:
+                return index.withTag((Tag) clause.getArgument());
+            case LEVEL:
+                return index.atLevel((Level) clause.getArgument());
+            default:
+                List<String> words = (List<String>) clause.getArgument();
+                return index.atSchool(school -> Clause.containsAllWords(school.value, words));
+            }
+        }
+        if (toEvaluate instanceof NotQuery) {
+            BitSet slots = index.all();
+            slots.andNot(evaluate(((NotQuery) toEvaluate).getQuery()));
+            return slots;
+        }
+        if (toEvaluate instanceof OrQuery) {
+            BitSet slots = new BitSet();
+            for (Query subquery : ((OrQuery) toEvaluate).getQueries()) {
+                slots.or(evaluate(subquery));
+            }
+            return slots;
+        }
+
+        // negated queries are taken away from the others, rather than each worked out against every tutee
+        BitSet slots = null;
+        List<Query> negated = new ArrayList<>();
+        for (Query subquery : ((AndQuery) toEvaluate).getQueries()) {
+            if (subquery instanceof NotQuery) {
+                negated.add(((NotQuery) subquery).getQuery());
+            } else if (slots == null) {
+                slots = evaluate(subquery);
+            } else {
+                slots.and(evaluate(subquery));
+            }
+        }
+        if (slots == null) {
+            slots = index.all();
+        }
+        for (Query subquery : negated) {
+            slots.andNot(evaluate(subquery));
+        }
+        return slots;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedQuery // instanceof handles nulls
+                && query.equals(((IndexedQuery) other).query)
+                && index == ((IndexedQuery) other).index); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.tutee.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Matches tutees not matched by its query.
+ */
+public final class NotQuery extends Query {
+
+    private final Query query;
+
+    /**
+     * Constructs a {@code NotQuery} matching the tutees not matched by {@code query}.
+     */
+    public NotQuery(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        return !query.test(tutee);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && query.equals(((NotQuery) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return query instanceof Clause ? "NOT " + query : "NOT (" + query + ")";
+    }
+}
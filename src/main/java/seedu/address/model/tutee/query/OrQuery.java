@@ -0,0 +1,57 @@
+package seedu.address.model.tutee.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Matches tutees matched by any one of its queries, which are tested in order until one matches.
+ */
+public final class OrQuery extends Query {
+
+    private final List<Query> queries;
+
+    /**
+     * Constructs an {@code OrQuery} of at least two {@code queries}.
+     */
+    public OrQuery(List<Query> queries) {
+        requireAllNonNull(queries);
+        checkArgument(queries.size() >= 2, "An OR query needs at least two queries");
+        this.queries = List.copyOf(queries);
+    }
+
+    public List<Query> getQueries() {
+        return queries;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        for (Query query : queries) {
+            if (query.test(tutee)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && queries.equals(((OrQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" OR "));
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.model.tutee.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A search over tutees, made of {@link Clause}s on their details combined with AND, OR and NOT.
+ * <br>
+ * Queries are tested as written, but should be planned with {@link QueryPlanner} before being tested against many
+ * tutees, so that the clauses most likely to decide the result cheaply are tested first.
+ */
+public abstract class Query implements Predicate<Tutee> {
+
+    /**
+     * Returns a description of this query, with brackets wherever they are needed to read it as it is tested.
+     */
+    @Override
+    public abstract String toString();
+}
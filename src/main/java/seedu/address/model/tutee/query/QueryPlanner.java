@@ -0,0 +1,210 @@
+package seedu.address.model.tutee.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+
+/**
+ * Rewrites a {@code Query} into one that matches the same tutees but is cheaper to test against many of them.
+ * <br>
+ * The fraction of tutees each part of the query matches is measured on an evenly spread sample of the tutees, and
+ * weighed against the cost of testing it. The queries in an AND are then ordered by cost over the fraction they
+ * reject, and those in an OR by cost over the fraction they match, which tests first the queries most likely to
+ * settle the result for the least work, so that the rest are skipped as often as possible. Nested ANDs and ORs are
+ * flattened, and double negations removed, beforehand.
+ * <br>
+ * Given a {@code TuteeAttributeIndex}, the clauses on tags, schools and levels in each AND and OR are first
+ * gathered into a single query answered from the index, which is then ordered like any other clause.
+ */
+public final class QueryPlanner {
+
+    /** The number of tutees sampled, enough to tell apart clauses matching a few percent of tutees from the rest. */
+    static final int SAMPLE_SIZE = 256;
+
+    private QueryPlanner() {
+    }
+
+    /**
+     * Returns {@code query} planned for testing against {@code tutees}.
+     */
+    public static Query plan(Query query, List<Tutee> tutees) {
+        requireAllNonNull(query, tutees);
+        return planQuery(query, sample(tutees)).query;
+    }
+
+    /**
+     * Returns {@code query} planned for testing against {@code tutees}, answering what it can from {@code index},
+     * which must be the index of {@code tutees}.
+     */
+    public static Query plan(Query query, List<Tutee> tutees, TuteeAttributeIndex index) {
+        requireAllNonNull(query, tutees, index);
+        return planQuery(useIndex(query, index), sample(tutees)).query;
+    }
+
+    /**
+     * Returns {@code query} with its largest parts that can be answered from {@code index} answered from it.
+     */
+    private static Query useIndex(Query query, TuteeAttributeIndex index) {
+        if (IndexedQuery.isIndexable(query)) {
+            return new IndexedQuery(query, index);
+        }
+        if (query instanceof AndQuery) {
+            return useIndexInAll(((AndQuery) query).getQueries(), AndQuery.class, AndQuery::new, index);
+        }
+        if (query instanceof OrQuery) {
+            return useIndexInAll(((OrQuery) query).getQueries(), OrQuery.class, OrQuery::new, index);
+        }
+        if (query instanceof NotQuery) {
+            return new NotQuery(useIndex(((NotQuery) query).getQuery(), index));
+        }
+        return query;
+    }
+
+    /**
+     * Returns the queries in {@code queries}, flattened as in {@link #planAll}, combined by {@code combine}, with
+     * those that can be answered from {@code index} combined into a single query answered from it.
+     */
+    private static Query useIndexInAll(List<Query> queries, Class<? extends Query> flattened,
+            Function<List<Query>, Query> combine, TuteeAttributeIndex index) {
+        List<Query> indexable = new ArrayList<>();
+        List<Query> rest = new ArrayList<>();
+        for (Query query : flatten(queries, flattened)) {
+            if (IndexedQuery.isIndexable(query)) {
+                indexable.add(query);
+            } else {
+                rest.add(useIndex(query, index));
+            }
+        }
+        if (!indexable.isEmpty()) {
+            Query combined = indexable.size() == 1 ? indexable.get(0) : combine.apply(indexable);
+            rest.add(0, new IndexedQuery(combined, index));
+        }
+        return rest.size() == 1 ? rest.get(0) : combine.apply(rest);
+    }
+
+    private static List<Query> flatten(List<Query> queries, Class<? extends Query> flattened) {
+        List<Query> flattenedQueries = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            if (!flattened.isInstance(query)) {
+                flattenedQueries.add(query);
+            } else if (query instanceof AndQuery) {
+                flattenedQueries.addAll(flatten(((AndQuery) query).getQueries(), flattened));
+            } else {
+                flattenedQueries.addAll(flatten(((OrQuery) query).getQueries(), flattened));
+            }
+        }
+        return flattenedQueries;
+    }
+
+    private static List<Tutee> sample(List<Tutee> tutees) {
+        if (tutees.size() <= SAMPLE_SIZE) {
+            return tutees;
+        }
+        List<Tutee> sample = new ArrayList<>(SAMPLE_SIZE);
+        double step = (double) tutees.size() / SAMPLE_SIZE;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            sample.add(tutees.get((int) (i * step)));
+        }
+        return sample;
+    }
+
+    private static Plan planQuery(Query query, List<Tutee> sample) {
+        if (query instanceof AndQuery) {
+            List<Plan> plans = planAll(((AndQuery) query).getQueries(), AndQuery.class, sample);
+            // the query rejecting the most tutees for its cost goes first
+            plans.sort(Comparator.comparingDouble(plan -> plan.cost / (1 - plan.selectivity)));
+            double cost = 0;
+            double reached = 1;
+            for (Plan plan : plans) {
+                cost += reached * plan.cost;
+                reached *= plan.selectivity;
+            }
+            return measured(new AndQuery(queriesOf(plans)), cost, sample);
+        }
+        if (query instanceof OrQuery) {
+            List<Plan> plans = planAll(((OrQuery) query).getQueries(), OrQuery.class, sample);
+            // the query matching the most tutees for its cost goes first
+            plans.sort(Comparator.comparingDouble(plan -> plan.cost / plan.selectivity));
+            double cost = 0;
+            double reached = 1;
+            for (Plan plan : plans) {
+                cost += reached * plan.cost;
+                reached *= 1 - plan.selectivity;
+            }
+            return measured(new OrQuery(queriesOf(plans)), cost, sample);
+        }
+        if (query instanceof NotQuery) {
+            Query negated = ((NotQuery) query).getQuery();
+            if (negated instanceof NotQuery) {
+                return planQuery(((NotQuery) negated).getQuery(), sample);
+            }
+            Plan plan = planQuery(negated, sample);
+            return new Plan(new NotQuery(plan.query), plan.cost, 1 - plan.selectivity);
+        }
+        double cost = query instanceof IndexedQuery ? IndexedQuery.COST : ((Clause) query).getCost();
+        return measured(query, cost, sample);
+    }
+
+    /**
+     * Plans each of {@code queries}, taking the place of any query of the type {@code flattened} by the queries in
+     * it, as they are tested in the same way.
+     */
+    private static List<Plan> planAll(List<Query> queries, Class<? extends Query> flattened, List<Tutee> sample) {
+        List<Plan> plans = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            if (!flattened.isInstance(query)) {
+                plans.add(planQuery(query, sample));
+            } else if (query instanceof AndQuery) {
+                plans.addAll(planAll(((AndQuery) query).getQueries(), flattened, sample));
+            } else {
+                plans.addAll(planAll(((OrQuery) query).getQueries(), flattened, sample));
+            }
+        }
+        return plans;
+    }
+
+    private static List<Query> queriesOf(List<Plan> plans) {
+        List<Query> queries = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            queries.add(plan.query);
+        }
+        return queries;
+    }
+
+    /**
+     * Returns the plan of {@code query}, with the fraction of {@code sample} it matches.
+     * Half a match is added to either side, so that a query matching none or all of the sample is still ordered by
+     * its cost, as it may not do so for every tutee.
+     */
+    private static Plan measured(Query query, double cost, List<Tutee> sample) {
+        int matched = 0;
+        for (Tutee tutee : sample) {
+            if (query.test(tutee)) {
+                matched++;
+            }
+        }
+        return new Plan(query, cost, (matched + 0.5) / (sample.size() + 1));
+    }
+
+    /**
+     * A query as planned, with the estimated cost of testing a tutee against it and the estimated fraction of
+     * tutees it matches.
+     */
+    private static class Plan {
+        private final Query query;
+        private final double cost;
+        private final double selectivity;
+
+        Plan(Query query, double cost, double selectivity) {
+            this.query = query;
+            this.cost = cost;
+            this.selectivity = selectivity;
+        }
+    }
+}
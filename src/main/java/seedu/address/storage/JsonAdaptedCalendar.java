@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+
+/**
+ * Jackson-friendly version of {@link LessonCalendar}.
+ */
+class JsonAdaptedCalendar {
+
+    public static final String MESSAGE_INVALID_TERM = "Term dates should be in the format dd-MM-yyyy, "
+            + "and the start of a term should not be after its end";
+    public static final String MESSAGE_INVALID_FEES_ACCRUED_UNTIL =
+            "The date fees were added until should be in the format dd-MM-yyyy";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String termStart;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String termEnd;
+    private final List<JsonAdaptedLessonOccurrence> cancellations = new ArrayList<>();
+    private final List<JsonAdaptedLessonOccurrence> makeUps = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String feesAccruedUntil;
+
+    /**
+     * Constructs a {@code JsonAdaptedCalendar} with the given calendar details.
+     */
+    @JsonCreator
+    public JsonAdaptedCalendar(@JsonProperty("termStart") String termStart, @JsonProperty("termEnd") String termEnd,
+            @JsonProperty("cancellations") List<JsonAdaptedLessonOccurrence> cancellations,
+            @JsonProperty("makeUps") List<JsonAdaptedLessonOccurrence> makeUps,
+            @JsonProperty("feesAccruedUntil") String feesAccruedUntil) {
+        this.termStart = termStart;
+        this.termEnd = termEnd;
+        if (cancellations != null) {
+            this.cancellations.addAll(cancellations);
+        }
+        if (makeUps != null) {
+            this.makeUps.addAll(makeUps);
+        }
+        this.feesAccruedUntil = feesAccruedUntil;
+    }
+
+    /**
+     * Converts a given {@code LessonCalendar} into this class for Jackson use.
+     */
+    public JsonAdaptedCalendar(LessonCalendar source) throws JsonProcessingException {
+        termStart = source.getTerm().map(term -> term.getStartDate().format(LessonOccurrence.DATE_FORMATTER))
+                .orElse(null);
+        termEnd = source.getTerm().map(term -> term.getEndDate().format(LessonOccurrence.DATE_FORMATTER))
+                .orElse(null);
+        for (LessonOccurrence cancellation : source.getCancellations()) {
+            cancellations.add(new JsonAdaptedLessonOccurrence(cancellation));
+        }
+        for (LessonOccurrence makeUp : source.getMakeUps()) {
+            makeUps.add(new JsonAdaptedLessonOccurrence(makeUp));
+        }
+        feesAccruedUntil = source.getFeesAccruedUntil().map(date -> date.format(LessonOccurrence.DATE_FORMATTER))
+                .orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted calendar into the model's {@code LessonCalendar} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted calendar.
+     * @throws IOException if the lesson of any occurrence could not be read.
+     */
+    public LessonCalendar toModelType() throws IllegalValueException, IOException {
+        Term modelTerm = null;
+        if (termStart != null || termEnd != null) {
+            try {
+                modelTerm = new Term(LocalDate.parse(String.valueOf(termStart), LessonOccurrence.DATE_FORMATTER),
+                        LocalDate.parse(String.valueOf(termEnd), LessonOccurrence.DATE_FORMATTER));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_TERM);
+            }
+        }
+
+        List<LessonOccurrence> modelCancellations = new ArrayList<>();
+        for (JsonAdaptedLessonOccurrence cancellation : cancellations) {
+            modelCancellations.add(cancellation.toModelType(LessonOccurrence.Kind.REGULAR));
+        }
+        List<LessonOccurrence> modelMakeUps = new ArrayList<>();
+        for (JsonAdaptedLessonOccurrence makeUp : makeUps) {
+            modelMakeUps.add(makeUp.toModelType(LessonOccurrence.Kind.MAKE_UP));
+        }
+        LessonCalendar calendar = LessonCalendar.of(modelTerm, modelCancellations, modelMakeUps);
+        if (feesAccruedUntil == null) {
+            return calendar;
+        }
+        try {
+            return calendar.withFeesAccruedUntil(LocalDate.parse(feesAccruedUntil, LessonOccurrence.DATE_FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_FEES_ACCRUED_UNTIL);
+        }
+    }
+}
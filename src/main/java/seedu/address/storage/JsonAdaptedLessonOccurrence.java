@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tutee.TuteeId;
+
+/**
+ * Jackson-friendly version of {@link LessonOccurrence}.
+ */
+class JsonAdaptedLessonOccurrence {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson occurrence's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Lesson occurrence dates should be in the format dd-MM-yyyy";
+
+    private final String date;
+    private final String lesson;
+    private final Long tuteeId;
+
+    /**
+     * Constructs a {@code JsonAdaptedLessonOccurrence} with the given occurrence details.
+     */
+    @JsonCreator
+    public JsonAdaptedLessonOccurrence(@JsonProperty("date") String date, @JsonProperty("lesson") String lesson,
+            @JsonProperty("tuteeId") Long tuteeId) {
+        this.date = date;
+        this.lesson = lesson;
+        this.tuteeId = tuteeId;
+    }
+
+    /**
+     * Converts a given {@code LessonOccurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedLessonOccurrence(LessonOccurrence source) throws JsonProcessingException {
+        date = source.getDate().format(LessonOccurrence.DATE_FORMATTER);
+        lesson = JsonUtil.toJsonString(source.getLesson());
+        tuteeId = source.getTuteeId().value;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted occurrence into the model's {@code LessonOccurrence} of the given kind.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted occurrence.
+     * @throws IOException if the lesson could not be read.
+     */
+    public LessonOccurrence toModelType(LessonOccurrence.Kind kind) throws IllegalValueException, IOException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        final LocalDate modelDate;
+        try {
+            modelDate = LocalDate.parse(date, LessonOccurrence.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+
+        if (lesson == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lesson"));
+        }
+        final Lesson modelLesson = JsonUtil.fromJsonString(lesson, Lesson.class);
+
+        if (tuteeId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "tuteeId"));
+        }
+        if (!TuteeId.isValidId(tuteeId)) {
+            throw new IllegalValueException(TuteeId.MESSAGE_CONSTRAINTS);
+        }
+
+        if (modelDate.getDayOfWeek() != modelLesson.getTime().getDayOfOccurrence()) {
+            throw new IllegalValueException(LessonOccurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new LessonOccurrence(modelDate, modelLesson, new TuteeId(tuteeId), kind);
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -21,10 +22,12 @@ import seedu.address.model.tutee.Address;
 import seedu.address.model.tutee.Level;
 import seedu.address.model.tutee.Name;
 import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.PaymentLedger;
 import seedu.address.model.tutee.Phone;
 import seedu.address.model.tutee.Remark;
 import seedu.address.model.tutee.School;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
 
 
 /**
@@ -42,9 +45,16 @@ class JsonAdaptedTutee {
     private final String remark;
     private final String payment;
     private final String payByDateAsString;
+    /** Payment dates in the format written before payment ledgers were introduced; only ever read. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<String> paymentHistory;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final long[] paymentLedger;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final List<String> lessons = new ArrayList<>();
+    /** Absent in data files written before tutees had IDs, in which case the tutee is given a new ID. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedTutee} with the given tutee details.
@@ -57,8 +67,10 @@ class JsonAdaptedTutee {
                             @JsonProperty("payment") String payment,
                             @JsonProperty("payByDateAsString") String payByDateAsString,
                             @JsonProperty("paymentHistory") List<String> paymentHistory,
+                            @JsonProperty("paymentLedger") long[] paymentLedger,
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
-                            @JsonProperty("lessons") List<String> lessons) {
+                            @JsonProperty("lessons") List<String> lessons,
+                            @JsonProperty("id") Long id) {
         this.name = name;
         this.phone = phone;
         this.school = school;
@@ -68,12 +80,14 @@ class JsonAdaptedTutee {
         this.payment = payment;
         this.payByDateAsString = payByDateAsString;
         this.paymentHistory = paymentHistory;
+        this.paymentLedger = paymentLedger;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
         if (lessons != null) {
             this.lessons.addAll(lessons);
         }
+        this.id = id;
     }
 
     /**
@@ -88,7 +102,8 @@ class JsonAdaptedTutee {
         remark = source.getRemark().value;
         payment = source.getPayment().value;
         payByDateAsString = source.getPayment().payByDateAsString;
-        paymentHistory = source.getPayment().paymentHistory;
+        paymentHistory = null;
+        paymentLedger = source.getPayment().paymentLedger.encode();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -96,6 +111,7 @@ class JsonAdaptedTutee {
         for (Lesson lesson : sourceLessons) {
             lessons.add(JsonUtil.toJsonString(lesson));
         }
+        id = source.getId().isAssigned() ? source.getId().value : null;
     }
 
     /**
@@ -136,7 +152,7 @@ class JsonAdaptedTutee {
         if (!School.isValidSchool(school)) {
             throw new IllegalValueException(School.MESSAGE_CONSTRAINTS);
         }
-        final School modelSchool = new School(school);
+        final School modelSchool = School.of(school);
 
         if (level == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Level.class.getSimpleName()));
@@ -144,7 +160,7 @@ class JsonAdaptedTutee {
         if (!Level.isValidLevel(level)) {
             throw new IllegalValueException(Level.MESSAGE_CONSTRAINTS);
         }
-        final Level modelLevel = new Level(level);
+        final Level modelLevel = Level.of(level);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -167,18 +183,27 @@ class JsonAdaptedTutee {
             throw new IllegalValueException(Payment.DATE_CONSTRAINTS_MESSAGE);
         }
 
-        if (paymentHistory == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "payment history"));
-        }
-        if (!Payment.isValidPaymentHistory(paymentHistory)) {
-            throw new IllegalValueException(Payment.PAYMENT_HISTORY_CONSTRAINTS_MESSAGE);
+        final PaymentLedger modelLedger;
+        if (paymentLedger != null) {
+            if (!PaymentLedger.isValidEncoding(paymentLedger)) {
+                throw new IllegalValueException(PaymentLedger.MESSAGE_CONSTRAINTS);
+            }
+            modelLedger = PaymentLedger.decode(paymentLedger);
+        } else {
+            // Data files written before payment ledgers were introduced only hold the payment dates
+            if (paymentHistory == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "payment history"));
+            }
+            if (!Payment.isValidPaymentHistory(paymentHistory)) {
+                throw new IllegalValueException(Payment.PAYMENT_HISTORY_CONSTRAINTS_MESSAGE);
+            }
+            modelLedger = PaymentLedger.fromLegacyHistory(paymentHistory);
         }
 
         final Address modelAddress = new Address(address);
 
         final Payment modelPayment = new Payment(payment, payByDateAsString.equals("-") ? null
-                : LocalDate.parse(payByDateAsString, DateTimeFormatter.ofPattern("dd-MM-yyyy")));
-        modelPayment.copyPaymentHistory(paymentHistory);
+                : LocalDate.parse(payByDateAsString, DateTimeFormatter.ofPattern("dd-MM-yyyy")), modelLedger);
 
         final Remark modelRemark = new Remark(remark);
 
@@ -186,8 +211,13 @@ class JsonAdaptedTutee {
 
         final List<Lesson> modelLessons = new ArrayList<>(tuteeLessons);
 
+        if (id != null && !TuteeId.isValidId(id)) {
+            throw new IllegalValueException(TuteeId.MESSAGE_CONSTRAINTS);
+        }
+        final TuteeId modelId = id == null ? TuteeId.UNASSIGNED : new TuteeId(id);
+
         return new Tutee(modelName, modelPhone, modelSchool, modelLevel, modelAddress, modelPayment,
-                         modelRemark, modelTags, modelLessons);
+                         modelRemark, modelTags, modelLessons).withId(modelId);
     }
 
 }
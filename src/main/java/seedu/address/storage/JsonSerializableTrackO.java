@@ -2,9 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,6 +18,8 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTrackO;
 import seedu.address.model.TrackO;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.tutee.Name;
 import seedu.address.model.tutee.Tutee;
 
 /**
@@ -22,15 +29,35 @@ import seedu.address.model.tutee.Tutee;
 class JsonSerializableTrackO {
 
     public static final String MESSAGE_DUPLICATE_TUTEE = "Tutees list contains duplicate tutee(s).";
+    public static final String MESSAGE_INVALID_TUTEES = "Tutees list contains %1$d invalid tutee(s):";
+    public static final String MESSAGE_INVALID_TUTEE_FORMAT = "Tutee %1$d: %2$s";
+
+    /**
+     * Tutees lists shorter than this are converted on the calling thread, as splitting the work across
+     * the fork-join pool costs more than it saves.
+     */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
     private final List<JsonAdaptedTutee> tutees = new ArrayList<>();
+    /** Absent if there is no term and no lesson has been cancelled or made up, as in files written before then. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedCalendar calendar;
 
     /**
-     * Constructs a {@code JsonSerializableTrackO} with the given tutees.
+     * Constructs a {@code JsonSerializableTrackO} with the given tutees and calendar.
      */
     @JsonCreator
-    public JsonSerializableTrackO(@JsonProperty("tutees") List<JsonAdaptedTutee> tutees) {
+    public JsonSerializableTrackO(@JsonProperty("tutees") List<JsonAdaptedTutee> tutees,
+            @JsonProperty("calendar") JsonAdaptedCalendar calendar) {
         this.tutees.addAll(tutees);
+        this.calendar = calendar;
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableTrackO} with the given tutees and an empty calendar.
+     */
+    public JsonSerializableTrackO(List<JsonAdaptedTutee> tutees) {
+        this(tutees, null);
     }
 
     /**
@@ -43,23 +70,89 @@ class JsonSerializableTrackO {
         for (Tutee tutee : sourceTuteeList) {
             tutees.add(new JsonAdaptedTutee(tutee));
         }
+        LessonCalendar sourceCalendar = source.getCalendar();
+        calendar = sourceCalendar.equals(LessonCalendar.EMPTY) ? null : new JsonAdaptedCalendar(sourceCalendar);
     }
 
     /**
      * Converts this Track-O into the model's {@code TrackO} object.
+     * Tutees are converted in parallel on the common fork-join pool, and every tutee is converted even if an
+     * earlier one is invalid, so that all the violations are reported together.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IOException if the lessons of any tutee could not be read.
      */
     public TrackO toModelType() throws IllegalValueException, IOException {
-        TrackO trackO = new TrackO();
-        for (JsonAdaptedTutee jsonAdaptedTutee : tutees) {
-            Tutee tutee = jsonAdaptedTutee.toModelType();
-            if (trackO.hasTutee(tutee)) {
+        int size = tutees.size();
+        Tutee[] modelTutees = new Tutee[size];
+        Exception[] errors = new Exception[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                modelTutees[i] = tutees.get(i).toModelType();
+            } catch (IllegalValueException | IOException | IllegalArgumentException e) {
+                errors[i] = e;
+            }
+        });
+
+        throwIfAnyInvalid(errors);
+
+        Set<Name> seenNames = new HashSet<>(size * 2);
+        for (Tutee tutee : modelTutees) {
+            if (!seenNames.add(tutee.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TUTEE);
             }
-            trackO.addTutee(tutee);
+        }
+
+        TrackO trackO = new TrackO();
+        trackO.setTrustedTutees(Arrays.asList(modelTutees));
+        if (calendar != null) {
+            trackO.setCalendar(calendar.toModelType());
         }
         return trackO;
     }
 
+    /**
+     * Throws an exception listing every error in {@code errors}, which is indexed by the position of the tutee
+     * it came from. An {@code IOException} is thrown if any tutee could not be read, and an
+     * {@code IllegalValueException} otherwise.
+     */
+    private static void throwIfAnyInvalid(Exception[] errors) throws IllegalValueException, IOException {
+        List<String> messages = new ArrayList<>();
+        Exception firstError = null;
+        boolean hasIoError = false;
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] == null) {
+                continue;
+            }
+            firstError = firstError == null ? errors[i] : firstError;
+            hasIoError |= errors[i] instanceof IOException;
+            messages.add(String.format(MESSAGE_INVALID_TUTEE_FORMAT, i + 1, errors[i].getMessage()));
+        }
+
+        if (firstError == null) {
+            return;
+        }
+        if (messages.size() == 1) {
+            // A single violation is reported as is, as before tutees were converted in bulk
+            if (firstError instanceof IOException) {
+                throw (IOException) firstError;
+            }
+            if (firstError instanceof IllegalValueException) {
+                throw (IllegalValueException) firstError;
+            }
+            throw new IllegalValueException(firstError.getMessage(), firstError);
+        }
+
+        String report = String.format(MESSAGE_INVALID_TUTEES, messages.size()) + "\n" + String.join("\n", messages);
+        if (hasIoError) {
+            throw new IOException(report, firstError);
+        }
+        throw new IllegalValueException(report, firstError);
+    }
+
 }
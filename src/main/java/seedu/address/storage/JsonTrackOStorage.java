@@ -54,7 +54,7 @@ public class JsonTrackOStorage implements TrackOStorage {
         try {
             return Optional.of(jsonTrackO.get().toModelType());
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
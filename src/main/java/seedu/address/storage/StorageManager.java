@@ -61,7 +61,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTrackO> readTrackO(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return trackOStorage.readTrackO(filePath);
     }
 
@@ -72,7 +72,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTrackO(ReadOnlyTrackO trackO, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         trackOStorage.saveTrackO(trackO, filePath);
     }
 
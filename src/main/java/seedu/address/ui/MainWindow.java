@@ -4,6 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TUTEE_DISPLAYE
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -166,6 +167,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedback} that is not the result of a command in the result display.
+     */
+    void showFeedback(String feedback) {
+        logger.info(() -> "Feedback: " + feedback);
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     public TuteeListPanel getTuteeListPanel() {
         return tuteeListPanel;
     }
@@ -178,8 +187,12 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser(), commandResult.getDetails());
+            commandResult.getPendingFeedback().ifPresent(pendingFeedback -> pendingFeedback.thenAccept(feedback -> {
+                logger.info(() -> "Result: " + feedback);
+                Platform.runLater(() -> resultDisplay.setFeedbackToUser(feedback));
+            }));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -191,11 +204,11 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         } catch (IndexOutOfBoundsException ie) {
-            logger.info("Invalid index: " + commandText);
+            logger.info(() -> "Invalid index: " + commandText);
             resultDisplay.setFeedbackToUser(ie.getMessage());
             throw new ParseException(MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX, ie);
         }
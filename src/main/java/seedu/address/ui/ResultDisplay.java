@@ -1,28 +1,81 @@
 package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+import javafx.scene.control.Pagination;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * <br>
+ * The details of a result are shown below its feedback a page at a time, each page in a list view, so that only
+ * the rows in sight are laid out however long the result is.
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    /** The number of details shown on each page. */
+    public static final int PAGE_SIZE = 50;
+
     private static final String FXML = "ResultDisplay.fxml";
 
+    private List<String> details = new ArrayList<>();
+
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private Pagination detailsPagination;
+
+    /**
+     * Creates a {@code ResultDisplay} with nothing shown.
+     */
     public ResultDisplay() {
         super(FXML);
+        showDetails(List.of());
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
         resultDisplay.setText(feedbackToUser);
+        showDetails(List.of());
+    }
+
+    /**
+     * Shows {@code feedbackToUser}, followed by {@code details} a page at a time.
+     */
+    public void setFeedbackToUser(String feedbackToUser, List<String> details) {
+        requireAllNonNull(feedbackToUser, details);
+        resultDisplay.setText(feedbackToUser);
+        showDetails(details);
+    }
+
+    private void showDetails(List<String> details) {
+        this.details = details;
+        boolean hasDetails = !details.isEmpty();
+        detailsPagination.setVisible(hasDetails);
+        detailsPagination.setManaged(hasDetails);
+        detailsPagination.setPageCount(Math.max(1, (details.size() + PAGE_SIZE - 1) / PAGE_SIZE));
+        detailsPagination.setCurrentPageIndex(0);
+        // the current page is not created again when the page index stays the same
+        detailsPagination.setPageFactory(null);
+        detailsPagination.setPageFactory(this::createPage);
+    }
+
+    private Node createPage(int pageIndex) {
+        int from = Math.min(pageIndex * PAGE_SIZE, details.size());
+        int to = Math.min(from + PAGE_SIZE, details.size());
+        ListView<String> page = new ListView<>(FXCollections.observableArrayList(details.subList(from, to)));
+        page.getStyleClass().add("result-details");
+        return page;
     }
 
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedback} to the user, as for the result of a command. */
+    void showFeedback(String feedback);
+
 }
@@ -37,6 +37,57 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_fastStart_success() {
+        parametersStub.namedParameters.put("fast-start", "true");
+        expected.setFastStart(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFastStart_fastStartDisabled() {
+        parametersStub.namedParameters.put("fast-start", "yes please");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArgs_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setFastStart(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--fast-start", "unnamed"}));
+    }
+
+    @Test
+    public void parse_headless_success() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless"}));
+    }
+
+    @Test
+    public void parse_execPath_headlessWithExecPath() {
+        expected.setHeadless(true);
+        expected.setExecPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--exec=commands.txt"}));
+    }
+
+    @Test
+    public void parse_invalidExecPath_headlessWithoutExecPath() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--exec=a\0"}));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=8080"}));
+    }
+
+    @Test
+    public void parse_invalidApiPort_apiNotServed() {
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=65536"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=http"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
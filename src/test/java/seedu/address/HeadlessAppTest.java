@@ -0,0 +1,108 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ReadOnlyTrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonTrackOStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final AppParameters appParameters = new AppParameters();
+    private Path trackOFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        trackOFilePath = temporaryFolder.resolve("tracko.json");
+        new JsonTrackOStorage(trackOFilePath).saveTrackO(getTypicalTrackO());
+
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTrackOFilePath(trackOFilePath);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+
+        appParameters.setConfigPath(configFilePath);
+        appParameters.setHeadless(true);
+    }
+
+    @Test
+    public void run_validCommands_success() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("list\n\n# a comment\nclear\n"));
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertTrue(readTrackO().getTuteeList().isEmpty());
+    }
+
+    @Test
+    public void run_invalidCommand_failureReportedAndOtherCommandsRun() throws Exception {
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("list\nunknown command\nclear"));
+
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED,
+                2, "")));
+        assertTrue(readTrackO().getTuteeList().isEmpty());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("exit\nclear"));
+        assertFalse(readTrackO().getTuteeList().isEmpty());
+    }
+
+    @Test
+    public void run_execPath_commandsReadFromFile() throws Exception {
+        Path execPath = temporaryFolder.resolve("commands.txt");
+        Files.writeString(execPath, "clear\n");
+        appParameters.setExecPath(execPath);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("this is not read"));
+        assertTrue(readTrackO().getTuteeList().isEmpty());
+    }
+
+    @Test
+    public void run_missingExecPath_ioError() {
+        appParameters.setExecPath(temporaryFolder.resolve("missing.txt"));
+        assertEquals(HeadlessApp.EXIT_IO_ERROR, run(""));
+    }
+
+    private int run(String commands) {
+        InputStream in = new ByteArrayInputStream(commands.getBytes(StandardCharsets.UTF_8));
+        HeadlessApp app = new HeadlessApp(appParameters, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8), false);
+        return app.run(in);
+    }
+
+    private ReadOnlyTrackO readTrackO() throws Exception {
+        return new JsonTrackOStorage(trackOFilePath).readTrackO().get();
+    }
+}
@@ -0,0 +1,249 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonTrackOStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TuteeBuilder;
+
+/**
+ * Load tests the HTTP API served by {@link ApiServer} on this computer, with clients that each send a request as
+ * soon as their previous request is answered, and reports the throughput and latencies of reads and writes.
+ * <br>
+ * Usage: {@code ApiLoadTester [--port=PORT --token-file=FILE] [--clients=COUNT] [--seconds=SECONDS]
+ * [--write-percent=PERCENT]}
+ * <br>
+ * Without {@code --port}, an {@code ApiServer} is started over a Track-O of generated tutees saved in a temporary
+ * folder, so that the test does not change any real data. With {@code --port}, the test runs against a Track-O
+ * already serving the API on that port, with the token saved in {@code FILE}, and edits the phone numbers of its
+ * tutees.
+ */
+public class ApiLoadTester {
+
+    private static final int DEFAULT_CLIENT_COUNT = 16;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int DEFAULT_WRITE_PERCENT = 10;
+    private static final int GENERATED_TUTEE_COUNT = 1000;
+
+    /**
+     * Runs the load test with the command-line arguments described above and prints its results.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length == 2 ? option[1] : "");
+        }
+        int clientCount = Integer.parseInt(options.getOrDefault("clients", "" + DEFAULT_CLIENT_COUNT));
+        long durationMillis = TimeUnit.SECONDS.toMillis(
+                Integer.parseInt(options.getOrDefault("seconds", "" + DEFAULT_SECONDS)));
+        int writePercent = Integer.parseInt(options.getOrDefault("write-percent", "" + DEFAULT_WRITE_PERCENT));
+
+        if (options.containsKey("port")) {
+            URI baseUri = URI.create("http://localhost:" + options.get("port") + "/api/");
+            String token = Files.readString(Path.of(options.get("token-file"))).trim();
+            System.out.println(run(baseUri, token, clientCount, durationMillis, writePercent));
+            return;
+        }
+
+        Path dataFolder = Files.createTempDirectory("tracko-load-test");
+        String token = ApiServer.createToken(dataFolder.resolve(ApiServer.TOKEN_FILE_NAME));
+        ApiServer server = startGeneratedServer(dataFolder, GENERATED_TUTEE_COUNT, token);
+        try {
+            URI baseUri = URI.create("http://localhost:" + server.getPort() + "/api/");
+            System.out.println(run(baseUri, token, clientCount, durationMillis, writePercent));
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Starts an {@code ApiServer} on any free port over a Track-O of {@code tuteeCount} generated tutees, which is
+     * saved in {@code dataFolder}, and which accepts requests with {@code token}.
+     */
+    static ApiServer startGeneratedServer(Path dataFolder, int tuteeCount, String token) throws Exception {
+        TrackO trackO = new TrackO();
+        for (int i = 0; i < tuteeCount; i++) {
+            trackO.addTutee(new TuteeBuilder().withName("Load Test Tutee " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build());
+        }
+        Model model = new ModelManager(trackO, new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonTrackOStorage(dataFolder.resolve("tracko.json")),
+                new JsonUserPrefsStorage(dataFolder.resolve("preferences.json")));
+        ApiServer server = new ApiServer(model, new LogicManager(model, storage), Runnable::run, 0,
+                ApiServer.DEFAULT_THREAD_COUNT, token);
+        server.start();
+        return server;
+    }
+
+    /**
+     * Runs {@code clientCount} clients against the API at {@code baseUri}, which accepts requests with
+     * {@code token}, for {@code durationMillis}, with each request being a write with a chance of
+     * {@code writePercent} percent.
+     * Reads alternate between listing the tutees, getting one tutee and getting the schedule. Writes edit the phone
+     * number of a random tutee.
+     */
+    static LoadTestResult run(URI baseUri, String token, int clientCount, long durationMillis, int writePercent)
+            throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        List<Long> tuteeIds = getTuteeIds(client, baseUri, token);
+        if (tuteeIds.isEmpty()) {
+            throw new IllegalStateException("The Track-O under test has no tutees to read or edit");
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            Random random = new Random(i);
+            futures.add(clients.submit(() -> runClient(client, baseUri, token, tuteeIds, writePercent, deadline,
+                    random)));
+        }
+
+        LoadTestResult result = new LoadTestResult(durationMillis);
+        for (Future<ClientResult> future : futures) {
+            result.add(future.get());
+        }
+        clients.shutdown();
+        return result;
+    }
+
+    private static List<Long> getTuteeIds(HttpClient client, URI baseUri, String token) throws Exception {
+        HttpResponse<String> response = client.send(request(baseUri, token, "tutees").build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        for (Object tutee : JsonUtil.fromJsonString(response.body(), List.class)) {
+            ids.add(((Number) ((Map<?, ?>) tutee).get("id")).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a request for the resource at {@code path} under {@code baseUri}, carrying {@code token}.
+     */
+    private static HttpRequest.Builder request(URI baseUri, String token, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private static ClientResult runClient(HttpClient client, URI baseUri, String token, List<Long> tuteeIds,
+            int writePercent, long deadline, Random random) throws InterruptedException {
+        ClientResult result = new ClientResult();
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            long tuteeId = tuteeIds.get(random.nextInt(tuteeIds.size()));
+            boolean isWrite = random.nextInt(100) < writePercent;
+            HttpRequest request;
+            if (isWrite) {
+                String phone = String.valueOf(90000000 + random.nextInt(10000000));
+                request = request(baseUri, token, "tutees/" + tuteeId + "/edit")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"arguments\": \"p/" + phone + "\"}")).build();
+            } else if (i % 3 == 0) {
+                request = request(baseUri, token, "tutees").build();
+            } else if (i % 3 == 1) {
+                request = request(baseUri, token, "tutees/" + tuteeId).build();
+            } else {
+                request = request(baseUri, token, "schedule").build();
+            }
+
+            long startNanos = System.nanoTime();
+            boolean isSuccess;
+            try {
+                isSuccess = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                isSuccess = false;
+            }
+            result.record(isWrite, System.nanoTime() - startNanos, isSuccess);
+        }
+        return result;
+    }
+
+    /**
+     * The latencies of the requests sent by one client.
+     */
+    private static class ClientResult {
+        private final List<Long> readNanos = new ArrayList<>();
+        private final List<Long> writeNanos = new ArrayList<>();
+        private int errorCount;
+
+        void record(boolean isWrite, long nanos, boolean isSuccess) {
+            (isWrite ? writeNanos : readNanos).add(nanos);
+            if (!isSuccess) {
+                errorCount++;
+            }
+        }
+    }
+
+    /**
+     * The combined results of all clients in a load test.
+     */
+    static class LoadTestResult {
+        private final long durationMillis;
+        private final List<Long> readNanos = new ArrayList<>();
+        private final List<Long> writeNanos = new ArrayList<>();
+        private int errorCount;
+
+        LoadTestResult(long durationMillis) {
+            this.durationMillis = durationMillis;
+        }
+
+        void add(ClientResult clientResult) {
+            readNanos.addAll(clientResult.readNanos);
+            writeNanos.addAll(clientResult.writeNanos);
+            errorCount += clientResult.errorCount;
+        }
+
+        int getRequestCount() {
+            return readNanos.size() + writeNanos.size();
+        }
+
+        int getErrorCount() {
+            return errorCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests in %d ms (%.0f requests/s), %d errors%n  reads:  %s%n  writes: %s",
+                    getRequestCount(), durationMillis, getRequestCount() * 1000.0 / durationMillis, errorCount,
+                    describeLatencies(readNanos), describeLatencies(writeNanos));
+        }
+
+        private static String describeLatencies(List<Long> nanos) {
+            if (nanos.isEmpty()) {
+                return "none";
+            }
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return String.format("%d, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms", sorted.length,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 90), percentileMillis(sorted, 99),
+                    sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentileMillis(long[] sorted, int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
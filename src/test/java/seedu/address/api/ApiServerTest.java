@@ -0,0 +1,272 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.storage.JsonTrackOStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+    private URI baseUri;
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonTrackOStorage(temporaryFolder.resolve("tracko.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")));
+        token = ApiServer.createToken(temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME));
+        server = new ApiServer(model, new LogicManager(model, storage), Runnable::run, 0, 4, token);
+        server.start();
+        baseUri = URI.create("http://localhost:" + server.getPort() + "/api/");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getTutees_returnsAllTutees() throws Exception {
+        HttpResponse<String> response = get("tutees");
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(model.getTrackO().getTuteeList().size(), JsonUtil.fromJsonString(response.body(),
+                List.class).size());
+    }
+
+    @Test
+    public void getTutee_existingId_returnsTutee() throws Exception {
+        Tutee alice = model.getTrackO().getTuteeList().get(0);
+        HttpResponse<String> response = get("tutees/" + alice.getId());
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(ALICE.getName().fullName, JsonUtil.fromJsonString(response.body(), Map.class).get("name"));
+    }
+
+    @Test
+    public void getTutee_missingOrInvalidId_returnsError() throws Exception {
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get("tutees/1000").statusCode());
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get("tutees/alice").statusCode());
+    }
+
+    @Test
+    public void getSchedule_returnsScheduledLessons() throws Exception {
+        HttpResponse<String> response = get("schedule");
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(model.getSchedule().getSortedLessonsMap().size(), JsonUtil.fromJsonString(response.body(),
+                List.class).size());
+    }
+
+    @Test
+    public void find_validQuery_returnsFoundTuteesWithoutChangingShownList() throws Exception {
+        int shownCount = model.getFilteredTuteeList().size();
+        HttpResponse<String> response = get("find?q=" + URLEncoder.encode("n/Alice", StandardCharsets.UTF_8));
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(1, JsonUtil.fromJsonString(response.body(), List.class).size());
+        assertEquals(shownCount, model.getFilteredTuteeList().size());
+    }
+
+    @Test
+    public void find_invalidQuery_returnsBadRequest() throws Exception {
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get("find").statusCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_commandRun() throws Exception {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        HttpResponse<String> response = post("commands", "command", DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(tuteeCount - 1, model.getTrackO().getTuteeList().size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, post("commands", "command", "delete x").statusCode());
+    }
+
+    @Test
+    public void postCommand_commandNotAllowed_returnsForbidden() throws Exception {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        for (String command : List.of(ClearCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD + " data.json",
+                ExportCommand.COMMAND_WORD + " out.json", MergeCommand.COMMAND_WORD + " other.json",
+                " " + ClearCommand.COMMAND_WORD, "unknown")) {
+            assertEquals(ApiServer.STATUS_FORBIDDEN, post("commands", "command", command).statusCode(), command);
+        }
+        Tutee tutee = model.getTrackO().getTuteeList().get(0);
+        assertEquals(ApiServer.STATUS_FORBIDDEN, post("tutees/" + tutee.getId() + "/" + ClearCommand.COMMAND_WORD,
+                "arguments", "").statusCode());
+        assertEquals(tuteeCount, model.getTrackO().getTuteeList().size());
+    }
+
+    @Test
+    public void postCommand_invalidBody_returnsBadRequest() throws Exception {
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, send(request("commands")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("list")).build()).statusCode());
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, post("commands", "arguments", "list").statusCode());
+    }
+
+    @Test
+    public void postCommand_notJson_returnsUnsupportedMediaType() throws Exception {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        HttpRequest request = request("commands").header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"delete 1\"}")).build();
+        assertEquals(ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE, send(request).statusCode());
+        request = request("commands")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"delete 1\"}")).build();
+        assertEquals(ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE, send(request).statusCode());
+        assertEquals(tuteeCount, model.getTrackO().getTuteeList().size());
+    }
+
+    @Test
+    public void request_missingOrWrongToken_returnsUnauthorized() throws Exception {
+        HttpRequest noToken = HttpRequest.newBuilder(baseUri.resolve("tutees")).build();
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, send(noToken).statusCode());
+
+        HttpRequest wrongToken = HttpRequest.newBuilder(baseUri.resolve("tutees"))
+                .header("Authorization", "Bearer " + token + "x").build();
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, send(wrongToken).statusCode());
+
+        HttpRequest notBearer = HttpRequest.newBuilder(baseUri.resolve("tutees"))
+                .header("Authorization", token).build();
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, send(notBearer).statusCode());
+    }
+
+    @Test
+    public void request_withOrigin_returnsForbidden() throws Exception {
+        HttpRequest request = request("tutees").header("Origin", "http://example.com").build();
+        assertEquals(ApiServer.STATUS_FORBIDDEN, send(request).statusCode());
+    }
+
+    @Test
+    public void request_otherHost_returnsForbidden() throws Exception {
+        assertEquals(ApiServer.STATUS_FORBIDDEN, sendWithHost("rebound.example.com:" + server.getPort()));
+        assertEquals(ApiServer.STATUS_FORBIDDEN, sendWithHost("localhost:1"));
+        assertEquals(ApiServer.STATUS_OK, sendWithHost("127.0.0.1:" + server.getPort()));
+        assertEquals(ApiServer.STATUS_OK, sendWithHost("localhost:" + server.getPort()));
+    }
+
+    @Test
+    public void createToken_savesNewTokenToFile() throws Exception {
+        Path tokenFile = temporaryFolder.resolve("tokens").resolve(ApiServer.TOKEN_FILE_NAME);
+        String firstToken = ApiServer.createToken(tokenFile);
+        assertEquals(firstToken, Files.readString(tokenFile));
+
+        String secondToken = ApiServer.createToken(tokenFile);
+        assertNotEquals(firstToken, secondToken);
+        assertEquals(secondToken, Files.readString(tokenFile));
+    }
+
+    @Test
+    public void postTuteeCommand_existingId_commandRunOnTutee() throws Exception {
+        Tutee tutee = model.getTrackO().getTuteeList().get(2);
+        HttpResponse<String> response = post("tutees/" + tutee.getId() + "/edit", "arguments", "p/91234567");
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals("91234567", model.getSnapshot().getTutee(tutee.getId()).getPhone().value);
+    }
+
+    @Test
+    public void postTuteeCommand_tuteeNotShown_returnsBadRequest() throws Exception {
+        Tutee tutee = model.getTrackO().getTuteeList().get(2);
+        model.updateFilteredTuteeList(shown -> false);
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, post("tutees/" + tutee.getId() + "/edit", "arguments",
+                "p/91234567").statusCode());
+    }
+
+    @Test
+    public void unsupportedRequests_returnError() throws Exception {
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get("unknown").statusCode());
+        assertEquals(ApiServer.STATUS_NOT_FOUND, post("tutees", "arguments", "").statusCode());
+        HttpRequest delete = request("tutees").DELETE().build();
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED,
+                client.send(delete, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void loadTest_concurrentReadsAndWrites_noErrors() throws Exception {
+        ApiLoadTester.LoadTestResult result = ApiLoadTester.run(baseUri, token, 8, 500, 20);
+        assertTrue(result.getRequestCount() > 0);
+        assertEquals(0, result.getErrorCount(), result.toString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(request(path).build());
+    }
+
+    /**
+     * Posts a JSON object with the string {@code value} in the field {@code field} to {@code path}.
+     */
+    private HttpResponse<String> post(String path, String field, String value) throws Exception {
+        String body = JsonUtil.toJsonString(Map.of(field, value));
+        return send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+
+    /**
+     * Sends a request for the tutees with the token and the given {@code Host} header, which the HTTP client does
+     * not allow to be set, and returns the status of the response.
+     */
+    private int sendWithHost(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /api/tutees HTTP/1.1\r\nHost: " + host + "\r\nAuthorization: Bearer " + token
+                    + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            return Integer.parseInt(in.readLine().split(" ")[1]);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, new RecordingHandler()));
+    }
+
+    @Test
+    public void flush_recordsPublished_publishedInOrderOnFlusherThread() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("first");
+        logger.info(() -> "second");
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), delegate.getMessages());
+        // the source was found on this thread, not on the flusher thread
+        assertEquals(List.of(AsyncLogHandlerTest.class.getName(), AsyncLogHandlerTest.class.getName()),
+                delegate.getSourceClassNames());
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notPublished() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.publish(new LogRecord(Level.SEVERE, "severe"));
+        handler.close();
+
+        assertEquals(List.of("severe"), delegate.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFull_recordsDroppedWithoutBlocking() throws InterruptedException {
+        BlockingHandler delegate = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, delegate);
+        handler.publish(new LogRecord(Level.INFO, "taken by the flusher"));
+        delegate.awaitBlocked();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        delegate.unblock();
+        handler.close();
+        List<String> messages = delegate.getMessages();
+        assertEquals(List.of("taken by the flusher", "record 0", "record 1"), messages.subList(0, 3));
+        assertTrue(messages.get(3).startsWith("3 log records were dropped"));
+    }
+
+    @Test
+    public void close_recordsBuffered_publishedAndDelegatesClosed() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        handler.close();
+
+        assertEquals(List.of("before close"), delegate.getMessages());
+        assertTrue(delegate.isClosed);
+    }
+
+    /**
+     * A {@code Handler} that keeps the messages published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> sourceClassNames = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            sourceClassNames.add(record.getSourceClassName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        List<String> getSourceClassNames() {
+            return new ArrayList<>(sourceClassNames);
+        }
+    }
+
+    /**
+     * A {@code RecordingHandler} that blocks publishing the first record until {@link #unblock()} is called.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch unblocked = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            blocked.countDown();
+            try {
+                unblocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(record);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+    }
+}
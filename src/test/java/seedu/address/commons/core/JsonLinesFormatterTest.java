@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JsonLinesFormatterTest {
+
+    private final JsonLinesFormatter formatter = new JsonLinesFormatter();
+
+    @Test
+    public void format_specialCharacters_oneValidJsonLine() throws Exception {
+        LogRecord record = new LogRecord(Level.WARNING, "Tutee \"{0}\"\nat C:\\tracko\t\u0001");
+        record.setParameters(new Object[] {"Alex"});
+        record.setLoggerName("JsonLinesFormatterTest");
+
+        String line = formatter.format(record);
+        assertTrue(line.endsWith(System.lineSeparator()));
+        assertTrue(line.trim().indexOf('\n') < 0);
+
+        JsonNode json = new ObjectMapper().readTree(line);
+        assertTrue(json.get("level").asText().equals("WARNING"));
+        assertTrue(json.get("logger").asText().equals("JsonLinesFormatterTest"));
+        assertTrue(json.get("message").asText().equals("Tutee \"Alex\"\nat C:\\tracko\t\u0001"));
+        assertTrue(json.get("thrown") == null);
+    }
+
+    @Test
+    public void format_thrown_stackTraceIncluded() throws Exception {
+        LogRecord record = new LogRecord(Level.SEVERE, "failed");
+        record.setThrown(new IllegalStateException("dummy"));
+
+        JsonNode json = new ObjectMapper().readTree(formatter.format(record));
+        assertTrue(json.get("logger").isNull());
+        assertTrue(json.get("thrown").asText().startsWith("java.lang.IllegalStateException: dummy"));
+    }
+}
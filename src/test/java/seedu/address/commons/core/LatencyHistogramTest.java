@@ -0,0 +1,68 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(100.5));
+    }
+
+    @Test
+    public void getPercentileNanos_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_shortDurations_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 7; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(1, histogram.getPercentileNanos(0));
+        assertEquals(4, histogram.getPercentileNanos(50));
+        assertEquals(7, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void getPercentileNanos_longDurations_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        assertWithinPrecision(500_000_000, histogram.getPercentileNanos(50));
+        assertWithinPrecision(900_000_000, histogram.getPercentileNanos(90));
+        assertWithinPrecision(990_000_000, histogram.getPercentileNanos(99));
+        assertEquals(1_000_000_000, histogram.getPercentileNanos(100));
+        assertEquals(1_000_000_000, histogram.getMaxNanos());
+        assertEquals(500_500_000, histogram.getMeanNanos());
+        assertEquals(1000, histogram.getCount());
+    }
+
+    @Test
+    public void record_extremeDurations_recorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125,
+                actual + " should be within 12.5% above " + expected);
+    }
+}
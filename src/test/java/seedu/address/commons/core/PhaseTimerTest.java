@@ -0,0 +1,48 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    private static final Logger LOGGER = LogsCenter.getLogger(PhaseTimerTest.class);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PhaseTimer(null, LOGGER));
+        assertThrows(NullPointerException.class, () -> new PhaseTimer("Startup", null));
+    }
+
+    @Test
+    public void endPhase_phasesRecordedInOrder() {
+        PhaseTimer timer = new PhaseTimer("Startup", LOGGER);
+        timer.endPhase("config");
+        timer.endPhase("storage");
+        timer.endPhase("model");
+
+        Map<String, Long> phaseMillis = timer.getPhaseMillis();
+        assertEquals(Arrays.asList("config", "storage", "model"), new ArrayList<>(phaseMillis.keySet()));
+        assertTrue(phaseMillis.values().stream().allMatch(millis -> millis >= 0));
+    }
+
+    @Test
+    public void endPhase_repeatedPhase_timesAdded() throws InterruptedException {
+        PhaseTimer timer = new PhaseTimer("Startup", LOGGER);
+        Thread.sleep(5);
+        long first = timer.endPhase("model");
+        Thread.sleep(5);
+        long second = timer.endPhase("model");
+
+        assertEquals(1, timer.getPhaseMillis().size());
+        assertEquals(first + second, (long) timer.getPhaseMillis().get("model"));
+        assertTrue(timer.getTotalMillis() >= first + second);
+    }
+}
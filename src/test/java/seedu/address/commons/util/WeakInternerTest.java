@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String first = new String("Math");
+        String second = new String("Math");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keptSeparately() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String math = new String("Math");
+        String science = new String("Science");
+
+        assertSame(math, interner.intern(math));
+        assertSame(science, interner.intern(science));
+        assertEquals(2, interner.size());
+    }
+}
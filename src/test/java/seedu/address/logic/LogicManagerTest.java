@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalTutees.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,8 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandStats;
 import seedu.address.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -74,6 +77,15 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_dataLoading_throwsCommandException() throws Exception {
+        ((LogicManager) logic).setLoadingData(true);
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_DATA_LOADING);
+
+        ((LogicManager) logic).setLoadingData(false);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws ScheduleClashException {
         // Setup LogicManager with JsonTrackOIoExceptionThrowingStub
@@ -94,6 +106,19 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandsRun_recordedInCommandMetrics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        List<CommandStats> stats = ((LogicManager) logic).getCommandMetrics().getStats();
+        assertEquals(2, stats.size());
+        assertEquals(CommandMetrics.INVALID_COMMAND_WORD, stats.get(0).getCommandWord());
+        assertEquals(1, stats.get(0).getFailureCount());
+        assertEquals(ListCommand.COMMAND_WORD, stats.get(1).getCommandWord());
+        assertEquals(0, stats.get(1).getFailureCount());
+    }
+
     @Test
     public void getFilteredTuteeList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTuteeList().remove(0));
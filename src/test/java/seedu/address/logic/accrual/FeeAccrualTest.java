@@ -0,0 +1,185 @@
+package seedu.address.logic.accrual;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LESSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TUTEE;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.CancelLessonCommand;
+import seedu.address.logic.commands.MakeUpLessonCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.Tutee;
+
+public class FeeAccrualTest {
+
+    // Benson has a $80 lesson on Mondays, and Carl has $80 lessons on Sundays and Tuesdays
+    private static final LocalDate SUNDAY = LocalDate.of(2021, 10, 17);
+    private static final LocalDate MONDAY = SUNDAY.plusDays(1);
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public FeeAccrualTest() throws ScheduleClashException {
+    }
+
+    private Tutee getTutee(Tutee tutee) {
+        return model.getTrackO().getTuteeList().stream().filter(tutee::isSameTutee).findFirst().get();
+    }
+
+    private String getOwed(Tutee tutee) {
+        return getTutee(tutee).getPayment().getValue();
+    }
+
+    @Test
+    public void accrue_firstAccrual_onlyRecordsDate() {
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, MONDAY);
+
+        assertTrue(result.isPresent());
+        assertEquals(0, result.get().getLessonCount());
+        assertEquals(Optional.of(SUNDAY), model.getCalendar().getFeesAccruedUntil());
+        assertEquals("90", getOwed(BENSON));
+
+        // the same day again -> nothing changed
+        assertFalse(FeeAccrual.accrue(model, MONDAY).isPresent());
+    }
+
+    @Test
+    public void accrue_noScheduledLessons_nothingChanged() throws Exception {
+        Model emptyModel = new ModelManager();
+        assertFalse(FeeAccrual.accrue(emptyModel, MONDAY).isPresent());
+        assertEquals(Optional.empty(), emptyModel.getCalendar().getFeesAccruedUntil());
+    }
+
+    @Test
+    public void accrue_twoWeeksLater_feesOfLessonsHeldAddedOnce() {
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+        LocalDate today = MONDAY.plusWeeks(2);
+
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, today);
+
+        // Benson on 18 and 25 October, Carl on 19, 24, 26 and 31 October
+        assertEquals(Optional.of(new FeeAccrual.Result(MONDAY, today.minusDays(1), 6, 2, 48000, Map.of())),
+                result);
+        assertEquals("250.00", getOwed(BENSON));
+        assertEquals("400.00", getOwed(CARL));
+        assertEquals(Optional.of(today.minusDays(1)), model.getCalendar().getFeesAccruedUntil());
+
+        // accrued again -> no fees added twice
+        assertFalse(FeeAccrual.accrue(model, today).isPresent());
+        assertEquals("250.00", getOwed(BENSON));
+    }
+
+    @Test
+    public void accrue_cancelledAndMakeUpLessons_onlyLessonsHeldCharged() {
+        Tutee benson = getTutee(BENSON);
+        Lesson makeUpLesson = new Lesson(LESSON_2.getSubject(),
+                new Time(MONDAY.plusDays(5).getDayOfWeek(), LocalTime.of(10, 0), LocalTime.of(11, 0)), 40.0);
+        model.setCalendar(model.getCalendar()
+                .withFeesAccruedUntil(SUNDAY)
+                .withCancelled(new LessonOccurrence(MONDAY, LESSON_2, benson.getId(), LessonOccurrence.Kind.REGULAR))
+                .withMakeUp(new LessonOccurrence(MONDAY.plusDays(5), makeUpLesson, benson.getId(),
+                        LessonOccurrence.Kind.MAKE_UP)));
+
+        FeeAccrual.accrue(model, MONDAY.plusWeeks(2));
+
+        // $40 make-up lesson and $80 lesson on 25 October
+        assertEquals("210.00", getOwed(BENSON));
+    }
+
+    @Test
+    public void accrue_maximumAmountExceeded_addedUpToMaximumAndReported() {
+        Tutee benson = getTutee(BENSON);
+        model.setTutee(benson, benson.withPayment(new Payment("99990", null)));
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, MONDAY.plusWeeks(1));
+
+        // only $10 of the $80 lesson fits under the maximum amount
+        assertEquals(2, result.get().getTuteeCount());
+        assertEquals(16000 + 1000, result.get().getTotalInCents());
+        assertEquals(Map.of(benson.getName().toString(), 7000L), result.get().getNotAddedInCents());
+        assertTrue(result.get().toString().contains(String.format(FeeAccrual.MESSAGE_AMOUNT_EXCEEDED, "70.00",
+                benson.getName(), "100000.00")));
+        assertEquals("100000.00", getOwed(BENSON));
+        assertEquals("240.00", getOwed(CARL));
+    }
+
+    @Test
+    public void accrue_alreadyAtMaximumAmount_nothingAddedAndReported() {
+        Tutee benson = getTutee(BENSON);
+        model.setTutee(benson, benson.withPayment(new Payment("100000", null)));
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, MONDAY.plusWeeks(1));
+
+        assertEquals(1, result.get().getTuteeCount());
+        assertEquals(Map.of(benson.getName().toString(), 8000L), result.get().getNotAddedInCents());
+        assertEquals("100000", getOwed(BENSON));
+    }
+
+    @Test
+    public void accrue_backDatedMakeUpLesson_rejectedAndNotChargedTwice() {
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+        FeeAccrual.accrue(model, MONDAY.plusWeeks(1));
+        assertEquals("170.00", getOwed(BENSON));
+
+        // a make-up lesson on the Saturday just accrued would never be charged
+        MakeUpLessonCommand makeUp = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON,
+                MONDAY.plusDays(5), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        assertCommandFailure(makeUp, model, String.format(Messages.MESSAGE_FEES_ALREADY_ADDED, "24-10-2021"));
+
+        FeeAccrual.accrue(model, MONDAY.plusWeeks(1));
+        assertTrue(model.getCalendar().getMakeUps().isEmpty());
+        assertEquals("170.00", getOwed(BENSON));
+    }
+
+    @Test
+    public void accrue_backDatedCancellation_rejectedAndFeeKept() {
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+        FeeAccrual.accrue(model, MONDAY.plusWeeks(1));
+
+        // the lesson on 18 October has already been charged
+        CancelLessonCommand cancel = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+        assertCommandFailure(cancel, model, String.format(Messages.MESSAGE_FEES_ALREADY_ADDED, "24-10-2021"));
+        assertTrue(model.getCalendar().getCancellations().isEmpty());
+        assertEquals("170.00", getOwed(BENSON));
+
+        // a lesson not yet accrued can still be cancelled, and is then not charged
+        CancelLessonCommand cancelNext = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON,
+                MONDAY.plusWeeks(1));
+        assertDoesNotThrow(() -> cancelNext.execute(model));
+        FeeAccrual.accrue(model, MONDAY.plusWeeks(2));
+        assertEquals("170.00", getOwed(BENSON));
+    }
+
+    @Test
+    public void accrue_manyMonths_everyLessonCharged() {
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(SUNDAY));
+
+        Optional<FeeAccrual.Result> result = FeeAccrual.accrue(model, MONDAY.plusWeeks(52));
+
+        assertEquals(52 * 3, result.get().getLessonCount());
+        assertEquals(String.format("%d.00", 90 + 52 * 80), getOwed(BENSON));
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,11 +19,18 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ModelWrite;
 import seedu.address.model.ReadOnlyTrackO;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Schedule;
 import seedu.address.model.TrackO;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+import seedu.address.model.tutee.TuteeComparator;
+import seedu.address.model.tutee.TuteeId;
 import seedu.address.testutil.TuteeBuilder;
 
 public class AddCommandTest {
@@ -79,11 +88,36 @@ public class AddCommandTest {
      * A default model stub that have all of the methods failing.
      */
     private class ModelStub implements Model {
+        @Override
+        public <T, E extends Exception> T write(ModelWrite<T, E> write) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Schedule getSchedule() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelEventBus getEventBus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonCalendar getCalendar() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCalendar(LessonCalendar calendar) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearSchedule() {
             throw new AssertionError("This method should not be called.");
@@ -134,6 +168,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TuteeAttributeIndex getAttributeIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTutee(Tutee tutee) {
             throw new AssertionError("This method should not be called.");
@@ -149,6 +188,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Tutee> addTutees(List<Tutee> tutees) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTuteesById(Map<TuteeId, Tutee> editedTutees) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Tutee> getFilteredTuteeList() {
             throw new AssertionError("This method should not be called.");
@@ -158,6 +207,11 @@ public class AddCommandTest {
         public void updateFilteredTuteeList(Predicate<Tutee> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void sortFilteredTuteeList(TuteeComparator comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TUTEE;
 import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.Schedule;
 import seedu.address.model.TrackO;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
 import seedu.address.model.exceptions.ScheduleClashException;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.Subject;
@@ -76,6 +78,7 @@ public class AddLessonCommandTest {
         String expectedMessage = String.format(AddLessonCommand.MESSAGE_SUCCESS, editedTutee);
 
         Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        showTuteeAtIndex(expectedModel, INDEX_FIRST_TUTEE);
         expectedModel.setTutee(firstTutee, editedTutee);
 
         assertCommandSuccess(addLessonCommand, model, expectedMessage, expectedModel);
@@ -127,6 +130,20 @@ public class AddLessonCommandTest {
         assertCommandFailure(addLessonCommand, model, String.format(Schedule.SCHEDULE_CLASH_MESSAGE, existingLesson));
     }
 
+    @Test
+    public void execute_clashesWithMakeUpLesson_failure() throws ParseException {
+        // 23-10-2021 is a Saturday, the day of the lesson added, which is from 15:00 to 16:30
+        Tutee secondTutee = model.getFilteredTuteeList().get(INDEX_SECOND_TUTEE.getZeroBased());
+        Lesson makeUpLesson = new Lesson(new Subject("Chemistry"),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)), 40);
+        LessonOccurrence makeUp = new LessonOccurrence(LocalDate.of(2021, 10, 23), makeUpLesson,
+                secondTutee.getId(), LessonOccurrence.Kind.MAKE_UP);
+        model.setCalendar(model.getCalendar().withMakeUp(makeUp));
+
+        AddLessonCommand addLessonCommand = AddLessonCommandParserMock.parse(INDEX_FIRST_TUTEE);
+        assertCommandFailure(addLessonCommand, model, String.format(AddLessonCommand.MESSAGE_MAKE_UP_CLASH, makeUp));
+    }
+
     @Test
     public void equals() throws ParseException {
         final AddLessonCommand standardCommand = AddLessonCommandParserMock.parse(INDEX_FIRST_TUTEE);
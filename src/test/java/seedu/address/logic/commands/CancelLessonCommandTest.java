@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LESSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TUTEE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TUTEE;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code CancelLessonCommand}.
+ */
+public class CancelLessonCommandTest {
+
+    // the second tutee has a lesson on Mondays, and 18-10-2021 is a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2021, 10, 18);
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public CancelLessonCommandTest() throws ScheduleClashException {
+    }
+
+    @Test
+    public void execute_validDate_success() throws ScheduleClashException {
+        Tutee tutee = model.getFilteredTuteeList().get(INDEX_SECOND_TUTEE.getZeroBased());
+        LessonOccurrence occurrence = new LessonOccurrence(MONDAY, LESSON_2, tutee.getId(),
+                LessonOccurrence.Kind.REGULAR);
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+
+        String expectedMessage = String.format(CancelLessonCommand.MESSAGE_SUCCESS, tutee.getName(), occurrence);
+        Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        expectedModel.setCalendar(expectedModel.getCalendar().withCancelled(occurrence));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_alreadyCancelled_failure() throws Exception {
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+        new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY).execute(model);
+
+        assertCommandFailure(command, model, String.format(CancelLessonCommand.MESSAGE_ALREADY_CANCELLED,
+                "18-10-2021"));
+    }
+
+    @Test
+    public void execute_wrongDay_failure() {
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON,
+                MONDAY.plusDays(1));
+
+        assertCommandFailure(command, model, String.format(CancelLessonCommand.MESSAGE_WRONG_DAY,
+                LESSON_2.getTime().getDayOfOccurrence(), "19-10-2021"));
+    }
+
+    @Test
+    public void execute_outsideTerm_failure() {
+        model.setCalendar(model.getCalendar().withTerm(new Term(MONDAY.plusDays(1), MONDAY.plusWeeks(10))));
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+
+        assertCommandFailure(command, model, String.format(CancelLessonCommand.MESSAGE_OUTSIDE_TERM, "18-10-2021"));
+    }
+
+    @Test
+    public void execute_invalidLessonIndex_failure() {
+        // the first tutee has no lessons
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_FIRST_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_LESSON_INDEX);
+    }
+
+    @Test
+    public void execute_invalidTuteeIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTuteeList().size() + 1);
+        CancelLessonCommand command = new CancelLessonCommand(outOfBoundIndex, INDEX_FIRST_LESSON, MONDAY);
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_TUTEE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        CancelLessonCommand command = new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY);
+
+        // same values -> returns true
+        assertTrue(command.equals(new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different date -> returns false
+        assertFalse(command.equals(new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON,
+                MONDAY.plusWeeks(1))));
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +36,29 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different details -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", List.of("detail"))));
+        assertTrue(new CommandResult("feedback", List.of()).equals(commandResult));
+    }
+
+    @Test
+    public void getFullFeedback() {
+        assertEquals("feedback", new CommandResult("feedback").getFullFeedback());
+        assertEquals("feedback\nfirst\nsecond",
+                new CommandResult("feedback", List.of("first", "second")).getFullFeedback());
+    }
+
+    @Test
+    public void getPendingFeedback() {
+        assertFalse(new CommandResult("feedback").getPendingFeedback().isPresent());
+
+        CompletableFuture<String> pendingFeedback = CompletableFuture.completedFuture("done");
+        CommandResult commandResult = new CommandResult("feedback", pendingFeedback);
+        assertEquals(pendingFeedback, commandResult.getPendingFeedback().get());
+
+        // pending feedback is not compared
+        assertTrue(commandResult.equals(new CommandResult("feedback")));
     }
 
     @Test
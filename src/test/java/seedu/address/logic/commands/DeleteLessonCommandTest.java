@@ -81,6 +81,7 @@ public class DeleteLessonCommandTest {
         String expectedMessage = String.format(DeleteLessonCommand.MESSAGE_SUCCESS, firstTutee);
 
         Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        showTuteeAtIndex(expectedModel, INDEX_FIRST_TUTEE);
 
         assertCommandSuccess(deleteLessonCommand, model, expectedMessage, expectedModel);
     }
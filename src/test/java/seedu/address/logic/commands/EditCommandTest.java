@@ -97,6 +97,8 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_TUTEE_SUCCESS, editedTutee);
 
         Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        // the filter is kept, so the renamed tutee is no longer shown
+        showTuteeAtIndex(expectedModel, INDEX_FIRST_TUTEE);
         expectedModel.setTutee(model.getFilteredTuteeList().get(0), editedTutee);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
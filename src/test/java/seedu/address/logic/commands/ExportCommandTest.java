@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public ExportCommandTest() throws ScheduleClashException {
+    }
+
+    private String getPendingFeedback(CommandResult result) throws Exception {
+        return result.getPendingFeedback().get().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void execute_csv_allTuteesExported() throws Exception {
+        Path file = temporaryFolder.resolve("exports").resolve("tutees.csv");
+        // only the tutees shown are listed, but all are exported
+        model.updateFilteredTuteeList(tutee -> false);
+
+        CommandResult result = new ExportCommand(file, ExportFormat.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, "tutees", file), result.getFeedbackToUser());
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        assertTrue(getPendingFeedback(result).startsWith("Exported " + tuteeCount + " tutees to " + file));
+        assertEquals(tuteeCount + 1, Files.readAllLines(file).size());
+        assertFalse(Files.exists(file.resolveSibling("tutees.csv.tmp")));
+    }
+
+    @Test
+    public void execute_ics_existingFileOverwritten() throws Exception {
+        Path file = temporaryFolder.resolve("schedule.ics");
+        Files.writeString(file, "an older export");
+
+        CommandResult result = new ExportCommand(file, ExportFormat.ICS).execute(model);
+
+        assertTrue(getPendingFeedback(result).startsWith("Exported 3 lessons to " + file));
+        String calendar = Files.readString(file);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR"));
+        assertTrue(calendar.contains("SUMMARY:Chemistry with Benson Meier"));
+    }
+
+    @Test
+    public void execute_fileIsFolder_failureReported() throws Exception {
+        Path file = temporaryFolder.resolve("tutees.csv");
+        Files.createDirectories(file.resolve("not empty"));
+
+        CommandResult result = new ExportCommand(file, ExportFormat.CSV).execute(model);
+
+        assertTrue(getPendingFeedback(result).startsWith(String.format(ExportCommand.MESSAGE_FAILED, file, "")));
+        assertFalse(Files.exists(file.resolveSibling("tutees.csv.tmp")));
+    }
+
+    @Test
+    public void equals() {
+        Path file = temporaryFolder.resolve("tutees.csv");
+        ExportCommand exportCommand = new ExportCommand(file, ExportFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(temporaryFolder.resolve("tutees.csv"), ExportFormat.CSV)));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(temporaryFolder.resolve("other.csv"), ExportFormat.CSV)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(file, ExportFormat.ICS)));
+    }
+}
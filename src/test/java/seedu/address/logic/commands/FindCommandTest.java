@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalTutees.BENSON;
 import static seedu.address.testutil.TypicalTutees.CARL;
 import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -19,7 +20,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tutee.CollectivePredicate;
+import seedu.address.model.tutee.query.Clause;
+import seedu.address.model.tutee.query.OrQuery;
+import seedu.address.model.tutee.query.Query;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -100,4 +105,15 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(List.of(BENSON, CARL), model.getFilteredTuteeList());
     }
+
+    @Test
+    public void execute_query_tuteesFound() {
+        String expectedMessage = String.format(MESSAGE_TUTEES_LISTED_OVERVIEW, 2);
+        Query query = new OrQuery(List.of(Clause.hasTag(new Tag("practical")),
+                Clause.hasLessonOn(DayOfWeek.SUNDAY)));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredTuteeList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON, CARL), model.getFilteredTuteeList());
+    }
 }
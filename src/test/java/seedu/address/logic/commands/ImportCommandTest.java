@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.importer.RowValidator;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public ImportCommandTest() throws ScheduleClashException {
+    }
+
+    @Test
+    public void execute_validFile_tuteesImported() throws Exception {
+        Path file = temporaryFolder.resolve("tutees.csv");
+        Files.writeString(file, "name,phone,school,level,address\nAnn Lim,91234567,Nanyang Primary,p5,Blk 1\n");
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 1 tutees from " + file));
+        assertEquals(tuteeCount + 1, model.getTrackO().getTuteeList().size());
+        assertFalse(Files.exists(temporaryFolder.resolve("tutees.csv" + ImportCommand.ERROR_REPORT_SUFFIX)));
+    }
+
+    @Test
+    public void execute_invalidRows_errorsReported() throws Exception {
+        Path file = temporaryFolder.resolve("tutees.csv");
+        StringBuilder csv = new StringBuilder("name,phone,school,level,address\n");
+        for (int i = 0; i < ImportCommand.MAX_ERRORS_SHOWN + 2; i++) {
+            csv.append("Tutee ").append(i).append(",91234567,Nanyang Primary,p5,\n");
+        }
+        Files.writeString(file, csv.toString());
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String missingAddress = String.format(RowValidator.MESSAGE_MISSING_FIELD, "address");
+        assertTrue(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_SKIPPED,
+                ImportCommand.MAX_ERRORS_SHOWN + 2, "Line 2: " + missingAddress)));
+        assertTrue(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 2)));
+
+        List<String> report = Files.readAllLines(temporaryFolder.resolve("tutees.csv"
+                + ImportCommand.ERROR_REPORT_SUFFIX));
+        assertEquals(ImportCommand.MAX_ERRORS_SHOWN + 2, report.size());
+        assertEquals("Line 13: " + missingAddress, report.get(report.size() - 1));
+    }
+
+    @Test
+    public void execute_fileNotFound_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file), () ->
+                new ImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("tutees.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("tutees.csv"))));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("tutees.jsonl"))));
+    }
+}
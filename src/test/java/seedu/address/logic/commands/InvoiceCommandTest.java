@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.invoice.StatementFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.tutee.Tutee;
+
+public class InvoiceCommandTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2021, 10);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public InvoiceCommandTest() throws ScheduleClashException {
+    }
+
+    @BeforeEach
+    public void setUp() {
+        model.setTrackOFilePath(temporaryFolder.resolve("data").resolve("tracko.json"));
+    }
+
+    private Path getStatementFile(String fileName) {
+        return temporaryFolder.resolve("data").resolve(InvoiceCommand.DIRECTORY_NAME).resolve("2021-10")
+                .resolve(fileName);
+    }
+
+    private String getFileNamePrefix(String name) {
+        Tutee tutee = model.getTrackO().getTuteeList().stream()
+                .filter(t -> t.getName().fullName.equals(name)).findFirst().get();
+        return tutee.getId() + "-" + name.replace(' ', '-');
+    }
+
+    private String getPendingFeedback(CommandResult result) throws Exception {
+        return result.getPendingFeedback().get().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void execute_text_statementsWritten() throws Exception {
+        int tuteeCount = model.getFilteredTuteeList().size();
+        CommandResult result = new InvoiceCommand(OCTOBER, StatementFormat.TEXT).execute(model);
+
+        assertEquals(String.format(InvoiceCommand.MESSAGE_STARTED, tuteeCount, OCTOBER, StatementFormat.TEXT),
+                result.getFeedbackToUser());
+        assertTrue(getPendingFeedback(result).startsWith("Wrote " + tuteeCount + " statements"));
+
+        // Benson has a $80 lesson on every Monday, of which there were 4 in October 2021
+        String statement = Files.readString(getStatementFile(getFileNamePrefix("Benson Meier") + ".txt"));
+        assertTrue(statement.startsWith("Statement for Benson Meier for October 2021\n"));
+        assertTrue(statement.contains("  18-10-2021 12:30 to 14:30"));
+        assertTrue(statement.contains("  Total: $320.00\n"));
+        assertTrue(statement.contains("No payments."));
+        assertTrue(statement.contains("Amount owed: $90"));
+    }
+
+    @Test
+    public void execute_html_statementsWritten() throws Exception {
+        model.updateFilteredTuteeList(tutee -> tutee.getName().fullName.equals("Carl Kurz"));
+        CommandResult result = new InvoiceCommand(OCTOBER, StatementFormat.HTML).execute(model);
+
+        assertTrue(getPendingFeedback(result).startsWith("Wrote 1 statements"));
+
+        // Carl has $80 lessons on every Sunday and Tuesday, of which there were 9 in October 2021
+        String statement = Files.readString(getStatementFile(getFileNamePrefix("Carl Kurz") + ".html"));
+        assertTrue(statement.contains("<h1>Statement for Carl Kurz for October 2021</h1>"));
+        assertTrue(statement.contains("<tr><th colspan=\"4\">Total</th><td>$720.00</td></tr>"));
+        assertFalse(Files.exists(getStatementFile(getFileNamePrefix("Benson Meier") + ".html")));
+    }
+
+    @Test
+    public void execute_directoryCannotBeCreated_failureReported() throws Exception {
+        Files.createDirectories(temporaryFolder.resolve("data"));
+        Files.writeString(temporaryFolder.resolve("data").resolve(InvoiceCommand.DIRECTORY_NAME), "not a folder");
+
+        CommandResult result = new InvoiceCommand(OCTOBER, StatementFormat.TEXT).execute(model);
+
+        assertTrue(getPendingFeedback(result).startsWith(String.format(InvoiceCommand.MESSAGE_FAILED, "")));
+    }
+
+    @Test
+    public void execute_noTuteesShown_throwsCommandException() {
+        model.updateFilteredTuteeList(tutee -> false);
+        assertThrows(CommandException.class, InvoiceCommand.MESSAGE_NO_TUTEES, () ->
+                new InvoiceCommand(OCTOBER, StatementFormat.TEXT).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        InvoiceCommand invoiceCommand = new InvoiceCommand(OCTOBER, StatementFormat.TEXT);
+
+        // same object -> returns true
+        assertTrue(invoiceCommand.equals(invoiceCommand));
+
+        // same values -> returns true
+        assertTrue(invoiceCommand.equals(new InvoiceCommand(YearMonth.of(2021, 10), StatementFormat.TEXT)));
+
+        // null -> returns false
+        assertFalse(invoiceCommand.equals(null));
+
+        // different month -> returns false
+        assertFalse(invoiceCommand.equals(new InvoiceCommand(OCTOBER.plusMonths(1), StatementFormat.TEXT)));
+
+        // different format -> returns false
+        assertFalse(invoiceCommand.equals(new InvoiceCommand(OCTOBER, StatementFormat.HTML)));
+    }
+}
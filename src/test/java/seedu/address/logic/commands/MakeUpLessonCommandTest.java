@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LESSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TUTEE;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MakeUpLessonCommand}.
+ */
+public class MakeUpLessonCommandTest {
+
+    // 18-10-2021 is a Monday, on which the second tutee has a lesson from 12:30 to 14:30
+    private static final LocalDate MONDAY = LocalDate.of(2021, 10, 18);
+    private static final LocalDate SATURDAY = MONDAY.plusDays(5);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public MakeUpLessonCommandTest() throws ScheduleClashException {
+    }
+
+    @Test
+    public void execute_noClash_success() throws ScheduleClashException {
+        Tutee tutee = model.getFilteredTuteeList().get(INDEX_SECOND_TUTEE.getZeroBased());
+        Lesson lesson = new Lesson(LESSON_2.getSubject(), new Time(SATURDAY.getDayOfWeek(), TEN, NOON),
+                LESSON_2.getHourlyRate());
+        LessonOccurrence makeUp = new LessonOccurrence(SATURDAY, lesson, tutee.getId(),
+                LessonOccurrence.Kind.MAKE_UP);
+        MakeUpLessonCommand command = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, SATURDAY,
+                TEN, NOON);
+
+        String expectedMessage = String.format(MakeUpLessonCommand.MESSAGE_SUCCESS, tutee.getName(), makeUp);
+        Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        expectedModel.setCalendar(expectedModel.getCalendar().withMakeUp(makeUp));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_clashWithWeeklyLesson_failure() {
+        Tutee tutee = model.getFilteredTuteeList().get(INDEX_SECOND_TUTEE.getZeroBased());
+        LessonOccurrence weekly = new LessonOccurrence(MONDAY, LESSON_2, tutee.getId(),
+                LessonOccurrence.Kind.REGULAR);
+        MakeUpLessonCommand command = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY,
+                NOON, LocalTime.of(14, 0));
+
+        assertCommandFailure(command, model, String.format(MakeUpLessonCommand.MESSAGE_CLASH, weekly));
+    }
+
+    @Test
+    public void execute_clashWithCancelledLesson_success() throws Exception {
+        new CancelLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY).execute(model);
+        MakeUpLessonCommand command = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, MONDAY,
+                NOON, LocalTime.of(14, 0));
+
+        command.execute(model);
+        assertEquals(1, model.getCalendar().getMakeUps().size());
+    }
+
+    @Test
+    public void execute_invalidTime_failure() {
+        MakeUpLessonCommand command = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, SATURDAY,
+                NOON, TEN);
+
+        assertCommandFailure(command, model, Time.MESSAGE_CONSTRAINTS_IMPROPER_TIME);
+    }
+
+    @Test
+    public void equals() {
+        MakeUpLessonCommand command = new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, SATURDAY,
+                TEN, NOON);
+
+        // same values -> returns true
+        assertTrue(command.equals(new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, SATURDAY,
+                TEN, NOON)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different start time -> returns false
+        assertFalse(command.equals(new MakeUpLessonCommand(INDEX_SECOND_TUTEE, INDEX_FIRST_LESSON, SATURDAY,
+                LocalTime.of(9, 0), NOON)));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.AMY;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.merge.TuteeMerger.Preference;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TrackO;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.storage.JsonTrackOStorage;
+import seedu.address.testutil.TuteeBuilder;
+
+public class MergeCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+    private Path otherFile;
+
+    public MergeCommandTest() throws ScheduleClashException {
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // the other copy has Amy but not Alice, and a different phone number for Benson
+        List<Tutee> tutees = getTypicalTutees();
+        tutees.remove(ALICE);
+        tutees.set(tutees.indexOf(BENSON), new TuteeBuilder(BENSON).withPhone("91234567").build());
+        tutees.add(AMY);
+        TrackO other = new TrackO();
+        tutees.forEach(other::addTutee);
+        otherFile = temporaryFolder.resolve("desktop.json");
+        new JsonTrackOStorage(otherFile).saveTrackO(other);
+    }
+
+    private Tutee getTutee(Tutee tutee) {
+        return model.getTrackO().getTuteeList().stream().filter(tutee::isSameTutee).findFirst().get();
+    }
+
+    @Test
+    public void execute_noPreference_differencesListedOnly() throws Exception {
+        CommandResult result = new MergeCommand(otherFile, Optional.empty()).execute(model);
+
+        assertEquals(String.format(MergeCommand.MESSAGE_DIFF, otherFile, 1, 1, 1, 0)
+                + String.format(MergeCommand.MESSAGE_ONLY_THERE, AMY.getName())
+                + String.format(MergeCommand.MESSAGE_ONLY_HERE, ALICE.getName())
+                + String.format(MergeCommand.MESSAGE_DETAILS_DIFFER, BENSON.getName())
+                + MergeCommand.MESSAGE_PREVIEW, result.getFeedbackToUser());
+        assertEquals(BENSON.getPhone(), getTutee(BENSON).getPhone());
+        assertFalse(model.hasTutee(AMY));
+    }
+
+    @Test
+    public void execute_preferOther_merged() throws Exception {
+        CommandResult result = new MergeCommand(otherFile, Optional.of(Preference.OTHER)).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(MergeCommand.MESSAGE_MERGED, 1, 1,
+                "the other")));
+        assertEquals("91234567", getTutee(BENSON).getPhone().value);
+        assertTrue(model.hasTutee(AMY));
+        // tutees only in this Track-O are kept
+        assertTrue(model.hasTutee(ALICE));
+
+        // merged again -> only the tutee missing there is left
+        assertTrue(new MergeCommand(otherFile, Optional.of(Preference.OTHER)).execute(model).getFeedbackToUser()
+                .startsWith(String.format(MergeCommand.MESSAGE_DIFF, otherFile, 0, 1, 0, 0)));
+    }
+
+    @Test
+    public void execute_sameTutees_nothingToMerge() throws Exception {
+        Path sameFile = temporaryFolder.resolve("same.json");
+        new JsonTrackOStorage(sameFile).saveTrackO(model.getTrackO());
+
+        assertEquals(String.format(MergeCommand.MESSAGE_SAME, sameFile),
+                new MergeCommand(sameFile, Optional.of(Preference.THIS)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fileMissingOrInvalid_throwsCommandException() throws Exception {
+        Path missingFile = temporaryFolder.resolve("missing.json");
+        assertThrows(CommandException.class, String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, missingFile), () ->
+                new MergeCommand(missingFile, Optional.empty()).execute(model));
+
+        Path invalidFile = temporaryFolder.resolve("invalid.json");
+        Files.writeString(invalidFile, "not json");
+        assertThrows(CommandException.class, () -> new MergeCommand(invalidFile, Optional.empty()).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(otherFile, Optional.of(Preference.OTHER));
+
+        // same object -> returns true
+        assertTrue(mergeCommand.equals(mergeCommand));
+
+        // same values -> returns true
+        assertTrue(mergeCommand.equals(new MergeCommand(temporaryFolder.resolve("desktop.json"),
+                Optional.of(Preference.OTHER))));
+
+        // null -> returns false
+        assertFalse(mergeCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(mergeCommand.equals(new MergeCommand(temporaryFolder.resolve("laptop.json"),
+                Optional.of(Preference.OTHER))));
+
+        // different preference -> returns false
+        assertFalse(mergeCommand.equals(new MergeCommand(otherFile, Optional.of(Preference.THIS))));
+        assertFalse(mergeCommand.equals(new MergeCommand(otherFile, Optional.empty())));
+    }
+}
@@ -82,6 +82,7 @@ public class RemarkCommandTest {
         String expectedMessage = String.format(RemarkCommand.MESSAGE_ADD_REMARK_SUCCESS, editedTutee);
 
         Model expectedModel = new ModelManager(new TrackO(model.getTrackO()), new UserPrefs());
+        showTuteeAtIndex(expectedModel, INDEX_FIRST_TUTEE);
         expectedModel.setTutee(firstTutee, editedTutee);
 
         assertCommandSuccess(remarkCommand, model, expectedMessage, expectedModel);
@@ -1,14 +1,25 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Schedule;
+import seedu.address.model.TrackO;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
 
 public class ScheduleCommandTest {
 
@@ -17,10 +28,72 @@ public class ScheduleCommandTest {
     public ScheduleCommandTest() throws ScheduleClashException {
     }
 
+    private List<String> entriesOf(Map<Lesson, String> lessonsToNames) {
+        List<String> entries = new ArrayList<>();
+        for (Map.Entry<Lesson, String> entry : lessonsToNames.entrySet()) {
+            entries.add(Schedule.toEntryString(entry.getKey(), entry.getValue()));
+        }
+        return entries;
+    }
+
     @Test
     public void execute_schedule_success() throws ScheduleClashException {
-        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SUCCESS, model.getSchedule());
+        CommandResult expectedResult = new CommandResult(ScheduleCommand.MESSAGE_SUCCESS,
+                entriesOf(model.getSchedule().getSortedLessonsMap()));
         Model expectedModel = new ModelManager(model.getTrackO(), new UserPrefs());
-        assertCommandSuccess(new ScheduleCommand(), model, expectedMessage, expectedModel);
+        assertCommandSuccess(new ScheduleCommand(), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredSchedule_success() throws ScheduleClashException {
+        Model expectedModel = new ModelManager(model.getTrackO(), new UserPrefs());
+
+        // only the lesson on Monday
+        ScheduleCommand command = new ScheduleCommand(List.of(DayOfWeek.MONDAY), LocalTime.MIN, LocalTime.MAX);
+        CommandResult expectedResult = new CommandResult(
+                String.format(ScheduleCommand.MESSAGE_SUCCESS_FILTERED, 1, "on Mon"),
+                entriesOf(model.getSchedule().getLessonsDuring(List.of(DayOfWeek.MONDAY),
+                        LocalTime.MIN, LocalTime.MAX)));
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+
+        // every lesson starts before 13:00
+        command = new ScheduleCommand(List.of(), LocalTime.MIN, LocalTime.of(13, 0));
+        expectedResult = new CommandResult(String.format(ScheduleCommand.MESSAGE_SUCCESS_FILTERED, 3, "during ..13:00"),
+                entriesOf(model.getSchedule().getSortedLessonsMap()));
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_noLessons_success() throws ScheduleClashException {
+        ScheduleCommand command = new ScheduleCommand(List.of(DayOfWeek.WEDNESDAY), LocalTime.of(9, 0),
+                LocalTime.MAX);
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_NO_LESSONS_FILTERED, "on Wed during 09:00..");
+        Model expectedModel = new ModelManager(model.getTrackO(), new UserPrefs());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        Model emptyModel = new ModelManager(new TrackO(), new UserPrefs());
+        assertCommandSuccess(new ScheduleCommand(), emptyModel, Schedule.MESSAGE_NO_LESSONS,
+                new ModelManager(new TrackO(), new UserPrefs()));
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand mondayCommand = new ScheduleCommand(List.of(DayOfWeek.MONDAY), LocalTime.MIN,
+                LocalTime.MAX);
+
+        // same values -> returns true
+        assertTrue(new ScheduleCommand().equals(new ScheduleCommand(List.of(), LocalTime.MIN, LocalTime.MAX)));
+        assertTrue(mondayCommand.equals(new ScheduleCommand(List.of(DayOfWeek.MONDAY, DayOfWeek.MONDAY),
+                LocalTime.MIN, LocalTime.MAX)));
+
+        // different days -> returns false
+        assertFalse(mondayCommand.equals(new ScheduleCommand()));
+
+        // different times -> returns false
+        assertFalse(mondayCommand.equals(new ScheduleCommand(List.of(DayOfWeek.MONDAY), LocalTime.NOON,
+                LocalTime.MAX)));
+
+        // null -> returns false
+        assertFalse(mondayCommand.equals(null));
     }
 }
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.DANIEL;
+import static seedu.address.testutil.TypicalTutees.ELLE;
+import static seedu.address.testutil.TypicalTutees.FIONA;
+import static seedu.address.testutil.TypicalTutees.GEORGE;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.tutee.TuteeComparator;
+import seedu.address.testutil.TuteeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public SortCommandTest() throws ScheduleClashException {
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByOwed = new SortCommand(TuteeComparator.Key.OWED, false);
+
+        // same values -> returns true
+        assertTrue(sortByOwed.equals(new SortCommand(TuteeComparator.Key.OWED, false)));
+
+        // different direction -> returns false
+        assertFalse(sortByOwed.equals(new SortCommand(TuteeComparator.Key.OWED, true)));
+
+        // different key -> returns false
+        assertFalse(sortByOwed.equals(new SortCommand(TuteeComparator.Key.LEVEL, false)));
+
+        // null -> returns false
+        assertFalse(sortByOwed.equals(null));
+    }
+
+    @Test
+    public void execute_sortByOwedDescending_sorted() {
+        TuteeComparator comparator = new TuteeComparator(TuteeComparator.Key.OWED, true, LocalDateTime.now());
+        expectedModel.sortFilteredTuteeList(comparator);
+        assertCommandSuccess(new SortCommand(TuteeComparator.Key.OWED, true), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, comparator), expectedModel);
+        assertEquals(List.of(BENSON, DANIEL, CARL, ELLE, FIONA, GEORGE, ALICE), model.getFilteredTuteeList());
+    }
+
+    @Test
+    public void execute_changesAfterSorting_keptInOrder() {
+        new SortCommand(TuteeComparator.Key.OWED, false).execute(model);
+
+        // a tutee whose amount owed changes moves to its place in the order
+        model.setTutee(BENSON, new TuteeBuilder(BENSON).withPayment("10", null).build());
+        assertEquals(ALICE, model.getFilteredTuteeList().get(0));
+        assertEquals("Benson Meier", model.getFilteredTuteeList().get(1).getName().fullName);
+
+        // filtering keeps the order
+        model.updateFilteredTuteeList(tutee -> tutee.getLessons().isEmpty());
+        assertEquals(List.of(ALICE, GEORGE, FIONA, ELLE, DANIEL), model.getFilteredTuteeList());
+
+        // sorting by the order added restores it
+        new SortCommand(TuteeComparator.Key.ADDED, false).execute(model);
+        model.updateFilteredTuteeList(Model.PREDICATE_SHOW_ALL_TUTEES);
+        assertEquals(getTypicalTutees().size(), model.getFilteredTuteeList().size());
+        assertEquals(ALICE, model.getFilteredTuteeList().get(0));
+        assertEquals(List.of(CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredTuteeList().subList(2, 7));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.paymentcommand.PaymentAddCommand.MESSAGE_LESSON_FEES_ACCRUED;
 import static seedu.address.logic.commands.paymentcommand.PaymentAddCommand.MESSAGE_LESSON_INDEX_OUT_OF_BOUNDS;
 import static seedu.address.logic.commands.paymentcommand.PaymentAddCommand.addLessonCostToValue;
 import static seedu.address.logic.commands.paymentcommand.PaymentCommand.UPDATE_TUTEE_PAYMENT_SUCCESS;
@@ -60,6 +61,14 @@ public class PaymentAddCommandTest {
         assertCommandFailure(paymentAddCommand, model, MESSAGE_LESSON_INDEX_OUT_OF_BOUNDS);
     }
 
+    @Test
+    public void execute_feesAccrued_throwsCommandException() {
+        model.setCalendar(model.getCalendar().withFeesAccruedUntil(LocalDate.of(2021, 10, 17)));
+        PaymentAddCommand paymentAddCommand = new PaymentAddCommand(INDEX_THIRD_TUTEE, INDEX_FIRST_LESSON);
+
+        assertCommandFailure(paymentAddCommand, model, String.format(MESSAGE_LESSON_FEES_ACCRUED, "17-10-2021"));
+    }
+
     @Test
     public void equals() {
         PaymentAddCommand getFirstCommand = new PaymentAddCommand(INDEX_FIRST_TUTEE,
@@ -33,7 +33,7 @@ public class PaymentCommandTest {
 
 
     public static Model modifyPaymentOfTutee(Index index, String newPaymentValue,
-                                       LocalDate newPayByDate, String lastPaidDate) throws ScheduleClashException {
+                                       LocalDate newPayByDate, LocalDate lastPaidDate) throws ScheduleClashException {
         Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
         Tutee retrievedTutee = model.getFilteredTuteeList().get(index.getZeroBased());
         Tutee editedTutee = PaymentCommand.createEditedPaymentDetailsTutee(retrievedTutee, newPaymentValue,
@@ -7,14 +7,11 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.paymentcommand.PaymentCommand.UPDATE_TUTEE_PAYMENT_SUCCESS;
 import static seedu.address.logic.commands.paymentcommand.PaymentReceiveCommand.MESSAGE_NO_CHANGE_IN_PAYMENT_VALUE;
 import static seedu.address.logic.commands.paymentcommandtest.PaymentCommandTest.modifyPaymentOfTutee;
-import static seedu.address.model.tutee.Payment.TODAY_DATE_AS_STRING;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TUTEE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TUTEE;
 import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
 
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +26,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.exceptions.ScheduleClashException;
 import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.PaymentLedger;
 import seedu.address.model.tutee.Tutee;
 
 /**
@@ -41,7 +39,8 @@ public class PaymentReceiveCommandTest {
     private static final String NEW_PAYMENT_VAL_STUB_1 = "100";
     private static final String NEW_PAYBYDATE_VAL_STUB_1 = "15-10-2022";
     private static final String NEW_PAYBYDATE_VAL_STUB_2 = "20-10-2022";
-    private static final List<String> TODAY_DATE_AS_LIST = Arrays.asList("Never", TODAY_DATE_AS_STRING);
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final PaymentLedger PAID_TODAY = PaymentLedger.empty().append(TODAY, 0);
     private static final LocalDate NULL_DATE = null;
 
     private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
@@ -91,7 +90,7 @@ public class PaymentReceiveCommandTest {
     @Test
     public void execute_noChangeInPaymentVal_throwsCommandException() throws ScheduleClashException {
         // Creates tutee with specified payment details
-        model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE, TODAY_DATE_AS_STRING);
+        model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE, TODAY);
 
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 NULL_DATE);
@@ -105,7 +104,7 @@ public class PaymentReceiveCommandTest {
             ParseException {
         // Creates model with specified payment details
         LocalDate samePayByDate = ParserUtil.parsePayByDate(NEW_PAYBYDATE_VAL_STUB_2);
-        model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, samePayByDate, TODAY_DATE_AS_STRING);
+        model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, samePayByDate, TODAY);
 
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 samePayByDate);
@@ -125,12 +124,11 @@ public class PaymentReceiveCommandTest {
         model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, NEW_PAYMENT_VAL_STUB_1, existingPayByDate,
                 null);
         Model expectedModel = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE,
-                TODAY_DATE_AS_STRING);
+                TODAY);
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 NULL_DATE);
 
-        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, NULL_DATE);
-        expectedPayment.copyPaymentHistory(TODAY_DATE_AS_LIST);
+        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, NULL_DATE, PAID_TODAY);
         String successMsg = String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, retrievedTutee.getName(),
                 expectedPayment);
 
@@ -154,10 +152,9 @@ public class PaymentReceiveCommandTest {
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 newPayByDate);
 
-        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, newPayByDate);
-        expectedPayment.copyPaymentHistory(TODAY_DATE_AS_LIST);
+        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, newPayByDate, PAID_TODAY);
         Model expectedModel = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, newPayByDate,
-                TODAY_DATE_AS_STRING);
+                TODAY);
 
         String successMsg = String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, retrievedTutee.getName(), expectedPayment);
         CommandResult expectedMsg = new CommandResult(successMsg);
@@ -176,12 +173,11 @@ public class PaymentReceiveCommandTest {
         model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, existingPayByDate,
                 null);
         Model expectedModel = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE,
-                TODAY_DATE_AS_STRING);
+                TODAY);
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 NULL_DATE);
 
-        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, NULL_DATE);
-        expectedPayment.copyPaymentHistory(TODAY_DATE_AS_LIST);
+        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, NULL_DATE, PAID_TODAY);
         String successMsg = String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, retrievedTutee.getName(),
                 expectedPayment);
 
@@ -201,12 +197,11 @@ public class PaymentReceiveCommandTest {
         model = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE,
                 null);
         Model expectedModel = modifyPaymentOfTutee(INDEX_FIRST_TUTEE, ZERO_PAYMENT_VAL_STUB, NULL_DATE,
-                TODAY_DATE_AS_STRING);
+                TODAY);
         PaymentReceiveCommand paymentReceiveCommand = new PaymentReceiveCommand(INDEX_FIRST_TUTEE,
                 newPayByDate);
 
-        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, newPayByDate);
-        expectedPayment.copyPaymentHistory(TODAY_DATE_AS_LIST);
+        Payment expectedPayment = new Payment(ZERO_PAYMENT_VAL_STUB, newPayByDate, PAID_TODAY);
         String successMsg = String.format(UPDATE_TUTEE_PAYMENT_SUCCESS, retrievedTutee.getName(),
                 expectedPayment);
 
@@ -0,0 +1,130 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.TuteeId;
+
+public class ScheduleIcsWriterTest {
+
+    // a Wednesday; Benson has a lesson on Mondays, and Carl on Sundays and Tuesdays
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2021-10-20T02:00:00Z"), ZoneOffset.UTC);
+    private static final String LINE_ENDING = ScheduleIcsWriter.LINE_ENDING;
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public ScheduleIcsWriterTest() throws ScheduleClashException {
+    }
+
+    private TuteeId getBensonId() {
+        return model.getTrackO().getTuteeList().stream().filter(BENSON::isSameTutee).findFirst().get().getId();
+    }
+
+    @Test
+    public void write_noTerm_lessonsRecurFromToday() throws Exception {
+        StringWriter ics = new StringWriter();
+        assertEquals(3, ScheduleIcsWriter.write(model.getSnapshot(), CLOCK, ics));
+
+        String calendar = ics.toString();
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR" + LINE_ENDING + "VERSION:2.0" + LINE_ENDING));
+        assertTrue(calendar.endsWith("END:VEVENT" + LINE_ENDING + "END:VCALENDAR" + LINE_ENDING));
+        assertTrue(calendar.contains("BEGIN:VEVENT" + LINE_ENDING
+                + "UID:" + getBensonId() + "-" + LESSON_2.getTime().getStartMinuteOfWeek() + "@tracko" + LINE_ENDING
+                + "DTSTAMP:20211020T020000Z" + LINE_ENDING
+                + "DTSTART:20211025T123000" + LINE_ENDING
+                + "DTEND:20211025T143000" + LINE_ENDING
+                + "RRULE:FREQ=WEEKLY;BYDAY=MO" + LINE_ENDING
+                + "SUMMARY:Chemistry with Benson Meier" + LINE_ENDING
+                + "DESCRIPTION:Hourly rate: $40.00" + LINE_ENDING
+                + "LOCATION:311\\, Clementi Ave 2\\, #02-25" + LINE_ENDING
+                + "END:VEVENT" + LINE_ENDING));
+        assertTrue(calendar.contains("DTSTART:20211024T123000" + LINE_ENDING));
+        assertTrue(calendar.contains("DTSTART:20211026T123000" + LINE_ENDING));
+    }
+
+    @Test
+    public void write_termWithCancellationAndMakeUp_recurrenceBoundedAndAdjusted() throws Exception {
+        LocalDate monday = LocalDate.of(2021, 10, 18);
+        TuteeId bensonId = getBensonId();
+        Lesson makeUpLesson = new Lesson(new Subject("Chemistry"),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)), 40.0);
+        model.setCalendar(model.getCalendar()
+                .withTerm(new Term(monday, LocalDate.of(2021, 12, 31)))
+                .withCancelled(new LessonOccurrence(monday.plusWeeks(1), LESSON_2, bensonId,
+                        LessonOccurrence.Kind.REGULAR))
+                .withMakeUp(new LessonOccurrence(monday.plusWeeks(1).plusDays(5), makeUpLesson, bensonId,
+                        LessonOccurrence.Kind.MAKE_UP)));
+
+        StringWriter ics = new StringWriter();
+        assertEquals(4, ScheduleIcsWriter.write(model.getSnapshot(), CLOCK, ics));
+
+        String calendar = ics.toString();
+        assertTrue(calendar.contains("DTSTART:20211018T123000" + LINE_ENDING
+                + "DTEND:20211018T143000" + LINE_ENDING
+                + "RRULE:FREQ=WEEKLY;BYDAY=MO;UNTIL=20211231T235959" + LINE_ENDING
+                + "EXDATE:20211025T123000" + LINE_ENDING));
+        assertTrue(calendar.contains("UID:" + bensonId + "-20211030T1000@tracko" + LINE_ENDING
+                + "DTSTAMP:20211020T020000Z" + LINE_ENDING
+                + "DTSTART:20211030T100000" + LINE_ENDING
+                + "DTEND:20211030T120000" + LINE_ENDING
+                + "SUMMARY:Chemistry with Benson Meier (make-up)" + LINE_ENDING));
+    }
+
+    @Test
+    public void write_termEndedBeforeLessonDay_lessonNotWritten() throws Exception {
+        // a term of only a Wednesday has none of the lessons
+        LocalDate wednesday = LocalDate.of(2021, 10, 20);
+        model.setCalendar(model.getCalendar().withTerm(new Term(wednesday, wednesday)));
+
+        StringWriter ics = new StringWriter();
+        assertEquals(0, ScheduleIcsWriter.write(model.getSnapshot(), CLOCK, ics));
+        assertFalse(ics.toString().contains("BEGIN:VEVENT"));
+    }
+
+    @Test
+    public void writeLine_longLine_foldedWithinLimit() throws Exception {
+        String content = "SUMMARY:" + "a".repeat(70) + "\u00e9".repeat(40) + "\ud83d\ude00".repeat(10);
+        StringWriter writer = new StringWriter();
+        ScheduleIcsWriter.writeLine(writer, new StringBuilder(), content);
+
+        String folded = writer.toString();
+        assertTrue(folded.endsWith(LINE_ENDING));
+        for (String line : folded.split(LINE_ENDING)) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+            // no surrogate pair is split across lines
+            assertFalse(Character.isHighSurrogate(line.charAt(line.length() - 1)));
+        }
+        // unfolding restores the line
+        assertEquals(content + LINE_ENDING, folded.replace(LINE_ENDING + " ", ""));
+    }
+
+    @Test
+    public void escape() {
+        assertEquals("Blk 30\\, \"Geylang\"\\; Street", ScheduleIcsWriter.escape("Blk 30, \"Geylang\"; Street"));
+        assertEquals("a\\\\b\\nc", ScheduleIcsWriter.escape("a\\b\r\nc"));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.importer.CsvRowReader;
+import seedu.address.logic.importer.RowValidator;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.testutil.TuteeBuilder;
+
+public class TuteeCsvWriterTest {
+
+    @Test
+    public void write_typicalTutees_readBackByImport() throws Exception {
+        List<Tutee> tutees = getTypicalTutees();
+        StringWriter csv = new StringWriter();
+        assertEquals(tutees.size(), TuteeCsvWriter.write(tutees, csv));
+
+        CsvRowReader reader = new CsvRowReader(new BufferedReader(new StringReader(csv.toString())));
+        assertEquals(TuteeCsvWriter.COLUMNS, reader.getColumns());
+        for (Tutee tutee : tutees) {
+            Tutee imported = RowValidator.validate(reader.readRow());
+            // fees are read back to two decimal places
+            assertEquals(Double.parseDouble(tutee.getPayment().value), Double.parseDouble(imported.getPayment().value));
+            assertEquals(tutee.withPayment(imported.getPayment()), imported);
+            assertEquals(tutee.getRemark(), imported.getRemark());
+            assertEquals(tutee.getLessons(), imported.getLessons());
+        }
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void write_valuesWithCommasAndQuotes_quoted() throws Exception {
+        Tutee tutee = new TuteeBuilder(ALICE).withRemark("Prefers \"Sec 1\" maths, not \nscience").build();
+        StringWriter csv = new StringWriter();
+        TuteeCsvWriter.write(List.of(tutee), csv);
+
+        String[] lines = csv.toString().split(TuteeCsvWriter.LINE_ENDING);
+        assertEquals("name,phone,school,level,address,tags,payment,remark,lessons", lines[0]);
+        assertTrue(lines[1].startsWith("Alice Pauline,94351253,Tao Nan School,p1,\"123, Jurong West Ave 6, #08-111\","
+                + "rescheduled,"));
+        assertTrue(lines[1].endsWith(",\"Prefers \"\"Sec 1\"\" maths, not \nscience\","));
+    }
+
+    @Test
+    public void formatLesson_lesson_sameAsLessonCommand() {
+        assertEquals("subject/Chemistry d/1 s/12:30 e/14:30 rate/40.00",
+                TuteeCsvWriter.formatLesson(LESSON_2));
+    }
+}
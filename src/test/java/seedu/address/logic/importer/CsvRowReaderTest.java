@@ -0,0 +1,61 @@
+package seedu.address.logic.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvRowReaderTest {
+
+    private static CsvRowReader reader(String csv) throws IOException {
+        return new CsvRowReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    public void constructor_invalidHeader_throwsIOException() {
+        assertThrows(IOException.class, CsvRowReader.MESSAGE_MISSING_HEADER, () -> reader("\n\n"));
+        assertThrows(IOException.class, String.format(CsvRowReader.MESSAGE_UNKNOWN_COLUMN, "email"), () ->
+                reader("name,email\n"));
+    }
+
+    @Test
+    public void readRow_quotedValues_valuesUnquoted() throws IOException {
+        CsvRowReader reader = reader("Name, Address,Tags,Lessons\n"
+                + "Alex Yeoh,\"Blk 30, \"\"Geylang\"\" Street\",friends; owesMoney,\n"
+                + "\n"
+                + "Bernice Yu,\"Blk 30\nGeylang\",,subject/Math d/1 s/10:00 e/11:00 rate/40\n");
+        assertEquals(List.of("name", "address", "tags", "lessons"), reader.getColumns());
+
+        ImportRow row = reader.readRow();
+        assertEquals(2, row.getLineNumber());
+        assertEquals(Optional.of("Alex Yeoh"), row.getValue(ImportRow.FIELD_NAME));
+        assertEquals(Optional.of("Blk 30, \"Geylang\" Street"), row.getValue(ImportRow.FIELD_ADDRESS));
+        assertEquals(List.of("friends", "owesMoney"), row.getValues(ImportRow.FIELD_TAGS));
+        assertEquals(List.of(), row.getValues(ImportRow.FIELD_LESSONS));
+
+        // blank line skipped, and a quoted value goes on to the next line
+        row = reader.readRow();
+        assertEquals(4, row.getLineNumber());
+        assertEquals(Optional.of("Blk 30\nGeylang"), row.getValue(ImportRow.FIELD_ADDRESS));
+        assertEquals(List.of("subject/Math d/1 s/10:00 e/11:00 rate/40"), row.getValues(ImportRow.FIELD_LESSONS));
+
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_malformedRows_rowsWithErrors() throws IOException {
+        CsvRowReader reader = reader("name,phone\nAlex Yeoh\nBernice Yu,\"9927\n");
+
+        assertEquals(Optional.of(String.format(CsvRowReader.MESSAGE_WRONG_COLUMN_COUNT, 2, 1)),
+                reader.readRow().getError());
+        assertEquals(Optional.of(CsvRowReader.MESSAGE_UNCLOSED_QUOTE), reader.readRow().getError());
+        assertNull(reader.readRow());
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.logic.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Name;
+import seedu.address.model.tutee.Phone;
+import seedu.address.model.tutee.Tutee;
+
+public class TuteeImporterTest {
+
+    private static final String HEADER = "name,phone,school,level,address,tags,payment,lessons\n";
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+
+    public TuteeImporterTest() throws ScheduleClashException {
+    }
+
+    private TuteeImporter.Result importCsv(String csv) throws IOException {
+        return TuteeImporter.importTutees(new CsvRowReader(new BufferedReader(new StringReader(csv))), model);
+    }
+
+    private Tutee getTutee(String name) {
+        return model.getTrackO().getTuteeList().stream()
+                .filter(tutee -> tutee.getName().fullName.equals(name)).findFirst().get();
+    }
+
+    private static List<Integer> getErrorLines(TuteeImporter.Result result) {
+        return result.getErrors().stream().map(TuteeImporter.RowError::getLineNumber).collect(Collectors.toList());
+    }
+
+    @Test
+    public void importTutees_validRows_tuteesAndLessonsAdded() throws Exception {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        TuteeImporter.Result result = importCsv(HEADER
+                + "Ann Lim,91234567,Nanyang Primary,p5,Blk 1,friends;new,40,"
+                + "subject/Math d/3 s/10:00 e/12:00 rate/40;subject/Science d/4 s/10:00 e/11:00 rate/50\n"
+                + "Ben Tan,92345678,Nanyang Primary,p4,Blk 2,,,\n");
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(List.of(), result.getErrors());
+        assertEquals(tuteeCount + 2, model.getTrackO().getTuteeList().size());
+
+        Tutee ann = getTutee("Ann Lim");
+        assertTrue(ann.getId().isAssigned());
+        assertEquals("40.00", ann.getPayment().getValue());
+        assertEquals(2, ann.getTags().size());
+        for (Lesson lesson : ann.getLessons()) {
+            assertEquals(ann.getId(), model.getSchedule().getSortedLessonsToTuteeIds().get(lesson));
+        }
+        assertEquals("0", getTutee("Ben Tan").getPayment().getValue());
+    }
+
+    @Test
+    public void importTutees_invalidRows_skippedWithErrors() throws Exception {
+        TuteeImporter.Result result = importCsv(HEADER
+                + "Ann Lim,not a phone,Nanyang Primary,p5,Blk 1,,,\n"
+                + "Ben Tan,,Nanyang Primary,p5,Blk 1,,,\n"
+                + "Alice Pauline,91234567,Nanyang Primary,p5,Blk 1,,,\n"
+                + "Cal Ong,91234567,Nanyang Primary,p5,Blk 1,,,subject/Math d/8 s/10:00 e/12:00 rate/40\n"
+                + "Dee Ng,91234567,Nanyang Primary,p5,Blk 1,,,\n"
+                + "Dee Ng,91234567,Nanyang Primary,p5,Blk 1,,,\n");
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(List.of(2, 3, 4, 5, 7), getErrorLines(result));
+        assertEquals(String.format(RowValidator.MESSAGE_INVALID_FIELD, ImportRow.FIELD_PHONE,
+                Phone.MESSAGE_CONSTRAINTS), result.getErrors().get(0).getMessage());
+        assertEquals(String.format(RowValidator.MESSAGE_MISSING_FIELD, ImportRow.FIELD_PHONE),
+                result.getErrors().get(1).getMessage());
+        assertEquals(String.format(TuteeImporter.MESSAGE_DUPLICATE_TUTEE, new Name("Alice Pauline")),
+                result.getErrors().get(2).getMessage());
+        assertEquals(String.format(TuteeImporter.MESSAGE_DUPLICATE_TUTEE, new Name("Dee Ng")),
+                result.getErrors().get(4).getMessage());
+    }
+
+    @Test
+    public void importTutees_clashingLessons_laterRowsSkipped() throws Exception {
+        // Benson already has a lesson on Mondays from 12:30 to 14:30
+        TuteeImporter.Result result = importCsv(HEADER
+                + "Ann Lim,91234567,Nanyang Primary,p5,Blk 1,,,subject/Math d/1 s/13:00 e/14:00 rate/40\n"
+                + "Ben Tan,91234567,Nanyang Primary,p5,Blk 1,,,"
+                + "subject/Math d/3 s/10:00 e/12:00 rate/40;subject/Math d/1 s/14:00 e/15:00 rate/40\n"
+                + "Cal Ong,91234567,Nanyang Primary,p5,Blk 1,,,subject/Math d/3 s/10:00 e/12:00 rate/40\n"
+                + "Dee Ng,91234567,Nanyang Primary,p5,Blk 1,,,subject/Math d/3 s/11:00 e/13:00 rate/40\n");
+
+        // Ben's Wednesday lesson is freed once his Monday lesson is found to clash, so it goes to Cal instead
+        assertEquals(List.of(2, 3, 5), getErrorLines(result));
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, getTutee("Cal Ong").getLessons().size());
+    }
+
+    @Test
+    public void importTutees_lessonClashingWithMakeUpLesson_rowSkipped() throws Exception {
+        Lesson makeUpLesson = new Lesson(new Subject("Math"),
+                new Time(DayOfWeek.THURSDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)), 40.0);
+        LessonOccurrence makeUp = new LessonOccurrence(LocalDate.of(2021, 10, 21), makeUpLesson,
+                getTutee("Alice Pauline").getId(), LessonOccurrence.Kind.MAKE_UP);
+        model.setCalendar(model.getCalendar().withMakeUp(makeUp));
+
+        TuteeImporter.Result result = importCsv(HEADER
+                + "Ann Lim,91234567,Nanyang Primary,p5,Blk 1,,,"
+                + "subject/Math d/3 s/10:00 e/12:00 rate/40;subject/Science d/4 s/11:00 e/13:00 rate/40\n"
+                + "Ben Tan,91234567,Nanyang Primary,p5,Blk 1,,,"
+                + "subject/Math d/3 s/10:00 e/12:00 rate/40;subject/Science d/4 s/12:00 e/13:00 rate/40\n");
+
+        // Ann's Wednesday lesson is freed once her Thursday lesson is found to clash, so it goes to Ben instead
+        Time clashingTime = new Time(DayOfWeek.THURSDAY, LocalTime.of(11, 0), LocalTime.of(13, 0));
+        assertEquals(List.of(new TuteeImporter.RowError(2, String.format(TuteeImporter.MESSAGE_MAKE_UP_CLASH,
+                "Science on " + clashingTime, makeUp))), result.getErrors());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(2, getTutee("Ben Tan").getLessons().size());
+    }
+
+    @Test
+    public void importTutees_moreRowsThanBatch_allImportedInOrder() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        int rowCount = TuteeImporter.BATCH_SIZE + 10;
+        for (int i = 0; i < rowCount; i++) {
+            csv.append("Tutee ").append(i).append(",91234567,Nanyang Primary,p5,Blk 1,,,\n");
+        }
+        csv.append("Tutee 0,91234567,Nanyang Primary,p5,Blk 1,,,\n");
+
+        TuteeImporter.Result result = importCsv(csv.toString());
+
+        assertEquals(rowCount, result.getImportedCount());
+        assertEquals(List.of(rowCount + 2), getErrorLines(result));
+    }
+
+    @Test
+    public void importTutees_jsonLines_rowsReadAndValidated() throws Exception {
+        String jsonLines = "{\"name\": \"Ann Lim\", \"phone\": 91234567, \"school\": \"Nanyang Primary\", "
+                + "\"level\": \"p5\", \"address\": \"Blk 1\", \"tags\": [\"friends\"], "
+                + "\"lessons\": [\"subject/Math d/3 s/10:00 e/12:00 rate/40\"]}\n"
+                + "{\"name\": \"Ben Tan\"\n"
+                + "{\"name\": \"Cal Ong\", \"email\": \"cal@example.com\"}\n"
+                + "{\"name\": \"Dee Ng\", \"phone\": \"91234567\", \"school\": \"Nanyang Primary\", "
+                + "\"level\": \"p5\", \"address\": \"Blk 1\", \"lessons\": [\"subject/Math d/3\"]}\n";
+
+        TuteeImporter.Result result = TuteeImporter.importTutees(
+                new JsonLinesRowReader(new BufferedReader(new StringReader(jsonLines))), model);
+
+        assertEquals(1, result.getImportedCount());
+        assertEquals(List.of(2, 3, 4), getErrorLines(result));
+        assertEquals(String.format(JsonLinesRowReader.MESSAGE_UNKNOWN_FIELD, "email"),
+                result.getErrors().get(1).getMessage());
+        assertEquals(String.format(RowValidator.MESSAGE_INVALID_FIELD, ImportRow.FIELD_LESSONS,
+                RowValidator.MESSAGE_INVALID_LESSON), result.getErrors().get(2).getMessage());
+        assertEquals(1, getTutee("Ann Lim").getLessons().size());
+    }
+
+    @Test
+    public void importTutees_unreadableFile_modelUnchanged() {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+        RowReader failingReader = new RowReader(new BufferedReader(new StringReader(""))) {
+            private boolean isRowRead = false;
+
+            @Override
+            public ImportRow readRow() throws IOException {
+                if (!isRowRead) {
+                    isRowRead = true;
+                    return ImportRow.of(1, Map.of(ImportRow.FIELD_NAME, List.of("Ann Lim")));
+                }
+                throw new IOException("Disk error");
+            }
+        };
+
+        assertThrows(IOException.class, "Disk error", () -> TuteeImporter.importTutees(failingReader, model));
+        assertEquals(tuteeCount, model.getTrackO().getTuteeList().size());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.AMY;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.testutil.TuteeBuilder;
+
+public class TuteeDiffTest {
+
+    @Test
+    public void of_sameTutees_empty() {
+        assertTrue(TuteeDiff.of(getTypicalTutees(), getTypicalTutees()).isEmpty());
+    }
+
+    @Test
+    public void of_differentTutees_differencesFound() {
+        List<Tutee> other = getTypicalTutees();
+        other.remove(ALICE);
+        Tutee editedBenson = new TuteeBuilder(BENSON).withPhone("91234567").build();
+        other.set(other.indexOf(BENSON), editedBenson);
+        Tutee editedCarl = new TuteeBuilder(CARL).withPayment("80", LocalDate.of(2023, 11, 20)).build();
+        other.set(other.indexOf(CARL), editedCarl);
+        other.add(AMY);
+
+        TuteeDiff diff = TuteeDiff.of(getTypicalTutees(), other);
+
+        assertFalse(diff.isEmpty());
+        assertEquals(List.of(AMY), diff.getAdded());
+        assertEquals(List.of(ALICE), diff.getRemoved());
+        assertEquals(List.of(new TuteeDiff.Change(BENSON, editedBenson, true, false),
+                new TuteeDiff.Change(CARL, editedCarl, false, true)), diff.getChanges());
+    }
+
+    @Test
+    public void of_lessonRateChanged_detailsChanged() {
+        Time time = new Time(DayOfWeek.FRIDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        Tutee current = new TuteeBuilder(ALICE).withLesson(new Lesson(new Subject("Math"), time, 40.0)).build();
+        Tutee other = new TuteeBuilder(ALICE).withLesson(new Lesson(new Subject("Math"), time, 45.0)).build();
+
+        // lessons at the same time are equal, but the change in rate is still found
+        assertEquals(List.of(new TuteeDiff.Change(current, other, true, false)),
+                TuteeDiff.of(List.of(current), List.of(other)).getChanges());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.logic.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalTutees.AMY;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.BOB;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.merge.TuteeMerger.Preference;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.testutil.TuteeBuilder;
+
+public class TuteeMergerTest {
+
+    private static final Lesson WEDNESDAY_LESSON = new Lesson(new Subject("Math"),
+            new Time(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)), 50.0);
+    // overlaps with Benson's lesson on Mondays from 12:30 to 14:30
+    private static final Lesson LATER_MONDAY_LESSON = new Lesson(new Subject("Chemistry"),
+            new Time(DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(15, 0)), 40.0);
+    private static final Lesson CLASHING_LESSON = new Lesson(new Subject("Math"),
+            new Time(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0)), 50.0);
+
+    private Model model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+    private TuteeDiff diff;
+
+    public TuteeMergerTest() throws ScheduleClashException {
+    }
+
+    @BeforeEach
+    public void setUp() {
+        List<Tutee> other = getTypicalTutees();
+        // Benson's lesson moves to a time overlapping its old one, and Carl's fees changed
+        other.set(other.indexOf(BENSON), new Tutee(BENSON.getName(), BENSON.getPhone(), BENSON.getSchool(),
+                BENSON.getLevel(), BENSON.getAddress(), BENSON.getPayment(), BENSON.getRemark(), BENSON.getTags(),
+                List.of(LATER_MONDAY_LESSON)));
+        other.set(other.indexOf(CARL), new TuteeBuilder(CARL).withPayment("160", LocalDate.of(2023, 10, 20))
+                .build());
+        other.add(new TuteeBuilder(AMY).withId(42).withLesson(WEDNESDAY_LESSON).build());
+        other.add(new TuteeBuilder(BOB).withLesson(CLASHING_LESSON).build());
+        diff = TuteeDiff.of(model.getTrackO().getTuteeList(), other);
+    }
+
+    private Tutee getTutee(Tutee tutee) {
+        return model.getTrackO().getTuteeList().stream().filter(tutee::isSameTutee).findFirst().get();
+    }
+
+    private String getBobClash() {
+        return String.format(TuteeMerger.MESSAGE_LESSON_CLASH, BOB.getName(),
+                CLASHING_LESSON.getSubject() + " on " + CLASHING_LESSON.getTime());
+    }
+
+    @Test
+    public void merge_preferOther_otherVersionsKept() {
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+
+        TuteeMerger.Result result = TuteeMerger.merge(model, diff, Preference.OTHER);
+
+        assertEquals(new TuteeMerger.Result(1, 2, List.of(getBobClash())), result);
+        assertEquals(tuteeCount + 1, model.getTrackO().getTuteeList().size());
+        assertEquals("160", getTutee(CARL).getPayment().getValue());
+
+        Tutee benson = getTutee(BENSON);
+        assertEquals(List.of(LATER_MONDAY_LESSON), benson.getLessons());
+        assertEquals(benson.getId(), model.getSchedule().getSortedLessonsToTuteeIds().get(LATER_MONDAY_LESSON));
+
+        // the tutee added is given an ID here, not the one it had in the other copy
+        Tutee amy = getTutee(AMY);
+        assertTrue(amy.getId().value != 42);
+        assertEquals(amy.getId(), model.getSchedule().getSortedLessonsToTuteeIds().get(WEDNESDAY_LESSON));
+        assertEquals(4, model.getSchedule().getSortedLessonsToTuteeIds().size());
+    }
+
+    @Test
+    public void merge_preferThis_onlyTuteesAdded() {
+        TuteeMerger.Result result = TuteeMerger.merge(model, diff, Preference.THIS);
+
+        assertEquals(new TuteeMerger.Result(1, 0, List.of(getBobClash())), result);
+        assertEquals(BENSON.getLessons(), getTutee(BENSON).getLessons());
+        assertEquals("80", getTutee(CARL).getPayment().getValue());
+        assertEquals(4, model.getSchedule().getSortedLessonsToTuteeIds().size());
+    }
+
+    @Test
+    public void merge_lessonClashingWithMakeUpLesson_tuteeNotAdded() {
+        // Carl has a make-up lesson on Wednesday 20 October from 10:30 to 11:30, when Amy has her weekly lesson
+        Lesson makeUpLesson = new Lesson(new Subject("Physics"),
+                new Time(DayOfWeek.WEDNESDAY, LocalTime.of(10, 30), LocalTime.of(11, 30)), 40.0);
+        LessonOccurrence makeUp = new LessonOccurrence(LocalDate.of(2021, 10, 20), makeUpLesson,
+                getTutee(CARL).getId(), LessonOccurrence.Kind.MAKE_UP);
+        model.setCalendar(model.getCalendar().withMakeUp(makeUp));
+        int tuteeCount = model.getTrackO().getTuteeList().size();
+
+        TuteeMerger.Result result = TuteeMerger.merge(model, diff, Preference.THIS);
+
+        String amyClash = String.format(TuteeMerger.MESSAGE_MAKE_UP_CLASH, AMY.getName(),
+                WEDNESDAY_LESSON.getSubject() + " on " + WEDNESDAY_LESSON.getTime(), makeUp);
+        assertEquals(new TuteeMerger.Result(0, 0, List.of(amyClash, getBobClash())), result);
+        assertEquals(tuteeCount, model.getTrackO().getTuteeList().size());
+        assertFalse(model.getSchedule().getSortedLessonsToTuteeIds().containsKey(WEDNESDAY_LESSON));
+    }
+}
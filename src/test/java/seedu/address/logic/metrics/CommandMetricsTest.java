@@ -0,0 +1,73 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics().getSummary());
+    }
+
+    @Test
+    public void finish_allPhasesEnded_recordedAsSuccess() {
+        CommandMetrics metrics = new CommandMetrics();
+        CommandMetrics.Recording recording = metrics.startRecording();
+        recording.endParse("list");
+        recording.endExecute();
+        recording.endSave();
+        recording.finish();
+
+        List<CommandStats> stats = metrics.getStats();
+        assertEquals(1, stats.size());
+        assertEquals("list", stats.get(0).getCommandWord());
+        assertEquals(1, stats.get(0).getRunCount());
+        assertEquals(0, stats.get(0).getFailureCount());
+        assertTrue(stats.get(0).getMaxMillis() >= 0);
+    }
+
+    @Test
+    public void finish_notSaved_recordedAsFailure() {
+        CommandMetrics metrics = new CommandMetrics();
+        CommandMetrics.Recording recording = metrics.startRecording();
+        recording.endParse("delete");
+        recording.finish();
+
+        CommandStats stats = metrics.getStats().get(0);
+        assertEquals(1, stats.getRunCount());
+        assertEquals(1, stats.getFailureCount());
+        assertEquals(0, stats.getMedianExecuteMillis());
+    }
+
+    @Test
+    public void finish_notParsed_recordedUnderInvalidCommandWord() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.startRecording().finish();
+
+        CommandStats stats = metrics.getStats().get(0);
+        assertEquals(CommandMetrics.INVALID_COMMAND_WORD, stats.getCommandWord());
+        assertEquals(1, stats.getFailureCount());
+    }
+
+    @Test
+    public void getSummary_severalCommands_oneLinePerCommandWordSorted() {
+        CommandMetrics metrics = new CommandMetrics();
+        for (String commandWord : new String[] {"list", "find", "list"}) {
+            CommandMetrics.Recording recording = metrics.startRecording();
+            recording.endParse(commandWord);
+            recording.endExecute();
+            recording.endSave();
+            recording.finish();
+        }
+
+        String[] lines = metrics.getSummary().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("find: 1 runs (0 failed)"));
+        assertTrue(lines[1].startsWith("list: 2 runs (0 failed)"));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.export.ExportFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_supportedFile_success() {
+        assertParseSuccess(parser, " exports/my tutees.CSV ",
+                new ExportCommand(Paths.get("exports/my tutees.CSV"), ExportFormat.CSV));
+        assertParseSuccess(parser, " schedule.ics", new ExportCommand(Paths.get("schedule.ics"), ExportFormat.ICS));
+    }
+
+    @Test
+    public void parse_unsupportedFile_failure() {
+        assertParseFailure(parser, " tutees.jsonl", ExportFormat.MESSAGE_UNSUPPORTED_FILE);
+    }
+
+    @Test
+    public void parse_noFile_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+}
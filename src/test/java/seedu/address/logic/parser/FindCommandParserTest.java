@@ -10,8 +10,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tutee.CollectivePredicate;
 import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.query.Clause;
+import seedu.address.model.tutee.query.OrQuery;
 
 public class FindCommandParserTest {
 
@@ -58,4 +61,13 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " overdue/yes", expectedFindCommand4);
     }
 
+    @Test
+    public void parse_query_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new OrQuery(List.of(
+                Clause.hasTag(new Tag("practical")), Clause.levelIs(new Level("p5")))));
+        assertParseSuccess(parser, " t/practical OR l/p5", expectedFindCommand);
+
+        assertParseFailure(parser, " t/practical OR", String.format(QueryParser.MESSAGE_MISSING_TERM, "OR"));
+    }
+
 }
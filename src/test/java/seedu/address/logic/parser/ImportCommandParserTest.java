@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.importer.RowReader;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_supportedFile_success() {
+        assertParseSuccess(parser, " data/my tutees.CSV ", new ImportCommand(Paths.get("data/my tutees.CSV")));
+        assertParseSuccess(parser, " tutees.jsonl", new ImportCommand(Paths.get("tutees.jsonl")));
+    }
+
+    @Test
+    public void parse_unsupportedFile_failure() {
+        assertParseFailure(parser, " tutees.xlsx", RowReader.MESSAGE_UNSUPPORTED_FILE);
+    }
+
+    @Test
+    public void parse_noFile_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
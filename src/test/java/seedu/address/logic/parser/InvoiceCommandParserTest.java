@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.InvoiceCommand;
+import seedu.address.logic.invoice.StatementFormat;
+
+public class InvoiceCommandParserTest {
+
+    private InvoiceCommandParser parser = new InvoiceCommandParser();
+
+    @Test
+    public void parse_noArguments_thisMonthAsText() {
+        assertParseSuccess(parser, "", new InvoiceCommand(YearMonth.now(), StatementFormat.TEXT));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " month/10-2021 format/HTML",
+                new InvoiceCommand(YearMonth.of(2021, 10), StatementFormat.HTML));
+        assertParseSuccess(parser, " format/text", new InvoiceCommand(YearMonth.now(), StatementFormat.TEXT));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " month/13-2021", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " month/2021-10", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " format/pdf", StatementFormat.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " 1 month/10-2021",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, InvoiceCommand.MESSAGE_USAGE));
+    }
+}
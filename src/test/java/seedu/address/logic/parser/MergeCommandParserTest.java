@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.merge.TuteeMerger.Preference;
+
+public class MergeCommandParserTest {
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_fileOnly_success() {
+        assertParseSuccess(parser, " desktop/trackO.json ",
+                new MergeCommand(Paths.get("desktop/trackO.json"), Optional.empty()));
+    }
+
+    @Test
+    public void parse_fileAndPreference_success() {
+        assertParseSuccess(parser, " trackO.json prefer/Other",
+                new MergeCommand(Paths.get("trackO.json"), Optional.of(Preference.OTHER)));
+    }
+
+    @Test
+    public void parse_invalidPreference_failure() {
+        assertParseFailure(parser, " trackO.json prefer/both", Preference.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_noFile_failure() {
+        assertParseFailure(parser, " prefer/this",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TUTEE;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -17,6 +18,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.merge.TuteeMerger.Preference;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.Time;
@@ -418,6 +420,39 @@ public class ParserUtilTest {
         assertEquals(expectedLocalTime, ParserUtil.parseLocalTime(VALID_LOCAL_TIME));
     }
 
+    @Test
+    public void parseDate_invalidDate_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> ParserUtil.parseDate("2021-10-18"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> ParserUtil.parseDate("29-02-2021"));
+    }
+
+    @Test
+    public void parseDate_validDate_returnsLocalDate() throws ParseException {
+        assertEquals(LocalDate.of(2024, 2, 29), ParserUtil.parseDate(" 29-02-2024 "));
+    }
+
+    @Test
+    public void parseMergePreference_invalidPreference_throwsParseException() {
+        assertThrows(ParseException.class, Preference.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseMergePreference("mine"));
+    }
+
+    @Test
+    public void parseMergePreference_validPreference_returnsPreference() throws ParseException {
+        assertEquals(Preference.OTHER, ParserUtil.parseMergePreference(" OTHER "));
+    }
+
+    @Test
+    public void parseMonth_invalidMonth_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("2021-10"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("00-2021"));
+    }
+
+    @Test
+    public void parseMonth_validMonth_returnsYearMonth() throws ParseException {
+        assertEquals(YearMonth.of(2021, 10), ParserUtil.parseMonth(" 10-2021 "));
+    }
+
     @Test
     public void parseHourlyRate_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseHourlyRate((String) null));
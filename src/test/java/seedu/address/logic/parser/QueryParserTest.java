@@ -0,0 +1,129 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.query.AndQuery;
+import seedu.address.model.tutee.query.Clause;
+import seedu.address.model.tutee.query.NotQuery;
+import seedu.address.model.tutee.query.OrQuery;
+import seedu.address.model.tutee.query.Query;
+
+public class QueryParserTest {
+
+    private static final Clause NAME_ALICE = Clause.nameContains(List.of("Alice"));
+    private static final Clause NAME_BOB = Clause.nameContains(List.of("Bob"));
+    private static final Clause LEVEL_P5 = Clause.levelIs(new Level("p5"));
+    private static final Clause TAG_RESCHEDULED = Clause.hasTag(new Tag("rescheduled"));
+
+    @Test
+    public void isQuery() {
+        // prefixes that all have to match -> returns false
+        assertFalse(QueryParser.isQuery(" n/Alice Bob l/p5 subject/math"));
+        assertFalse(QueryParser.isQuery(" overdue/yes"));
+
+        // operators, brackets or terms only a query can have -> returns true
+        assertTrue(QueryParser.isQuery(" n/Alice OR n/Bob"));
+        assertTrue(QueryParser.isQuery(" (n/Alice)"));
+        assertTrue(QueryParser.isQuery(" t/rescheduled"));
+        assertTrue(QueryParser.isQuery(" l/p5 pay/50.."));
+
+        // operators in lower case or in quotes are not operators
+        assertFalse(QueryParser.isQuery(" n/Alice or Bob"));
+    }
+
+    @Test
+    public void parse_operators_notThenAndThenOr() throws Exception {
+        assertEquals(new OrQuery(List.of(NAME_ALICE, new AndQuery(List.of(NAME_BOB, LEVEL_P5)))),
+                QueryParser.parse(" n/Alice OR n/Bob AND l/p5"));
+
+        // terms next to one another must both match
+        assertEquals(new OrQuery(List.of(NAME_ALICE, new AndQuery(List.of(NAME_BOB, LEVEL_P5)))),
+                QueryParser.parse(" n/Alice OR n/Bob l/p5"));
+
+        assertEquals(new AndQuery(List.of(new NotQuery(TAG_RESCHEDULED), LEVEL_P5)),
+                QueryParser.parse(" NOT t/rescheduled AND l/p5"));
+
+        assertEquals(new AndQuery(List.of(new OrQuery(List.of(NAME_ALICE, NAME_BOB)), LEVEL_P5)),
+                QueryParser.parse(" (n/Alice OR n/Bob) AND l/p5"));
+
+        assertEquals(new NotQuery(new NotQuery(NAME_ALICE)), QueryParser.parse(" NOT NOT n/Alice"));
+    }
+
+    @Test
+    public void parse_terms() throws Exception {
+        assertEquals(Clause.schoolContains(List.of("acs", "primary")), QueryParser.parse(" sch/\"acs primary\""));
+        assertEquals(Clause.levelIs(new Level("p5")), QueryParser.parse(" l/P5"));
+        assertEquals(Clause.isOverdue(true), QueryParser.parse(" overdue/yes"));
+        assertEquals(Clause.hasLessonOn(DayOfWeek.WEDNESDAY), QueryParser.parse(" d/3"));
+        assertEquals(new AndQuery(List.of(Clause.hasSubject("math"), Clause.hasSubject("english"))),
+                QueryParser.parse(" subject/\"math english\""));
+
+        // ranges
+        assertEquals(Clause.paymentBetween(5000, 10050), QueryParser.parse(" pay/50..100.50"));
+        assertEquals(Clause.paymentBetween(5000, Long.MAX_VALUE), QueryParser.parse(" pay/50.."));
+        assertEquals(Clause.payByBetween(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30)),
+                QueryParser.parse(" by/01-11-2022..30-11-2022"));
+        assertEquals(Clause.hasLessonDuring(LocalTime.MIN, LocalTime.NOON), QueryParser.parse(" time/..12:00"));
+    }
+
+    @Test
+    public void parse_wordsAfterMultiWordTerm_continueItsValue() throws Exception {
+        assertEquals(new AndQuery(List.of(Clause.nameContains(List.of("Alex", "Yeoh")),
+                Clause.hasTag(new Tag("friend")))), QueryParser.parse(" n/Alex Yeoh t/friend"));
+        assertEquals(new AndQuery(List.of(Clause.hasSubject("math"), Clause.hasSubject("english"))),
+                QueryParser.parse(" subject/math english"));
+        assertEquals(Clause.schoolContains(List.of("acs", "primary")), QueryParser.parse(" sch/acs primary"));
+
+        // operators and brackets end the value
+        assertEquals(new OrQuery(List.of(Clause.nameContains(List.of("Alex", "Yeoh")), NAME_BOB)),
+                QueryParser.parse(" n/Alex Yeoh OR n/Bob"));
+        assertEquals(new AndQuery(List.of(new OrQuery(List.of(NAME_ALICE, Clause.nameContains(List.of("Bob",
+                "Tan")))), LEVEL_P5)), QueryParser.parse(" (n/Alice OR n/Bob Tan) l/p5"));
+
+        // words after other terms are not part of their value
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNKNOWN_TERM, "Yeoh"), () ->
+                QueryParser.parse(" t/friend Yeoh"));
+    }
+
+    @Test
+    public void parse_malformed_throwsParseException() {
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_MISSING_TERM, "AND"), () ->
+                QueryParser.parse(" n/Alice AND"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNCLOSED_BRACKET, () ->
+                QueryParser.parse(" (n/Alice OR n/Bob"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED, ")"), () ->
+                QueryParser.parse(" n/Alice)"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED, "OR"), () ->
+                QueryParser.parse(" OR n/Alice"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNCLOSED_QUOTE, () ->
+                QueryParser.parse(" sch/\"acs primary"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNKNOWN_TERM, "x/1"), () ->
+                QueryParser.parse(" n/Alice x/1"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_RANGE, "pay/50"), () ->
+                QueryParser.parse(" pay/50"));
+        assertThrows(ParseException.class, Clause.MESSAGE_EMPTY_RANGE + ": pay/100..50", () ->
+                QueryParser.parse(" pay/100..50"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> QueryParser.parse(" t/not-a-tag!"));
+    }
+
+    @Test
+    public void parse_nestedTooDeep_throwsParseException() throws Exception {
+        Query nested = QueryParser.parse(" " + "NOT ".repeat(QueryParser.MAX_DEPTH) + "t/rescheduled");
+        assertTrue(nested instanceof NotQuery);
+        assertThrows(ParseException.class, QueryParser.MESSAGE_TOO_DEEP, () ->
+                QueryParser.parse(" " + "(".repeat(QueryParser.MAX_DEPTH + 1) + "t/rescheduled"));
+    }
+}
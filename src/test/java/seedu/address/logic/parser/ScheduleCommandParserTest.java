@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.query.Clause;
+
+public class ScheduleCommandParserTest {
+
+    private ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsScheduleCommand() {
+        assertParseSuccess(parser, "", new ScheduleCommand());
+        assertParseSuccess(parser, " 3", new ScheduleCommand());
+    }
+
+    @Test
+    public void parse_filters_returnsScheduleCommand() {
+        assertParseSuccess(parser, " d/1 d/3", new ScheduleCommand(List.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY),
+                LocalTime.MIN, LocalTime.MAX));
+        assertParseSuccess(parser, " time/12:00..18:00", new ScheduleCommand(List.of(),
+                LocalTime.of(12, 0), LocalTime.of(18, 0)));
+        assertParseSuccess(parser, " d/7 time/..09:30", new ScheduleCommand(List.of(DayOfWeek.SUNDAY),
+                LocalTime.MIN, LocalTime.of(9, 30)));
+    }
+
+    @Test
+    public void parse_invalidFilters_throwsParseException() {
+        assertParseFailure(parser, " d/8", Time.MESSAGE_CONSTRAINTS_INVALID_DAY);
+        assertParseFailure(parser, " time/12:00", String.format(QueryParser.MESSAGE_INVALID_RANGE, "time/12:00"));
+        assertParseFailure(parser, " time/18:00..12:00", Clause.MESSAGE_EMPTY_RANGE + ": time/18:00..12:00");
+        assertParseFailure(parser, " time/12..18:00", Time.MESSAGE_CONSTRAINTS_INVALID_LOCALTIME);
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.tutee.TuteeComparator;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name", new SortCommand(TuteeComparator.Key.NAME, false));
+        assertParseSuccess(parser, " OWED  desc ", new SortCommand(TuteeComparator.Key.OWED, true));
+        assertParseSuccess(parser, " added", new SortCommand(TuteeComparator.Key.ADDED, false));
+    }
+
+    @Test
+    public void parse_unknownKey_throwsParseException() {
+        assertParseFailure(parser, " age", TuteeComparator.Key.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " owed up", expectedMessage);
+        assertParseFailure(parser, " owed desc now", expectedMessage);
+        assertParseFailure(parser, " added desc", expectedMessage);
+    }
+}
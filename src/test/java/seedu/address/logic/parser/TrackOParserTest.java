@@ -4,27 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY_OF_WEEK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURLY_RATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LESSON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TUTEE;
 
+import java.nio.file.Paths;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddLessonCommand;
+import seedu.address.logic.commands.CalendarCommand;
+import seedu.address.logic.commands.CancelLessonCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearRemarkCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -32,18 +41,32 @@ import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditTuteeDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.GetCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.InvoiceCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MakeUpLessonCommand;
+import seedu.address.logic.commands.MergeCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TermCommand;
 import seedu.address.logic.commands.paymentcommand.PaymentCommand;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.invoice.StatementFormat;
+import seedu.address.logic.merge.TuteeMerger.Preference;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.Term;
 import seedu.address.model.lesson.Subject;
 import seedu.address.model.tutee.CollectivePredicate;
 import seedu.address.model.tutee.Remark;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeComparator;
 import seedu.address.testutil.EditTuteeDescriptorBuilder;
 import seedu.address.testutil.TuteeBuilder;
 import seedu.address.testutil.TuteeUtil;
@@ -119,6 +142,81 @@ public class TrackOParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_calendar() throws Exception {
+        assertEquals(new CalendarCommand(null, null), parser.parseCommand(CalendarCommand.COMMAND_WORD));
+        assertEquals(new CalendarCommand(LocalDate.of(2021, 10, 18), LocalDate.of(2021, 10, 31)),
+                parser.parseCommand(CalendarCommand.COMMAND_WORD + " " + PREFIX_FROM + "18-10-2021 "
+                        + PREFIX_TO + "31-10-2021"));
+        assertThrows(ParseException.class, LessonCalendar.MESSAGE_INVALID_RANGE, () -> parser.parseCommand(
+                CalendarCommand.COMMAND_WORD + " " + PREFIX_FROM + "31-10-2021 " + PREFIX_TO + "18-10-2021"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("tutees.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " tutees.csv"));
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(TuteeComparator.Key.NEXT, true),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " next desc"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("schedule.ics"), ExportFormat.ICS),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " schedule.ics"));
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        assertEquals(new MergeCommand(Paths.get("trackO.json"), Optional.of(Preference.THIS)),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " trackO.json prefer/this"));
+    }
+
+    @Test
+    public void parseCommand_invoice() throws Exception {
+        assertEquals(new InvoiceCommand(YearMonth.of(2021, 10), StatementFormat.HTML),
+                parser.parseCommand(InvoiceCommand.COMMAND_WORD + " month/10-2021 format/html"));
+    }
+
+    @Test
+    public void parseCommand_term() throws Exception {
+        assertEquals(new TermCommand(null), parser.parseCommand(TermCommand.COMMAND_WORD));
+        assertEquals(new TermCommand(new Term(LocalDate.of(2021, 10, 4), LocalDate.of(2021, 11, 19))),
+                parser.parseCommand(TermCommand.COMMAND_WORD + " " + PREFIX_FROM + "04-10-2021 "
+                        + PREFIX_TO + "19-11-2021"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, TermCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(TermCommand.COMMAND_WORD + " " + PREFIX_FROM + "04-10-2021"));
+    }
+
+    @Test
+    public void parseCommand_cancel() throws Exception {
+        CancelLessonCommand command = (CancelLessonCommand) parser.parseCommand(CancelLessonCommand.COMMAND_WORD
+                + " " + INDEX_FIRST_TUTEE.getOneBased() + " " + PREFIX_LESSON + "1 " + PREFIX_DATE + "18-10-2021");
+        assertEquals(new CancelLessonCommand(INDEX_FIRST_TUTEE, Index.fromOneBased(1), LocalDate.of(2021, 10, 18)),
+                command);
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> parser.parseCommand(
+                CancelLessonCommand.COMMAND_WORD + " 1 " + PREFIX_LESSON + "1 " + PREFIX_DATE + "31-02-2021"));
+    }
+
+    @Test
+    public void parseCommand_makeUp() throws Exception {
+        MakeUpLessonCommand command = (MakeUpLessonCommand) parser.parseCommand(MakeUpLessonCommand.COMMAND_WORD
+                + " " + INDEX_FIRST_TUTEE.getOneBased() + " " + PREFIX_LESSON + "1 " + PREFIX_DATE + "23-10-2021 "
+                + PREFIX_START_TIME + "10:00 " + PREFIX_END_TIME + "12:00");
+        assertEquals(new MakeUpLessonCommand(INDEX_FIRST_TUTEE, Index.fromOneBased(1), LocalDate.of(2021, 10, 23),
+                LocalTime.of(10, 0), LocalTime.of(12, 0)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -174,6 +272,8 @@ public class TrackOParserTest {
     public void parseCommand_schedule() throws Exception {
         assertTrue(parser.parseCommand(ScheduleCommand.COMMAND_WORD) instanceof ScheduleCommand);
         assertTrue(parser.parseCommand(ScheduleCommand.COMMAND_WORD + " 3") instanceof ScheduleCommand);
+        assertEquals(new ScheduleCommand(List.of(DayOfWeek.MONDAY), LocalTime.MIN, LocalTime.MAX),
+                parser.parseCommand(ScheduleCommand.COMMAND_WORD + " d/1"));
     }
 
     @Test
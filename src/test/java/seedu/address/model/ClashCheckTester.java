@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+
+/**
+ * Times the clash checks of {@link Schedule}, made against a {@link WeekOccupancy}, against the lookups in a
+ * {@code TreeMap} of lessons that the schedule made before, and reports the average time each check takes.
+ * <br>
+ * Usage: {@code ClashCheckTester [--checks=COUNT]}
+ * <br>
+ * Each schedule is filled with lessons of an hour, spread evenly over the week, and then checked against the same
+ * random lessons of half an hour to two hours in both ways, after a round of checks to warm up the JIT compiler.
+ */
+public class ClashCheckTester {
+
+    private static final int DEFAULT_CHECK_COUNT = 2_000_000;
+    private static final int[] LESSON_COUNTS = {10, 50, 150};
+    private static final long SEED = 2103;
+
+    /**
+     * Runs the comparison with the command-line arguments described above and prints its results.
+     */
+    public static void main(String[] args) {
+        int checkCount = DEFAULT_CHECK_COUNT;
+        for (String arg : args) {
+            if (arg.startsWith("--checks=")) {
+                checkCount = Integer.parseInt(arg.substring("--checks=".length()));
+            }
+        }
+
+        List<Lesson> probes = createProbes(checkCount);
+        System.out.println(String.format("%8s %14s %14s %9s", "lessons", "TreeMap ns", "bitmap ns", "speedup"));
+        for (int lessonCount : LESSON_COUNTS) {
+            TreeMap<Lesson, String> lessons = new TreeMap<>();
+            WeekOccupancy occupancy = new WeekOccupancy();
+            for (Lesson lesson : createSchedule(lessonCount)) {
+                lessons.put(lesson, "");
+                Time time = lesson.getTime();
+                occupancy.occupy(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek());
+            }
+
+            timeTreeMap(lessons, probes);
+            timeOccupancy(occupancy, probes);
+            double treeMapNanos = (double) timeTreeMap(lessons, probes) / probes.size();
+            double occupancyNanos = (double) timeOccupancy(occupancy, probes) / probes.size();
+            System.out.println(String.format("%8d %14.1f %14.1f %8.1fx", lessonCount, treeMapNanos, occupancyNanos,
+                    treeMapNanos / occupancyNanos));
+        }
+    }
+
+    /**
+     * Returns {@code lessonCount} lessons of an hour that do not overlap, spread evenly over the week.
+     */
+    private static List<Lesson> createSchedule(int lessonCount) {
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        // the last hour of each day is left out, so that every lesson ends on the day it starts
+        int slotsPerDay = 23;
+        int slotCount = slotsPerDay * DayOfWeek.values().length;
+        for (int i = 0; i < lessonCount; i++) {
+            int slot = (int) ((long) i * slotCount / lessonCount);
+            LocalTime start = LocalTime.of(slot % slotsPerDay, 0);
+            lessons.add(new Lesson(new Subject("Math"),
+                    new Time(DayOfWeek.of(slot / slotsPerDay + 1), start, start.plusHours(1)), 40));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns {@code count} lessons of half an hour to two hours, starting on a random half hour of the week.
+     */
+    private static List<Lesson> createProbes(int count) {
+        Random random = new Random(SEED);
+        List<Lesson> probes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int halfHours = 1 + random.nextInt(4);
+            LocalTime start = LocalTime.of(0, 0).plusMinutes(30L * random.nextInt(48 - halfHours));
+            probes.add(new Lesson(new Subject("Science"),
+                    new Time(DayOfWeek.of(1 + random.nextInt(7)), start, start.plusMinutes(30L * halfHours)), 40));
+        }
+        return probes;
+    }
+
+    /**
+     * Returns the nanoseconds taken to check every probe for a clash with a lookup in {@code lessons}.
+     */
+    private static long timeTreeMap(TreeMap<Lesson, String> lessons, List<Lesson> probes) {
+        int clashes = 0;
+        long start = System.nanoTime();
+        for (Lesson probe : probes) {
+            if (lessons.containsKey(probe)) {
+                clashes++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(clashes);
+        return elapsed;
+    }
+
+    /**
+     * Returns the nanoseconds taken to check every probe for a clash with the minutes occupied in
+     * {@code occupancy}.
+     */
+    private static long timeOccupancy(WeekOccupancy occupancy, List<Lesson> probes) {
+        int clashes = 0;
+        long start = System.nanoTime();
+        for (Lesson probe : probes) {
+            Time time = probe.getTime();
+            if (occupancy.isAnyOccupied(time.getStartMinuteOfWeek(), time.getEndMinuteOfWeek())) {
+                clashes++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(clashes);
+        return elapsed;
+    }
+
+    /**
+     * Keeps the JIT compiler from removing the checks whose results would otherwise be unused.
+     */
+    private static void consume(int clashes) {
+        if (clashes < 0) {
+            System.out.println(clashes);
+        }
+    }
+}
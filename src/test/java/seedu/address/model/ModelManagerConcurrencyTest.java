@@ -0,0 +1,193 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
+import seedu.address.testutil.TuteeBuilder;
+
+/**
+ * Stress tests {@code ModelManager} with writers that add and remove lessons while readers take snapshots,
+ * checking that every snapshot has the tutees and the schedule agreeing with each other.
+ */
+public class ModelManagerConcurrencyTest {
+
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int WRITES_PER_WRITER = 500;
+
+    @Test
+    public void write_nestedWrite_treatedAsOneWrite() throws Exception {
+        ModelManager model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        long versionBefore = model.getSnapshot().getVersion();
+
+        model.write(outer -> {
+            outer.addTutee(new TuteeBuilder().withName("Nested Tutee").build());
+            outer.clearSchedule();
+            return null;
+        });
+
+        assertEquals(versionBefore + 1, model.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getSnapshot_noWrites_sameSnapshotShared() throws Exception {
+        ModelManager model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        assertSame(model.getSnapshot(), model.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_withinWrite_reflectsChangeSoFar() throws Exception {
+        ModelManager model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        Tutee tutee = new TuteeBuilder().withName("Tutee In Write").build();
+
+        // the write lock is not reentrant, so this would never return if the snapshot waited for the lock
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<ModelSnapshot> future = executor.submit(() -> model.write(writable -> {
+            writable.addTutee(tutee);
+            return writable.getSnapshot();
+        }));
+        ModelSnapshot within = future.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertTrue(within.getTuteeList().contains(tutee));
+        assertNotSame(within, model.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_afterWrite_reflectsWrite() throws Exception {
+        ModelManager model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        ModelSnapshot before = model.getSnapshot();
+
+        Random random = new Random(0);
+        model.write(writable -> {
+            addOrRemoveRandomLesson(writable, random);
+            return null;
+        });
+
+        ModelSnapshot after = model.getSnapshot();
+        assertNotNull(after);
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(model.getSchedule().getSortedLessonsToTuteeIds(), after.getScheduledLessons());
+    }
+
+    @Test
+    public void concurrentWritesAndSnapshots_snapshotsConsistent() throws Exception {
+        ModelManager model = new ModelManager(getTypicalTrackO(), new UserPrefs());
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            Random random = new Random(i);
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < WRITES_PER_WRITER; j++) {
+                    model.write(writable -> {
+                        addOrRemoveRandomLesson(writable, random);
+                        return null;
+                    });
+                }
+                return null;
+            }));
+        }
+
+        List<Future<Long>> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                long snapshotsChecked = 0;
+                while (isWriting.get()) {
+                    checkInvariants(model.getSnapshot(), violations);
+                    snapshotsChecked++;
+                }
+                return snapshotsChecked;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        isWriting.set(false);
+        for (Future<Long> reader : readers) {
+            assertTrue(reader.get(1, TimeUnit.MINUTES) > 0);
+        }
+        executor.shutdown();
+
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+        ModelSnapshot finalSnapshot = model.getSnapshot();
+        checkInvariants(finalSnapshot, violations);
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+        assertTrue(finalSnapshot.getVersion() >= WRITER_COUNT * WRITES_PER_WRITER);
+    }
+
+    /**
+     * Adds a lesson at a random time to a random tutee, or removes a random lesson of that tutee, checking the lesson
+     * against the schedule first as commands do.
+     */
+    private static void addOrRemoveRandomLesson(Model model, Random random) {
+        List<Tutee> tutees = model.getTrackO().getTuteeList();
+        Tutee tutee = tutees.get(random.nextInt(tutees.size()));
+
+        if (!tutee.getLessons().isEmpty() && random.nextBoolean()) {
+            Index lessonIndex = Index.fromZeroBased(random.nextInt(tutee.getLessons().size()));
+            model.setTutee(tutee, tutee.withLessonRemoved(lessonIndex));
+            return;
+        }
+
+        LocalTime start = LocalTime.of(random.nextInt(23), random.nextInt(2) * 30);
+        Time time = new Time(DayOfWeek.of(random.nextInt(7) + 1), start, start.plusMinutes(30));
+        Lesson lesson = new Lesson(Subject.of("Math"), time, 40);
+        if (!model.getSchedule().canAdd(lesson)) {
+            return;
+        }
+        model.setTutee(tutee, tutee.withLessonAdded(lesson));
+    }
+
+    private static void checkInvariants(ModelSnapshot snapshot, ConcurrentLinkedQueue<String> violations) {
+        int lessonCount = 0;
+        for (Tutee tutee : snapshot.getTuteeList()) {
+            lessonCount += tutee.getLessons().size();
+        }
+        if (lessonCount != snapshot.getScheduledLessons().size()) {
+            violations.add(String.format("Version %d: tutees have %d lessons but %d are scheduled",
+                    snapshot.getVersion(), lessonCount, snapshot.getScheduledLessons().size()));
+        }
+
+        for (Map.Entry<Lesson, TuteeId> entry : snapshot.getScheduledLessons().entrySet()) {
+            Tutee tutee = snapshot.getTutee(entry.getValue());
+            if (tutee == null || tutee.getLessons().stream().noneMatch(lesson -> lesson == entry.getKey())) {
+                violations.add(String.format("Version %d: lesson %s is scheduled for tutee %s who does not take it",
+                        snapshot.getVersion(), entry.getKey().getTime(), entry.getValue()));
+            }
+        }
+    }
+}
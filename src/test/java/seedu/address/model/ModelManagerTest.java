@@ -7,21 +7,43 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTutees.ALICE;
 import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.LESSON;
+import static seedu.address.testutil.TypicalTutees.LESSON_1;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.event.LessonAdded;
+import seedu.address.model.event.LessonRemoved;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.PaymentChanged;
+import seedu.address.model.event.TuteeAdded;
+import seedu.address.model.event.TuteeEdited;
+import seedu.address.model.event.TuteeRemoved;
+import seedu.address.model.event.TuteesReset;
 import seedu.address.model.exceptions.ScheduleClashException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Payment;
 import seedu.address.model.tutee.CollectivePredicate;
 import seedu.address.model.tutee.Tutee;
 import seedu.address.testutil.TrackOBuilder;
+import seedu.address.testutil.TuteeBuilder;
 
 public class ModelManagerTest {
 
@@ -113,6 +135,125 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTuteeList().remove(0));
     }
 
+    @Test
+    public void setTutee_filteredList_filterKept() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(ALICE).withTutee(BENSON).build(),
+                new UserPrefs());
+        Predicate<Tutee> predicate = new CollectivePredicate(Arrays.asList(ALICE.getName().fullName.split("\\s+")),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        modelManager.updateFilteredTuteeList(predicate);
+
+        // tutee shown by the filter is updated in place
+        Tutee editedAlice = new TuteeBuilder(ALICE).withRemark("Prefers mornings").build();
+        modelManager.setTutee(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredTuteeList());
+
+        // tutee hidden by the filter stays hidden
+        modelManager.setTutee(BENSON, new TuteeBuilder(BENSON).withRemark("Prefers evenings").build());
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredTuteeList());
+
+        // added tutee not matching the filter is not shown
+        modelManager.addTutee(new TuteeBuilder().withName("Carl Kurz").build());
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredTuteeList());
+    }
+
+    @Test
+    public void addTutee_publishesTuteeAddedAndSchedulesLessons() {
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+        modelManager.addTutee(CARL);
+
+        Tutee added = modelManager.getTrackO().getTuteeList().get(0);
+        assertTrue(added.getId().isAssigned());
+        assertEquals(List.of(new TuteeAdded(added)), events);
+        assertEquals(added.getId(), modelManager.getSchedule().getSortedLessonsToTuteeIds().get(LESSON));
+        assertEquals(2, modelManager.getSchedule().getSortedLessonsToTuteeIds().size());
+    }
+
+    @Test
+    public void setTutee_lessonsAndPaymentChanged_publishesExactChanges() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(CARL).build(), new UserPrefs());
+        Tutee carl = modelManager.getTrackO().getTuteeList().get(0);
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        Tutee editedCarl = carl.withLessonRemoved(Index.fromZeroBased(0)).withLessonAdded(LESSON_2)
+                .withPayment(new Payment("120", null));
+        modelManager.setTutee(carl, editedCarl);
+
+        assertEquals(List.of(new TuteeEdited(carl, editedCarl), new LessonRemoved(editedCarl, LESSON),
+                new LessonAdded(editedCarl, LESSON_2), new PaymentChanged(editedCarl, carl.getPayment())), events);
+        assertEquals(List.of(LESSON_2, LESSON_1),
+                new ArrayList<>(modelManager.getSchedule().getSortedLessonsToTuteeIds().keySet()));
+    }
+
+    @Test
+    public void setTutee_lessonRemoved_dropsItsCancellationsAndMakeUps() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(CARL).build(), new UserPrefs());
+        Tutee carl = modelManager.getTrackO().getTuteeList().get(0);
+        // 17-10-2021 is a Sunday
+        LocalDate sunday = LocalDate.of(2021, 10, 17);
+        LessonOccurrence physicsCancelled = new LessonOccurrence(sunday, LESSON, carl.getId(),
+                LessonOccurrence.Kind.REGULAR);
+        LessonOccurrence chemistryCancelled = new LessonOccurrence(sunday.plusDays(2), LESSON_1, carl.getId(),
+                LessonOccurrence.Kind.REGULAR);
+        Lesson physicsMakeUpLesson = new Lesson(LESSON.getSubject(),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)), LESSON.getHourlyRate());
+        LessonOccurrence physicsMakeUp = new LessonOccurrence(sunday.plusDays(6), physicsMakeUpLesson,
+                carl.getId(), LessonOccurrence.Kind.MAKE_UP);
+        modelManager.setCalendar(modelManager.getCalendar().withCancelled(physicsCancelled)
+                .withCancelled(chemistryCancelled).withMakeUp(physicsMakeUp));
+
+        // Carl no longer takes Physics
+        modelManager.setTutee(carl, carl.withLessonRemoved(Index.fromZeroBased(0)));
+
+        assertEquals(List.of(chemistryCancelled), new ArrayList<>(modelManager.getCalendar().getCancellations()));
+        assertTrue(modelManager.getCalendar().getMakeUps().isEmpty());
+    }
+
+    @Test
+    public void setTutee_renamed_scheduleShowsNewName() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(CARL).build(), new UserPrefs());
+        Tutee carl = modelManager.getTrackO().getTuteeList().get(0);
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        Tutee renamedCarl = new TuteeBuilder(carl).withName("Carl Kurzweil").build();
+        modelManager.setTutee(carl, renamedCarl);
+
+        // only the name changed, so no lessons or payments are published
+        assertEquals(List.of(new TuteeEdited(carl, renamedCarl)), events);
+        assertEquals("Carl Kurzweil", modelManager.getSchedule().getSortedLessonsMap().get(LESSON));
+    }
+
+    @Test
+    public void deleteTutee_publishesTuteeRemovedAndUnschedulesLessons() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(BENSON).withTutee(CARL).build(),
+                new UserPrefs());
+        Tutee carl = modelManager.getTrackO().getTuteeList().get(1);
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        modelManager.deleteTutee(CARL);
+
+        assertEquals(List.of(new TuteeRemoved(carl)), events);
+        assertEquals(List.of(LESSON_2),
+                new ArrayList<>(modelManager.getSchedule().getSortedLessonsToTuteeIds().keySet()));
+    }
+
+    @Test
+    public void setTrackO_publishesTuteesResetAndRebuildsSchedule() throws ScheduleClashException {
+        modelManager = new ModelManager(new TrackOBuilder().withTutee(CARL).build(), new UserPrefs());
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        modelManager.setTrackO(new TrackOBuilder().withTutee(BENSON).build());
+
+        assertEquals(List.of(new TuteesReset(modelManager.getTrackO().getTuteeList())), events);
+        assertEquals(List.of(LESSON_2),
+                new ArrayList<>(modelManager.getSchedule().getSortedLessonsToTuteeIds().keySet()));
+    }
+
     @Test
     public void equals() throws ScheduleClashException {
         TrackO trackO = new TrackOBuilder().withTutee(ALICE).withTutee(BENSON).build();
@@ -4,12 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.BENSON;
 import static seedu.address.testutil.TypicalTutees.CARL;
 import static seedu.address.testutil.TypicalTutees.DANIEL;
 import static seedu.address.testutil.TypicalTutees.ELLE;
 import static seedu.address.testutil.TypicalTutees.FIONA;
 import static seedu.address.testutil.TypicalTutees.GEORGE;
-import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+import static seedu.address.testutil.TypicalTutees.getTypicalTrackO;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -43,68 +44,167 @@ public class ScheduleTest {
             new Time(DayOfWeek.MONDAY, LocalTime.of(5, 30), LocalTime.of(6, 30)),
             41.50);
 
+    private static final Lesson BACK_TO_BACK_LESSON = new Lesson(
+            new Subject("Math"),
+            new Time(DayOfWeek.MONDAY, LocalTime.of(7, 0), LocalTime.of(8, 0)),
+            40);
+
+    private TrackO trackO;
     private Schedule schedule;
 
     @BeforeEach
     public void setUp() throws ScheduleClashException {
-        schedule = new Schedule(getTypicalTutees());
+        trackO = getTypicalTrackO();
+        schedule = new Schedule(trackO.getTuteeList());
+    }
+
+    /**
+     * Returns the tutee in {@code trackO} that is the same as {@code tutee}, which has been given an ID.
+     */
+    private Tutee inTrackO(Tutee tutee) {
+        return trackO.getTuteeList().stream().filter(tutee::isSameTutee).findFirst().get();
     }
 
     @Test
     public void add_noClashingLesson_success() throws ScheduleClashException {
         TreeMap<Lesson, String> expectedMap = schedule.getSortedLessonsMap();
 
-        String carlName = CARL.getName().toString();
-        String danielName = DANIEL.getName().toString();
+        Tutee carl = inTrackO(CARL);
+        Tutee daniel = inTrackO(DANIEL);
 
-        schedule.add(FIRST_LESSON, carlName);
-        schedule.add(SECOND_LESSON, danielName);
+        schedule.add(FIRST_LESSON, carl);
+        schedule.add(SECOND_LESSON, daniel);
 
-        expectedMap.put(FIRST_LESSON, carlName);
-        expectedMap.put(SECOND_LESSON, danielName);
+        expectedMap.put(FIRST_LESSON, carl.getName().toString());
+        expectedMap.put(SECOND_LESSON, daniel.getName().toString());
 
         assertEquals(expectedMap, schedule.getSortedLessonsMap());
     }
 
+    @Test
+    public void getLessonsDuring() throws ScheduleClashException {
+        Tutee elle = inTrackO(ELLE);
+        Lesson midnightLesson = new Lesson(new Subject("Art"),
+                new Time(DayOfWeek.MONDAY, LocalTime.MIDNIGHT, LocalTime.of(1, 0)), 30);
+        schedule.add(midnightLesson, elle);
+        schedule.add(FIRST_LESSON, elle);
+        schedule.add(BACK_TO_BACK_LESSON, elle);
+        String elleName = elle.getName().toString();
+        Tutee benson = inTrackO(BENSON);
+
+        // lessons ending at the start of the range or starting at its end are left out
+        TreeMap<Lesson, String> expectedMap = new TreeMap<>();
+        expectedMap.put(BACK_TO_BACK_LESSON, elleName);
+        expectedMap.put(benson.getLessons().get(0), benson.getName().toString());
+        assertEquals(expectedMap, schedule.getLessonsDuring(List.of(DayOfWeek.MONDAY),
+                LocalTime.of(7, 0), LocalTime.of(13, 0)));
+
+        // a lesson at the very start of the day is found
+        assertEquals(elleName, schedule.getLessonsDuring(List.of(DayOfWeek.MONDAY), LocalTime.MIN, LocalTime.MAX)
+                .get(midnightLesson));
+
+        // only lessons on the days given are found
+        assertEquals(1, schedule.getLessonsDuring(List.of(DayOfWeek.SUNDAY), LocalTime.MIN, LocalTime.MAX).size());
+        assertTrue(schedule.getLessonsDuring(List.of(DayOfWeek.WEDNESDAY), LocalTime.MIN, LocalTime.MAX).isEmpty());
+        assertTrue(schedule.getLessonsDuring(List.of(), LocalTime.MIN, LocalTime.MAX).isEmpty());
+    }
+
     @Test
     public void add_clashingLesson_throwsScheduleClashException() throws ScheduleClashException {
-        String elleName = ELLE.getName().toString();
-        schedule.add(FIRST_LESSON, elleName);
-        assertThrows(ScheduleClashException.class, () -> schedule.add(CLASHING_LESSON, elleName));
+        Tutee elle = inTrackO(ELLE);
+        schedule.add(FIRST_LESSON, elle);
+        assertThrows(ScheduleClashException.class, () -> schedule.add(CLASHING_LESSON, elle));
+    }
+
+    @Test
+    public void add_backToBackLesson_success() throws ScheduleClashException {
+        Tutee elle = inTrackO(ELLE);
+        schedule.add(FIRST_LESSON, elle);
+        schedule.add(BACK_TO_BACK_LESSON, elle);
+        assertEquals(elle.getName().toString(), schedule.getSortedLessonsMap().get(BACK_TO_BACK_LESSON));
+    }
+
+    @Test
+    public void remove_clashingLessonRemoved_timeFreedForNewLesson() throws ScheduleClashException {
+        Tutee elle = inTrackO(ELLE);
+        schedule.add(FIRST_LESSON, elle);
+        assertTrue(schedule.remove(FIRST_LESSON, elle));
+        schedule.add(CLASHING_LESSON, elle);
+
+        schedule.removeLessons(List.of(CLASHING_LESSON));
+        schedule.add(FIRST_LESSON, elle);
+    }
+
+    @Test
+    public void canAddAll() throws ScheduleClashException {
+        assertTrue(schedule.canAddAll(List.of(FIRST_LESSON, SECOND_LESSON, BACK_TO_BACK_LESSON)));
+
+        // lessons clash with one another -> returns false
+        assertFalse(schedule.canAddAll(List.of(FIRST_LESSON, CLASHING_LESSON)));
+
+        // lesson clashes with schedule -> returns false
+        schedule.add(FIRST_LESSON, inTrackO(ELLE));
+        assertFalse(schedule.canAddAll(List.of(SECOND_LESSON, CLASHING_LESSON)));
+
+        // schedule is not modified
+        assertTrue(schedule.canAddAll(List.of(SECOND_LESSON)));
     }
 
     @Test
     public void remove_lessonAndNameInSchedule_returnsTrue() throws ScheduleClashException {
-        String fionaName = FIONA.getName().toString();
-        String georgeName = GEORGE.getName().toString();
+        Tutee fiona = inTrackO(FIONA);
+        Tutee george = inTrackO(GEORGE);
 
-        schedule.add(FIRST_LESSON, fionaName);
-        schedule.add(SECOND_LESSON, georgeName);
+        schedule.add(FIRST_LESSON, fiona);
+        schedule.add(SECOND_LESSON, george);
 
-        assertTrue(schedule.remove(FIRST_LESSON, fionaName));
-        assertTrue(schedule.remove(SECOND_LESSON, georgeName));
+        assertTrue(schedule.remove(FIRST_LESSON, fiona));
+        assertTrue(schedule.remove(SECOND_LESSON, george));
     }
 
     @Test
     public void remove_lessonAndNameNotInSchedule_returnsFalse() throws ScheduleClashException {
-        String fionaName = FIONA.getName().toString();
-        String georgeName = GEORGE.getName().toString();
+        Tutee fiona = inTrackO(FIONA);
+        Tutee george = inTrackO(GEORGE);
 
         // these lessons are not part of Fiona's or George's lessons
-        assertFalse(schedule.remove(FIRST_LESSON, fionaName));
-        assertFalse(schedule.remove(SECOND_LESSON, georgeName));
+        assertFalse(schedule.remove(FIRST_LESSON, fiona));
+        assertFalse(schedule.remove(SECOND_LESSON, george));
 
-        schedule.add(FIRST_LESSON, fionaName);
+        schedule.add(FIRST_LESSON, fiona);
 
         // the lesson to be removed should be under Fiona's name,
         // but is instead under George's name
-        assertFalse(schedule.remove(FIRST_LESSON, georgeName));
+        assertFalse(schedule.remove(FIRST_LESSON, george));
+    }
+
+    @Test
+    public void updateTuteeName_lessonsShowNewName() throws ScheduleClashException {
+        Tutee elle = inTrackO(ELLE);
+        schedule.add(FIRST_LESSON, elle);
+        schedule.add(SECOND_LESSON, elle);
+
+        schedule.updateTuteeName(elle.getId(), "Elle Mayer");
+
+        assertEquals("Elle Mayer", schedule.getSortedLessonsMap().get(FIRST_LESSON));
+        assertEquals("Elle Mayer", schedule.getSortedLessonsMap().get(SECOND_LESSON));
+    }
+
+    @Test
+    public void removeTutee_allLessonsRemoved() throws ScheduleClashException {
+        Tutee elle = inTrackO(ELLE).withLessonAdded(FIRST_LESSON).withLessonAdded(SECOND_LESSON);
+        TreeMap<Lesson, String> expectedMap = schedule.getSortedLessonsMap();
+        schedule.add(FIRST_LESSON, elle);
+        schedule.add(SECOND_LESSON, elle);
+
+        schedule.removeTutee(elle);
+        assertEquals(expectedMap, schedule.getSortedLessonsMap());
     }
 
     @Test
     public void equals() throws ScheduleClashException {
         // same values -> returns true
-        Schedule scheduleCopy = new Schedule(getTypicalTutees());
+        Schedule scheduleCopy = new Schedule(getTypicalTrackO().getTuteeList());
         assertTrue(schedule.equals(scheduleCopy));
 
         // same object -> returns true
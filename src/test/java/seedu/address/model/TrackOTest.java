@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.calendar.LessonCalendar;
 import seedu.address.model.tutee.Tutee;
 import seedu.address.model.tutee.exceptions.DuplicateTuteeException;
 import seedu.address.testutil.TuteeBuilder;
@@ -43,6 +44,17 @@ public class TrackOTest {
         assertEquals(newData, trackO);
     }
 
+    @Test
+    public void resetData_withTrackO_copiesData() {
+        TrackO newData = getTypicalTrackO();
+        trackO.resetData(newData);
+        newData.removeTutee(ALICE);
+
+        // later changes to the source do not affect the copy
+        assertTrue(trackO.hasTutee(ALICE));
+        assertEquals(newData.getTuteeList().size() + 1, trackO.getTuteeList().size());
+    }
+
     @Test
     public void resetData_withDuplicateTutees_throwsDuplicateTuteeException() {
         // Two tutees with the same identity fields
@@ -97,6 +109,11 @@ public class TrackOTest {
         public ObservableList<Tutee> getTuteeList() {
             return tutees;
         }
+
+        @Override
+        public LessonCalendar getCalendar() {
+            return LessonCalendar.EMPTY;
+        }
     }
 
 }
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.Time;
+
+public class WeekOccupancyTest {
+
+    @Test
+    public void occupy_invalidRange_throwsIllegalArgumentException() {
+        WeekOccupancy occupancy = new WeekOccupancy();
+        assertThrows(IllegalArgumentException.class, () -> occupancy.occupy(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> occupancy.occupy(10, 10));
+        assertThrows(IllegalArgumentException.class, () -> occupancy.isAnyOccupied(0, Time.MINUTES_IN_WEEK + 1));
+    }
+
+    @Test
+    public void isAnyOccupied_rangeWithinOneWord() {
+        WeekOccupancy occupancy = new WeekOccupancy();
+        occupancy.occupy(10, 20);
+
+        assertTrue(occupancy.isAnyOccupied(19, 30));
+        assertTrue(occupancy.isAnyOccupied(0, 11));
+        assertFalse(occupancy.isAnyOccupied(20, 30)); // back to back
+        assertFalse(occupancy.isAnyOccupied(0, 10)); // back to back
+        assertEquals(10, occupancy.getOccupiedMinutes());
+    }
+
+    @Test
+    public void isAnyOccupied_rangeAcrossWords() {
+        WeekOccupancy occupancy = new WeekOccupancy();
+        occupancy.occupy(60, 200);
+        assertEquals(140, occupancy.getOccupiedMinutes());
+
+        assertTrue(occupancy.isAnyOccupied(0, 61));
+        assertTrue(occupancy.isAnyOccupied(128, 129)); // word boundary
+        assertTrue(occupancy.isAnyOccupied(199, Time.MINUTES_IN_WEEK));
+        assertFalse(occupancy.isAnyOccupied(200, Time.MINUTES_IN_WEEK));
+
+        occupancy.release(64, 192);
+        assertFalse(occupancy.isAnyOccupied(64, 192));
+        assertTrue(occupancy.isAnyOccupied(63, 64));
+        assertTrue(occupancy.isAnyOccupied(192, 193));
+        assertEquals(12, occupancy.getOccupiedMinutes());
+    }
+
+    @Test
+    public void occupy_wholeWeek() {
+        WeekOccupancy occupancy = new WeekOccupancy();
+        occupancy.occupy(0, Time.MINUTES_IN_WEEK);
+        assertEquals(Time.MINUTES_IN_WEEK, occupancy.getOccupiedMinutes());
+
+        occupancy.clear();
+        assertEquals(new WeekOccupancy(), occupancy);
+    }
+
+    @Test
+    public void copyConstructor_independentOfOriginal() {
+        WeekOccupancy original = new WeekOccupancy();
+        original.occupy(0, 30);
+        WeekOccupancy copy = new WeekOccupancy(original);
+        copy.occupy(30, 60);
+
+        assertEquals(30, original.getOccupiedMinutes());
+        assertEquals(60, copy.getOccupiedMinutes());
+    }
+}
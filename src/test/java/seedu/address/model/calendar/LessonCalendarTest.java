@@ -0,0 +1,287 @@
+package seedu.address.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Subject;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.TuteeId;
+
+public class LessonCalendarTest {
+
+    private static final TuteeId FIRST_ID = new TuteeId(1);
+    private static final TuteeId SECOND_ID = new TuteeId(2);
+
+    private static final Lesson MONDAY_LESSON = new Lesson(new Subject("Geography"),
+            new Time(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)), 40);
+    private static final Lesson WEDNESDAY_LESSON = new Lesson(new Subject("History"),
+            new Time(DayOfWeek.WEDNESDAY, LocalTime.of(14, 0), LocalTime.of(16, 0)), 42);
+
+    // 18-10-2021 is a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2021, 10, 18);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+    private static final LocalDate SATURDAY = MONDAY.plusDays(5);
+
+    private final TreeMap<Lesson, TuteeId> weeklyLessons = new TreeMap<>();
+
+    public LessonCalendarTest() {
+        weeklyLessons.put(MONDAY_LESSON, FIRST_ID);
+        weeklyLessons.put(WEDNESDAY_LESSON, SECOND_ID);
+    }
+
+    private static LessonOccurrence regular(LocalDate date, Lesson lesson, TuteeId id) {
+        return new LessonOccurrence(date, lesson, id, LessonOccurrence.Kind.REGULAR);
+    }
+
+    private static LessonOccurrence makeUp(LocalDate date, int startHour, int endHour, TuteeId id) {
+        Lesson lesson = new Lesson(new Subject("Geography"),
+                new Time(date.getDayOfWeek(), LocalTime.of(startHour, 0), LocalTime.of(endHour, 0)), 40);
+        return new LessonOccurrence(date, lesson, id, LessonOccurrence.Kind.MAKE_UP);
+    }
+
+    private List<LessonOccurrence> occurrences(LessonCalendar calendar, LocalDate from, LocalDate to) {
+        return calendar.getOccurrences(from, to, weeklyLessons).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getOccurrences_noTerm_weeklyLessonsEveryWeek() {
+        List<LessonOccurrence> expected = List.of(
+                regular(MONDAY, MONDAY_LESSON, FIRST_ID),
+                regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID),
+                regular(MONDAY.plusWeeks(1), MONDAY_LESSON, FIRST_ID),
+                regular(WEDNESDAY.plusWeeks(1), WEDNESDAY_LESSON, SECOND_ID));
+        assertEquals(expected, occurrences(LessonCalendar.EMPTY, MONDAY, MONDAY.plusDays(13)));
+    }
+
+    @Test
+    public void getOccurrences_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LessonCalendar.EMPTY.getOccurrences(WEDNESDAY, MONDAY,
+                weeklyLessons));
+    }
+
+    @Test
+    public void getOccurrences_withTerm_onlyWithinTerm() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withTerm(new Term(WEDNESDAY, MONDAY.plusWeeks(1)));
+        List<LessonOccurrence> expected = List.of(
+                regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID),
+                regular(MONDAY.plusWeeks(1), MONDAY_LESSON, FIRST_ID));
+        assertEquals(expected, occurrences(calendar, MONDAY.minusWeeks(4), MONDAY.plusWeeks(4)));
+
+        // range entirely outside the term
+        assertEquals(Collections.emptyList(), occurrences(calendar, MONDAY.plusWeeks(2), MONDAY.plusWeeks(3)));
+    }
+
+    @Test
+    public void getOccurrences_cancelledAndMakeUp_cancelledSkippedMakeUpMerged() {
+        LessonCalendar calendar = LessonCalendar.EMPTY
+                .withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID))
+                .withMakeUp(makeUp(WEDNESDAY, 9, 11, FIRST_ID));
+        List<LessonOccurrence> expected = List.of(
+                makeUp(WEDNESDAY, 9, 11, FIRST_ID),
+                regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID),
+                makeUp(SATURDAY, 9, 11, FIRST_ID));
+        assertEquals(expected, occurrences(calendar, MONDAY, MONDAY.plusDays(6)));
+        assertTrue(calendar.isCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID)));
+        assertFalse(calendar.isCancelled(regular(MONDAY.plusWeeks(1), MONDAY_LESSON, FIRST_ID)));
+    }
+
+    @Test
+    public void isCancelled_otherTuteeOrLessonAtSameStart_returnsFalse() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID));
+
+        // same lesson taken by another tutee
+        assertFalse(calendar.isCancelled(regular(MONDAY, MONDAY_LESSON, SECOND_ID)));
+
+        // another lesson of the same tutee starting at the same time
+        Lesson otherLesson = new Lesson(new Subject("Physics"),
+                new Time(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)), 40);
+        assertFalse(calendar.isCancelled(regular(MONDAY, otherLesson, FIRST_ID)));
+
+        // cancellations of different tutees at the same time are both kept
+        LessonCalendar bothCancelled = calendar.withCancelled(regular(MONDAY, otherLesson, SECOND_ID));
+        assertEquals(2, bothCancelled.getCancellations().size());
+        assertTrue(bothCancelled.isCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID)));
+        assertTrue(bothCancelled.isCancelled(regular(MONDAY, otherLesson, SECOND_ID)));
+    }
+
+    @Test
+    public void getOccurrences_makeUpOutsideTerm_stillHeld() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withTerm(new Term(MONDAY, WEDNESDAY))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+        assertEquals(List.of(makeUp(SATURDAY, 9, 11, FIRST_ID)), occurrences(calendar, SATURDAY, SATURDAY));
+    }
+
+    @Test
+    public void getOccurrences_longRange_generatedLazily() {
+        // a range of several thousand years only generates the occurrences that are read
+        List<LessonOccurrence> firstTwo = LessonCalendar.EMPTY
+                .getOccurrences(MONDAY, LocalDate.of(9999, 12, 31), weeklyLessons)
+                .limit(2)
+                .collect(Collectors.toList());
+        assertEquals(List.of(regular(MONDAY, MONDAY_LESSON, FIRST_ID),
+                regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID)), firstTwo);
+    }
+
+    @Test
+    public void findClash() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+
+        assertEquals(Optional.of(regular(MONDAY, MONDAY_LESSON, FIRST_ID)),
+                calendar.findClash(makeUp(MONDAY, 11, 13, SECOND_ID), weeklyLessons));
+        assertEquals(Optional.of(makeUp(SATURDAY, 9, 11, FIRST_ID)),
+                calendar.findClash(makeUp(SATURDAY, 10, 12, SECOND_ID), weeklyLessons));
+
+        // back to back
+        assertEquals(Optional.empty(), calendar.findClash(makeUp(MONDAY, 12, 14, SECOND_ID), weeklyLessons));
+
+        // cancelled lesson does not clash
+        LessonCalendar cancelled = calendar.withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID));
+        assertEquals(Optional.empty(), cancelled.findClash(makeUp(MONDAY, 11, 13, SECOND_ID), weeklyLessons));
+    }
+
+    @Test
+    public void findMakeUpClash() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+        Lesson saturdayLesson = new Lesson(new Subject("Physics"),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)), 40);
+
+        assertEquals(Optional.of(makeUp(SATURDAY, 9, 11, FIRST_ID)), calendar.findMakeUpClash(saturdayLesson));
+
+        // another day of the week
+        assertEquals(Optional.empty(), calendar.findMakeUpClash(MONDAY_LESSON));
+
+        // back to back
+        Lesson backToBack = new Lesson(new Subject("Physics"),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(11, 0), LocalTime.of(12, 0)), 40);
+        assertEquals(Optional.empty(), calendar.findMakeUpClash(backToBack));
+
+        // make-up lesson outside the term, when the weekly lesson is not held
+        assertEquals(Optional.empty(), calendar.withTerm(new Term(MONDAY, WEDNESDAY))
+                .findMakeUpClash(saturdayLesson));
+    }
+
+    @Test
+    public void withoutLesson() {
+        LessonCalendar calendar = LessonCalendar.EMPTY
+                .withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID))
+                .withCancelled(regular(MONDAY.plusWeeks(1), MONDAY_LESSON, FIRST_ID))
+                .withCancelled(regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+
+        LessonCalendar expected = LessonCalendar.EMPTY
+                .withCancelled(regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+        assertEquals(expected, calendar.withoutLesson(FIRST_ID, MONDAY_LESSON));
+
+        // lesson of another tutee -> same calendar
+        assertSame(calendar, calendar.withoutLesson(SECOND_ID, MONDAY_LESSON));
+    }
+
+    @Test
+    public void withoutMakeUpsOutside() {
+        LessonCalendar calendar = LessonCalendar.EMPTY
+                .withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+
+        // the tutee still takes Geography
+        assertSame(calendar, calendar.withoutMakeUpsOutside(FIRST_ID, List.of(MONDAY_LESSON)));
+
+        // the tutee no longer takes Geography
+        LessonCalendar expected = LessonCalendar.EMPTY.withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID));
+        assertEquals(expected, calendar.withoutMakeUpsOutside(FIRST_ID, List.of(WEDNESDAY_LESSON)));
+    }
+
+    @Test
+    public void withoutTutee() {
+        LessonCalendar calendar = LessonCalendar.EMPTY
+                .withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID))
+                .withCancelled(regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID))
+                .withMakeUp(makeUp(SATURDAY, 9, 11, FIRST_ID));
+
+        LessonCalendar expected = LessonCalendar.EMPTY
+                .withCancelled(regular(WEDNESDAY, WEDNESDAY_LESSON, SECOND_ID));
+        assertEquals(expected, calendar.withoutTutee(FIRST_ID));
+
+        // no exceptions for the tutee -> same calendar
+        assertSame(expected, expected.withoutTutee(FIRST_ID));
+    }
+
+    @Test
+    public void withMethods_originalUnchanged() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withCancelled(regular(MONDAY, MONDAY_LESSON, FIRST_ID));
+        assertTrue(LessonCalendar.EMPTY.getCancellations().isEmpty());
+        assertEquals(1, calendar.getCancellations().size());
+        assertThrows(UnsupportedOperationException.class, () -> calendar.getCancellations().clear());
+    }
+
+    @Test
+    public void withCancelled_makeUp_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                LessonCalendar.EMPTY.withCancelled(makeUp(SATURDAY, 9, 11, FIRST_ID)));
+    }
+
+    @Test
+    public void isFeesAccrued() {
+        assertFalse(LessonCalendar.EMPTY.isFeesAccrued(MONDAY));
+
+        LessonCalendar calendar = LessonCalendar.EMPTY.withFeesAccruedUntil(WEDNESDAY);
+        assertTrue(calendar.isFeesAccrued(MONDAY));
+        assertTrue(calendar.isFeesAccrued(WEDNESDAY));
+        assertFalse(calendar.isFeesAccrued(SATURDAY));
+    }
+
+    @Test
+    public void isTermChangeAccrued() {
+        // fees never accrued -> any change allowed
+        assertFalse(LessonCalendar.EMPTY.isTermChangeAccrued(new Term(MONDAY, SATURDAY)));
+
+        LessonCalendar calendar = LessonCalendar.EMPTY.withTerm(new Term(MONDAY, SATURDAY))
+                .withFeesAccruedUntil(WEDNESDAY);
+
+        // only dates after those accrued change -> allowed
+        assertFalse(calendar.isTermChangeAccrued(new Term(MONDAY, SATURDAY.plusWeeks(4))));
+        assertFalse(calendar.isTermChangeAccrued(new Term(MONDAY, WEDNESDAY)));
+        assertFalse(LessonCalendar.EMPTY.withTerm(new Term(SATURDAY, SATURDAY)).withFeesAccruedUntil(WEDNESDAY)
+                .isTermChangeAccrued(new Term(SATURDAY.plusDays(1), SATURDAY.plusWeeks(1))));
+
+        // accrued dates change -> rejected
+        assertTrue(calendar.isTermChangeAccrued(new Term(MONDAY.plusDays(1), SATURDAY)));
+        assertTrue(calendar.isTermChangeAccrued(new Term(MONDAY, MONDAY)));
+        assertTrue(calendar.isTermChangeAccrued(null));
+        assertTrue(LessonCalendar.EMPTY.withFeesAccruedUntil(WEDNESDAY)
+                .isTermChangeAccrued(new Term(MONDAY, SATURDAY)));
+    }
+
+    @Test
+    public void equals() {
+        LessonCalendar calendar = LessonCalendar.EMPTY.withTerm(new Term(MONDAY, SATURDAY));
+
+        // same values -> returns true
+        assertTrue(calendar.equals(LessonCalendar.of(new Term(MONDAY, SATURDAY), List.of(), List.of())));
+
+        // same object -> returns true
+        assertTrue(calendar.equals(calendar));
+
+        // null -> returns false
+        assertFalse(calendar.equals(null));
+
+        // different term -> returns false
+        assertFalse(calendar.equals(LessonCalendar.EMPTY));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.LESSON_2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.testutil.TuteeBuilder;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus bus = new ModelEventBus();
+
+    @Test
+    public void publish_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bus.publish(null));
+    }
+
+    @Test
+    public void subscribe_eventsOfType_deliveredInOrder() {
+        List<ModelEvent> added = new ArrayList<>();
+        List<ModelEvent> all = new ArrayList<>();
+        bus.subscribe(TuteeAdded.class, added::add);
+        bus.subscribe(ModelEvent.class, all::add);
+
+        ModelEvent aliceAdded = new TuteeAdded(ALICE);
+        ModelEvent lessonRemoved = new LessonRemoved(BENSON, LESSON_2);
+        ModelEvent bensonAdded = new TuteeAdded(BENSON);
+        bus.publishAll(List.of(aliceAdded, lessonRemoved, bensonAdded));
+
+        assertEquals(List.of(aliceAdded, bensonAdded), added);
+        assertEquals(List.of(aliceAdded, lessonRemoved, bensonAdded), all);
+    }
+
+    @Test
+    public void subscribe_cancelled_noLongerDelivered() {
+        List<ModelEvent> received = new ArrayList<>();
+        ModelEventBus.Subscription subscription = bus.subscribe(TuteeAdded.class, received::add);
+        bus.publish(new TuteeAdded(ALICE));
+        subscription.cancel();
+        bus.publish(new TuteeAdded(BENSON));
+
+        assertEquals(List.of(new TuteeAdded(ALICE)), received);
+    }
+
+    @Test
+    public void subscribe_listenerThrows_passedOnToPublisher() {
+        bus.subscribe(TuteeRemoved.class, event -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, () -> bus.publish(new TuteeRemoved(ALICE)));
+    }
+
+    @Test
+    public void subscribeAsync_manyThreads_deliveredOneAtATimeInOrder() throws Exception {
+        int eventCount = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch delivered = new CountDownLatch(eventCount);
+        bus.subscribeAsync(TuteeAdded.class, event -> {
+            received.add(event.getTutee().getName().fullName);
+            delivered.countDown();
+        }, executor);
+        // a failing subscriber does not stop the events from reaching the others, nor later events from reaching it
+        CountDownLatch deliveredToFailing = new CountDownLatch(eventCount);
+        AtomicBoolean hasFailed = new AtomicBoolean();
+        bus.subscribeAsync(TuteeAdded.class, event -> {
+            deliveredToFailing.countDown();
+            // fails only once, as every failure is logged
+            if (hasFailed.compareAndSet(false, true)) {
+                throw new IllegalStateException();
+            }
+        }, executor);
+
+        List<String> published = new ArrayList<>();
+        try {
+            for (int i = 0; i < eventCount; i++) {
+                Tutee tutee = new TuteeBuilder().withName("Tutee " + i).build();
+                published.add(tutee.getName().fullName);
+                bus.publish(new TuteeAdded(tutee));
+            }
+            assertTrue(delivered.await(1, TimeUnit.MINUTES));
+            assertTrue(deliveredToFailing.await(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(published, received);
+    }
+}
@@ -25,6 +25,7 @@ public class LessonTest {
         assertFalse(Lesson.isValidHourlyRateFormat("15.")); // no decimal places
         assertFalse(Lesson.isValidHourlyRateFormat("15.1")); // only 1 decimal place
         assertFalse(Lesson.isValidHourlyRateFormat("15.133")); // exceeds 2 decimal places
+        assertFalse(Lesson.isValidHourlyRateFormat("15.1|")); // second decimal place a bar
 
         // zero hourly rate is not allowed
         assertFalse(Lesson.isValidHourlyRateFormat("0"));
@@ -118,4 +119,28 @@ public class LessonTest {
 
         assertTrue(lesson.compareTo(lessonWithEarlierTime) > 0);
     }
+
+    @Test
+    public void isSameLesson() {
+        Subject subject = new Subject("Math");
+        Time time = new Time(DayOfWeek.WEDNESDAY, LocalTime.NOON, LocalTime.of(14, 0));
+        Lesson lesson = new Lesson(subject, time, 40);
+
+        // same fields -> returns true
+        assertTrue(lesson.isSameLesson(new Lesson(new Subject("Math"),
+                new Time(DayOfWeek.WEDNESDAY, LocalTime.NOON, LocalTime.of(14, 0)), 40)));
+
+        // null -> returns false
+        assertFalse(lesson.isSameLesson(null));
+
+        // overlapping time, which is equal -> returns false
+        Lesson overlappingLesson = new Lesson(subject, new Time(DayOfWeek.WEDNESDAY, LocalTime.of(13, 0),
+                LocalTime.of(15, 0)), 40);
+        assertEquals(lesson, overlappingLesson);
+        assertFalse(lesson.isSameLesson(overlappingLesson));
+
+        // different subject or hourly rate -> returns false
+        assertFalse(lesson.isSameLesson(new Lesson(new Subject("English"), time, 40)));
+        assertFalse(lesson.isSameLesson(new Lesson(subject, time, 45)));
+    }
 }
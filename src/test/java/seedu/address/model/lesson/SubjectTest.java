@@ -1,6 +1,7 @@
 package seedu.address.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +20,12 @@ public class SubjectTest {
         assertThrows(IllegalArgumentException.class, () -> new Subject(invalidSubject));
     }
 
+    @Test
+    public void of_equalSubjects_returnsSameInstance() {
+        assertThrows(IllegalArgumentException.class, () -> Subject.of(" "));
+        assertSame(Subject.of("Math"), Subject.of(new String("Math")));
+    }
+
     @Test
     public void isValidSubject() {
         // null subject
@@ -37,6 +37,22 @@ public class TimeTest {
                 new Time(DayOfWeek.TUESDAY, LocalTime.NOON, LocalTime.NOON.plusMinutes(invalidDurationInMinutes)));
     }
 
+    @Test
+    public void minutesOfWeek() {
+        Time mondayMidnight = new Time(DayOfWeek.MONDAY, LocalTime.of(0, 0), LocalTime.of(0, 30));
+        assertEquals(0, mondayMidnight.getStartMinuteOfWeek());
+        assertEquals(30, mondayMidnight.getEndMinuteOfWeek());
+
+        Time sundayNight = new Time(DayOfWeek.SUNDAY, LocalTime.of(23, 0), LocalTime.of(23, 59));
+        assertEquals(6 * 1440 + 23 * 60, sundayNight.getStartMinuteOfWeek());
+        assertEquals(Time.MINUTES_IN_WEEK - 1, sundayNight.getEndMinuteOfWeek());
+
+        int packed = sundayNight.toPackedMinutesOfWeek();
+        assertEquals(sundayNight.getStartMinuteOfWeek(), Time.unpackStartMinuteOfWeek(packed));
+        assertEquals(sundayNight.getEndMinuteOfWeek(), Time.unpackEndMinuteOfWeek(packed));
+        assertTrue(mondayMidnight.toPackedMinutesOfWeek() < packed);
+    }
+
     @Test
     public void equals() {
         Time time = new Time(DayOfWeek.FRIDAY, LocalTime.NOON, LocalTime.of(18, 0));
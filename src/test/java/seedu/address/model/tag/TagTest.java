@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,12 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not alphanumeric"));
+        assertSame(Tag.of("Oral"), Tag.of(new String("Oral")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
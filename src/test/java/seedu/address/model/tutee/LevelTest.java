@@ -2,6 +2,7 @@ package seedu.address.model.tutee;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,28 @@ public class LevelTest {
         assertThrows(IllegalArgumentException.class, () -> new Level(invalidLevel));
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Level.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Level.of("p7"));
+        assertThrows(IllegalArgumentException.class, () -> Level.of("j0"));
+
+        // every supported level is available and equal to the constructed level
+        for (String level : new String[] {"p1", "p6", "s1", "s5", "j1", "j2"}) {
+            assertEquals(new Level(level), Level.of(level));
+        }
+
+        // same instance returned every time
+        assertSame(Level.of("s3"), Level.of(new String("s3")));
+    }
+
+    @Test
+    public void getOrder() {
+        assertEquals(1, Level.of("p1").getOrder());
+        assertEquals(7, Level.of("s1").getOrder());
+        assertEquals(13, Level.of("j2").getOrder());
+    }
+
     @Test
     public void isValidLevel() {
         // null level
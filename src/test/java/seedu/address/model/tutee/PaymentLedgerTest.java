@@ -0,0 +1,163 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PaymentLedgerTest {
+
+    private static final LocalDate FIRST_OCT = LocalDate.of(2021, 10, 1);
+    private static final LocalDate FIFTEENTH_OCT = LocalDate.of(2021, 10, 15);
+    private static final LocalDate FIRST_NOV = LocalDate.of(2021, 11, 1);
+
+    private static final PaymentLedger TYPICAL_LEDGER = PaymentLedger.empty()
+            .append(FIRST_OCT, 4000)
+            .append(FIFTEENTH_OCT, 8050)
+            .append(FIRST_NOV, 12000);
+
+    @Test
+    public void empty() {
+        PaymentLedger ledger = PaymentLedger.empty();
+        assertTrue(ledger.isEmpty());
+        assertEquals(0, ledger.size());
+        assertEquals(Optional.empty(), ledger.getLastPaymentDate());
+        assertEquals(PaymentLedger.NO_PAYMENT_RECEIVED, ledger.getLastPaymentDateAsString());
+        assertEquals(0, ledger.getTotalInCents());
+    }
+
+    @Test
+    public void append_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> PaymentLedger.empty().append(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> PaymentLedger.empty().append(FIRST_OCT, -1));
+    }
+
+    @Test
+    public void append_doesNotModifyOriginal() {
+        PaymentLedger original = PaymentLedger.empty().append(FIRST_OCT, 4000);
+        PaymentLedger first = original.append(FIFTEENTH_OCT, 100);
+        PaymentLedger second = original.append(FIRST_NOV, 200);
+
+        assertEquals(1, original.size());
+        assertEquals(FIFTEENTH_OCT, first.getDate(1));
+        assertEquals(100, first.getAmountInCents(1));
+        assertEquals(FIRST_NOV, second.getDate(1));
+        assertEquals(200, second.getAmountInCents(1));
+    }
+
+    @Test
+    public void append_outOfOrder_keptChronological() {
+        PaymentLedger ledger = PaymentLedger.empty()
+                .append(FIRST_NOV, 300)
+                .append(FIRST_OCT, 100)
+                .append(FIFTEENTH_OCT, 200);
+
+        assertEquals(FIRST_OCT, ledger.getDate(0));
+        assertEquals(FIFTEENTH_OCT, ledger.getDate(1));
+        assertEquals(FIRST_NOV, ledger.getDate(2));
+        assertEquals(300, ledger.getAmountInCents(2));
+    }
+
+    @Test
+    public void getDate_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> TYPICAL_LEDGER.getDate(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> TYPICAL_LEDGER.getAmountInCents(3));
+    }
+
+    @Test
+    public void between() {
+        assertThrows(IllegalArgumentException.class, () -> TYPICAL_LEDGER.between(FIRST_NOV, FIRST_OCT));
+
+        // range covering everything -> same ledger
+        assertEquals(TYPICAL_LEDGER, TYPICAL_LEDGER.between(FIRST_OCT, FIRST_NOV));
+
+        // inclusive on both ends
+        PaymentLedger slice = TYPICAL_LEDGER.between(FIFTEENTH_OCT, FIRST_NOV);
+        assertEquals(2, slice.size());
+        assertEquals(FIFTEENTH_OCT, slice.getDate(0));
+        assertEquals(20050, slice.getTotalInCents());
+
+        // no payments in range
+        assertTrue(TYPICAL_LEDGER.between(FIRST_OCT.plusDays(1), FIFTEENTH_OCT.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void between_appendToSlice_doesNotAffectOriginal() {
+        PaymentLedger slice = TYPICAL_LEDGER.between(FIRST_OCT, FIFTEENTH_OCT);
+        PaymentLedger appended = slice.append(FIFTEENTH_OCT.plusDays(1), 1);
+
+        assertEquals(3, appended.size());
+        assertEquals(FIRST_NOV, TYPICAL_LEDGER.getDate(2));
+        assertEquals(12000, TYPICAL_LEDGER.getAmountInCents(2));
+    }
+
+    @Test
+    public void inMonth() {
+        PaymentLedger october = TYPICAL_LEDGER.inMonth(YearMonth.of(2021, 10));
+        assertEquals(2, october.size());
+        assertEquals(12050, october.getTotalInCents());
+        assertEquals(Optional.of(FIFTEENTH_OCT), october.getLastPaymentDate());
+    }
+
+    @Test
+    public void isValidEncoding() {
+        assertThrows(NullPointerException.class, () -> PaymentLedger.isValidEncoding(null));
+
+        // invalid encodings
+        assertFalse(PaymentLedger.isValidEncoding(new long[] {18901})); // odd length
+        assertFalse(PaymentLedger.isValidEncoding(new long[] {18901, -1})); // negative amount
+        assertFalse(PaymentLedger.isValidEncoding(new long[] {18902, 0, 18901, 0})); // not chronological
+        assertFalse(PaymentLedger.isValidEncoding(new long[] {Long.MAX_VALUE, 0})); // day out of range
+
+        // valid encodings
+        assertTrue(PaymentLedger.isValidEncoding(new long[] {}));
+        assertTrue(PaymentLedger.isValidEncoding(new long[] {18901, 0, 18901, 4050}));
+    }
+
+    @Test
+    public void encodeDecode_roundTrip() {
+        long[] encoded = TYPICAL_LEDGER.encode();
+        assertArrayEquals(new long[] {FIRST_OCT.toEpochDay(), 4000, FIFTEENTH_OCT.toEpochDay(), 8050,
+            FIRST_NOV.toEpochDay(), 12000}, encoded);
+        assertEquals(TYPICAL_LEDGER, PaymentLedger.decode(encoded));
+        assertThrows(IllegalArgumentException.class, () -> PaymentLedger.decode(new long[] {1}));
+    }
+
+    @Test
+    public void fromLegacyHistory() {
+        assertThrows(IllegalArgumentException.class, () ->
+                PaymentLedger.fromLegacyHistory(Arrays.asList("20-10-2021")));
+
+        assertEquals(PaymentLedger.empty(), PaymentLedger.fromLegacyHistory(Arrays.asList("Never")));
+        PaymentLedger ledger = PaymentLedger.fromLegacyHistory(Arrays.asList("Never", "01-10-2021", "15-10-2021"));
+        assertEquals(2, ledger.size());
+        assertEquals("15-10-2021", ledger.getLastPaymentDateAsString());
+        assertEquals(0, ledger.getTotalInCents());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertEquals(TYPICAL_LEDGER, PaymentLedger.decode(TYPICAL_LEDGER.encode()));
+        assertEquals(TYPICAL_LEDGER.hashCode(), PaymentLedger.decode(TYPICAL_LEDGER.encode()).hashCode());
+
+        // slice equal to a freshly built ledger -> returns true
+        assertEquals(PaymentLedger.empty().append(FIFTEENTH_OCT, 8050),
+                TYPICAL_LEDGER.between(FIFTEENTH_OCT, FIFTEENTH_OCT));
+
+        // different amount -> returns false
+        assertNotEquals(TYPICAL_LEDGER, TYPICAL_LEDGER.between(FIRST_OCT, FIFTEENTH_OCT).append(FIRST_NOV, 1));
+
+        // null -> returns false
+        assertNotEquals(TYPICAL_LEDGER, null);
+    }
+}
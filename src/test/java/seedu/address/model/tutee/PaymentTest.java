@@ -5,8 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +37,7 @@ public class PaymentTest {
         assertFalse(Payment.isValidPaymentFormat("90.1")); // 1 decimal place
         assertFalse(Payment.isValidPaymentFormat("90.33")); // second decimal place non-0 and non-5
         assertFalse(Payment.isValidPaymentFormat("90.333")); // more than 2 decimal places
+        assertFalse(Payment.isValidPaymentFormat("10.1|")); // second decimal place a bar
 
 
         // valid payment formats
@@ -143,19 +144,44 @@ public class PaymentTest {
     }
 
     @Test
-    public void copyPaymentHistoryTest_validPaymentHistory_success() {
-        List<String> validPaymentHistory = Arrays.asList("Never", "20-10-2021", "21-10-2021");
-        Payment p1 = Payment.initializePayment();
-        p1.copyPaymentHistory(validPaymentHistory);
-        assertEquals(p1.paymentHistory, validPaymentHistory);
+    public void toCentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> Payment.toCents("9a"));
+        assertThrows(IllegalArgumentException.class, () -> Payment.toCents("10.1|"));
+
+        assertEquals(0, Payment.toCents("0"));
+        assertEquals(10000, Payment.toCents("100"));
+        assertEquals(7450, Payment.toCents("74.50"));
+        assertEquals(10000000, Payment.toCents("100000.00"));
     }
 
     @Test
-    public void copyPaymentHistoryTest_invalidPaymentHistory_failure() {
-        List<String> invalidPaymentHistory = Arrays.asList("Never", "20-10-2021", "21-13-2021");
-        List<String> emptyPaymentHistory = Arrays.asList("Never");
-        Payment p1 = Payment.initializePayment();
-        p1.copyPaymentHistory(invalidPaymentHistory);
-        assertEquals(p1.paymentHistory, emptyPaymentHistory);
+    public void toStringTest_lastPaidDateFromLedger() {
+        Payment neverPaid = new Payment("10", null);
+        assertTrue(neverPaid.toString().contains("Last paid on: Never"));
+
+        PaymentLedger ledger = PaymentLedger.empty()
+                .append(LocalDate.of(2021, 10, 20), 4050)
+                .append(LocalDate.of(2021, 10, 27), 4050);
+        Payment paid = new Payment("10", null, ledger);
+        assertTrue(paid.toString().contains("Last paid on: 27-10-2021"));
+    }
+
+    @Test
+    public void isSamePayment() {
+        LocalDate payByDate = LocalDate.of(2021, 11, 1);
+        PaymentLedger ledger = PaymentLedger.empty().append(LocalDate.of(2021, 10, 20), 4050);
+        Payment payment = new Payment("10", payByDate, ledger);
+
+        // same fields -> returns true
+        assertTrue(payment.isSamePayment(new Payment("10", LocalDate.of(2021, 11, 1), ledger)));
+
+        // null -> returns false
+        assertFalse(payment.isSamePayment(null));
+
+        // same value, which is equal, but different pay-by date or payments received -> returns false
+        Payment differentDate = new Payment("10", null, ledger);
+        assertEquals(payment, differentDate);
+        assertFalse(payment.isSamePayment(differentDate));
+        assertFalse(payment.isSamePayment(new Payment("10", payByDate)));
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.tutee;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +20,12 @@ public class SchoolTest {
         assertThrows(IllegalArgumentException.class, () -> new School(invalidSchool));
     }
 
+    @Test
+    public void of_equalSchools_returnsSameInstance() {
+        assertThrows(IllegalArgumentException.class, () -> School.of(""));
+        assertSame(School.of("Nanyang Primary School"), School.of(new String("Nanyang Primary School")));
+    }
+
     @Test
     public void isValidSchool() {
         // null school
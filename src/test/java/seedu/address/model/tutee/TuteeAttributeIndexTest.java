@@ -0,0 +1,64 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TuteeBuilder;
+
+public class TuteeAttributeIndexTest {
+
+    private final UniqueTuteeList tutees = new UniqueTuteeList();
+    private final TuteeAttributeIndex index = tutees.getAttributeIndex();
+
+    @Test
+    public void followsTuteeList() {
+        tutees.setTutees(getTypicalTutees());
+        assertEquals(List.of(ALICE), tuteesIn(index.withTag(new Tag("rescheduled"))));
+        assertEquals(List.of(CARL), tuteesIn(index.atLevel(Level.of("p3"))));
+        assertEquals(List.of(BENSON), tuteesIn(index.atSchool(school -> school.value.contains("Riverside"))));
+
+        // edited tutees keep their slot, with their new attributes
+        Tutee alice = tutees.asUnmodifiableObservableList().get(0);
+        Tutee editedAlice = new TuteeBuilder(alice).withTags("exam").build();
+        tutees.setTutee(alice, editedAlice);
+        assertEquals(List.of(), tuteesIn(index.withTag(new Tag("rescheduled"))));
+        assertEquals(List.of(editedAlice), tuteesIn(index.withTag(new Tag("exam"))));
+        assertEquals(-1, index.slotOf(alice));
+
+        // removed tutees free their slot for the next tutee added
+        Tutee benson = tutees.asUnmodifiableObservableList().get(1);
+        int slot = index.slotOf(benson);
+        tutees.remove(benson);
+        assertEquals(List.of(), tuteesIn(index.withTag(new Tag("practical"))));
+        Tutee added = new TuteeBuilder().withName("Zoe").withTags("practical").build();
+        tutees.add(added);
+        Tutee registered = tutees.asUnmodifiableObservableList().get(tutees.asUnmodifiableObservableList().size() - 1);
+        assertEquals(slot, index.slotOf(registered));
+        assertEquals(List.of(registered), tuteesIn(index.withTag(new Tag("practical"))));
+    }
+
+    @Test
+    public void getVersion_changesWithList() {
+        long version = index.getVersion();
+        tutees.add(ALICE);
+        assertNotEquals(version, index.getVersion());
+    }
+
+    private List<Tutee> tuteesIn(BitSet slots) {
+        return tutees.asUnmodifiableObservableList().stream().filter(tutee -> {
+            int slot = index.slotOf(tutee);
+            return slot != -1 && slots.get(slot);
+        }).collect(Collectors.toList());
+    }
+}
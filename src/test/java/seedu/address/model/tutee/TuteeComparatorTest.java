@@ -0,0 +1,70 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTutees.ALICE;
+import static seedu.address.testutil.TypicalTutees.BENSON;
+import static seedu.address.testutil.TypicalTutees.CARL;
+import static seedu.address.testutil.TypicalTutees.DANIEL;
+import static seedu.address.testutil.TypicalTutees.ELLE;
+import static seedu.address.testutil.TypicalTutees.FIONA;
+import static seedu.address.testutil.TypicalTutees.GEORGE;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TuteeBuilder;
+
+public class TuteeComparatorTest {
+
+    /** A Monday, after the lesson of Benson on Mondays has started. */
+    private static final LocalDateTime MONDAY_AFTERNOON = LocalDateTime.of(2022, 10, 17, 13, 0);
+
+    @Test
+    public void compare_nextLesson_soonestFirstThenTuteesWithoutLessons() {
+        // Carl's lesson on Tuesday is sooner than Benson's lesson next Monday
+        assertEquals(List.of(CARL, BENSON, ALICE, DANIEL, ELLE, FIONA, GEORGE),
+                sorted(new TuteeComparator(TuteeComparator.Key.NEXT, false, MONDAY_AFTERNOON)));
+
+        // tutees without lessons are still last when sorted the other way
+        assertEquals(List.of(BENSON, CARL, ALICE, DANIEL, ELLE, FIONA, GEORGE),
+                sorted(new TuteeComparator(TuteeComparator.Key.NEXT, true, MONDAY_AFTERNOON)));
+    }
+
+    @Test
+    public void compare_payByDate_tiesBrokenByName() {
+        Tutee earlier = new TuteeBuilder(GEORGE).withName("Zed").withPayment("65", LocalDate.of(2023, 1, 1)).build();
+        List<Tutee> tutees = getTypicalTutees();
+        tutees.add(earlier);
+        tutees.sort(new TuteeComparator(TuteeComparator.Key.PAYBY, false, MONDAY_AFTERNOON));
+        assertEquals(List.of(earlier, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE, ALICE), tutees);
+    }
+
+    @Test
+    public void compare_level() {
+        assertEquals(List.of(FIONA, ELLE, GEORGE, DANIEL, CARL, BENSON, ALICE),
+                sorted(new TuteeComparator(TuteeComparator.Key.LEVEL, true, MONDAY_AFTERNOON)));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE, GEORGE, FIONA),
+                sorted(new TuteeComparator(TuteeComparator.Key.LEVEL, false, MONDAY_AFTERNOON)));
+    }
+
+    @Test
+    public void compare_editedTutee_ownKey() {
+        TuteeComparator comparator = new TuteeComparator(TuteeComparator.Key.OWED, false, MONDAY_AFTERNOON);
+        assertEquals(-1, comparator.compare(ALICE, BENSON));
+
+        // the edited Alice is a new tutee, with a key of her own
+        Tutee editedAlice = new TuteeBuilder(ALICE).withPayment("100", null).build();
+        comparator.forget(ALICE);
+        assertEquals(1, comparator.compare(editedAlice, BENSON));
+    }
+
+    private static List<Tutee> sorted(TuteeComparator comparator) {
+        List<Tutee> tutees = getTypicalTutees();
+        tutees.sort(comparator);
+        return tutees;
+    }
+}
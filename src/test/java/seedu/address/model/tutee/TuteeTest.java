@@ -2,6 +2,7 @@ package seedu.address.model.tutee;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
@@ -14,9 +15,13 @@ import static seedu.address.testutil.TypicalTutees.ALICE;
 import static seedu.address.testutil.TypicalTutees.BENSON;
 import static seedu.address.testutil.TypicalTutees.BOB;
 
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TuteeBuilder;
 
 public class TuteeTest {
@@ -68,6 +73,9 @@ public class TuteeTest {
         Tutee aliceCopy = new TuteeBuilder(ALICE).build();
         assertTrue(ALICE.equals(aliceCopy));
 
+        // different id -> returns true
+        assertTrue(ALICE.equals(new TuteeBuilder(ALICE).withId(1).build()));
+
         // same object -> returns true
         assertTrue(ALICE.equals(ALICE));
 
@@ -106,7 +114,15 @@ public class TuteeTest {
     }
 
     @Test
-    public void deleteLesson() {
+    public void getTags_sortedByName() {
+        Tutee tutee = new TuteeBuilder().withTags("zoo", "apple", "mango", "banana").build();
+        assertEquals("[apple][banana][mango][zoo]", tutee.getTags().stream().map(Tag::toString)
+                .collect(Collectors.joining()));
+        assertThrows(UnsupportedOperationException.class, () -> tutee.getTags().add(new Tag("kiwi")));
+    }
+
+    @Test
+    public void withLessonRemoved() {
         // same tutee after deleting lesson
         Tutee bensonCopy = new TuteeBuilder(BENSON).build();
 
@@ -121,7 +137,37 @@ public class TuteeTest {
                 .withPayment(bensonCopy.getPayment().value, bensonCopy.getPayment().payByDate)
                 .build();
 
-        bensonCopy.deleteLesson(Index.fromOneBased(1));
-        assertTrue(bensonCopy.equals(bensonWithoutLesson));
+        Tutee editedBenson = bensonCopy.withLessonRemoved(Index.fromOneBased(1));
+        assertTrue(editedBenson.equals(bensonWithoutLesson));
+        assertEquals(bensonCopy.getLessons().size() - 1, editedBenson.getLessons().size());
+
+        // original tutee is not modified
+        assertEquals(BENSON.getLessons(), bensonCopy.getLessons());
+    }
+
+    @Test
+    public void withLessonAdded() {
+        Tutee bensonCopy = new TuteeBuilder(BENSON).build();
+        Lesson lesson = bensonCopy.getLessons().get(0);
+        Tutee bensonWithoutLesson = bensonCopy.withLessonRemoved(Index.fromOneBased(1));
+
+        Tutee editedBenson = bensonWithoutLesson.withLessonAdded(lesson);
+        assertEquals(lesson, editedBenson.getLessons().get(editedBenson.getLessons().size() - 1));
+        assertEquals(bensonCopy.getLessons().size() - 1, bensonWithoutLesson.getLessons().size());
+        assertThrows(UnsupportedOperationException.class, () -> editedBenson.getLessons().add(lesson));
+    }
+
+    @Test
+    public void toBuilder_unchangedFieldsShared() {
+        Remark remark = new Remark("Needs help with algebra");
+        Tutee editedBenson = BENSON.toBuilder().withRemark(remark).withPhone(new Phone(VALID_PHONE_BOB)).build();
+
+        assertEquals(remark, editedBenson.getRemark());
+        assertEquals(new Phone(VALID_PHONE_BOB), editedBenson.getPhone());
+        assertSame(BENSON.getName(), editedBenson.getName());
+        assertSame(BENSON.getPayment(), editedBenson.getPayment());
+        assertSame(BENSON.getTags(), editedBenson.getTags());
+        assertSame(BENSON.getLessons(), editedBenson.getLessons());
+        assertSame(BENSON.getLessons(), BENSON.withPayment(BENSON.getPayment()).getLessons());
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.tutee;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PRACTICAL;
@@ -109,6 +111,99 @@ public class UniqueTuteeListTest {
         assertThrows(DuplicateTuteeException.class, () -> uniqueTuteeList.setTutee(ALICE, BOB));
     }
 
+    @Test
+    public void add_tuteesGivenDistinctIds() {
+        uniqueTuteeList.add(ALICE);
+        uniqueTuteeList.add(BOB);
+        Tutee alice = uniqueTuteeList.asUnmodifiableObservableList().get(0);
+        Tutee bob = uniqueTuteeList.asUnmodifiableObservableList().get(1);
+
+        assertTrue(alice.getId().isAssigned());
+        assertTrue(bob.getId().isAssigned());
+        assertNotEquals(alice.getId(), bob.getId());
+        assertSame(alice, uniqueTuteeList.get(alice.getId()));
+        assertSame(bob, uniqueTuteeList.get(bob.getId()));
+    }
+
+    @Test
+    public void setTutee_editedTutee_keepsId() {
+        uniqueTuteeList.add(ALICE);
+        Tutee alice = uniqueTuteeList.asUnmodifiableObservableList().get(0);
+
+        uniqueTuteeList.setTutee(alice, BOB);
+
+        Tutee bob = uniqueTuteeList.get(alice.getId());
+        assertEquals(BOB, bob);
+        assertEquals(alice.getId(), bob.getId());
+    }
+
+    @Test
+    public void get_removedTutee_throwsTuteeNotFoundException() {
+        uniqueTuteeList.add(ALICE);
+        TuteeId id = uniqueTuteeList.asUnmodifiableObservableList().get(0).getId();
+        uniqueTuteeList.remove(ALICE);
+
+        assertThrows(TuteeNotFoundException.class, () -> uniqueTuteeList.get(id));
+
+        // ID is not given to the next tutee added
+        uniqueTuteeList.add(BOB);
+        assertNotEquals(id, uniqueTuteeList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void setTutees_listWithIds_idsKeptAndNewIdsGivenAfterThem() {
+        Tutee aliceWithId = new TuteeBuilder(ALICE).withId(5).build();
+        uniqueTuteeList.setTutees(Arrays.asList(BOB, aliceWithId));
+
+        assertSame(aliceWithId, uniqueTuteeList.get(new TuteeId(5)));
+        assertEquals(BOB, uniqueTuteeList.get(new TuteeId(6)));
+    }
+
+    @Test
+    public void addAll_newTutees_addedWithIds() {
+        uniqueTuteeList.add(ALICE);
+        List<Tutee> added = uniqueTuteeList.addAll(Collections.singletonList(BOB));
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniqueTuteeList.asUnmodifiableObservableList());
+        assertSame(added.get(0), uniqueTuteeList.get(added.get(0).getId()));
+    }
+
+    @Test
+    public void addAll_duplicateTutees_throwsDuplicateTuteeException() {
+        uniqueTuteeList.add(ALICE);
+        assertThrows(DuplicateTuteeException.class, () -> uniqueTuteeList.addAll(Collections.singletonList(ALICE)));
+        assertThrows(DuplicateTuteeException.class, () -> uniqueTuteeList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniqueTuteeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTuteesById_editedTutees_replacedInPlace() {
+        uniqueTuteeList.setTutees(Arrays.asList(ALICE, BOB));
+        Tutee alice = uniqueTuteeList.asUnmodifiableObservableList().get(0);
+        Tutee editedAlice = new TuteeBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniqueTuteeList.setTuteesById(Collections.singletonMap(alice.getId(), editedAlice));
+
+        assertEquals(Arrays.asList(editedAlice, BOB), uniqueTuteeList.asUnmodifiableObservableList());
+        assertEquals(editedAlice, uniqueTuteeList.get(alice.getId()));
+    }
+
+    @Test
+    public void setTuteesById_unknownId_throwsTuteeNotFoundException() {
+        uniqueTuteeList.add(ALICE);
+        assertThrows(TuteeNotFoundException.class, () ->
+                uniqueTuteeList.setTuteesById(Collections.singletonMap(new TuteeId(100), ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniqueTuteeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTuteesById_editedTuteeHasDifferentIdentity_throwsDuplicateTuteeException() {
+        uniqueTuteeList.add(ALICE);
+        TuteeId id = uniqueTuteeList.asUnmodifiableObservableList().get(0).getId();
+        assertThrows(DuplicateTuteeException.class, () ->
+                uniqueTuteeList.setTuteesById(Collections.singletonMap(id, BOB)));
+    }
+
     @Test
     public void remove_nulTutee_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTuteeList.remove(null));
@@ -162,6 +257,20 @@ public class UniqueTuteeListTest {
         assertThrows(DuplicateTuteeException.class, () -> uniqueTuteeList.setTutees(listWithDuplicateTutees));
     }
 
+    @Test
+    public void setTrustedTutees_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTuteeList.setTrustedTutees(null));
+    }
+
+    @Test
+    public void setTrustedTutees_list_replacesOwnListWithProvidedList() {
+        uniqueTuteeList.add(ALICE);
+        uniqueTuteeList.setTrustedTutees(Arrays.asList(BOB));
+        UniqueTuteeList expectedUniqueTuteeList = new UniqueTuteeList();
+        expectedUniqueTuteeList.add(BOB);
+        assertEquals(expectedUniqueTuteeList, uniqueTuteeList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
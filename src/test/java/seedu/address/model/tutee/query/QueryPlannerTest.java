@@ -0,0 +1,105 @@
+package seedu.address.model.tutee.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTutees.getTypicalTutees;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TrackO;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeAttributeIndex;
+import seedu.address.testutil.TuteeBuilder;
+
+public class QueryPlannerTest {
+
+    private static final Clause NAME_ALICE = Clause.nameContains(List.of("Alice"));
+    private static final Clause LEVEL_P1 = Clause.levelIs(new Level("p1"));
+    private static final Clause TAG_PRACTICAL = Clause.hasTag(new Tag("practical"));
+    private static final Clause LESSON_ON_SUNDAY = Clause.hasLessonOn(DayOfWeek.SUNDAY);
+    private static final Clause PAYMENT_AT_LEAST_80 = Clause.paymentBetween(8000, Long.MAX_VALUE);
+
+    private final List<Tutee> tutees = getTypicalTutees();
+
+    @Test
+    public void plan_and_cheapSelectiveClauseFirst() {
+        // the level is cheaper to test than the name, and rejects as many tutees
+        assertEquals(new AndQuery(List.of(LEVEL_P1, NAME_ALICE)),
+                QueryPlanner.plan(new AndQuery(List.of(NAME_ALICE, LEVEL_P1)), tutees));
+    }
+
+    @Test
+    public void plan_or_cheapMatchingClauseFirst() {
+        // the payment matches more tutees than the tag, but not enough to make up for its cost
+        Query planned = QueryPlanner.plan(new OrQuery(List.of(TAG_PRACTICAL, PAYMENT_AT_LEAST_80)), tutees);
+        assertEquals(new OrQuery(List.of(TAG_PRACTICAL, PAYMENT_AT_LEAST_80)), planned);
+    }
+
+    @Test
+    public void plan_nested_flattened() {
+        Query query = new AndQuery(List.of(NAME_ALICE, new AndQuery(List.of(LEVEL_P1, TAG_PRACTICAL))));
+        assertEquals(3, ((AndQuery) QueryPlanner.plan(query, tutees)).getQueries().size());
+
+        assertEquals(LEVEL_P1, QueryPlanner.plan(new NotQuery(new NotQuery(LEVEL_P1)), tutees));
+    }
+
+    @Test
+    public void plan_matchesSameTutees() {
+        List<Query> queries = List.of(
+                new AndQuery(List.of(NAME_ALICE, LEVEL_P1)),
+                new OrQuery(List.of(TAG_PRACTICAL, new NotQuery(LESSON_ON_SUNDAY), PAYMENT_AT_LEAST_80)),
+                new AndQuery(List.of(new OrQuery(List.of(TAG_PRACTICAL, LESSON_ON_SUNDAY)),
+                        new NotQuery(new NotQuery(PAYMENT_AT_LEAST_80)))));
+        for (Query query : queries) {
+            assertEquals(filter(query, tutees), filter(QueryPlanner.plan(query, tutees), tutees));
+        }
+
+        // larger lists are sampled
+        List<Tutee> manyTutees = new ArrayList<>();
+        for (int i = 0; i < QueryPlanner.SAMPLE_SIZE; i++) {
+            manyTutees.addAll(tutees);
+        }
+        for (Query query : queries) {
+            assertEquals(filter(query, manyTutees), filter(QueryPlanner.plan(query, manyTutees), manyTutees));
+        }
+    }
+
+    @Test
+    public void plan_withIndex_indexableClausesAnsweredFromIndex() {
+        TrackO trackO = new TrackO();
+        trackO.setTutees(tutees);
+        List<Tutee> indexedTutees = trackO.getTuteeList();
+        TuteeAttributeIndex index = trackO.getAttributeIndex();
+
+        Query query = new AndQuery(List.of(NAME_ALICE, TAG_PRACTICAL, new NotQuery(LEVEL_P1)));
+        Query planned = QueryPlanner.plan(query, indexedTutees, index);
+        assertEquals(new AndQuery(List.of(new IndexedQuery(new AndQuery(List.of(TAG_PRACTICAL,
+                new NotQuery(LEVEL_P1))), index), NAME_ALICE)), planned);
+
+        List<Query> queries = List.of(query,
+                new OrQuery(List.of(TAG_PRACTICAL, LESSON_ON_SUNDAY, new NotQuery(LEVEL_P1))),
+                new NotQuery(new AndQuery(List.of(new OrQuery(List.of(TAG_PRACTICAL, LEVEL_P1)),
+                        PAYMENT_AT_LEAST_80))));
+        for (Query toPlan : queries) {
+            assertEquals(filter(toPlan, indexedTutees), filter(QueryPlanner.plan(toPlan, indexedTutees, index),
+                    indexedTutees));
+        }
+
+        // the tutees matched follow the changes made to the tutees after planning
+        Query practical = QueryPlanner.plan(TAG_PRACTICAL, indexedTutees, index);
+        Tutee alice = indexedTutees.get(0);
+        trackO.setTutee(alice, new TuteeBuilder(alice).withTags("practical").build());
+        assertEquals(filter(TAG_PRACTICAL, indexedTutees), filter(practical, indexedTutees));
+        assertEquals(2, filter(practical, indexedTutees).size());
+    }
+
+    private static List<Tutee> filter(Query query, List<Tutee> tutees) {
+        return tutees.stream().filter(query).collect(Collectors.toList());
+    }
+}
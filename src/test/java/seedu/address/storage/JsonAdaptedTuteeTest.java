@@ -6,6 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTutees.BENSON;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,8 +24,10 @@ import seedu.address.model.tutee.Address;
 import seedu.address.model.tutee.Level;
 import seedu.address.model.tutee.Name;
 import seedu.address.model.tutee.Payment;
+import seedu.address.model.tutee.PaymentLedger;
 import seedu.address.model.tutee.Phone;
 import seedu.address.model.tutee.School;
+import seedu.address.model.tutee.TuteeId;
 
 public class JsonAdaptedTuteeTest {
     private static final String INVALID_NAME = "R@chel";
@@ -35,7 +38,9 @@ public class JsonAdaptedTuteeTest {
     private static final String INVALID_PAYMENT = "9a";
     private static final String INVALID_PAYMENT_DATE = "10 OCTobeR 20000021";
     private static final List<String> INVALID_PAYMENT_HISTORY = Arrays.asList(" ", "20-Oct-2021");
+    private static final long[] INVALID_PAYMENT_LEDGER = {18920, -500};
     private static final String INVALID_TAG = "#friend";
+    private static final Long INVALID_ID = 0L;
     private static final String INVALID_LESSON = "{\r\n  \"subject\" : {\r\n    \"value\" : \"Ec@ns\"\r\n  },\r\n  "
             + "\"time\" : {\r\n    \"dayOfOccurrence\" : \"Moon day\",\r\n    \"startTime\" : \"23:30\",\r\n    "
             + "\"endTime\" : \"25:30\",\r\n    \"duration\" : 2.0\r\n  },\r\n  \"hourlyRate\" : 40.5,\r\n  \"cost\" : "
@@ -48,12 +53,14 @@ public class JsonAdaptedTuteeTest {
     private static final String VALID_ADDRESS = BENSON.getAddress().toString();
     private static final String VALID_PAYMENT = BENSON.getPayment().value;
     private static final String VALID_PAYMENT_DATE = BENSON.getPayment().payByDateAsString;
-    private static final List<String> VALID_PAYMENT_HISTORY = BENSON.getPayment().paymentHistory;
+    private static final long[] VALID_PAYMENT_LEDGER = BENSON.getPayment().paymentLedger.encode();
+    private static final List<String> VALID_PAYMENT_HISTORY = Arrays.asList("Never", "20-10-2021");
     private static final String VALID_REMARK = BENSON.getRemark().toString();
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
             .collect(Collectors.toList());
     private static final List<String> VALID_LESSONS = new ArrayList<>();
+    private static final Long VALID_ID = 2L;
 
     @BeforeAll
     public static void getLessons() throws JsonProcessingException {
@@ -73,8 +80,8 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(INVALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS,
-                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                        VALID_TAGS, VALID_LESSONS);
+                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -83,7 +90,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(null, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS,
-                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -93,8 +101,8 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, INVALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS,
-                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                        VALID_TAGS, VALID_LESSONS);
+                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -103,7 +111,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, null, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS,
-                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -113,7 +122,8 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidSchool_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, INVALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS, VALID_REMARK,
-                        VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                        VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = School.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -122,8 +132,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullSchool_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, null, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, School.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -133,8 +143,8 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidLevel_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, INVALID_LEVEL, VALID_ADDRESS,
-                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                        VALID_TAGS, VALID_LESSONS);
+                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Level.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -143,7 +153,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullLevel_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, null, VALID_ADDRESS,
-                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Level.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -153,7 +164,8 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, INVALID_ADDRESS, VALID_REMARK,
-                        VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                        VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -162,8 +174,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                null, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                null, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -173,7 +185,19 @@ public class JsonAdaptedTuteeTest {
     public void toModelType_invalidPayment_throwsIllegalValueException() {
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS, VALID_REMARK,
-                        INVALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, VALID_TAGS, VALID_LESSONS);
+                        INVALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
+
+        String expectedMessage = Payment.FORMAT_CONSTRAINTS_MESSAGE;
+        assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
+    }
+
+    @Test
+    public void toModelType_paymentWithBar_throwsIllegalValueException() {
+        JsonAdaptedTutee tutee =
+                new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS, VALID_REMARK,
+                        "10.1|", VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Payment.FORMAT_CONSTRAINTS_MESSAGE;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -182,8 +206,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullPayment_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, null, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, null, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Payment.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -192,8 +216,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_invalidPaymentDate_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, INVALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, INVALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Payment.DATE_CONSTRAINTS_MESSAGE;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -202,8 +226,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullPaymentDate_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, null, VALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, null, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "payment pay-by date");
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -212,8 +236,8 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_invalidPaymentHistory_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, INVALID_PAYMENT_HISTORY,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, INVALID_PAYMENT_HISTORY, null,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = Payment.PAYMENT_HISTORY_CONSTRAINTS_MESSAGE;
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
@@ -222,13 +246,56 @@ public class JsonAdaptedTuteeTest {
     @Test
     public void toModelType_nullPaymentHistory_throwsIllegalValueException() {
         JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
-                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null,
-                VALID_TAGS, VALID_LESSONS);
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, null,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
 
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "payment history");
         assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidPaymentLedger_throwsIllegalValueException() {
+        JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, INVALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
+
+        String expectedMessage = PaymentLedger.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, tutee::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyPaymentHistory_convertedToLedger() throws Exception {
+        JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, null,
+                VALID_TAGS, VALID_LESSONS, VALID_ID);
+
+        PaymentLedger expectedLedger = PaymentLedger.empty().append(LocalDate.of(2021, 10, 20), 0);
+        assertEquals(expectedLedger, tutee.toModelType().getPayment().paymentLedger);
+    }
+
+    @Test
+    public void toModelType_validId_idKept() throws Exception {
+        JsonAdaptedTutee tutee = new JsonAdaptedTutee(BENSON.withId(new TuteeId(VALID_ID)));
+        assertEquals(new TuteeId(VALID_ID), tutee.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, INVALID_ID);
+        assertThrows(IllegalValueException.class, TuteeId.MESSAGE_CONSTRAINTS, tutee::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingId_idUnassigned() throws Exception {
+        // data files written before tutees had IDs
+        JsonAdaptedTutee tutee = new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL,
+                VALID_ADDRESS, VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                VALID_TAGS, VALID_LESSONS, null);
+        assertEquals(TuteeId.UNASSIGNED, tutee.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
@@ -236,7 +303,8 @@ public class JsonAdaptedTuteeTest {
 
         JsonAdaptedTutee tutee =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS, VALID_REMARK,
-                        VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY, invalidTags, VALID_LESSONS);
+                        VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER, invalidTags, VALID_LESSONS,
+                        VALID_ID);
 
         assertThrows(IllegalValueException.class, tutee::toModelType);
     }
@@ -247,8 +315,8 @@ public class JsonAdaptedTuteeTest {
         invalidLessons.add(INVALID_LESSON);
         JsonAdaptedTutee person =
                 new JsonAdaptedTutee(VALID_NAME, VALID_PHONE, VALID_SCHOOL, VALID_LEVEL, VALID_ADDRESS,
-                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, VALID_PAYMENT_HISTORY,
-                        VALID_TAGS, invalidLessons);
+                        VALID_REMARK, VALID_PAYMENT, VALID_PAYMENT_DATE, null, VALID_PAYMENT_LEDGER,
+                        VALID_TAGS, invalidLessons, VALID_ID);
         assertThrows(IOException.class, person::toModelType);
     }
 }
@@ -5,12 +5,26 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.TrackO;
+import seedu.address.model.calendar.LessonCalendar;
+import seedu.address.model.calendar.LessonOccurrence;
+import seedu.address.model.calendar.Term;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.tutee.Level;
+import seedu.address.model.tutee.Name;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.testutil.TuteeBuilder;
 import seedu.address.testutil.TypicalTutees;
 
 public class JsonSerializableTrackOTest {
@@ -19,6 +33,8 @@ public class JsonSerializableTrackOTest {
     private static final Path TYPICAL_TUTEES_FILE = TEST_DATA_FOLDER.resolve("typicalTuteesTrackO.json");
     private static final Path INVALID_TUTEE_FILE = TEST_DATA_FOLDER.resolve("invalidTuteeTrackO.json");
     private static final Path DUPLICATE_TUTEE_FILE = TEST_DATA_FOLDER.resolve("duplicateTuteeTrackO.json");
+    private static final Path MULTIPLE_INVALID_TUTEES_FILE =
+            TEST_DATA_FOLDER.resolve("multipleInvalidTuteesTrackO.json");
 
     @Test
     public void toModelType_typicalTuteesFile_success() throws Exception {
@@ -44,4 +60,55 @@ public class JsonSerializableTrackOTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleInvalidTutees_reportsAllViolations() throws Exception {
+        JsonSerializableTrackO dataFromFile = JsonUtil.readJsonFile(MULTIPLE_INVALID_TUTEES_FILE,
+                JsonSerializableTrackO.class).get();
+        String expectedMessage = String.format(JsonSerializableTrackO.MESSAGE_INVALID_TUTEES, 2) + "\n"
+                + String.format(JsonSerializableTrackO.MESSAGE_INVALID_TUTEE_FORMAT, 1, Level.MESSAGE_CONSTRAINTS)
+                + "\n"
+                + String.format(JsonSerializableTrackO.MESSAGE_INVALID_TUTEE_FORMAT, 2, Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_withCalendar_calendarRoundTrips() throws Exception {
+        TrackO trackO = TypicalTutees.getTypicalTrackO();
+        Tutee benson = trackO.getTuteeList().get(1);
+        LocalDate monday = LocalDate.of(2021, 10, 18);
+        Lesson makeUpLesson = new Lesson(TypicalTutees.LESSON_2.getSubject(),
+                new Time(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)), 40.0);
+        trackO.setCalendar(LessonCalendar.EMPTY
+                .withTerm(new Term(monday, monday.plusWeeks(10)))
+                .withFeesAccruedUntil(monday.plusDays(6))
+                .withCancelled(new LessonOccurrence(monday, TypicalTutees.LESSON_2, benson.getId(),
+                        LessonOccurrence.Kind.REGULAR))
+                .withMakeUp(new LessonOccurrence(monday.plusDays(5), makeUpLesson, benson.getId(),
+                        LessonOccurrence.Kind.MAKE_UP)));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableTrackO(trackO));
+        TrackO trackOFromJson = JsonUtil.fromJsonString(json, JsonSerializableTrackO.class).toModelType();
+        assertEquals(trackO, trackOFromJson);
+    }
+
+    @Test
+    public void toModelType_manyTutees_success() throws Exception {
+        TrackO trackO = new TrackO();
+        for (int i = 0; i < 1000; i++) {
+            trackO.addTutee(new TuteeBuilder().withName("Tutee " + i).build());
+        }
+        assertEquals(trackO, new JsonSerializableTrackO(trackO).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyTuteesWithDuplicate_throwsIllegalValueException() throws Exception {
+        List<JsonAdaptedTutee> tutees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tutees.add(new JsonAdaptedTutee(new TuteeBuilder().withName("Tutee " + i).build()));
+        }
+        tutees.add(new JsonAdaptedTutee(new TuteeBuilder().withName("Tutee 500").build()));
+        JsonSerializableTrackO data = new JsonSerializableTrackO(tutees);
+        assertThrows(IllegalValueException.class, JsonSerializableTrackO.MESSAGE_DUPLICATE_TUTEE, data::toModelType);
+    }
+
 }
@@ -16,6 +16,7 @@ import seedu.address.model.tutee.Phone;
 import seedu.address.model.tutee.Remark;
 import seedu.address.model.tutee.School;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeId;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -31,6 +32,7 @@ public class TuteeBuilder {
     public static final String DEFAULT_FEE = "0";
     public static final String DEFAULT_REMARK = "-";
 
+    private TuteeId id;
     private Name name;
     private Phone phone;
     private School school;
@@ -45,6 +47,7 @@ public class TuteeBuilder {
      * Creates a {@code TuteeBuilder} with the default details.
      */
     public TuteeBuilder() {
+        id = TuteeId.UNASSIGNED;
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         school = new School(DEFAULT_SCHOOL);
@@ -60,6 +63,7 @@ public class TuteeBuilder {
      * Initializes the TuteeBuilder with the data of {@code tuteeToCopy}.
      */
     public TuteeBuilder(Tutee tuteeToCopy) {
+        id = tuteeToCopy.getId();
         name = tuteeToCopy.getName();
         phone = tuteeToCopy.getPhone();
         school = tuteeToCopy.getSchool();
@@ -71,6 +75,14 @@ public class TuteeBuilder {
         lessons = new ArrayList<>(tuteeToCopy.getLessons());
     }
 
+    /**
+     * Sets the {@code TuteeId} of the {@code Tutee} that we are building.
+     */
+    public TuteeBuilder withId(long id) {
+        this.id = new TuteeId(id);
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Tutee} that we are building.
      */
@@ -144,7 +156,7 @@ public class TuteeBuilder {
     }
 
     public Tutee build() {
-        return new Tutee(name, phone, school, level, address, payment, remark, tags, lessons);
+        return new Tutee(name, phone, school, level, address, payment, remark, tags, lessons).withId(id);
     }
 
 }